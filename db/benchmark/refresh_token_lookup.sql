@@ -0,0 +1,119 @@
+-- =============================================================================
+-- Refresh Token 조회 벤치마크 - 원문 VARCHAR(500) vs SHA-256 BYTEA
+-- =============================================================================
+-- 대상: PostgreSQL 13 이상 (gen_random_uuid)
+-- 실행: psql -f db/benchmark/refresh_token_lookup.sql
+--
+-- 1,000만 건을 두 테이블에 같은 토큰으로 적재한 뒤 다음을 비교한다.
+--   - 유니크 인덱스 크기
+--   - 단건 조회 실행 계획과 버퍼 접근 수 (EXPLAIN ANALYZE, BUFFERS)
+--   - 무작위 토큰 10만 건 조회의 평균 지연
+--
+-- 토큰은 애플리케이션과 같은 64자 hex 문자열이다. 적재에 수 분이 걸리며 약 3GB의 여유 공간이 필요하다.
+-- 결과는 bench_refresh_token 스키마에 남으므로 끝나면 마지막 DROP 문을 실행한다.
+-- =============================================================================
+
+\timing on
+
+CREATE SCHEMA IF NOT EXISTS bench_refresh_token;
+SET search_path TO bench_refresh_token;
+
+DROP TABLE IF EXISTS tokens_raw;
+DROP TABLE IF EXISTS tokens_hash;
+
+CREATE UNLOGGED TABLE tokens_raw (
+    id          UUID            PRIMARY KEY,
+    auth_id     UUID            NOT NULL,
+    token       VARCHAR(500)    NOT NULL,
+    expires_at  TIMESTAMP       NOT NULL,
+    revoked     BOOLEAN         NOT NULL DEFAULT FALSE
+);
+
+CREATE UNLOGGED TABLE tokens_hash (
+    id          UUID            PRIMARY KEY,
+    auth_id     UUID            NOT NULL,
+    token_hash  BYTEA           NOT NULL,
+    expires_at  TIMESTAMP       NOT NULL,
+    revoked     BOOLEAN         NOT NULL DEFAULT FALSE
+);
+
+-- 64자 hex 토큰 1,000만 건 (UUID 두 개를 이어 붙인 애플리케이션 형식)
+INSERT INTO tokens_raw (id, auth_id, token, expires_at)
+SELECT gen_random_uuid(),
+       gen_random_uuid(),
+       replace(gen_random_uuid()::text, '-', '') || replace(gen_random_uuid()::text, '-', ''),
+       now() + interval '30 days'
+  FROM generate_series(1, 10000000);
+
+INSERT INTO tokens_hash (id, auth_id, token_hash, expires_at)
+SELECT id, auth_id, sha256(convert_to(token, 'UTF8')), expires_at
+  FROM tokens_raw;
+
+-- 기존 스키마: UNIQUE(token) + 중복 인덱스 idx_refresh_token_token
+ALTER TABLE tokens_raw ADD CONSTRAINT uk_tokens_raw UNIQUE (token);
+CREATE INDEX idx_tokens_raw_token ON tokens_raw (token);
+
+-- 변경 스키마: UNIQUE(token_hash)만
+ALTER TABLE tokens_hash ADD CONSTRAINT uk_tokens_hash UNIQUE (token_hash);
+
+VACUUM ANALYZE tokens_raw;
+VACUUM ANALYZE tokens_hash;
+
+-- -----------------------------------------------------------------------------
+-- 인덱스 크기
+-- -----------------------------------------------------------------------------
+SELECT indexrelid::regclass                         AS index_name,
+       pg_size_pretty(pg_relation_size(indexrelid)) AS size
+  FROM pg_index
+ WHERE indrelid IN ('tokens_raw'::regclass, 'tokens_hash'::regclass)
+ ORDER BY indrelid::regclass::text, index_name::text;
+
+-- -----------------------------------------------------------------------------
+-- 단건 조회 실행 계획
+-- -----------------------------------------------------------------------------
+SELECT token AS sample_token FROM tokens_raw OFFSET 5000000 LIMIT 1 \gset
+
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT * FROM tokens_raw WHERE token = :'sample_token';
+
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT * FROM tokens_hash WHERE token_hash = sha256(convert_to(:'sample_token', 'UTF8'));
+
+-- -----------------------------------------------------------------------------
+-- 무작위 10만 건 조회 평균 지연 (해시 계산은 애플리케이션에서 하므로 미리 만들어 둔다)
+-- -----------------------------------------------------------------------------
+DROP TABLE IF EXISTS samples;
+CREATE TEMP TABLE samples AS
+SELECT token, sha256(convert_to(token, 'UTF8')) AS token_hash
+  FROM tokens_raw TABLESAMPLE SYSTEM (1)
+ LIMIT 100000;
+
+DO $$
+DECLARE
+    s        RECORD;
+    found_id UUID;
+    started  TIMESTAMPTZ;
+    n        INTEGER := 0;
+    raw_us   NUMERIC;
+    hash_us  NUMERIC;
+BEGIN
+    started := clock_timestamp();
+    FOR s IN SELECT token FROM samples LOOP
+        SELECT id INTO found_id FROM tokens_raw WHERE token = s.token;
+        n := n + 1;
+    END LOOP;
+    raw_us := extract(epoch FROM clock_timestamp() - started) * 1000000 / n;
+
+    started := clock_timestamp();
+    FOR s IN SELECT token_hash FROM samples LOOP
+        SELECT id INTO found_id FROM tokens_hash WHERE token_hash = s.token_hash;
+    END LOOP;
+    hash_us := extract(epoch FROM clock_timestamp() - started) * 1000000 / n;
+
+    RAISE NOTICE 'lookups: %, raw token: % us/op, token_hash: % us/op',
+        n, round(raw_us, 2), round(hash_us, 2);
+END;
+$$;
+
+-- 정리
+-- DROP SCHEMA bench_refresh_token CASCADE;
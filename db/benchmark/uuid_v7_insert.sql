@@ -0,0 +1,93 @@
+-- =============================================================================
+-- 기본 키 INSERT 벤치마크 - UUIDv4(무작위) vs UUIDv7(시간 순서)
+-- =============================================================================
+-- 대상: PostgreSQL 13 이상 (gen_random_uuid, pg_current_wal_lsn)
+-- 실행: psql -f db/benchmark/uuid_v7_insert.sql
+--
+-- refresh_tokens와 같은 형태의 두 테이블에 1,000만 건을 10만 건씩 나눠 INSERT하며 다음을 비교한다.
+--   - 전체 INSERT 시간 (\timing)
+--   - 생성된 WAL 양
+--   - 기본 키 인덱스 크기와 리프 페이지 밀도 (pgstattuple 확장이 있으면)
+--
+-- v7 값은 애플리케이션의 UuidV7과 같은 배치(48비트 밀리초 + 버전 + 난수)로 SQL에서 만든다.
+-- 매 배치가 별도 트랜잭션이어야 페이지 분할과 WAL 차이가 드러나므로 PROCEDURE 안에서 COMMIT한다(PostgreSQL 11 이상).
+-- 적재에 수 분이 걸리며 약 4GB의 여유 공간이 필요하다. 끝나면 마지막 DROP 문을 실행한다.
+-- =============================================================================
+
+\timing on
+
+CREATE SCHEMA IF NOT EXISTS bench_uuid;
+SET search_path TO bench_uuid;
+
+DROP TABLE IF EXISTS tokens_v4;
+DROP TABLE IF EXISTS tokens_v7;
+
+CREATE TABLE tokens_v4 (
+    id          UUID            PRIMARY KEY,
+    auth_id     UUID            NOT NULL,
+    token_hash  BYTEA           NOT NULL,
+    expires_at  TIMESTAMP       NOT NULL,
+    revoked     BOOLEAN         NOT NULL DEFAULT FALSE
+);
+
+CREATE TABLE tokens_v7 (LIKE tokens_v4 INCLUDING ALL);
+
+-- 48비트 Unix 밀리초 + 버전 7 + 난수 (UuidV7과 같은 정렬 순서)
+CREATE OR REPLACE FUNCTION uuid_v7() RETURNS UUID AS $$
+    SELECT encode(
+        set_bit(set_bit(
+            overlay(uuid_send(gen_random_uuid())
+                    PLACING substring(int8send((extract(epoch FROM clock_timestamp()) * 1000)::BIGINT) FROM 3)
+                    FROM 1 FOR 6),
+            52, 1), 53, 1),
+        'hex')::UUID;
+$$ LANGUAGE SQL VOLATILE;
+
+CREATE OR REPLACE PROCEDURE load_tokens(target TEXT, id_expr TEXT, batches INTEGER) AS $$
+DECLARE
+    lsn_before PG_LSN := pg_current_wal_lsn();
+    started    TIMESTAMPTZ := clock_timestamp();
+BEGIN
+    FOR i IN 1..batches LOOP
+        EXECUTE format(
+            'INSERT INTO %I (id, auth_id, token_hash, expires_at)
+             SELECT %s, gen_random_uuid(), sha256(convert_to(gen_random_uuid()::text, ''UTF8'')),
+                    now() + INTERVAL ''1 hour''
+               FROM generate_series(1, 100000)',
+            target, id_expr);
+        COMMIT;
+    END LOOP;
+    RAISE NOTICE '%: % rows, % s, WAL %',
+        target, batches * 100000,
+        round(extract(epoch FROM clock_timestamp() - started)::NUMERIC, 1),
+        pg_size_pretty(pg_wal_lsn_diff(pg_current_wal_lsn(), lsn_before));
+END;
+$$ LANGUAGE plpgsql;
+
+-- -----------------------------------------------------------------------------
+-- 1,000만 건 적재 (INSERT 시간, WAL 양)
+-- -----------------------------------------------------------------------------
+CHECKPOINT;
+CALL load_tokens('tokens_v4', 'gen_random_uuid()', 100);
+
+CHECKPOINT;
+CALL load_tokens('tokens_v7', 'uuid_v7()', 100);
+
+-- -----------------------------------------------------------------------------
+-- 기본 키 인덱스 크기
+-- -----------------------------------------------------------------------------
+SELECT indexrelid::regclass                         AS index_name,
+       pg_size_pretty(pg_relation_size(indexrelid)) AS size
+  FROM pg_index
+ WHERE indrelid IN ('tokens_v4'::regclass, 'tokens_v7'::regclass)
+   AND indisprimary
+ ORDER BY index_name::text;
+
+-- 리프 페이지 밀도 (pgstattuple이 없으면 건너뛴다)
+CREATE EXTENSION IF NOT EXISTS pgstattuple;
+SELECT 'tokens_v4_pkey' AS index_name, avg_leaf_density, leaf_fragmentation FROM pgstatindex('tokens_v4_pkey')
+UNION ALL
+SELECT 'tokens_v7_pkey', avg_leaf_density, leaf_fragmentation FROM pgstatindex('tokens_v7_pkey');
+
+-- 정리
+-- DROP SCHEMA bench_uuid CASCADE;
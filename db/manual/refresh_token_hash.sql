@@ -0,0 +1,81 @@
+-- =============================================================================
+-- refresh_tokens.token (원문) → refresh_tokens.token_hash (SHA-256) 이관
+-- =============================================================================
+-- 대상: PostgreSQL 11 이상 (sha256(bytea), DO 블록 내 COMMIT)
+-- 실행: psql -v ON_ERROR_STOP=1 -f db/manual/refresh_token_hash.sql (autocommit 모드)
+--
+-- 무중단 배포를 위해 두 단계로 나눈다.
+--
+--   1단계 (새 버전 배포 전): token_hash 컬럼 추가, 트리거로 기존 버전이 쓰는 행도 해시를 채움,
+--                           기존 행 백필, 유니크 인덱스 생성, token 컬럼 NOT NULL 해제
+--   2단계 (모든 인스턴스가 새 버전으로 교체된 뒤): 트리거와 token 컬럼 제거
+--
+-- 롤링 배포 중에는 새 버전이 발급한 토큰(token = NULL)을 기존 버전 인스턴스가 찾지 못해
+-- 재로그인이 필요할 수 있다. 반대 방향(기존 버전이 발급한 토큰)은 트리거 덕분에 새 버전에서 조회된다.
+-- =============================================================================
+
+SET search_path TO auth_service;
+
+-- -----------------------------------------------------------------------------
+-- 1단계
+-- -----------------------------------------------------------------------------
+
+ALTER TABLE refresh_tokens ADD COLUMN IF NOT EXISTS token_hash BYTEA;
+
+-- 기존 버전이 원문을 INSERT/UPDATE(Rotation)하면 해시를 함께 갱신한다.
+CREATE OR REPLACE FUNCTION refresh_tokens_fill_token_hash() RETURNS TRIGGER AS $$
+BEGIN
+    IF NEW.token IS NOT NULL THEN
+        NEW.token_hash := sha256(convert_to(NEW.token, 'UTF8'));
+    END IF;
+    RETURN NEW;
+END;
+$$ LANGUAGE plpgsql;
+
+DROP TRIGGER IF EXISTS trg_refresh_tokens_fill_token_hash ON refresh_tokens;
+CREATE TRIGGER trg_refresh_tokens_fill_token_hash
+    BEFORE INSERT OR UPDATE OF token ON refresh_tokens
+    FOR EACH ROW EXECUTE FUNCTION refresh_tokens_fill_token_hash();
+
+-- 기존 행 백필. 긴 잠금과 WAL 폭증을 피하기 위해 1만 건씩 나누어 커밋한다.
+DO $$
+DECLARE
+    updated INTEGER;
+BEGIN
+    LOOP
+        UPDATE refresh_tokens
+           SET token_hash = sha256(convert_to(token, 'UTF8'))
+         WHERE id IN (SELECT id
+                        FROM refresh_tokens
+                       WHERE token_hash IS NULL
+                       LIMIT 10000);
+        GET DIAGNOSTICS updated = ROW_COUNT;
+        EXIT WHEN updated = 0;
+        COMMIT;
+    END LOOP;
+END;
+$$;
+
+-- 쓰기를 막지 않도록 인덱스를 CONCURRENTLY로 만든 뒤 제약 조건으로 승격한다.
+CREATE UNIQUE INDEX CONCURRENTLY IF NOT EXISTS uk_refresh_token_hash
+    ON refresh_tokens (token_hash);
+ALTER TABLE refresh_tokens
+    ADD CONSTRAINT uk_refresh_token_hash UNIQUE USING INDEX uk_refresh_token_hash;
+
+-- 백필 완료 후에는 트리거가 모든 신규 행을 채우므로 NOT NULL을 걸 수 있다.
+ALTER TABLE refresh_tokens ALTER COLUMN token_hash SET NOT NULL;
+
+-- 새 버전은 원문을 쓰지 않는다.
+ALTER TABLE refresh_tokens ALTER COLUMN token DROP NOT NULL;
+
+COMMENT ON COLUMN refresh_tokens.token_hash IS '토큰 원문의 SHA-256 다이제스트 (32바이트)';
+
+-- -----------------------------------------------------------------------------
+-- 2단계 - 모든 인스턴스가 새 버전으로 교체된 뒤 실행한다.
+-- -----------------------------------------------------------------------------
+
+-- DROP TRIGGER IF EXISTS trg_refresh_tokens_fill_token_hash ON refresh_tokens;
+-- DROP FUNCTION IF EXISTS refresh_tokens_fill_token_hash();
+-- DROP INDEX IF EXISTS idx_refresh_token_token;
+-- ALTER TABLE refresh_tokens DROP CONSTRAINT IF EXISTS uk_refresh_token;
+-- ALTER TABLE refresh_tokens DROP COLUMN IF EXISTS token;
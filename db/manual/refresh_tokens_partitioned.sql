@@ -0,0 +1,79 @@
+-- =============================================================================
+-- refresh_tokens 일 단위 파티션 전환
+-- =============================================================================
+-- 대상: PostgreSQL 14 이상 (DETACH PARTITION ... CONCURRENTLY)
+-- 실행: psql -v ON_ERROR_STOP=1 -f db/manual/refresh_tokens_partitioned.sql
+--
+-- refresh_tokens를 expires_at 기준 일 단위 범위 파티션 테이블로 바꾼다.
+-- 만료 행은 RefreshTokenPartitionManager가 파티션째 DETACH/DROP하므로 행 삭제가 생기지 않는다.
+--
+-- - PK는 (id, expires_at), 토큰 해시 유니크는 (token_hash, expires_at)이다.
+--   파티션 테이블의 유니크 제약에는 파티션 키가 들어가야 하므로 다음이 달라진다.
+--   - token_hash는 만료 일시가 다르면 중복될 수 있다. 토큰 값은 224비트 이상 난수라 같은 값이 두 번 발급되지 않는다고
+--     보고, 그래도 중복되면 토큰 값 조회가 한 건을 기대하므로 예외로 드러난다.
+--   - id 중복도 DB가 막지 않는다. id는 애플리케이션이 만드는 UUIDv7이다.
+--   - id만으로 조회(관리용 토큰 조회)하면 모든 파티션의 PK 인덱스를 본다.
+-- - 토큰 값 조회는 발급일 힌트로 만료 구간을 좁힌다. 힌트가 있는 토큰을 임의 만료 일시로 만들면(createWithExpiry)
+--   조회되지 않으므로 애플리케이션이 구간 밖 만료 일시를 거부한다.
+-- - 오늘부터 35일 뒤까지 파티션을 만든다. 이후는 애플리케이션이 token.partition.premake-days만큼 미리 만든다.
+-- - 이미 만료된 행은 옮기지 않는다.
+-- - 기존 테이블을 잠그고 복사한 뒤 교체하므로, 실행 중에는 토큰 발급/갱신이 대기한다.
+--
+-- Flyway V5(CONCURRENTLY 인덱스) 이후에 실행하고, 실행 후 token.partition.enabled=true로 배포한다.
+-- =============================================================================
+
+SET search_path TO auth_service;
+
+BEGIN;
+
+LOCK TABLE refresh_tokens IN EXCLUSIVE MODE;
+
+CREATE TABLE refresh_tokens_partitioned (
+    id                      UUID            NOT NULL,
+
+    -- 토큰 정보
+    auth_id                 UUID            NOT NULL,
+    token_hash              BYTEA           NOT NULL,
+    device_info             VARCHAR(500),
+
+    -- 상태 정보
+    expires_at              TIMESTAMP       NOT NULL,
+    created_at              TIMESTAMP       NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    revoked                 BOOLEAN         NOT NULL DEFAULT FALSE,
+    remember_me             BOOLEAN         NOT NULL DEFAULT FALSE,
+
+    -- 제약 조건
+    CONSTRAINT pk_refresh_tokens_partitioned PRIMARY KEY (id, expires_at),
+    CONSTRAINT uk_refresh_token_hash_expires_at UNIQUE (token_hash, expires_at)
+) PARTITION BY RANGE (expires_at);
+
+DO $$
+DECLARE
+    part_day DATE;
+BEGIN
+    FOR part_day IN SELECT generate_series(CURRENT_DATE, CURRENT_DATE + 35, INTERVAL '1 day')::DATE LOOP
+        EXECUTE format(
+            'CREATE TABLE %I PARTITION OF refresh_tokens_partitioned FOR VALUES FROM (%L) TO (%L)',
+            'refresh_tokens_p' || to_char(part_day, 'YYYYMMDD'), part_day, part_day + 1);
+    END LOOP;
+END $$;
+
+INSERT INTO refresh_tokens_partitioned
+    (id, auth_id, token_hash, device_info, expires_at, created_at, revoked, remember_me)
+SELECT id, auth_id, token_hash, device_info, expires_at, created_at, revoked, remember_me
+  FROM refresh_tokens
+ WHERE expires_at >= CURRENT_DATE;
+
+DROP TABLE refresh_tokens;
+ALTER TABLE refresh_tokens_partitioned RENAME TO refresh_tokens;
+
+-- 파티션마다 만들어지는 인덱스
+CREATE INDEX idx_refresh_token_auth_id ON refresh_tokens (auth_id);
+CREATE INDEX idx_refresh_token_auth_id_usable ON refresh_tokens (auth_id, expires_at) WHERE revoked = FALSE;
+CREATE INDEX idx_refresh_token_revoked_expires_at ON refresh_tokens (expires_at, id) WHERE revoked = TRUE;
+
+COMMENT ON TABLE refresh_tokens IS '리프레시 토큰 테이블 (expires_at 일 단위 파티션)';
+
+COMMIT;
+
+ANALYZE refresh_tokens;
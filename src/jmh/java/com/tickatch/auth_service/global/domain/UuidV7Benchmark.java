@@ -0,0 +1,38 @@
+package com.tickatch.auth_service.global.domain;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+/**
+ * UUID 생성 벤치마크 - {@link UUID#randomUUID()}(v4) vs {@link UuidV7#generate()}.
+ *
+ * <p>v7은 모든 스레드가 CAS 하나를 공유하므로 4스레드로 경합 비용까지 잰다. 난수는 두 방식 모두 {@code SecureRandom}에서
+ * 얻는다(v4 122비트, v7 62비트). DB 쪽 INSERT 처리량과 인덱스 크기 비교는 db/benchmark/uuid_v7_insert.sql로 한다.
+ *
+ * <pre>
+ * ./gradlew jmh -PjmhIncludes=UuidV7Benchmark
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Threads(4)
+public class UuidV7Benchmark {
+
+  @Benchmark
+  public UUID randomUuidV4() {
+    return UUID.randomUUID();
+  }
+
+  @Benchmark
+  public UUID uuidV7() {
+    return UuidV7.generate();
+  }
+}
@@ -0,0 +1,68 @@
+package com.tickatch.auth_service.global.jwt.infrastructure;
+
+import com.tickatch.auth_service.auth.domain.vo.UserType;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.nio.file.Files;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+/**
+ * 서명 알고리즘별 발급/검증 처리량 비교 벤치마크.
+ *
+ * <p>검증 결과 캐시를 끄고 매번 서명을 검증한다.
+ *
+ * <pre>
+ * ./gradlew jmh -PjmhIncludes=JwtAlgorithmBenchmark
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Threads(4)
+public class JwtAlgorithmBenchmark {
+
+  @Param({"RS256", "ES256", "ED25519"})
+  private JwtAlgorithm algorithm;
+
+  private JwtTokenProvider jwtTokenProvider;
+  private UUID authId;
+  private String token;
+
+  @Setup
+  public void setUp() throws Exception {
+    JwtProperties jwtProperties = new JwtProperties();
+    jwtProperties.setAlgorithm(algorithm);
+    jwtProperties.setKeyDirectory(Files.createTempDirectory("jwt-bench").toString());
+    jwtProperties.getVerifiedCache().setEnabled(false);
+
+    RsaKeyManager keyManager = new RsaKeyManager(jwtProperties);
+    keyManager.init();
+    jwtTokenProvider =
+        new JwtTokenProvider(
+            jwtProperties,
+            keyManager,
+            new VerifiedTokenCache(jwtProperties, new SimpleMeterRegistry()));
+
+    authId = UUID.randomUUID();
+    token = jwtTokenProvider.generateAccessToken(authId, UserType.CUSTOMER);
+  }
+
+  @Benchmark
+  public String sign() {
+    return jwtTokenProvider.generateAccessToken(authId, UserType.CUSTOMER);
+  }
+
+  @Benchmark
+  public boolean verify() {
+    return jwtTokenProvider.validateToken(token);
+  }
+}
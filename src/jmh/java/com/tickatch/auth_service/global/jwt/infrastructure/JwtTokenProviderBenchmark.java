@@ -0,0 +1,131 @@
+package com.tickatch.auth_service.global.jwt.infrastructure;
+
+import com.tickatch.auth_service.auth.domain.vo.UserType;
+import com.tickatch.auth_service.token.application.port.out.dto.TokenClaims;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.nio.file.Files;
+import java.util.Date;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * JwtTokenProvider 발급/검증 벤치마크.
+ *
+ * <p>{@code legacy*}는 호출마다 JwtBuilder/JwtParser를 새로 만드는 기존 경로, 나머지는 캐시된 서명기/파서를 쓰는 현재 경로이다.
+ * 토큰당 할당량은 gc 프로파일러의 {@code gc.alloc.rate.norm}으로 비교한다.
+ *
+ * <p>{@code parseVerified}와 {@code extractEach}는 요청 하나에서 authId와 userType을 모두 꺼내는 경우로, 각각 검증 1회와
+ * 2회에 해당한다. 두 경우 모두 검증 결과 캐시를 쓰지 않는다.
+ *
+ * <pre>
+ * ./gradlew jmh -PjmhIncludes=JwtTokenProviderBenchmark
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Threads(4)
+public class JwtTokenProviderBenchmark {
+
+  private JwtProperties jwtProperties;
+  private RsaKeyManager rsaKeyManager;
+  private JwtTokenProvider jwtTokenProvider;
+  private JwtTokenProvider uncachedTokenProvider;
+  private UUID authId;
+  private String token;
+
+  @Setup
+  public void setUp() throws Exception {
+    jwtProperties = new JwtProperties();
+    jwtProperties.setKeyDirectory(Files.createTempDirectory("jwt-bench").toString());
+    rsaKeyManager = new RsaKeyManager(jwtProperties);
+    rsaKeyManager.init();
+    jwtTokenProvider = createProvider(jwtProperties);
+
+    JwtProperties uncachedProperties = new JwtProperties();
+    uncachedProperties.getVerifiedCache().setEnabled(false);
+    uncachedTokenProvider = createProvider(uncachedProperties);
+
+    authId = UUID.randomUUID();
+    token = jwtTokenProvider.generateAccessToken(authId, UserType.CUSTOMER);
+  }
+
+  @Benchmark
+  public String sign() {
+    return jwtTokenProvider.generateAccessToken(authId, UserType.CUSTOMER);
+  }
+
+  @Benchmark
+  public String legacySign() {
+    Date now = new Date();
+    Date expiry = new Date(now.getTime() + jwtProperties.getAccessTokenExpirationMillis());
+
+    return Jwts.builder()
+        .subject(authId.toString())
+        .claim("userType", UserType.CUSTOMER.name())
+        .issuer(jwtProperties.getIssuer())
+        .issuedAt(now)
+        .expiration(expiry)
+        .header()
+        .keyId(jwtProperties.getKeyId())
+        .and()
+        .signWith(rsaKeyManager.getPrivateKey())
+        .compact();
+  }
+
+  /** 같은 토큰의 반복 검증 (검증 결과 캐시 적중). */
+  @Benchmark
+  public boolean verify() {
+    return jwtTokenProvider.validateToken(token);
+  }
+
+  @Benchmark
+  public boolean verifyUncached() {
+    return uncachedTokenProvider.validateToken(token);
+  }
+
+  /** 클레임 두 개를 한 번의 검증으로 꺼낸다. */
+  @Benchmark
+  public void parseVerified(Blackhole blackhole) {
+    TokenClaims claims = uncachedTokenProvider.parseVerified(token);
+    blackhole.consume(claims.authId());
+    blackhole.consume(claims.userType());
+  }
+
+  /** 기존처럼 클레임마다 토큰을 다시 검증한다 (요청당 검증 2회). */
+  @Benchmark
+  public void extractEach(Blackhole blackhole) {
+    blackhole.consume(legacyParse().getSubject());
+    blackhole.consume(UserType.valueOf(legacyParse().get("userType", String.class)));
+  }
+
+  @Benchmark
+  public boolean legacyVerify() {
+    legacyParse();
+    return true;
+  }
+
+  private JwtTokenProvider createProvider(JwtProperties properties) {
+    return new JwtTokenProvider(
+        properties, rsaKeyManager, new VerifiedTokenCache(properties, new SimpleMeterRegistry()));
+  }
+
+  private Claims legacyParse() {
+    return Jwts.parser()
+        .verifyWith(rsaKeyManager.getPublicKey())
+        .build()
+        .parseSignedClaims(token)
+        .getPayload();
+  }
+}
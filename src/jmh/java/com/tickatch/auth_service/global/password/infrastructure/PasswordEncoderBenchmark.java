@@ -0,0 +1,88 @@
+package com.tickatch.auth_service.global.password.infrastructure;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+/**
+ * 해싱 알고리즘/설정별 비밀번호 검증 지연과 처리량 벤치마크.
+ *
+ * <p>로그인과 같은 경로({@link PasswordEncoderFactory}가 만든 접두사 기반 인코더)로 검증한다. SampleTime 결과의 백분위가
+ * 검증 지연, Throughput 결과가 스레드 4개 기준 초당 검증 수이다. 설정 형식은 다음과 같다.
+ *
+ * <ul>
+ *   <li>{@code bcrypt:cost}
+ *   <li>{@code argon2id:memoryKib:iterations:parallelism}
+ *   <li>{@code scrypt:cpuCost:blockSize:parallelization}
+ * </ul>
+ *
+ * <pre>
+ * ./gradlew jmh -PjmhIncludes=PasswordEncoderBenchmark
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Threads(4)
+public class PasswordEncoderBenchmark {
+
+  private static final String RAW = "Password123!";
+
+  @Param({
+    "bcrypt:10",
+    "bcrypt:12",
+    "argon2id:19456:2:1",
+    "argon2id:47104:1:1",
+    "argon2id:19456:2:4",
+    "scrypt:32768:8:1",
+    "scrypt:65536:8:1"
+  })
+  private String setting;
+
+  private PasswordEncoder encoder;
+  private String encoded;
+
+  @Setup
+  public void setUp() {
+    encoder = PasswordEncoderFactory.create(toProperties(setting));
+    encoded = encoder.encode(RAW);
+  }
+
+  @Benchmark
+  public boolean verify() {
+    return encoder.matches(RAW, encoded);
+  }
+
+  private static PasswordHashingProperties toProperties(String setting) {
+    String[] parts = setting.split(":");
+    PasswordHashingProperties properties = new PasswordHashingProperties();
+    switch (parts[0]) {
+      case "bcrypt" -> {
+        properties.setAlgorithm(PasswordAlgorithm.BCRYPT);
+        properties.getBcrypt().setCost(Integer.parseInt(parts[1]));
+      }
+      case "argon2id" -> {
+        properties.setAlgorithm(PasswordAlgorithm.ARGON2ID);
+        properties.getArgon2().setMemoryKib(Integer.parseInt(parts[1]));
+        properties.getArgon2().setIterations(Integer.parseInt(parts[2]));
+        properties.getArgon2().setParallelism(Integer.parseInt(parts[3]));
+      }
+      case "scrypt" -> {
+        properties.setAlgorithm(PasswordAlgorithm.SCRYPT);
+        properties.getScrypt().setCpuCost(Integer.parseInt(parts[1]));
+        properties.getScrypt().setBlockSize(Integer.parseInt(parts[2]));
+        properties.getScrypt().setParallelization(Integer.parseInt(parts[3]));
+      }
+      default -> throw new IllegalArgumentException("알 수 없는 설정: " + setting);
+    }
+    return properties;
+  }
+}
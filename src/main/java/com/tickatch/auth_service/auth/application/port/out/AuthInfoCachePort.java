@@ -0,0 +1,26 @@
+package com.tickatch.auth_service.auth.application.port.out;
+
+import com.tickatch.auth_service.auth.application.service.query.dto.AuthInfo;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * Auth 조회 결과 캐시를 위한 아웃바운드 포트.
+ *
+ * <p>조회 서비스는 이 인터페이스로 캐시를 거치며, 캐시 구현과 무효화 방식(커밋 후 무효화, 인스턴스 간 방송)은 인프라 계층이 맡는다.
+ *
+ * @author Tickatch
+ * @since 1.0.0
+ */
+public interface AuthInfoCachePort {
+
+  /**
+   * 캐시된 조회 결과를 반환하고, 없으면 적재한다.
+   *
+   * @param authId 인증 ID
+   * @param loader 캐시에 없을 때 DB에서 읽는 함수
+   * @return Auth 정보 (없으면 empty)
+   */
+  Optional<AuthInfo> get(UUID authId, Function<UUID, Optional<AuthInfo>> loader);
+}
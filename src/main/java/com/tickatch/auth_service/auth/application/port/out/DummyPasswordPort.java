@@ -0,0 +1,19 @@
+package com.tickatch.auth_service.auth.application.port.out;
+
+/**
+ * 없는 계정의 로그인에 같은 해싱 비용을 쓰기 위한 아웃바운드 포트.
+ *
+ * <p>계정이 없을 때 해싱 없이 바로 실패하면 응답 시간으로 이메일 존재 여부가 드러난다.
+ *
+ * @author Tickatch
+ * @since 1.0.0
+ */
+public interface DummyPasswordPort {
+
+  /**
+   * 더미 해시로 비밀번호를 검증한다. 결과는 항상 불일치이며, 실제 계정 검증과 같은 비용을 쓰는 것이 목적이다.
+   *
+   * @param rawPassword 요청의 원본 비밀번호
+   */
+  void verify(String rawPassword);
+}
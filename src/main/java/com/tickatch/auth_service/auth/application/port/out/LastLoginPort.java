@@ -0,0 +1,30 @@
+package com.tickatch.auth_service.auth.application.port.out;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * 마지막 로그인 시간 지연 반영을 위한 아웃바운드 포트.
+ *
+ * <p>로그인마다 Auth 행을 UPDATE하지 않고 모아서 반영할 때 쓴다. 반영 방식(버퍼, 배치 UPDATE, 캐시 정리)은 인프라 계층이 맡는다.
+ *
+ * @author Tickatch
+ * @since 1.0.0
+ */
+public interface LastLoginPort {
+
+  /**
+   * 지연 반영 사용 여부를 반환한다.
+   *
+   * @return 사용하면 true. false면 엔티티에 바로 기록한다.
+   */
+  boolean isEnabled();
+
+  /**
+   * 마지막 로그인 시각을 기록한다. 진행 중인 트랜잭션이 있으면 커밋된 뒤에 반영 대상이 된다.
+   *
+   * @param authId 인증 ID
+   * @param loggedInAt 로그인 시각
+   */
+  void record(UUID authId, LocalDateTime loggedInAt);
+}
@@ -0,0 +1,18 @@
+package com.tickatch.auth_service.auth.application.port.out;
+
+/**
+ * 로그인 지연 지표 기록을 위한 아웃바운드 포트.
+ *
+ * @author Tickatch
+ * @since 1.0.0
+ */
+public interface LoginMetricsPort {
+
+  /**
+   * 로그인 1회의 처리 시간을 기록한다.
+   *
+   * @param accountFound 이메일/사용자 유형에 해당하는 계정이 있었는지
+   * @param elapsedNanos 처리 시간 (ns)
+   */
+  void record(boolean accountFound, long elapsedNanos);
+}
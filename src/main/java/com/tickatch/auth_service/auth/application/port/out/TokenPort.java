@@ -1,6 +1,7 @@
 package com.tickatch.auth_service.auth.application.port.out;
 
 import com.tickatch.auth_service.auth.domain.vo.UserType;
+import com.tickatch.auth_service.token.application.service.command.dto.RefreshTokenResult;
 import com.tickatch.auth_service.token.application.service.command.dto.TokenResult;
 import java.util.UUID;
 
@@ -28,21 +29,12 @@ public interface TokenPort {
   /**
    * Refresh Token으로 새 토큰을 발급한다.
    *
-   * @param refreshToken Refresh Token 값
-   * @param userType 사용자 유형 (Auth에서 조회한 값)
-   * @return 갱신된 토큰 정보
-   */
-  TokenResult refreshTokens(String refreshToken, UserType userType);
-
-  /**
-   * Refresh Token의 Auth ID를 조회한다.
-   *
-   * <p>토큰 갱신 시 Auth 정보 조회에 사용한다.
+   * <p>토큰 검증, 소유자(Auth) 조회, Rotation을 한 번에 처리하며, 갱신된 토큰과 함께 소유자 정보를 반환한다.
    *
    * @param refreshToken Refresh Token 값
-   * @return Auth ID
+   * @return 갱신된 토큰과 소유자 정보
    */
-  UUID getAuthIdFromRefreshToken(String refreshToken);
+  RefreshTokenResult refreshTokens(String refreshToken);
 
   /**
    * 특정 Refresh Token을 폐기한다.
@@ -1,6 +1,9 @@
 package com.tickatch.auth_service.auth.application.service.command;
 
 import com.tickatch.auth_service.auth.application.messaging.AuthLogEventPublisher;
+import com.tickatch.auth_service.auth.application.port.out.DummyPasswordPort;
+import com.tickatch.auth_service.auth.application.port.out.LastLoginPort;
+import com.tickatch.auth_service.auth.application.port.out.LoginMetricsPort;
 import com.tickatch.auth_service.auth.application.port.out.TokenPort;
 import com.tickatch.auth_service.auth.application.service.command.dto.ChangePasswordCommand;
 import com.tickatch.auth_service.auth.application.service.command.dto.LoginCommand;
@@ -15,7 +18,9 @@ import com.tickatch.auth_service.auth.domain.Auth;
 import com.tickatch.auth_service.auth.domain.AuthRepository;
 import com.tickatch.auth_service.auth.domain.exception.AuthErrorCode;
 import com.tickatch.auth_service.auth.domain.exception.AuthException;
+import com.tickatch.auth_service.token.application.service.command.dto.RefreshTokenResult;
 import com.tickatch.auth_service.token.application.service.command.dto.TokenResult;
+import java.util.Optional;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -41,6 +46,9 @@ public class AuthCommandService {
   private final TokenPort tokenPort;
   private final PasswordEncoder passwordEncoder;
   private final AuthLogEventPublisher logEventPublisher;
+  private final DummyPasswordPort dummyPasswordPort;
+  private final LoginMetricsPort loginMetrics;
+  private final LastLoginPort lastLoginPort;
 
   // ========================================
   // 회원가입
@@ -137,17 +145,30 @@ public class AuthCommandService {
    *
    * <p>성공 시 LOGIN 로그를, 실패 시 LOGIN_FAILED 로그를 발행한다.
    *
+   * <p>계정이 없으면 {@link DummyPasswordPort}로 검증한 뒤 실패시켜, 계정 유무와 관계없이 비밀번호 해싱 비용이 같게 한다.
+   *
+   * <p>비밀번호가 틀리면 실패 횟수(와 잠금)를 기록한 뒤 {@link AuthException}을 던진다. 이 예외로는 롤백하지 않으므로 실패
+   * 기록이 커밋된다. 롤백하면 실패 횟수가 늘지 않아 계정이 잠기지 않는다.
+   *
    * @param command 로그인 요청
    * @return 로그인 결과 (토큰 포함)
    * @throws AuthException 인증 실패 시
    */
+  @Transactional(noRollbackFor = AuthException.class)
   public LoginResult login(LoginCommand command) {
     String userType = command.userType().name();
+    long startedAt = System.nanoTime();
+    boolean accountFound = false;
     try {
-      Auth auth =
-          authRepository
-              .findByEmailAndUserType(command.email(), command.userType())
-              .orElseThrow(() -> new AuthException(AuthErrorCode.INVALID_CREDENTIALS));
+      Optional<Auth> found =
+          authRepository.findByEmailAndUserType(command.email(), command.userType());
+      if (found.isEmpty()) {
+        // 계정이 없어도 같은 해싱 비용을 쓴다.
+        dummyPasswordPort.verify(command.password());
+        throw new AuthException(AuthErrorCode.INVALID_CREDENTIALS);
+      }
+      accountFound = true;
+      Auth auth = found.get();
 
       if (!auth.matchesPassword(command.password(), passwordEncoder)) {
         auth.recordLoginFailure();
@@ -155,7 +176,8 @@ public class AuthCommandService {
         throw new AuthException(AuthErrorCode.INVALID_CREDENTIALS);
       }
 
-      auth.recordLoginSuccess();
+      recordLoginSuccess(auth);
+      rehashPasswordIfNeeded(auth, command.password());
       log.info("로그인 성공 - authId: {}, email: {}", auth.getId(), auth.getEmail());
 
       TokenResult tokenResult =
@@ -168,6 +190,8 @@ public class AuthCommandService {
       logEventPublisher.publishLoginFailed(userType);
       log.error("로그인 실패. email: {}, error: {}", command.email(), e.getMessage(), e);
       throw e;
+    } finally {
+      loginMetrics.record(accountFound, System.nanoTime() - startedAt);
     }
   }
 
@@ -192,7 +216,7 @@ public class AuthCommandService {
         throw new AuthException(AuthErrorCode.USER_TYPE_MISMATCH);
       }
 
-      auth.recordLoginSuccess();
+      recordLoginSuccess(auth);
       log.info("소셜 로그인 성공 - authId: {}, provider: {}", auth.getId(), command.providerType());
 
       TokenResult tokenResult =
@@ -220,18 +244,12 @@ public class AuthCommandService {
     UUID authId = null;
     String userType = "UNKNOWN";
     try {
-      authId = tokenPort.getAuthIdFromRefreshToken(command.refreshToken());
-
-      Auth auth =
-          authRepository
-              .findById(authId)
-              .orElseThrow(() -> new AuthException(AuthErrorCode.AUTH_NOT_FOUND));
-
-      userType = auth.getUserType().name();
-      TokenResult tokenResult = tokenPort.refreshTokens(command.refreshToken(), auth.getUserType());
+      RefreshTokenResult result = tokenPort.refreshTokens(command.refreshToken());
+      authId = result.authId();
+      userType = result.userType().name();
 
       logEventPublisher.publishTokenRefreshed(authId, userType);
-      return LoginResult.of(auth.getId(), auth.getEmail(), auth.getUserType(), tokenResult);
+      return LoginResult.of(authId, result.email(), result.userType(), result.tokenResult());
     } catch (Exception e) {
       logEventPublisher.publishTokenRefreshFailed(authId, userType);
       log.error("토큰 갱신 실패. authId: {}, error: {}", authId, e.getMessage(), e);
@@ -418,6 +436,34 @@ public class AuthCommandService {
   // 내부 메서드
   // ========================================
 
+  /**
+   * 로그인 성공을 기록한다.
+   *
+   * <p>지연 반영을 쓰면 마지막 로그인 시간은 {@link LastLoginPort}가 모아서 반영하고, 실패 횟수 초기화만 엔티티에 남긴다.
+   */
+  private void recordLoginSuccess(Auth auth) {
+    if (!lastLoginPort.isEnabled()) {
+      auth.recordLoginSuccess();
+      return;
+    }
+    lastLoginPort.record(auth.getId(), auth.recordLoginSuccessDeferringLastLogin());
+  }
+
+  /**
+   * 저장된 해시가 현재 인코딩 정책(알고리즘, cost)과 다르면 다시 해싱한다.
+   *
+   * <p>재해싱은 부가 작업이므로 실패해도 로그인은 성공시킨다. 다음 로그인에서 다시 시도된다.
+   */
+  private void rehashPasswordIfNeeded(Auth auth, String rawPassword) {
+    try {
+      if (auth.rehashPasswordIfNeeded(rawPassword, passwordEncoder)) {
+        log.info("비밀번호 재해싱 - authId: {}", auth.getId());
+      }
+    } catch (AuthException e) {
+      log.warn("비밀번호 재해싱 생략 - authId: {}, reason: {}", auth.getId(), e.getMessage());
+    }
+  }
+
   private void validateEmailNotDuplicate(
       String email, com.tickatch.auth_service.auth.domain.vo.UserType userType) {
     if (authRepository.existsByEmailAndUserType(email, userType)) {
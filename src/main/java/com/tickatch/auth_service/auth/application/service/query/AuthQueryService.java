@@ -1,5 +1,6 @@
 package com.tickatch.auth_service.auth.application.service.query;
 
+import com.tickatch.auth_service.auth.application.port.out.AuthInfoCachePort;
 import com.tickatch.auth_service.auth.application.service.query.dto.AuthInfo;
 import com.tickatch.auth_service.auth.domain.AuthRepository;
 import com.tickatch.auth_service.auth.domain.exception.AuthErrorCode;
@@ -30,29 +31,32 @@ import org.springframework.transaction.annotation.Transactional;
 public class AuthQueryService {
 
   private final AuthRepository authRepository;
+  private final AuthInfoCachePort authInfoCache;
 
   /**
    * Auth ID로 조회한다.
    *
+   * <p>{@link AuthInfoCachePort}에 있으면 DB를 조회하지 않는다.
+   *
    * @param authId Auth ID
    * @return Auth 정보
    * @throws AuthException 계정을 찾을 수 없는 경우
    */
   public AuthInfo findById(UUID authId) {
-    return authRepository
-        .findById(authId)
-        .map(AuthInfo::from)
+    return findByIdOptional(authId)
         .orElseThrow(() -> new AuthException(AuthErrorCode.AUTH_NOT_FOUND));
   }
 
   /**
    * Auth ID로 조회한다 (Optional).
    *
+   * <p>{@link AuthInfoCachePort}에 있으면 DB를 조회하지 않는다.
+   *
    * @param authId Auth ID
    * @return Auth 정보
    */
   public Optional<AuthInfo> findByIdOptional(UUID authId) {
-    return authRepository.findById(authId).map(AuthInfo::from);
+    return authInfoCache.get(authId, id -> authRepository.findById(id).map(AuthInfo::from));
   }
 
   /**
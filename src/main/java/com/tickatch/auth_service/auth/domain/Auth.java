@@ -7,6 +7,7 @@ import com.tickatch.auth_service.auth.domain.vo.Password;
 import com.tickatch.auth_service.auth.domain.vo.ProviderType;
 import com.tickatch.auth_service.auth.domain.vo.UserType;
 import com.tickatch.auth_service.global.domain.AbstractAuditEntity;
+import com.tickatch.auth_service.global.domain.UuidV7;
 import jakarta.persistence.CascadeType;
 import jakarta.persistence.Column;
 import jakarta.persistence.Embedded;
@@ -25,6 +26,12 @@ import java.util.UUID;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.DynamicUpdate;
+import org.hibernate.annotations.NaturalId;
+import org.hibernate.annotations.NaturalIdCache;
+import org.springframework.data.domain.Persistable;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
 /**
@@ -40,6 +47,12 @@ import org.springframework.security.crypto.password.PasswordEncoder;
  *   <li>소셜 로그인으로 가입해도 비밀번호는 필수이다
  * </ul>
  *
+ * <p>UPDATE는 바뀐 컬럼만 쓴다({@link DynamicUpdate}). 마지막 로그인 시간을 엔티티 밖에서 지연 반영할 때, 적재 시점의 오래된
+ * 값이 다른 변경과 함께 덮어써지지 않게 한다.
+ *
+ * <p>엔티티, 소셜 연동 목록, 자연 키 {@code (email, userType)}는 2차 캐시에 둔다({@link AuthCacheRegions}).
+ * 이메일과 사용자 유형은 가입 후 바뀌지 않는다.
+ *
  * @author Tickatch
  * @since 1.0.0
  */
@@ -51,9 +64,12 @@ import org.springframework.security.crypto.password.PasswordEncoder;
           name = "uk_auth_email_user_type",
           columnNames = {"email", "user_type"})
     })
+@DynamicUpdate
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = AuthCacheRegions.AUTH)
+@NaturalIdCache(region = AuthCacheRegions.AUTH_NATURAL_ID)
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
-public final class Auth extends AbstractAuditEntity {
+public final class Auth extends AbstractAuditEntity implements Persistable<UUID> {
 
   /* 최대 로그인 실패 허용 횟수 */
   private static final int MAX_LOGIN_FAIL_COUNT = 5;
@@ -64,10 +80,12 @@ public final class Auth extends AbstractAuditEntity {
   private UUID id;
 
   /* 이메일 */
+  @NaturalId
   @Column(name = "email", nullable = false)
   private String email;
 
   /* 사용자 유형 */
+  @NaturalId
   @Enumerated(EnumType.STRING)
   @Column(name = "user_type", nullable = false, length = 20)
   private UserType userType;
@@ -90,6 +108,9 @@ public final class Auth extends AbstractAuditEntity {
 
   /* 소셜 로그인 연동 목록 */
   @OneToMany(mappedBy = "auth", cascade = CascadeType.ALL, orphanRemoval = true)
+  @Cache(
+      usage = CacheConcurrencyStrategy.READ_WRITE,
+      region = AuthCacheRegions.AUTH_PROVIDERS)
   private List<AuthProvider> providers = new ArrayList<>();
 
   // ========================================
@@ -127,7 +148,7 @@ public final class Auth extends AbstractAuditEntity {
       PasswordEncoder encoder,
       String createdBy) {
     Password password = Password.create(rawPassword, encoder);
-    return new Auth(UUID.randomUUID(), email, userType, password, createdBy);
+    return new Auth(UuidV7.generate(), email, userType, password, createdBy);
   }
 
   /**
@@ -156,7 +177,7 @@ public final class Auth extends AbstractAuditEntity {
     validateOAuthAllowedForUserType(userType);
 
     Password password = Password.create(rawPassword, encoder);
-    Auth auth = new Auth(UUID.randomUUID(), email, userType, password, createdBy);
+    Auth auth = new Auth(UuidV7.generate(), email, userType, password, createdBy);
     auth.addProviderInternal(providerType, providerUserId);
     return auth;
   }
@@ -179,6 +200,24 @@ public final class Auth extends AbstractAuditEntity {
     this.lastLoginAt = LocalDateTime.now();
   }
 
+  /**
+   * 마지막 로그인 시간을 갱신하지 않고 로그인 성공을 기록한다.
+   *
+   * <p>마지막 로그인 시간은 호출자가 모아서 따로 반영한다. 로그인 실패 횟수가 이미 0이면 값을 바꾸지 않으므로 엔티티 UPDATE가
+   * 생기지 않는다.
+   *
+   * @return 로그인 시각
+   * @throws AuthException 계정이 잠금 또는 탈퇴 상태인 경우
+   */
+  public LocalDateTime recordLoginSuccessDeferringLastLogin() {
+    validateCanLogin();
+
+    if (this.loginFailCount != 0) {
+      this.loginFailCount = 0;
+    }
+    return LocalDateTime.now();
+  }
+
   /**
    * 로그인 실패를 기록한다.
    *
@@ -247,6 +286,25 @@ public final class Auth extends AbstractAuditEntity {
     this.updateBy(updatedBy);
   }
 
+  /**
+   * 저장된 해시가 현재 인코딩 정책과 다르면 같은 비밀번호로 다시 해싱한다.
+   *
+   * <p>로그인에서 비밀번호 검증에 성공한 직후 호출한다. 원본 비밀번호는 이때만 알 수 있으므로, 해시 알고리즘이나 cost를 바꿔도
+   * 사용자가 로그인하는 시점에 점진적으로 새 정책의 해시로 바뀐다. 사용자가 바꾼 값이 아니므로 수정자는 갱신하지 않는다.
+   *
+   * @param rawPassword 검증에 성공한 원본 비밀번호
+   * @param encoder 비밀번호 인코더
+   * @return 다시 해싱했으면 true
+   * @throws AuthException 기존 비밀번호가 현재 비밀번호 정책에 맞지 않는 경우
+   */
+  public boolean rehashPasswordIfNeeded(String rawPassword, PasswordEncoder encoder) {
+    if (this.password == null || !this.password.needsRehash(encoder)) {
+      return false;
+    }
+    this.password = Password.create(rawPassword, encoder);
+    return true;
+  }
+
   /**
    * 비밀번호 존재 여부를 확인한다.
    *
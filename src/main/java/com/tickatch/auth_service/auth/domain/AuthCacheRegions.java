@@ -0,0 +1,29 @@
+package com.tickatch.auth_service.auth.domain;
+
+/**
+ * Auth 애그리거트의 Hibernate 2차 캐시 영역 이름.
+ *
+ * <p>엔티티 매핑은 이 이름으로 영역을 지정하고, 영역의 크기와 수명은 인프라 설정({@code SecondLevelCacheConfig})이 정한다.
+ *
+ * @author Tickatch
+ * @since 1.0.0
+ */
+public final class AuthCacheRegions {
+
+  /** Auth 엔티티 영역. */
+  public static final String AUTH = "auth";
+
+  /** Auth 자연 키 {@code (email, userType)} 영역. */
+  public static final String AUTH_NATURAL_ID = "auth.natural-id";
+
+  /** Auth의 소셜 연동 목록 영역. */
+  public static final String AUTH_PROVIDERS = "auth.providers";
+
+  /** AuthProvider 엔티티 영역. */
+  public static final String AUTH_PROVIDER = "auth-provider";
+
+  /** AuthProvider 자연 키 {@code (provider, providerUserId)} 영역. */
+  public static final String AUTH_PROVIDER_NATURAL_ID = "auth-provider.natural-id";
+
+  private AuthCacheRegions() {}
+}
@@ -1,6 +1,8 @@
 package com.tickatch.auth_service.auth.domain;
 
 import com.tickatch.auth_service.auth.domain.vo.ProviderType;
+import com.tickatch.auth_service.global.domain.AbstractPersistableEntity;
+import com.tickatch.auth_service.global.domain.UuidV7;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
@@ -17,11 +19,19 @@ import java.util.UUID;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.NaturalId;
+import org.hibernate.annotations.NaturalIdCache;
+import org.springframework.data.domain.Persistable;
 
 /**
  * 소셜 로그인 연동 정보 엔티티.
  *
- * <p>하나의 Auth에 여러 소셜 계정을 연동할 수 있으며, 동일한 제공자(Provider)는 한 번만 연동 가능하다.
+ * <p>하나의 Auth에 여러 소셜 계정을 연동할 수 있으며, 동일한 제공자(Provider)는 한 번만 연동 가능하다. 제공자 측 사용자는
+ * 하나의 Auth에만 연동된다.
+ *
+ * <p>엔티티와 자연 키 {@code (provider, providerUserId)}는 2차 캐시에 둔다({@link AuthCacheRegions}).
  *
  * @author Tickatch
  * @since 1.0.0
@@ -32,11 +42,16 @@ import lombok.NoArgsConstructor;
     uniqueConstraints = {
       @UniqueConstraint(
           name = "uk_auth_provider",
-          columnNames = {"auth_id", "provider"})
+          columnNames = {"auth_id", "provider"}),
+      @UniqueConstraint(
+          name = "uk_auth_provider_user",
+          columnNames = {"provider", "provider_user_id"})
     })
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = AuthCacheRegions.AUTH_PROVIDER)
+@NaturalIdCache(region = AuthCacheRegions.AUTH_PROVIDER_NATURAL_ID)
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
-public class AuthProvider {
+public class AuthProvider extends AbstractPersistableEntity implements Persistable<UUID> {
 
   /* 소셜 연동 ID */
   @Id
@@ -49,11 +64,13 @@ public class AuthProvider {
   private Auth auth;
 
   /* 소셜 로그인 제공자 */
+  @NaturalId
   @Enumerated(EnumType.STRING)
   @Column(name = "provider", nullable = false, length = 20)
   private ProviderType provider;
 
   /* 제공자 측 사용자 ID */
+  @NaturalId
   @Column(name = "provider_user_id", nullable = false)
   private String providerUserId;
 
@@ -62,7 +79,7 @@ public class AuthProvider {
   private LocalDateTime connectedAt;
 
   private AuthProvider(Auth auth, ProviderType provider, String providerUserId) {
-    this.id = UUID.randomUUID();
+    this.id = UuidV7.generate();
     this.auth = auth;
     this.provider = provider;
     this.providerUserId = providerUserId;
@@ -1,8 +1,10 @@
 package com.tickatch.auth_service.auth.domain;
 
 import com.tickatch.auth_service.auth.domain.repository.dto.AuthSearchCondition;
+import com.tickatch.auth_service.auth.domain.repository.dto.PasswordHashCount;
 import com.tickatch.auth_service.auth.domain.vo.ProviderType;
 import com.tickatch.auth_service.auth.domain.vo.UserType;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 import org.springframework.data.domain.Page;
@@ -24,6 +26,8 @@ public interface AuthRepository {
    *
    * @param auth 저장할 Auth 엔티티
    * @return 저장된 Auth 엔티티
+   * @throws com.tickatch.auth_service.auth.domain.exception.AuthException 새 Auth의 이메일과 사용자 유형
+   *     조합이 이미 있는 경우
    */
   Auth save(Auth auth);
 
@@ -78,4 +82,13 @@ public interface AuthRepository {
    * @return 페이징된 Auth 목록
    */
   Page<Auth> findAllByCondition(AuthSearchCondition condition, Pageable pageable);
+
+  /**
+   * 저장된 비밀번호 해시를 알고리즘별로, BCrypt는 cost별로 센다.
+   *
+   * <p>알고리즘이나 cost를 바꾼 뒤 재해싱 진행 상황을 지표로 보고하는 데 사용한다. 비밀번호가 없는 소셜 계정은 제외된다.
+   *
+   * @return 알고리즘(및 cost)별 해시 수
+   */
+  List<PasswordHashCount> countPasswordsByAlgorithm();
 }
@@ -0,0 +1,37 @@
+package com.tickatch.auth_service.auth.domain;
+
+import com.tickatch.auth_service.auth.domain.vo.UserType;
+import java.util.function.BooleanSupplier;
+
+/**
+ * 가입된 이메일 색인 인터페이스.
+ *
+ * <p>이메일 중복 확인이 매번 DB를 조회하지 않도록 "확실히 없음"을 먼저 판단한다. 도메인 레이어에서 정의하고, 인프라스트럭처 레이어에서
+ * 구현한다.
+ *
+ * @author Tickatch
+ * @since 1.0.0
+ * @see com.tickatch.auth_service.auth.infrastructure.adapter.RegisteredEmailIndexAdapter
+ */
+public interface RegisteredEmailIndex {
+
+  /**
+   * 이메일과 사용자 유형 조합이 가입되어 있는지 확인한다.
+   *
+   * <p>색인이 "없다"고 답하면 false를 바로 반환하고, 아니면 {@code lookup}으로 DB를 확인한다.
+   *
+   * @param email 이메일
+   * @param userType 사용자 유형
+   * @param lookup DB 조회
+   * @return 가입되어 있으면 true
+   */
+  boolean exists(String email, UserType userType, BooleanSupplier lookup);
+
+  /**
+   * 가입된 이메일과 사용자 유형 조합을 추가한다.
+   *
+   * @param email 이메일
+   * @param userType 사용자 유형
+   */
+  void put(String email, UserType userType);
+}
@@ -74,13 +74,25 @@ public enum AuthErrorCode implements ErrorCode {
       HttpStatus.UNPROCESSABLE_ENTITY.value(), "LOGIN_FAILED_LIMIT_EXCEEDED"),
   ALREADY_WITHDRAWN(HttpStatus.UNPROCESSABLE_ENTITY.value(), "ALREADY_WITHDRAWN"),
 
+  // ========================================
+  // 요청 제한 (429)
+  // ========================================
+  TOO_MANY_LOGIN_ATTEMPTS(HttpStatus.TOO_MANY_REQUESTS.value(), "TOO_MANY_LOGIN_ATTEMPTS"),
+  TOO_MANY_REQUESTS(HttpStatus.TOO_MANY_REQUESTS.value(), "TOO_MANY_REQUESTS"),
+
   // ========================================
   // 외부 서비스 (503)
   // ========================================
   OAUTH_SERVER_ERROR(HttpStatus.SERVICE_UNAVAILABLE.value(), "OAUTH_SERVER_ERROR"),
   OAUTH_TOKEN_FAILED(HttpStatus.SERVICE_UNAVAILABLE.value(), "OAUTH_TOKEN_FAILED"),
   OAUTH_USER_INFO_FAILED(HttpStatus.SERVICE_UNAVAILABLE.value(), "OAUTH_USER_INFO_FAILED"),
-  EVENT_PUBLISH_FAILED(HttpStatus.SERVICE_UNAVAILABLE.value(), "EVENT_PUBLISH_FAILED");
+  EVENT_PUBLISH_FAILED(HttpStatus.SERVICE_UNAVAILABLE.value(), "EVENT_PUBLISH_FAILED"),
+
+  // ========================================
+  // 과부하 (503)
+  // ========================================
+  PASSWORD_HASHING_UNAVAILABLE(
+      HttpStatus.SERVICE_UNAVAILABLE.value(), "PASSWORD_HASHING_UNAVAILABLE");
 
   private final int status;
   private final String code;
@@ -3,22 +3,37 @@ package com.tickatch.auth_service.auth.domain.repository;
 import static com.tickatch.auth_service.auth.domain.QAuth.auth;
 import static com.tickatch.auth_service.auth.domain.QAuthProvider.authProvider;
 
+import com.querydsl.core.Tuple;
 import com.querydsl.core.types.Order;
 import com.querydsl.core.types.OrderSpecifier;
 import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.Expressions;
+import com.querydsl.core.types.dsl.NumberExpression;
+import com.querydsl.core.types.dsl.StringExpression;
 import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import com.tickatch.auth_service.auth.domain.Auth;
+import com.tickatch.auth_service.auth.domain.AuthProvider;
 import com.tickatch.auth_service.auth.domain.AuthRepository;
+import com.tickatch.auth_service.auth.domain.RegisteredEmailIndex;
+import com.tickatch.auth_service.auth.domain.exception.AuthErrorCode;
+import com.tickatch.auth_service.auth.domain.exception.AuthException;
 import com.tickatch.auth_service.auth.domain.repository.dto.AuthSearchCondition;
+import com.tickatch.auth_service.auth.domain.repository.dto.PasswordHashCount;
 import com.tickatch.auth_service.auth.domain.vo.AuthStatus;
 import com.tickatch.auth_service.auth.domain.vo.ProviderType;
 import com.tickatch.auth_service.auth.domain.vo.UserType;
+import jakarta.persistence.EntityManager;
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
+import org.hibernate.Session;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
@@ -31,6 +46,8 @@ import org.springframework.util.StringUtils;
  *
  * <p>JPA와 QueryDSL을 사용하여 Auth 데이터를 조회/저장한다. 동적 쿼리를 통해 다양한 검색 조건을 지원한다.
  *
+ * <p>이메일/소셜 계정 조회는 Hibernate 자연 키 조회를 사용해 2차 캐시의 자연 키 영역과 엔티티 영역을 거친다.
+ *
  * @author Tickatch
  * @since 1.0.0
  * @see AuthRepository
@@ -39,12 +56,39 @@ import org.springframework.util.StringUtils;
 @RequiredArgsConstructor
 public class AuthRepositoryImpl implements AuthRepository {
 
+  /* Auth 엔티티의 email + user_type 유니크 제약 이름 */
+  private static final String EMAIL_USER_TYPE_CONSTRAINT = "uk_auth_email_user_type";
+
   private final AuthJpaRepository authJpaRepository;
   private final JPAQueryFactory queryFactory;
+  private final EntityManager entityManager;
+  private final RegisteredEmailIndex registeredEmailIndex;
 
+  /**
+   * {@inheritDoc}
+   *
+   * <p>새 Auth는 바로 flush해 INSERT를 보낸다. 중복 확인과 INSERT 사이에 다른 요청이 같은 이메일로 가입했거나, 다른 인스턴스의
+   * 가입이 아직 이메일 필터에 반영되지 않아 중복 확인을 통과한 경우 유니크 제약 위반을 여기서 이메일 중복 에러로 바꾼다.
+   *
+   * @throws AuthException 이메일과 사용자 유형 조합이 이미 있는 경우
+   */
   @Override
   public Auth save(Auth auth) {
-    return authJpaRepository.save(auth);
+    if (!auth.isNew()) {
+      return authJpaRepository.save(auth);
+    }
+
+    Auth saved = authJpaRepository.save(auth);
+    try {
+      authJpaRepository.flush();
+    } catch (DataIntegrityViolationException e) {
+      if (isEmailUserTypeViolation(e)) {
+        throw new AuthException(AuthErrorCode.EMAIL_ALREADY_EXISTS);
+      }
+      throw e;
+    }
+    registeredEmailIndex.put(saved.getEmail(), saved.getUserType());
+    return saved;
   }
 
   @Override
@@ -52,19 +96,89 @@ public class AuthRepositoryImpl implements AuthRepository {
     return authJpaRepository.findById(id);
   }
 
+  /**
+   * {@inheritDoc}
+   *
+   * <p>DB에서는 해시 앞부분으로만 묶는다. 접두사 없는 BCrypt 해시(60자)는 {@code $2a$NN}까지 6자, 나머지는
+   * {@code {bcrypt}$2a$NN}, {@code {argon2}$argon}처럼 14자이므로 그룹은 알고리즘과 cost 조합 수만큼만 나온다. 묶음 식은
+   * SELECT와 GROUP BY에 같은 SQL로 들어가도록 바인딩 파라미터 없이 템플릿으로 만들고, 알고리즘과 cost는 애플리케이션에서
+   * 읽는다.
+   */
+  @Override
+  public List<PasswordHashCount> countPasswordsByAlgorithm() {
+    StringExpression hash = auth.password.encodedValue;
+    StringExpression head =
+        Expressions.stringTemplate(
+            "case when length({0}) = 60 then substring({0}, 1, 6) else substring({0}, 1, 14) end",
+            hash);
+    NumberExpression<Long> count = auth.count();
+
+    List<Tuple> rows =
+        queryFactory.select(head, count).from(auth).where(hash.isNotNull()).groupBy(head).fetch();
+
+    Map<PasswordHashKey, Long> counts = new LinkedHashMap<>();
+    for (Tuple row : rows) {
+      counts.merge(PasswordHashKey.of(row.get(head)), row.get(count), Long::sum);
+    }
+    return counts.entrySet().stream()
+        .map(e -> new PasswordHashCount(e.getKey().algorithmId(), e.getKey().cost(), e.getValue()))
+        .toList();
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * <p>자연 키 {@code (email, userType)}로 ID를 찾고 ID로 엔티티를 적재한다. 둘 다 2차 캐시에 있으면 DB를 조회하지 않는다.
+   */
   @Override
   public Optional<Auth> findByEmailAndUserType(String email, UserType userType) {
-    return authJpaRepository.findByEmailAndUserType(email, userType);
+    return session()
+        .byNaturalId(Auth.class)
+        .using("email", email)
+        .using("userType", userType)
+        .loadOptional();
   }
 
+  /**
+   * {@inheritDoc}
+   *
+   * <p>이메일 필터가 "없다"고 답하면 DB를 조회하지 않는다.
+   */
   @Override
   public boolean existsByEmailAndUserType(String email, UserType userType) {
-    return authJpaRepository.existsByEmailAndUserType(email, userType);
+    return registeredEmailIndex.exists(
+        email, userType, () -> authJpaRepository.existsByEmailAndUserType(email, userType));
   }
 
+  /**
+   * {@inheritDoc}
+   *
+   * <p>자연 키 {@code (provider, providerUserId)}로 AuthProvider를 찾아 소유 Auth를 반환한다. 다른 인스턴스에서 연동이
+   * 해제된 직후에는 이 인스턴스의 자연 키 캐시가 지워진 연동을 가리킬 수 있다. 연동이 Auth의 현재 연동 목록에 없으면 그 연동의
+   * 엔티티 캐시와 자연 키 캐시를 비우고 DB에서 다시 찾는다. 자연 키 캐시는 키 하나만 지울 수 없어 영역 전체를 비운다.
+   */
   @Override
   public Optional<Auth> findByProviderAndProviderUserId(
       ProviderType provider, String providerUserId) {
+    Optional<AuthProvider> linked =
+        session()
+            .byNaturalId(AuthProvider.class)
+            .using("provider", provider)
+            .using("providerUserId", providerUserId)
+            .loadOptional();
+    if (linked.isEmpty()) {
+      return Optional.empty();
+    }
+
+    Auth owner = linked.get().getAuth();
+    if (owner.getProviders().contains(linked.get())) {
+      return Optional.of(owner);
+    }
+    entityManager
+        .getEntityManagerFactory()
+        .getCache()
+        .evict(AuthProvider.class, linked.get().getId());
+    session().getSessionFactory().getCache().evictNaturalIdData(AuthProvider.class);
     return authJpaRepository.findByProviderAndProviderUserId(provider, providerUserId);
   }
 
@@ -180,4 +294,42 @@ public class AuthRepositoryImpl implements AuthRepository {
 
     return orderSpecifiers.toArray(new OrderSpecifier[0]);
   }
+
+  private Session session() {
+    return entityManager.unwrap(Session.class);
+  }
+
+  private static boolean isEmailUserTypeViolation(DataIntegrityViolationException e) {
+    String message = e.getMostSpecificCause().getMessage();
+    return message != null
+        && message.toLowerCase(Locale.ROOT).contains(EMAIL_USER_TYPE_CONSTRAINT);
+  }
+
+  /* 해시 앞부분에서 읽은 알고리즘 ID와 BCrypt cost */
+  private record PasswordHashKey(String algorithmId, Integer cost) {
+
+    private static final String BCRYPT = "bcrypt";
+    private static final String UNKNOWN = "unknown";
+
+    private static PasswordHashKey of(String head) {
+      if (head.startsWith("$2")) {
+        return bcrypt(head);
+      }
+      int end = head.indexOf('}');
+      if (!head.startsWith("{") || end < 0) {
+        return new PasswordHashKey(UNKNOWN, null);
+      }
+      String id = head.substring(1, end);
+      return BCRYPT.equals(id) ? bcrypt(head.substring(end + 1)) : new PasswordHashKey(id, null);
+    }
+
+    /* $2a$NN 형식에서 cost를 읽는다 */
+    private static PasswordHashKey bcrypt(String head) {
+      try {
+        return new PasswordHashKey(BCRYPT, Integer.parseInt(head.substring(4, 6)));
+      } catch (RuntimeException e) {
+        return new PasswordHashKey(BCRYPT, null);
+      }
+    }
+  }
 }
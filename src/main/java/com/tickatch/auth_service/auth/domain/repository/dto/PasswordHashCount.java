@@ -0,0 +1,13 @@
+package com.tickatch.auth_service.auth.domain.repository.dto;
+
+/**
+ * 저장된 비밀번호 해시의 알고리즘(및 BCrypt cost)별 개수.
+ *
+ * @param algorithmId 해시 접두사의 알고리즘 ID ({@code bcrypt}, {@code argon2}, {@code scrypt} 등). 접두사 없는
+ *     BCrypt 해시는 {@code bcrypt}, 알 수 없는 형식은 {@code unknown}
+ * @param cost BCrypt cost. BCrypt가 아니면 null
+ * @param count 해시 수
+ * @author Tickatch
+ * @since 1.0.0
+ */
+public record PasswordHashCount(String algorithmId, Integer cost, long count) {}
@@ -81,6 +81,9 @@ public class Password {
   /**
    * 원본 비밀번호가 저장된 암호화 값과 일치하는지 확인한다.
    *
+   * <p>저장된 값의 알고리즘 접두사({@code {bcrypt}}, {@code {argon2}}, {@code {scrypt}})로 검증 알고리즘을 고르므로, 알고리즘을
+   * 바꾼 뒤에도 기존 해시가 검증된다.
+   *
    * @param rawPassword 원본 비밀번호
    * @param encoder 비밀번호 인코더
    * @return 일치하면 true
@@ -89,6 +92,18 @@ public class Password {
     return encoder.matches(rawPassword, this.encodedValue);
   }
 
+  /**
+   * 저장된 해시를 현재 인코딩 정책으로 다시 해싱해야 하는지 확인한다.
+   *
+   * <p>알고리즘이나 cost가 현재 설정과 다르면 true를 반환한다.
+   *
+   * @param encoder 비밀번호 인코더
+   * @return 다시 해싱해야 하면 true
+   */
+  public boolean needsRehash(PasswordEncoder encoder) {
+    return hasValue() && encoder.upgradeEncoding(this.encodedValue);
+  }
+
   /**
    * 비밀번호 정책을 검증한다.
    *
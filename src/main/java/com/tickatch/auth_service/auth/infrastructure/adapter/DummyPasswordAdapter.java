@@ -0,0 +1,26 @@
+package com.tickatch.auth_service.auth.infrastructure.adapter;
+
+import com.tickatch.auth_service.auth.application.port.out.DummyPasswordPort;
+import com.tickatch.auth_service.global.password.infrastructure.DummyPasswordHash;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * DummyPasswordPort 구현체.
+ *
+ * <p>{@link DummyPasswordHash}로 검증한다.
+ *
+ * @author Tickatch
+ * @since 1.0.0
+ */
+@Component
+@RequiredArgsConstructor
+public class DummyPasswordAdapter implements DummyPasswordPort {
+
+  private final DummyPasswordHash dummyPasswordHash;
+
+  @Override
+  public void verify(String rawPassword) {
+    dummyPasswordHash.verify(rawPassword);
+  }
+}
@@ -0,0 +1,34 @@
+package com.tickatch.auth_service.auth.infrastructure.adapter;
+
+import com.tickatch.auth_service.auth.domain.RegisteredEmailIndex;
+import com.tickatch.auth_service.auth.domain.vo.UserType;
+import com.tickatch.auth_service.auth.infrastructure.persistence.RegisteredEmailFilter;
+import java.util.function.BooleanSupplier;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * RegisteredEmailIndex 구현체.
+ *
+ * <p>{@link RegisteredEmailFilter}의 Bloom 필터로 판단한다. 필터는 {@code @Async} 메서드를 가지므로 인터페이스를 직접
+ * 구현하면 JDK 프록시가 만들어져 {@code @Scheduled}/{@code @EventListener} 메서드를 찾지 못한다. 그래서 위임으로 연결한다.
+ *
+ * @author Tickatch
+ * @since 1.0.0
+ */
+@Component
+@RequiredArgsConstructor
+public class RegisteredEmailIndexAdapter implements RegisteredEmailIndex {
+
+  private final RegisteredEmailFilter registeredEmailFilter;
+
+  @Override
+  public boolean exists(String email, UserType userType, BooleanSupplier lookup) {
+    return registeredEmailFilter.exists(email, userType, lookup);
+  }
+
+  @Override
+  public void put(String email, UserType userType) {
+    registeredEmailFilter.put(email, userType);
+  }
+}
@@ -2,12 +2,11 @@ package com.tickatch.auth_service.auth.infrastructure.adapter;
 
 import com.tickatch.auth_service.auth.application.port.out.TokenPort;
 import com.tickatch.auth_service.auth.domain.vo.UserType;
-import com.tickatch.auth_service.token.application.port.out.TokenProvider;
 import com.tickatch.auth_service.token.application.service.command.TokenCommandService;
 import com.tickatch.auth_service.token.application.service.command.dto.IssueTokenCommand;
+import com.tickatch.auth_service.token.application.service.command.dto.RefreshTokenCommand;
+import com.tickatch.auth_service.token.application.service.command.dto.RefreshTokenResult;
 import com.tickatch.auth_service.token.application.service.command.dto.TokenResult;
-import com.tickatch.auth_service.token.domain.RefreshToken;
-import java.time.LocalDateTime;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
@@ -25,7 +24,6 @@ import org.springframework.stereotype.Component;
 public class TokenAdapter implements TokenPort {
 
   private final TokenCommandService tokenCommandService;
-  private final TokenProvider tokenProvider;
 
   @Override
   public TokenResult issueTokens(
@@ -35,28 +33,8 @@ public class TokenAdapter implements TokenPort {
   }
 
   @Override
-  public TokenResult refreshTokens(String refreshTokenValue, UserType userType) {
-    // 1. Refresh Token 검증 및 조회
-    RefreshToken refreshToken = tokenCommandService.validateAndGetRefreshToken(refreshTokenValue);
-
-    // 2. 새 Access Token 생성
-    String newAccessToken = tokenProvider.generateAccessToken(refreshToken.getAuthId(), userType);
-
-    // 3. Refresh Token Rotation
-    String newRefreshTokenValue = tokenCommandService.rotateRefreshToken(refreshToken);
-
-    // 4. Access Token 만료 시간 계산
-    LocalDateTime accessTokenExpiresAt =
-        LocalDateTime.now().plusSeconds(tokenProvider.getAccessTokenExpirationSeconds());
-
-    return TokenResult.of(
-        newAccessToken, newRefreshTokenValue, accessTokenExpiresAt, refreshToken.getExpiresAt());
-  }
-
-  @Override
-  public UUID getAuthIdFromRefreshToken(String refreshTokenValue) {
-    RefreshToken refreshToken = tokenCommandService.validateAndGetRefreshToken(refreshTokenValue);
-    return refreshToken.getAuthId();
+  public RefreshTokenResult refreshTokens(String refreshTokenValue) {
+    return tokenCommandService.refreshTokens(RefreshTokenCommand.of(refreshTokenValue));
   }
 
   @Override
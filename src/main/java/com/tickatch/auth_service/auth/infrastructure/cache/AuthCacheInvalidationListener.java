@@ -0,0 +1,143 @@
+package com.tickatch.auth_service.auth.infrastructure.cache;
+
+import com.tickatch.auth_service.auth.domain.Auth;
+import com.tickatch.auth_service.auth.domain.AuthProvider;
+import com.tickatch.auth_service.auth.infrastructure.messaging.publisher.AuthCacheInvalidationPublisher;
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import java.util.Set;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.PostDeleteEvent;
+import org.hibernate.event.spi.PostDeleteEventListener;
+import org.hibernate.event.spi.PostInsertEvent;
+import org.hibernate.event.spi.PostInsertEventListener;
+import org.hibernate.event.spi.PostUpdateEvent;
+import org.hibernate.event.spi.PostUpdateEventListener;
+import org.hibernate.persister.entity.EntityPersister;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Auth 변경 시 {@link AuthInfoCache}를 무효화하는 Hibernate 이벤트 리스너.
+ *
+ * <p>{@link Auth}의 UPDATE/DELETE(잠금, 해제, 탈퇴, 비밀번호 변경 등)와 {@link AuthProvider}의 INSERT/DELETE(소셜
+ * 연동/해제)를 감지한다. 소셜 연동은 Auth 컬럼을 바꾸지 않아 Auth UPDATE가 생기지 않으므로 AuthProvider 쪽에서 감지한다.
+ *
+ * <p>마지막 로그인 시간과 수정 감사 컬럼만 바뀐 UPDATE는 무효화하지 않는다. 로그인 성공마다 다른 인스턴스로 방송하지 않기
+ * 위해서다. 실패 횟수는 무효화한다. 다른 인스턴스가 2차 캐시의 옛 횟수에서 세기 시작하면 잠금 기준을 넘겨도 잠기지 않는다.
+ *
+ * <p>무효화는 트랜잭션 커밋 뒤에 한다. 커밋 전에 지우면 다른 요청이 커밋 전 값을 다시 캐시할 수 있다. 로컬 캐시를 지운 뒤
+ * 다른 인스턴스에 방송하며, 방송은 비동기로 보내 커밋한 요청 스레드를 붙잡지 않는다.
+ *
+ * <p>엔티티에 리스너를 붙이지 않고 Hibernate 이벤트 레지스트리에 등록하므로 도메인이 캐시 구현을 알 필요가 없고, 바뀐 속성을 볼
+ * 수 있다.
+ *
+ * @author Tickatch
+ * @since 1.0.0
+ */
+@Component
+@RequiredArgsConstructor
+public class AuthCacheInvalidationListener
+    implements PostUpdateEventListener, PostInsertEventListener, PostDeleteEventListener {
+
+  /* 바뀌어도 캐시를 지우지 않는 Auth 속성 */
+  static final Set<String> LOGIN_BOOKKEEPING_PROPERTIES =
+      Set.of("lastLoginAt", "updatedAt", "updatedBy");
+
+  private final AuthInfoCache authInfoCache;
+  private final AuthCacheInvalidationPublisher invalidationPublisher;
+  private final EntityManagerFactory entityManagerFactory;
+
+  @PostConstruct
+  void register() {
+    EventListenerRegistry registry =
+        entityManagerFactory
+            .unwrap(SessionFactoryImplementor.class)
+            .getServiceRegistry()
+            .getService(EventListenerRegistry.class);
+    registry.appendListeners(EventType.POST_UPDATE, this);
+    registry.appendListeners(EventType.POST_INSERT, this);
+    registry.appendListeners(EventType.POST_DELETE, this);
+  }
+
+  /** Auth 수정을 처리한다. 로그인 기록만 바뀌었으면 무시한다. */
+  @Override
+  public void onPostUpdate(PostUpdateEvent event) {
+    if (event.getEntity() instanceof Auth
+        && onlyLoginBookkeepingChanged(event.getDirtyProperties(), event.getPersister())) {
+      return;
+    }
+    invalidateAfterCommit(authIdOf(event.getEntity()));
+  }
+
+  /** AuthProvider 추가를 처리한다. 새 Auth는 캐시에 없으므로 무시한다. */
+  @Override
+  public void onPostInsert(PostInsertEvent event) {
+    if (event.getEntity() instanceof AuthProvider) {
+      invalidateAfterCommit(authIdOf(event.getEntity()));
+    }
+  }
+
+  /** Auth, AuthProvider 삭제를 처리한다. */
+  @Override
+  public void onPostDelete(PostDeleteEvent event) {
+    invalidateAfterCommit(authIdOf(event.getEntity()));
+  }
+
+  @Override
+  public boolean requiresPostCommitHandling(EntityPersister persister) {
+    return false;
+  }
+
+  /* 바뀐 속성을 모르면 무효화한다 */
+  private static boolean onlyLoginBookkeepingChanged(
+      int[] dirtyProperties, EntityPersister persister) {
+    if (dirtyProperties == null || dirtyProperties.length == 0) {
+      return false;
+    }
+    String[] propertyNames = persister.getPropertyNames();
+    for (int index : dirtyProperties) {
+      if (!LOGIN_BOOKKEEPING_PROPERTIES.contains(propertyNames[index])) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private void invalidateAfterCommit(UUID authId) {
+    if (authId == null) {
+      return;
+    }
+    if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+      invalidate(authId);
+      return;
+    }
+    TransactionSynchronizationManager.registerSynchronization(
+        new TransactionSynchronization() {
+          @Override
+          public void afterCommit() {
+            invalidate(authId);
+          }
+        });
+  }
+
+  private void invalidate(UUID authId) {
+    authInfoCache.invalidate(authId);
+    invalidationPublisher.publish(authId);
+  }
+
+  private static UUID authIdOf(Object entity) {
+    if (entity instanceof Auth auth) {
+      return auth.getId();
+    }
+    if (entity instanceof AuthProvider provider) {
+      return provider.getAuth().getId();
+    }
+    return null;
+  }
+}
@@ -0,0 +1,73 @@
+package com.tickatch.auth_service.auth.infrastructure.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.tickatch.auth_service.auth.application.port.out.AuthInfoCachePort;
+import com.tickatch.auth_service.auth.application.service.query.dto.AuthInfo;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Function;
+import org.springframework.stereotype.Component;
+
+/**
+ * authId별 {@link AuthInfo} 스냅샷 캐시.
+ *
+ * <p>{@code /me} 등 조회 요청이 매번 Auth와 소셜 연동 목록을 읽지 않도록 불변 스냅샷을 인스턴스 메모리에 둔다. Auth나 소셜 연동이
+ * 바뀌면 {@link AuthCacheInvalidationListener}가 커밋 후 이 인스턴스와 다른 인스턴스의 항목을 지운다.
+ *
+ * <p>같은 키의 적재와 무효화는 직렬화된다. 적재 중 무효화가 들어오면 적재가 끝난 뒤 지워지므로, 커밋 전 값을 읽은 적재가 캐시에
+ * 남지 않는다. 없는 계정은 캐시하지 않는다.
+ *
+ * <p>로그인할 때마다 바뀌는 기록(마지막 로그인 시간, 실패 횟수)만 바뀐 경우는 무효화하지 않으므로, 마지막 로그인 시간은 최대
+ * {@code ttl}만큼 늦게 보일 수 있다.
+ *
+ * <p>조회/적중 지표는 {@code cache.*{cache=auth.info}}으로 노출된다.
+ *
+ * @author Tickatch
+ * @since 1.0.0
+ */
+@Component
+public class AuthInfoCache implements AuthInfoCachePort {
+
+  static final String CACHE_NAME = "auth.info";
+
+  private final boolean enabled;
+  private final Cache<UUID, AuthInfo> cache;
+
+  public AuthInfoCache(AuthInfoCacheProperties properties, MeterRegistry meterRegistry) {
+    this.enabled = properties.isEnabled();
+    this.cache =
+        Caffeine.newBuilder()
+            .maximumSize(properties.getMaximumSize())
+            .expireAfterWrite(properties.getTtl())
+            .recordStats()
+            .build();
+    CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+  }
+
+  /**
+   * 캐시된 스냅샷을 반환하고, 없으면 적재한다.
+   *
+   * @param authId 인증 ID
+   * @param loader 캐시에 없을 때 DB에서 읽는 함수
+   * @return Auth 정보 (없으면 empty)
+   */
+  @Override
+  public Optional<AuthInfo> get(UUID authId, Function<UUID, Optional<AuthInfo>> loader) {
+    if (!enabled) {
+      return loader.apply(authId);
+    }
+    return Optional.ofNullable(cache.get(authId, id -> loader.apply(id).orElse(null)));
+  }
+
+  /**
+   * 항목을 지운다.
+   *
+   * @param authId 인증 ID
+   */
+  public void invalidate(UUID authId) {
+    cache.invalidate(authId);
+  }
+}
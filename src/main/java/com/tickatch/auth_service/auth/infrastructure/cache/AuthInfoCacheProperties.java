@@ -0,0 +1,31 @@
+package com.tickatch.auth_service.auth.infrastructure.cache;
+
+import java.time.Duration;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Auth 조회 캐시 설정 프로퍼티.
+ *
+ * <p>application.yml의 auth.info-cache.* 설정을 바인딩한다.
+ *
+ * @author Tickatch
+ * @since 1.0.0
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "auth.info-cache")
+public class AuthInfoCacheProperties {
+
+  /** 캐시 사용 여부. */
+  private boolean enabled = true;
+
+  /** 캐시할 최대 authId 수. */
+  private long maximumSize = 10_000;
+
+  /** 항목 유지 시간. 무효화 메시지가 유실돼도 이 시간이 지나면 DB 값으로 바뀐다. */
+  private Duration ttl = Duration.ofMinutes(5);
+}
@@ -1,6 +1,8 @@
 package com.tickatch.auth_service.auth.infrastructure.messaging.config;
 
 import io.github.tickatch.common.util.JsonUtils;
+import org.springframework.amqp.core.AnonymousQueue;
+import org.springframework.amqp.core.Base64UrlNamingStrategy;
 import org.springframework.amqp.core.Binding;
 import org.springframework.amqp.core.BindingBuilder;
 import org.springframework.amqp.core.ExchangeBuilder;
@@ -32,6 +34,7 @@ import org.springframework.context.annotation.Configuration;
  *
  * <ul>
  *   <li>인증 로그 (auth.log) → 로그 서비스
+ *   <li>Auth 캐시 무효화 (auth.cache.invalidated) → 모든 auth-service 인스턴스
  * </ul>
  *
  * @author Tickatch
@@ -82,6 +85,16 @@ public class RabbitMQConfig {
   /** 인증 로그 라우팅 키 */
   public static final String ROUTING_KEY_AUTH_LOG = "auth.log";
 
+  // ========================================
+  // Routing Keys - Auth 캐시 무효화 방송용
+  // ========================================
+
+  /** Auth 캐시 무효화 라우팅 키 */
+  public static final String ROUTING_KEY_AUTH_CACHE_INVALIDATED = "auth.cache.invalidated";
+
+  /** Auth 캐시 무효화 큐 이름 접두사 (인스턴스마다 임시 큐를 만든다) */
+  public static final String QUEUE_AUTH_CACHE_INVALIDATION_PREFIX = "tickatch.auth.cache.";
+
   // ========================================
   // Queue Names - 로그 발행용
   // ========================================
@@ -157,6 +170,38 @@ public class RabbitMQConfig {
         .build();
   }
 
+  // ========================================
+  // Queues - Auth 캐시 무효화 방송용
+  // ========================================
+
+  /**
+   * 인스턴스 전용 캐시 무효화 큐를 생성한다.
+   *
+   * <p>모든 인스턴스가 같은 이벤트를 받아야 하므로 공유 큐 대신 인스턴스마다 이름이 다른 임시 큐(exclusive, auto-delete)를
+   * 쓴다. 인스턴스가 내려가면 큐도 삭제된다.
+   *
+   * @return 이름이 자동 생성되는 임시 Queue
+   */
+  @Bean
+  public AnonymousQueue authCacheInvalidationQueue() {
+    return new AnonymousQueue(new Base64UrlNamingStrategy(QUEUE_AUTH_CACHE_INVALIDATION_PREFIX));
+  }
+
+  /**
+   * 캐시 무효화 큐와 User Exchange를 바인딩한다.
+   *
+   * @param authCacheInvalidationQueue 바인딩할 큐
+   * @param userExchange 바인딩할 Exchange
+   * @return 라우팅 키로 연결된 Binding
+   */
+  @Bean
+  public Binding authCacheInvalidationBinding(
+      AnonymousQueue authCacheInvalidationQueue, TopicExchange userExchange) {
+    return BindingBuilder.bind(authCacheInvalidationQueue)
+        .to(userExchange)
+        .with(ROUTING_KEY_AUTH_CACHE_INVALIDATED);
+  }
+
   // ========================================
   // Bindings - 탈퇴 이벤트
   // ========================================
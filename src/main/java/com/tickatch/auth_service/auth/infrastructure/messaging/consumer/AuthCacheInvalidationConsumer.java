@@ -0,0 +1,49 @@
+package com.tickatch.auth_service.auth.infrastructure.messaging.consumer;
+
+import com.tickatch.auth_service.auth.domain.Auth;
+import com.tickatch.auth_service.auth.infrastructure.cache.AuthInfoCache;
+import com.tickatch.auth_service.auth.infrastructure.messaging.event.AuthCacheInvalidatedEvent;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.SessionFactory;
+import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * Auth 캐시 무효화 이벤트 Consumer.
+ *
+ * <p>인스턴스마다 자기 전용 큐로 모든 무효화 이벤트를 받아 로컬 캐시 항목과 Hibernate 2차 캐시의 Auth, 소셜 연동 목록 항목을
+ * 지운다. 자기가 발행한 이벤트도 받지만 이미 지운 항목을 한 번 더 지우거나, 커밋과 함께 갱신된 2차 캐시 항목을 한 번 다시 읽게 할
+ * 뿐이다.
+ *
+ * @author Tickatch
+ * @since 1.0.0
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AuthCacheInvalidationConsumer {
+
+  /* Auth 소셜 연동 목록의 2차 캐시 역할 이름 */
+  private static final String PROVIDERS_ROLE = Auth.class.getName() + ".providers";
+
+  private final AuthInfoCache authInfoCache;
+  private final EntityManagerFactory entityManagerFactory;
+
+  /**
+   * 캐시 무효화 이벤트를 수신하여 처리한다.
+   *
+   * @param event 캐시 무효화 이벤트
+   */
+  @RabbitListener(queues = "#{authCacheInvalidationQueue.name}")
+  public void handleInvalidated(AuthCacheInvalidatedEvent event) {
+    log.debug("Auth 캐시 무효화 이벤트 수신. authId: {}", event.authId());
+    authInfoCache.invalidate(event.authId());
+    entityManagerFactory.getCache().evict(Auth.class, event.authId());
+    entityManagerFactory
+        .unwrap(SessionFactory.class)
+        .getCache()
+        .evictCollectionData(PROVIDERS_ROLE, event.authId());
+  }
+}
@@ -0,0 +1,22 @@
+package com.tickatch.auth_service.auth.infrastructure.messaging.event;
+
+import java.util.UUID;
+
+/**
+ * Auth 캐시 무효화 이벤트.
+ *
+ * <p>한 인스턴스에서 Auth가 바뀌면 모든 인스턴스의 {@code AuthInfoCache} 항목을 지우기 위해 방송한다.
+ *
+ * <p>이벤트 정보:
+ *
+ * <ul>
+ *   <li>Exchange: tickatch.user
+ *   <li>Routing Key: auth.cache.invalidated
+ *   <li>대상 서비스: auth-service (모든 인스턴스)
+ * </ul>
+ *
+ * @param authId 바뀐 Auth ID
+ * @author Tickatch
+ * @since 1.0.0
+ */
+public record AuthCacheInvalidatedEvent(UUID authId) {}
@@ -2,6 +2,7 @@ package com.tickatch.auth_service.auth.infrastructure.messaging.event;
 
 import com.tickatch.auth_service.global.config.ActorExtractor;
 import com.tickatch.auth_service.global.config.ActorExtractor.ActorInfo;
+import com.tickatch.auth_service.global.domain.UuidV7;
 import java.time.LocalDateTime;
 import java.util.UUID;
 
@@ -18,7 +19,7 @@ import java.util.UUID;
  *   <li>대상 서비스: log-service
  * </ul>
  *
- * @param eventId 이벤트 고유 ID
+ * @param eventId 이벤트 고유 ID (UUIDv7, 아웃박스 기록 순서와 브로커 메시지 ID로 쓴다)
  * @param authId 대상 Auth ID
  * @param userType 사용자 유형 (CUSTOMER, SELLER, ADMIN)
  * @param actionType 액션 타입 ({@link AuthActionType} 참조)
@@ -50,7 +51,7 @@ public record AuthLogEvent(
   public static AuthLogEvent create(UUID authId, String userType, String actionType) {
     ActorInfo actorInfo = ActorExtractor.extract();
     return new AuthLogEvent(
-        UUID.randomUUID(),
+        UuidV7.generate(),
         authId,
         userType,
         actionType,
@@ -69,6 +70,6 @@ public record AuthLogEvent(
    */
   public static AuthLogEvent createSystemEvent(UUID authId, String userType, String actionType) {
     return new AuthLogEvent(
-        UUID.randomUUID(), authId, userType, actionType, "SYSTEM", null, LocalDateTime.now());
+        UuidV7.generate(), authId, userType, actionType, "SYSTEM", null, LocalDateTime.now());
   }
 }
@@ -0,0 +1,37 @@
+package com.tickatch.auth_service.auth.infrastructure.messaging.outbox;
+
+import java.time.Duration;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 인증 로그 아웃박스 릴레이 설정 프로퍼티.
+ *
+ * <p>application.yml의 messaging.outbox.* 설정을 바인딩한다.
+ *
+ * @author Tickatch
+ * @since 1.0.0
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "messaging.outbox")
+public class AuthOutboxProperties {
+
+  /** 릴레이 사용 여부. 꺼도 기록은 계속하므로 다시 켜면 밀린 메시지부터 보낸다. */
+  private boolean enabled = true;
+
+  /** 실행 주기 (이전 실행 종료 기준). */
+  private Duration interval = Duration.ofSeconds(1);
+
+  /** 한 번에 보내고 확인(confirm)을 기다릴 최대 메시지 수. */
+  private int batchSize = 200;
+
+  /** 배치의 publisher confirm을 기다릴 최대 시간. 넘기면 확인되지 않은 메시지는 다음 실행에서 다시 보낸다. */
+  private Duration confirmTimeout = Duration.ofSeconds(5);
+
+  /** 한 번 실행의 최대 시간. 남은 메시지는 다음 실행에서 보낸다. */
+  private Duration maxRuntime = Duration.ofSeconds(30);
+}
@@ -0,0 +1,230 @@
+package com.tickatch.auth_service.auth.infrastructure.messaging.outbox;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.tickatch.auth_service.auth.infrastructure.messaging.event.AuthLogEvent;
+import com.tickatch.auth_service.auth.infrastructure.messaging.outbox.AuthOutboxStore.OutboxMessage;
+import com.tickatch.auth_service.global.scheduling.infrastructure.LeaderElection;
+import io.github.tickatch.common.util.JsonUtils;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.AmqpException;
+import org.springframework.amqp.rabbit.connection.CorrelationData;
+import org.springframework.amqp.rabbit.connection.CorrelationData.Confirm;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * {@code auth_outbox}에 기록된 인증 로그를 RabbitMQ로 보내는 릴레이.
+ *
+ * <p>가장 오래된 메시지부터 {@code batch-size}개를 한꺼번에 보낸 뒤 publisher confirm을 모아서 기다린다. 브로커가 확인(ack)한
+ * 메시지만 지우고, 거부(nack)되었거나 {@code confirm-timeout} 안에 확인되지 않은 메시지는 남겨 다음 실행에서 다시 보낸다. 따라서
+ * 전달은 최소 한 번(at-least-once)이며, 메시지 ID(= 이벤트 ID)로 중복을 걸러낼 수 있다.
+ *
+ * <p>요청 스레드는 브로커를 기다리지 않는다. 브로커가 멈춰도 메시지는 아웃박스에 쌓였다가 복구 후 순서대로 나간다.
+ *
+ * <p>{@link LeaderElection}으로 인스턴스 하나만 실행해 같은 메시지를 여러 인스턴스가 동시에 보내지 않는다. confirm을 기다리는
+ * 동안 스레드를 붙잡으므로 예약 작업 전용 실행기({@code jobExecutor})에서 돈다.
+ *
+ * <p>publisher confirm이 꺼진 연결({@code spring.rabbitmq.publisher-confirm-type}이 {@code correlated}가
+ * 아님)에서는 확인을 받을 수 없으므로 보내지 않는다.
+ *
+ * <p>지표: {@code auth.outbox.published}(확인된 메시지 수), {@code auth.outbox.failed}(거부/시간 초과/전송
+ * 실패), {@code auth.outbox.discarded}(읽을 수 없어 버린 메시지), {@code auth.outbox.lag}(기록부터 확인까지 걸린 시간)
+ *
+ * @author Tickatch
+ * @since 1.0.0
+ */
+@Slf4j
+@Component
+public class AuthOutboxRelay {
+
+  private static final String JOB = "outbox-relay";
+
+  private final AuthOutboxProperties properties;
+  private final AuthOutboxStore store;
+  private final RabbitTemplate rabbitTemplate;
+  private final LeaderElection leaderElection;
+  private final ObjectMapper objectMapper = JsonUtils.getObjectMapper();
+
+  private final AtomicBoolean running = new AtomicBoolean();
+  private final AtomicBoolean confirmsDisabledLogged = new AtomicBoolean();
+
+  private final Counter publishedCounter;
+  private final Counter failedCounter;
+  private final Counter discardedCounter;
+  private final Timer lagTimer;
+
+  public AuthOutboxRelay(
+      AuthOutboxProperties properties,
+      AuthOutboxStore store,
+      RabbitTemplate rabbitTemplate,
+      LeaderElection leaderElection,
+      MeterRegistry registry) {
+    this.properties = properties;
+    this.store = store;
+    this.rabbitTemplate = rabbitTemplate;
+    this.leaderElection = leaderElection;
+    this.publishedCounter =
+        Counter.builder("auth.outbox.published")
+            .description("브로커가 확인한 아웃박스 메시지 수")
+            .register(registry);
+    this.failedCounter =
+        Counter.builder("auth.outbox.failed")
+            .description("거부되었거나 확인되지 않아 다시 보낼 아웃박스 메시지 수")
+            .register(registry);
+    this.discardedCounter =
+        Counter.builder("auth.outbox.discarded")
+            .description("본문을 읽을 수 없어 버린 아웃박스 메시지 수")
+            .register(registry);
+    this.lagTimer =
+        Timer.builder("auth.outbox.lag").description("아웃박스 기록부터 브로커 확인까지 걸린 시간").register(registry);
+  }
+
+  /** 예약된 릴레이를 실행한다. */
+  @Async("jobExecutor")
+  @Scheduled(
+      fixedDelayString = "${messaging.outbox.interval:PT1S}",
+      initialDelayString = "${messaging.outbox.interval:PT1S}")
+  public void scheduledRelay() {
+    if (!properties.isEnabled()) {
+      return;
+    }
+    try {
+      relay();
+    } catch (RuntimeException e) {
+      log.warn("아웃박스 릴레이 실패: {}", e.getMessage());
+    }
+  }
+
+  /**
+   * 밀린 메시지를 보낸다.
+   *
+   * @return 브로커가 확인해 지운 메시지 수. 이 인스턴스의 다른 실행이나 다른 인스턴스가 보내는 중이면 0
+   */
+  public int relay() {
+    if (!rabbitTemplate.getConnectionFactory().isPublisherConfirms()) {
+      if (confirmsDisabledLogged.compareAndSet(false, true)) {
+        log.warn("publisher confirm이 꺼져 있어 아웃박스 메시지를 보내지 않음");
+      }
+      return 0;
+    }
+    if (!running.compareAndSet(false, true)) {
+      return 0;
+    }
+    try {
+      Integer sent = leaderElection.runAsLeader(JOB, this::drain, this::skip);
+      return sent == null ? 0 : sent;
+    } finally {
+      running.set(false);
+    }
+  }
+
+  private int skip() {
+    log.debug("다른 인스턴스가 아웃박스 릴레이 중이라 건너뜀");
+    return 0;
+  }
+
+  private int drain() {
+    long deadline = System.nanoTime() + properties.getMaxRuntime().toNanos();
+    int total = 0;
+    while (System.nanoTime() < deadline) {
+      List<OutboxMessage> batch = store.findOldest(properties.getBatchSize());
+      if (batch.isEmpty()) {
+        break;
+      }
+      List<UUID> done = sendAndConfirm(batch);
+      store.delete(done);
+      total += done.size();
+
+      // 일부라도 실패했으면 브로커가 회복할 때까지 다음 실행으로 미룬다
+      if (done.size() < batch.size() || batch.size() < properties.getBatchSize()) {
+        break;
+      }
+    }
+    if (total > 0) {
+      log.debug("아웃박스 릴레이 완료 - sent: {}", total);
+    }
+    return total;
+  }
+
+  /* 배치를 보내고 확인을 기다린다. 확인되었거나 버린 메시지 ID를 반환한다 */
+  private List<UUID> sendAndConfirm(List<OutboxMessage> batch) {
+    List<UUID> done = new ArrayList<>(batch.size());
+    Map<OutboxMessage, CorrelationData> pending = new LinkedHashMap<>();
+    for (OutboxMessage message : batch) {
+      AuthLogEvent event;
+      try {
+        event = objectMapper.readValue(message.payload(), AuthLogEvent.class);
+      } catch (JsonProcessingException e) {
+        log.error("아웃박스 메시지를 읽을 수 없어 버림. id: {}, payload: {}", message.id(), message.payload());
+        discardedCounter.increment();
+        done.add(message.id());
+        continue;
+      }
+
+      CorrelationData correlation = new CorrelationData(message.id().toString());
+      try {
+        rabbitTemplate.convertAndSend(
+            message.exchange(),
+            message.routingKey(),
+            event,
+            m -> {
+              m.getMessageProperties().setMessageId(message.id().toString());
+              return m;
+            },
+            correlation);
+      } catch (AmqpException e) {
+        log.warn("아웃박스 메시지 전송 실패. id: {}, error: {}", message.id(), e.getMessage());
+        break;
+      }
+      pending.put(message, correlation);
+    }
+
+    long confirmDeadline = System.nanoTime() + properties.getConfirmTimeout().toNanos();
+    for (Map.Entry<OutboxMessage, CorrelationData> entry : pending.entrySet()) {
+      OutboxMessage message = entry.getKey();
+      if (awaitAck(entry.getValue(), confirmDeadline)) {
+        done.add(message.id());
+        publishedCounter.increment();
+        lagTimer.record(Duration.between(message.createdAt(), LocalDateTime.now()));
+      }
+    }
+    failedCounter.increment(batch.size() - done.size());
+    return done;
+  }
+
+  private boolean awaitAck(CorrelationData correlation, long deadline) {
+    try {
+      Confirm confirm =
+          correlation
+              .getFuture()
+              .get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+      if (!confirm.isAck()) {
+        log.warn("아웃박스 메시지 거부됨. id: {}, reason: {}", correlation.getId(), confirm.getReason());
+      }
+      return confirm.isAck();
+    } catch (TimeoutException | ExecutionException e) {
+      log.warn("아웃박스 메시지 확인 실패. id: {}, error: {}", correlation.getId(), e.getMessage());
+      return false;
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      return false;
+    }
+  }
+}
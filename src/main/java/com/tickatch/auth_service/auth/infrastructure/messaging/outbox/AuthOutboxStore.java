@@ -0,0 +1,139 @@
+package com.tickatch.auth_service.auth.infrastructure.messaging.outbox;
+
+import java.sql.PreparedStatement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * {@code auth_outbox} 테이블 접근 객체.
+ *
+ * <p>발행할 메시지를 업무 데이터와 같은 트랜잭션에서 기록하고, {@link AuthOutboxRelay}가 기록 순서대로 꺼내 브로커로 보낸 뒤
+ * 지운다. {@link JdbcTemplate}은 진행 중인 JPA 트랜잭션의 커넥션을 그대로 쓰므로 업무 처리가 롤백되면 기록도 함께 사라진다.
+ *
+ * <p>ID는 UUIDv7이라 ID 순서가 곧 기록 순서다.
+ *
+ * @author Tickatch
+ * @since 1.0.0
+ */
+@Component
+public class AuthOutboxStore {
+
+  private static final String INSERT =
+      """
+      INSERT INTO auth_outbox (id, exchange, routing_key, payload, created_at)
+      VALUES (?, ?, ?, ?, ?)
+      """;
+
+  private static final String SELECT_OLDEST =
+      """
+      SELECT id, exchange, routing_key, payload, created_at
+        FROM auth_outbox
+       ORDER BY id
+       LIMIT ?
+      """;
+
+  private static final String DELETE = "DELETE FROM auth_outbox WHERE id IN (:ids)";
+
+  private final JdbcTemplate jdbcTemplate;
+  private final NamedParameterJdbcTemplate namedJdbcTemplate;
+
+  public AuthOutboxStore(JdbcTemplate jdbcTemplate) {
+    this.jdbcTemplate = jdbcTemplate;
+    this.namedJdbcTemplate = new NamedParameterJdbcTemplate(jdbcTemplate);
+  }
+
+  /**
+   * 메시지를 기록한다. 진행 중인 트랜잭션이 있으면 참여한다.
+   *
+   * @param message 기록할 메시지
+   */
+  public void append(OutboxMessage message) {
+    jdbcTemplate.update(
+        INSERT,
+        message.id(),
+        message.exchange(),
+        message.routingKey(),
+        message.payload(),
+        Timestamp.valueOf(message.createdAt()));
+  }
+
+  /**
+   * 메시지를 기록하고 바로 커밋한다.
+   *
+   * <p>트랜잭션 완료 콜백({@code afterCompletion})에서 호출한다. 이 시점에는 업무 트랜잭션이 이미 커밋 또는 롤백되었지만 그
+   * 커넥션이 아직 스레드에 묶여 있다. 같은 커넥션으로 기록하고 직접 커밋하므로 커넥션을 하나 더 빌리지 않는다. 자동 커밋 모드로
+   * 돌아가 있으면 INSERT가 곧바로 반영된다.
+   *
+   * @param message 기록할 메시지
+   */
+  public void appendAndCommit(OutboxMessage message) {
+    jdbcTemplate.execute(
+        (ConnectionCallback<Void>)
+            con -> {
+              try (PreparedStatement ps = con.prepareStatement(INSERT)) {
+                ps.setObject(1, message.id());
+                ps.setString(2, message.exchange());
+                ps.setString(3, message.routingKey());
+                ps.setString(4, message.payload());
+                ps.setTimestamp(5, Timestamp.valueOf(message.createdAt()));
+                ps.executeUpdate();
+              }
+              if (!con.getAutoCommit()) {
+                con.commit();
+              }
+              return null;
+            });
+  }
+
+  /**
+   * 가장 먼저 기록한 메시지부터 조회한다.
+   *
+   * @param limit 최대 개수
+   * @return 기록 순서대로 정렬한 메시지
+   */
+  public List<OutboxMessage> findOldest(int limit) {
+    return jdbcTemplate.query(
+        SELECT_OLDEST,
+        (rs, rowNum) ->
+            new OutboxMessage(
+                rs.getObject("id", UUID.class),
+                rs.getString("exchange"),
+                rs.getString("routing_key"),
+                rs.getString("payload"),
+                rs.getTimestamp("created_at").toLocalDateTime()),
+        limit);
+  }
+
+  /**
+   * 메시지를 삭제한다.
+   *
+   * @param ids 삭제할 메시지 ID
+   * @return 삭제된 행 수
+   */
+  public int delete(Collection<UUID> ids) {
+    if (ids.isEmpty()) {
+      return 0;
+    }
+    return namedJdbcTemplate.update(DELETE, Map.of("ids", ids));
+  }
+
+  /**
+   * 아웃박스 메시지 한 건.
+   *
+   * @param id 메시지 ID (브로커 메시지 ID로도 쓴다)
+   * @param exchange 발행할 Exchange
+   * @param routingKey 라우팅 키
+   * @param payload JSON 본문
+   * @param createdAt 기록 시각
+   */
+  public record OutboxMessage(
+      UUID id, String exchange, String routingKey, String payload, LocalDateTime createdAt) {}
+}
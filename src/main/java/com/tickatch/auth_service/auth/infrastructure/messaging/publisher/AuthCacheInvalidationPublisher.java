@@ -0,0 +1,51 @@
+package com.tickatch.auth_service.auth.infrastructure.messaging.publisher;
+
+import com.tickatch.auth_service.auth.infrastructure.messaging.config.RabbitMQConfig;
+import com.tickatch.auth_service.auth.infrastructure.messaging.event.AuthCacheInvalidatedEvent;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+
+/**
+ * Auth 캐시 무효화 이벤트 발행자.
+ *
+ * <p>발행 실패 시에도 요청 처리에 영향을 주지 않도록 예외를 던지지 않는다. 다른 인스턴스의 캐시는 TTL이 지나면 DB 값으로 바뀐다.
+ *
+ * <p>이벤트 발행 전용 실행기({@code eventExecutor})에서 보내므로 브로커가 느려도 커밋한 요청 스레드가 기다리지 않는다. 배치
+ * 작업과 풀을 나눠 쓰지 않고, 풀이 차면 요청 스레드에서 직접 보내므로 무효화가 버려지지 않는다.
+ *
+ * @author Tickatch
+ * @since 1.0.0
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AuthCacheInvalidationPublisher {
+
+  private final RabbitTemplate rabbitTemplate;
+
+  @Value("${messaging.exchange.user:tickatch.user}")
+  private String userExchange;
+
+  /**
+   * 모든 인스턴스에 캐시 무효화를 방송한다.
+   *
+   * @param authId 바뀐 Auth ID
+   */
+  @Async("eventExecutor")
+  public void publish(UUID authId) {
+    try {
+      rabbitTemplate.convertAndSend(
+          userExchange,
+          RabbitMQConfig.ROUTING_KEY_AUTH_CACHE_INVALIDATED,
+          new AuthCacheInvalidatedEvent(authId));
+      log.debug("Auth 캐시 무효화 이벤트 발행. authId: {}", authId);
+    } catch (Exception e) {
+      log.warn("Auth 캐시 무효화 이벤트 발행 실패. authId: {}, error: {}", authId, e.getMessage());
+    }
+  }
+}
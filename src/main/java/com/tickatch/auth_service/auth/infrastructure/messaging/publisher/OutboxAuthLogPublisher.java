@@ -1,34 +1,52 @@
 package com.tickatch.auth_service.auth.infrastructure.messaging.publisher;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.tickatch.auth_service.auth.application.messaging.AuthLogEventPublisher;
 import com.tickatch.auth_service.auth.infrastructure.messaging.config.RabbitMQConfig;
 import com.tickatch.auth_service.auth.infrastructure.messaging.event.AuthActionType;
 import com.tickatch.auth_service.auth.infrastructure.messaging.event.AuthLogEvent;
+import com.tickatch.auth_service.auth.infrastructure.messaging.outbox.AuthOutboxRelay;
+import com.tickatch.auth_service.auth.infrastructure.messaging.outbox.AuthOutboxStore;
+import com.tickatch.auth_service.auth.infrastructure.messaging.outbox.AuthOutboxStore.OutboxMessage;
+import io.github.tickatch.common.util.JsonUtils;
 import java.util.UUID;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.amqp.rabbit.core.RabbitTemplate;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 /**
- * RabbitMQ 기반 인증 로그 이벤트 발행자.
+ * 아웃박스 기반 인증 로그 이벤트 발행자.
  *
- * <p>Auth Service에서 발생하는 주요 액션에 대한 로그 이벤트를 RabbitMQ를 통해 로그 서비스로 발행한다. 로그 발행 실패 시에도 비즈니스 로직에 영향을 주지
- * 않도록 예외를 던지지 않고 에러 로그로 기록한다.
+ * <p>Auth Service에서 발생하는 주요 액션에 대한 로그 이벤트를 {@code auth_outbox}에 기록한다. 브로커 전송은 {@link
+ * AuthOutboxRelay}가 배치로 하므로 요청 처리 시간이 브로커 왕복에 묶이지 않고, 브로커 장애 중 이벤트도 잃지 않는다.
+ *
+ * <ul>
+ *   <li>성공 이벤트: 업무 처리와 같은 트랜잭션에서 기록한다. 업무 처리가 롤백되면 이벤트도 남지 않는다.
+ *   <li>실패 이벤트: 호출한 쪽이 예외를 다시 던져 롤백할 수 있으므로 트랜잭션이 끝난 뒤({@code afterCompletion}) 같은 커넥션으로
+ *       기록하고 커밋한다. 새 트랜잭션({@code REQUIRES_NEW})처럼 커넥션을 하나 더 빌리지 않으므로, 실패한 로그인이 몰려 풀이
+ *       바닥나도 커넥션을 기다리다 이벤트를 잃지 않는다. 기록에 실패해도 원래 예외를 가리지 않도록 에러 로그만 남긴다.
+ * </ul>
  *
  * @author Tickatch
  * @since 1.0.0
  */
 @Slf4j
 @Component
-@RequiredArgsConstructor
-public class RabbitAuthLogPublisher implements AuthLogEventPublisher {
+public class OutboxAuthLogPublisher implements AuthLogEventPublisher {
 
-  private final RabbitTemplate rabbitTemplate;
+  private final AuthOutboxStore outboxStore;
+  private final String logExchange;
+  private final ObjectMapper objectMapper = JsonUtils.getObjectMapper();
 
-  @Value("${messaging.exchange.log:tickatch.log}")
-  private String logExchange;
+  public OutboxAuthLogPublisher(
+      AuthOutboxStore outboxStore,
+      @Value("${messaging.exchange.log:tickatch.log}") String logExchange) {
+    this.outboxStore = outboxStore;
+    this.logExchange = logExchange;
+  }
 
   // ========================================
   // 회원가입 관련
@@ -42,7 +60,7 @@ public class RabbitAuthLogPublisher implements AuthLogEventPublisher {
 
   @Override
   public void publishRegisterFailed(String userType) {
-    publish(null, userType, AuthActionType.REGISTER_FAILED);
+    publishFailure(null, userType, AuthActionType.REGISTER_FAILED);
     log.warn("회원가입 실패 로그 발행. userType: {}", userType);
   }
 
@@ -54,7 +72,7 @@ public class RabbitAuthLogPublisher implements AuthLogEventPublisher {
 
   @Override
   public void publishOAuthRegisterFailed(String userType) {
-    publish(null, userType, AuthActionType.OAUTH_REGISTER_FAILED);
+    publishFailure(null, userType, AuthActionType.OAUTH_REGISTER_FAILED);
     log.warn("OAuth 회원가입 실패 로그 발행. userType: {}", userType);
   }
 
@@ -70,7 +88,7 @@ public class RabbitAuthLogPublisher implements AuthLogEventPublisher {
 
   @Override
   public void publishLoginFailed(String userType) {
-    publish(null, userType, AuthActionType.LOGIN_FAILED);
+    publishFailure(null, userType, AuthActionType.LOGIN_FAILED);
     log.warn("로그인 실패 로그 발행. userType: {}", userType);
   }
 
@@ -82,7 +100,7 @@ public class RabbitAuthLogPublisher implements AuthLogEventPublisher {
 
   @Override
   public void publishOAuthLoginFailed(String userType) {
-    publish(null, userType, AuthActionType.OAUTH_LOGIN_FAILED);
+    publishFailure(null, userType, AuthActionType.OAUTH_LOGIN_FAILED);
     log.warn("OAuth 로그인 실패 로그 발행. userType: {}", userType);
   }
 
@@ -94,7 +112,7 @@ public class RabbitAuthLogPublisher implements AuthLogEventPublisher {
 
   @Override
   public void publishLogoutFailed(UUID authId, String userType) {
-    publish(authId, userType, AuthActionType.LOGOUT_FAILED);
+    publishFailure(authId, userType, AuthActionType.LOGOUT_FAILED);
     log.warn("로그아웃 실패 로그 발행. authId: {}, userType: {}", authId, userType);
   }
 
@@ -110,7 +128,7 @@ public class RabbitAuthLogPublisher implements AuthLogEventPublisher {
 
   @Override
   public void publishTokenRefreshFailed(UUID authId, String userType) {
-    publish(authId, userType, AuthActionType.TOKEN_REFRESH_FAILED);
+    publishFailure(authId, userType, AuthActionType.TOKEN_REFRESH_FAILED);
     log.warn("토큰 갱신 실패 로그 발행. authId: {}, userType: {}", authId, userType);
   }
 
@@ -126,7 +144,7 @@ public class RabbitAuthLogPublisher implements AuthLogEventPublisher {
 
   @Override
   public void publishPasswordChangeFailed(UUID authId, String userType) {
-    publish(authId, userType, AuthActionType.PASSWORD_CHANGE_FAILED);
+    publishFailure(authId, userType, AuthActionType.PASSWORD_CHANGE_FAILED);
     log.warn("비밀번호 변경 실패 로그 발행. authId: {}, userType: {}", authId, userType);
   }
 
@@ -142,7 +160,7 @@ public class RabbitAuthLogPublisher implements AuthLogEventPublisher {
 
   @Override
   public void publishWithdrawFailed(UUID authId, String userType) {
-    publish(authId, userType, AuthActionType.WITHDRAW_FAILED);
+    publishFailure(authId, userType, AuthActionType.WITHDRAW_FAILED);
     log.warn("탈퇴 실패 로그 발행. authId: {}, userType: {}", authId, userType);
   }
 
@@ -180,7 +198,7 @@ public class RabbitAuthLogPublisher implements AuthLogEventPublisher {
 
   @Override
   public void publishProviderLinkFailed(UUID authId, String userType) {
-    publish(authId, userType, AuthActionType.PROVIDER_LINK_FAILED);
+    publishFailure(authId, userType, AuthActionType.PROVIDER_LINK_FAILED);
     log.warn("소셜 계정 연동 실패 로그 발행. authId: {}, userType: {}", authId, userType);
   }
 
@@ -192,7 +210,7 @@ public class RabbitAuthLogPublisher implements AuthLogEventPublisher {
 
   @Override
   public void publishProviderUnlinkFailed(UUID authId, String userType) {
-    publish(authId, userType, AuthActionType.PROVIDER_UNLINK_FAILED);
+    publishFailure(authId, userType, AuthActionType.PROVIDER_UNLINK_FAILED);
     log.warn("소셜 계정 연동 해제 실패 로그 발행. authId: {}, userType: {}", authId, userType);
   }
 
@@ -201,18 +219,39 @@ public class RabbitAuthLogPublisher implements AuthLogEventPublisher {
   // ========================================
 
   private void publish(UUID authId, String userType, String actionType) {
+    AuthLogEvent event = AuthLogEvent.create(authId, userType, actionType);
+    outboxStore.append(toOutboxMessage(event));
+    log.debug(
+        "인증 로그 이벤트 기록 완료. eventId: {}, authId: {}, actionType: {}",
+        event.eventId(),
+        authId,
+        actionType);
+  }
+
+  private void publishFailure(UUID authId, String userType, String actionType) {
+    OutboxMessage message = toOutboxMessage(AuthLogEvent.create(authId, userType, actionType));
+    if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+      appendFailure(message, actionType);
+      return;
+    }
+    TransactionSynchronizationManager.registerSynchronization(
+        new TransactionSynchronization() {
+          @Override
+          public void afterCompletion(int status) {
+            appendFailure(message, actionType);
+          }
+        });
+  }
+
+  private void appendFailure(OutboxMessage message, String actionType) {
     try {
-      AuthLogEvent event = AuthLogEvent.create(authId, userType, actionType);
-      rabbitTemplate.convertAndSend(logExchange, RabbitMQConfig.ROUTING_KEY_AUTH_LOG, event);
+      outboxStore.appendAndCommit(message);
       log.debug(
-          "인증 로그 이벤트 발행 완료. eventId: {}, authId: {}, actionType: {}",
-          event.eventId(),
-          authId,
-          actionType);
+          "인증 실패 로그 이벤트 기록 완료. eventId: {}, actionType: {}", message.id(), actionType);
     } catch (Exception e) {
       log.error(
-          "인증 로그 이벤트 발행 실패. authId: {}, actionType: {}, error: {}",
-          authId,
+          "인증 실패 로그 이벤트 기록 실패. eventId: {}, actionType: {}, error: {}",
+          message.id(),
           actionType,
           e.getMessage(),
           e);
@@ -220,21 +259,25 @@ public class RabbitAuthLogPublisher implements AuthLogEventPublisher {
   }
 
   private void publishSystemEvent(UUID authId, String userType, String actionType) {
+    AuthLogEvent event = AuthLogEvent.createSystemEvent(authId, userType, actionType);
+    outboxStore.append(toOutboxMessage(event));
+    log.debug(
+        "인증 시스템 로그 이벤트 기록 완료. eventId: {}, authId: {}, actionType: {}",
+        event.eventId(),
+        authId,
+        actionType);
+  }
+
+  private OutboxMessage toOutboxMessage(AuthLogEvent event) {
     try {
-      AuthLogEvent event = AuthLogEvent.createSystemEvent(authId, userType, actionType);
-      rabbitTemplate.convertAndSend(logExchange, RabbitMQConfig.ROUTING_KEY_AUTH_LOG, event);
-      log.debug(
-          "인증 시스템 로그 이벤트 발행 완료. eventId: {}, authId: {}, actionType: {}",
+      return new OutboxMessage(
           event.eventId(),
-          authId,
-          actionType);
-    } catch (Exception e) {
-      log.error(
-          "인증 시스템 로그 이벤트 발행 실패. authId: {}, actionType: {}, error: {}",
-          authId,
-          actionType,
-          e.getMessage(),
-          e);
+          logExchange,
+          RabbitMQConfig.ROUTING_KEY_AUTH_LOG,
+          objectMapper.writeValueAsString(event),
+          event.occurredAt());
+    } catch (JsonProcessingException e) {
+      throw new IllegalStateException("인증 로그 이벤트 직렬화 실패: " + event.eventId(), e);
     }
   }
 }
@@ -0,0 +1,49 @@
+package com.tickatch.auth_service.auth.infrastructure.metrics;
+
+import com.tickatch.auth_service.auth.application.port.out.LoginMetricsPort;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.concurrent.TimeUnit;
+import org.springframework.stereotype.Component;
+
+/**
+ * 이메일 로그인 지연 지표.
+ *
+ * <p>계정이 있는 경우(hit)와 없는 경우(miss)를 나누어 기록한다. 없는 계정도 더미 해시로 검증하므로 두 분포가 비슷해야
+ * 정상이며, 크게 벌어지면 해싱 경로가 어긋난 것이다.
+ *
+ * <p>지표: {@code auth.login.duration{account=hit|miss}} (백분위 히스토그램 포함)
+ *
+ * @author Tickatch
+ * @since 1.0.0
+ */
+@Component
+public class LoginMetrics implements LoginMetricsPort {
+
+  private final Timer hitTimer;
+  private final Timer missTimer;
+
+  public LoginMetrics(MeterRegistry meterRegistry) {
+    this.hitTimer = loginTimer(meterRegistry, "hit");
+    this.missTimer = loginTimer(meterRegistry, "miss");
+  }
+
+  /**
+   * 로그인 1회의 처리 시간을 기록한다.
+   *
+   * @param accountFound 이메일/사용자 유형에 해당하는 계정이 있었는지
+   * @param elapsedNanos 처리 시간 (ns)
+   */
+  @Override
+  public void record(boolean accountFound, long elapsedNanos) {
+    (accountFound ? hitTimer : missTimer).record(elapsedNanos, TimeUnit.NANOSECONDS);
+  }
+
+  private static Timer loginTimer(MeterRegistry registry, String account) {
+    return Timer.builder("auth.login.duration")
+        .description("이메일 로그인 처리 시간")
+        .tag("account", account)
+        .publishPercentileHistogram()
+        .register(registry);
+  }
+}
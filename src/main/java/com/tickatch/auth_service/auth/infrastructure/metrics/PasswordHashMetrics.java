@@ -0,0 +1,116 @@
+package com.tickatch.auth_service.auth.infrastructure.metrics;
+
+import com.tickatch.auth_service.auth.domain.AuthRepository;
+import com.tickatch.auth_service.auth.domain.repository.dto.PasswordHashCount;
+import com.tickatch.auth_service.global.password.infrastructure.PasswordAlgorithm;
+import com.tickatch.auth_service.global.scheduling.infrastructure.LeaderElection;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.MultiGauge;
+import io.micrometer.core.instrument.Tags;
+import java.time.Clock;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 저장된 비밀번호 해시의 알고리즘/cost 분포 지표.
+ *
+ * <p>해싱 알고리즘이나 BCrypt cost를 바꾸면 기존 해시는 사용자가 로그인할 때 다시 해싱된다. 이 지표로 목표 설정으로 옮겨간 비율과
+ * 남은 약한 해시 수를 확인한다.
+ *
+ * <p>전체 테이블 집계이므로 한 주기에 한 인스턴스만 집계한다. 모든 인스턴스가 {@code password.hashing.metrics-cron}의 같은
+ * 시각에 깨어나 {@link LeaderElection#claimTick}으로 이번 주기를 선점한 인스턴스만 집계해 게이지를 채운다. 선점하지 못한
+ * 인스턴스는 자기 게이지를 비워, 인스턴스 합계가 한 번 집계한 값과 같게 한다.
+ *
+ * <p>지표: {@code password.hash.stored{algorithm=bcrypt|argon2id|scrypt,cost=NN|none}}
+ *
+ * @author Tickatch
+ * @since 1.0.0
+ */
+@Slf4j
+@Component
+public class PasswordHashMetrics {
+
+  private static final String JOB = "password-hash-metrics";
+
+  private static final String NO_COST = "none";
+
+  private final AuthRepository authRepository;
+  private final LeaderElection leaderElection;
+  private final Clock clock;
+  private final MultiGauge storedHashes;
+
+  @Autowired
+  public PasswordHashMetrics(
+      AuthRepository authRepository, LeaderElection leaderElection, MeterRegistry meterRegistry) {
+    this(authRepository, leaderElection, meterRegistry, Clock.systemUTC());
+  }
+
+  PasswordHashMetrics(
+      AuthRepository authRepository,
+      LeaderElection leaderElection,
+      MeterRegistry meterRegistry,
+      Clock clock) {
+    this.authRepository = authRepository;
+    this.leaderElection = leaderElection;
+    this.clock = clock;
+    this.storedHashes =
+        MultiGauge.builder("password.hash.stored")
+            .description("저장된 비밀번호 해시 수 (알고리즘, cost별)")
+            .register(meterRegistry);
+  }
+
+  /** 알고리즘/cost별 해시 수를 다시 집계한다. 없어진 조합의 게이지는 제거된다. */
+  @Scheduled(cron = "${password.hashing.metrics-cron:0 */10 * * * *}")
+  public void refresh() {
+    try {
+      publish(claimTick() ? authRepository.countPasswordsByAlgorithm() : List.of());
+    } catch (Exception e) {
+      log.warn("비밀번호 해시 분포 집계 실패: {}", e.getMessage());
+    }
+  }
+
+  private boolean claimTick() {
+    boolean claimed = leaderElection.claimTick(JOB, clock.instant());
+    if (!claimed) {
+      log.debug("다른 인스턴스가 이번 주기의 비밀번호 해시 분포를 집계해 건너뜀");
+    }
+    return claimed;
+  }
+
+  private void publish(List<PasswordHashCount> counts) {
+    storedHashes.register(
+        counts.stream()
+            .map(
+                count ->
+                    MultiGauge.Row.of(
+                        Tags.of(
+                            "algorithm",
+                            algorithmTag(count.algorithmId()),
+                            "cost",
+                            costTag(count.cost())),
+                        count.count()))
+            .toList(),
+        true);
+  }
+
+  /* 해시 접두사 ID를 알고리즘 이름으로 바꾼다 (argon2 -> argon2id) */
+  private static String algorithmTag(String algorithmId) {
+    return Arrays.stream(PasswordAlgorithm.values())
+        .filter(algorithm -> algorithm.getId().equals(algorithmId))
+        .map(algorithm -> algorithm.name().toLowerCase(Locale.ROOT))
+        .findFirst()
+        .orElse(algorithmId);
+  }
+
+  private static String costTag(Integer cost) {
+    if (cost == null) {
+      return NO_COST;
+    }
+    return cost < 10 ? "0" + cost : String.valueOf(cost);
+  }
+}
@@ -0,0 +1,139 @@
+package com.tickatch.auth_service.auth.infrastructure.persistence;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 문자열 키용 스레드 안전 Bloom 필터.
+ *
+ * <p>"없다"는 답은 항상 정확하고 "있을 수 있다"는 답은 설정한 확률로 틀린다. 삭제는 지원하지 않는다.
+ *
+ * <p>비트 수와 해시 함수 수는 예상 원소 수와 목표 오탐률로 정한다. 해시는 64비트 해시 두 개를 조합해 k개를 만든다
+ * (Kirsch-Mitzenmacher). 비트 설정은 CAS로 하므로 조회와 추가를 동시에 해도 된다.
+ *
+ * @author Tickatch
+ * @since 1.0.0
+ */
+final class BloomFilter {
+
+  private static final long FNV_OFFSET = 0xcbf29ce484222325L;
+  private static final long FNV_PRIME = 0x100000001b3L;
+  private static final long GOLDEN_GAMMA = 0x9e3779b97f4a7c15L;
+
+  private final AtomicLongArray words;
+  private final long bitSize;
+  private final int hashCount;
+  private final AtomicLong setBits = new AtomicLong();
+
+  private BloomFilter(long bitSize, int hashCount) {
+    this.words = new AtomicLongArray(Math.toIntExact((bitSize + 63) / 64));
+    this.bitSize = bitSize;
+    this.hashCount = hashCount;
+  }
+
+  /**
+   * 예상 원소 수와 목표 오탐률에 맞는 필터를 만든다.
+   *
+   * @param expectedInsertions 예상 원소 수
+   * @param falsePositiveRate 목표 오탐률 (0과 1 사이)
+   * @return 빈 필터
+   */
+  static BloomFilter create(long expectedInsertions, double falsePositiveRate) {
+    if (falsePositiveRate <= 0 || falsePositiveRate >= 1) {
+      throw new IllegalArgumentException("falsePositiveRate는 0과 1 사이여야 합니다.");
+    }
+    long n = Math.max(1, expectedInsertions);
+    double ln2 = Math.log(2);
+    long bitSize = Math.max(64, (long) Math.ceil(-n * Math.log(falsePositiveRate) / (ln2 * ln2)));
+    int hashCount = Math.max(1, (int) Math.round((double) bitSize / n * ln2));
+    return new BloomFilter(bitSize, hashCount);
+  }
+
+  /**
+   * 키를 추가한다.
+   *
+   * @param key 키
+   * @return 새로 설정된 비트가 있으면 true. false면 이미 있었을 가능성이 높다
+   */
+  boolean put(String key) {
+    long hash1 = hash(key);
+    long hash2 = mix(hash1 + GOLDEN_GAMMA) | 1;
+    boolean changed = false;
+    for (int i = 0; i < hashCount; i++) {
+      changed |= setBit(Math.floorMod(hash1 + i * hash2, bitSize));
+    }
+    return changed;
+  }
+
+  /**
+   * 키가 있을 수 있는지 확인한다.
+   *
+   * @param key 키
+   * @return 없으면 false (확정), 있을 수 있으면 true
+   */
+  boolean mightContain(String key) {
+    long hash1 = hash(key);
+    long hash2 = mix(hash1 + GOLDEN_GAMMA) | 1;
+    for (int i = 0; i < hashCount; i++) {
+      long bit = Math.floorMod(hash1 + i * hash2, bitSize);
+      if ((words.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * 현재 채워진 비트 비율로 추정한 오탐률을 반환한다.
+   *
+   * @return (설정된 비트 비율)^k
+   */
+  double expectedFalsePositiveRate() {
+    return Math.pow((double) setBits.get() / bitSize, hashCount);
+  }
+
+  /** 비트 배열 크기(바이트)를 반환한다. */
+  long sizeInBytes() {
+    return (long) words.length() * Long.BYTES;
+  }
+
+  long bitSize() {
+    return bitSize;
+  }
+
+  int hashCount() {
+    return hashCount;
+  }
+
+  private boolean setBit(long bit) {
+    int index = (int) (bit >>> 6);
+    long mask = 1L << bit;
+    long word;
+    do {
+      word = words.get(index);
+      if ((word & mask) != 0) {
+        return false;
+      }
+    } while (!words.compareAndSet(index, word, word | mask));
+    setBits.incrementAndGet();
+    return true;
+  }
+
+  /** UTF-8 바이트의 FNV-1a 해시를 SplitMix64 finalizer로 섞는다. */
+  private static long hash(String key) {
+    long hash = FNV_OFFSET;
+    for (byte b : key.getBytes(StandardCharsets.UTF_8)) {
+      hash ^= b & 0xff;
+      hash *= FNV_PRIME;
+    }
+    return mix(hash);
+  }
+
+  private static long mix(long value) {
+    long z = value;
+    z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+    z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+    return z ^ (z >>> 31);
+  }
+}
@@ -0,0 +1,200 @@
+package com.tickatch.auth_service.auth.infrastructure.persistence;
+
+import com.tickatch.auth_service.auth.application.port.out.LastLoginPort;
+import com.tickatch.auth_service.auth.domain.Auth;
+import com.tickatch.auth_service.auth.infrastructure.cache.AuthInfoCache;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import jakarta.persistence.EntityManagerFactory;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 마지막 로그인 시간을 모아 배치 UPDATE로 반영하는 버퍼.
+ *
+ * <p>로그인마다 {@code auths} 행 전체를 UPDATE하면 로그인 폭주 시 행 잠금, WAL, 감사 컬럼 갱신이 로그인 수만큼 생긴다. 마지막
+ * 로그인 시간은 계정 잠금 판단에 쓰이지 않으므로 몇 초 늦게 반영돼도 된다. 이 버퍼는 authId별로 가장 늦은 시각 하나만 들고
+ * 있다가 {@code flush-interval}마다 한 번의 JDBC 배치로 반영한다.
+ *
+ * <ul>
+ *   <li>로그인 트랜잭션이 커밋된 뒤에만 버퍼에 넣는다. 롤백된 로그인은 기록되지 않는다
+ *   <li>DB 값보다 이른 시각으로는 덮어쓰지 않는다. 반영이 늦거나 여러 인스턴스가 같은 계정을 반영해도 순서가 뒤집히지 않는다
+ *   <li>반영에 실패하면 버퍼에 되돌려 다음 주기에 다시 시도한다. 그사이 더 늦은 시각이 들어왔으면 그 값이 남는다
+ *   <li>종료 시 남은 값을 반영한다. 비정상 종료 시에는 마지막 주기의 값이 유실될 수 있다
+ * </ul>
+ *
+ * <p>JDBC로 직접 쓰므로 Hibernate 2차 캐시({@code auth} 영역)와 {@link AuthInfoCache}는 스스로 갱신되지 않는다. 반영한
+ * 계정은 이 인스턴스의 두 캐시에서 지워 다음 조회가 DB 값을 읽게 한다. 다른 인스턴스에는 방송하지 않으므로 그쪽 캐시는
+ * {@code ttl}이 지난 뒤 바뀐다.
+ *
+ * <p>로그인 실패 횟수와 잠금은 계정 보호에 쓰이므로 이 버퍼를 거치지 않고 로그인 트랜잭션에서 바로 반영한다. 실패한 로그인은
+ * {@code AuthException}을 던지지만 그 예외로는 롤백하지 않으므로({@code AuthCommandService.login}) 실패 기록이 커밋된다.
+ *
+ * <p>지표: {@code auth.last-login.buffer.size}(대기 중인 계정 수), {@code auth.last-login.flush}(반영 시간),
+ * {@code auth.last-login.flushed}(반영 행 수), {@code auth.last-login.flush.failed}
+ *
+ * @author Tickatch
+ * @since 1.0.0
+ */
+@Slf4j
+@Component
+public class LastLoginBuffer implements LastLoginPort {
+
+  private static final String UPDATE_LAST_LOGIN =
+      """
+      UPDATE auths
+         SET last_login_at = ?
+       WHERE id = ? AND (last_login_at IS NULL OR last_login_at < ?)
+      """;
+
+  private final LastLoginBufferProperties properties;
+  private final JdbcTemplate jdbcTemplate;
+  private final AuthInfoCache authInfoCache;
+  private final EntityManagerFactory entityManagerFactory;
+
+  /* 아직 DB에 반영하지 않은 authId별 마지막 로그인 시각 */
+  private final ConcurrentHashMap<UUID, LocalDateTime> pending = new ConcurrentHashMap<>();
+
+  private final Timer flushTimer;
+  private final Counter flushedCounter;
+  private final Counter flushFailedCounter;
+
+  public LastLoginBuffer(
+      LastLoginBufferProperties properties,
+      JdbcTemplate jdbcTemplate,
+      AuthInfoCache authInfoCache,
+      EntityManagerFactory entityManagerFactory,
+      MeterRegistry registry) {
+    this.properties = properties;
+    this.jdbcTemplate = jdbcTemplate;
+    this.authInfoCache = authInfoCache;
+    this.entityManagerFactory = entityManagerFactory;
+    Gauge.builder("auth.last-login.buffer.size", pending, Map::size)
+        .description("DB 반영을 기다리는 마지막 로그인 시간 수")
+        .register(registry);
+    this.flushTimer =
+        Timer.builder("auth.last-login.flush")
+            .description("마지막 로그인 시간 DB 반영 시간")
+            .register(registry);
+    this.flushedCounter =
+        Counter.builder("auth.last-login.flushed")
+            .description("DB에 반영한 마지막 로그인 시간 수")
+            .register(registry);
+    this.flushFailedCounter =
+        Counter.builder("auth.last-login.flush.failed")
+            .description("마지막 로그인 시간 DB 반영 실패 횟수")
+            .register(registry);
+  }
+
+  /**
+   * 지연 반영 사용 여부를 반환한다.
+   *
+   * @return 사용하면 true
+   */
+  @Override
+  public boolean isEnabled() {
+    return properties.isEnabled();
+  }
+
+  /**
+   * 마지막 로그인 시각을 버퍼에 넣는다.
+   *
+   * <p>진행 중인 트랜잭션이 있으면 커밋된 뒤에 넣는다.
+   *
+   * @param authId 인증 ID
+   * @param loggedInAt 로그인 시각
+   */
+  @Override
+  public void record(UUID authId, LocalDateTime loggedInAt) {
+    if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+      put(authId, loggedInAt);
+      return;
+    }
+    TransactionSynchronizationManager.registerSynchronization(
+        new TransactionSynchronization() {
+          @Override
+          public void afterCommit() {
+            put(authId, loggedInAt);
+          }
+        });
+  }
+
+  /** 버퍼를 비워 배치 UPDATE로 반영한다. */
+  @Scheduled(fixedDelayString = "${auth.last-login-buffer.flush-interval:PT1S}")
+  public void flush() {
+    if (pending.isEmpty()) {
+      return;
+    }
+
+    List<Map.Entry<UUID, LocalDateTime>> drained = new ArrayList<>(pending.size());
+    for (UUID authId : pending.keySet()) {
+      LocalDateTime loggedInAt = pending.remove(authId);
+      if (loggedInAt != null) {
+        drained.add(Map.entry(authId, loggedInAt));
+      }
+    }
+    // 여러 인스턴스가 같은 행들을 다른 순서로 잠그지 않도록 authId 순서로 보낸다.
+    drained.sort(Map.Entry.comparingByKey());
+
+    try {
+      flushTimer.record(() -> write(drained));
+      flushedCounter.increment(drained.size());
+    } catch (RuntimeException e) {
+      flushFailedCounter.increment();
+      log.warn("마지막 로그인 시간 DB 반영 실패 - count: {}, error: {}", drained.size(), e.getMessage());
+      drained.forEach(entry -> put(entry.getKey(), entry.getValue()));
+      return;
+    }
+    evictCached(drained);
+  }
+
+  /** 종료 전에 남은 값을 반영한다. */
+  @PreDestroy
+  public void flushOnShutdown() {
+    flush();
+  }
+
+  /** 버퍼에 남은 계정 수를 반환한다. */
+  int pendingSize() {
+    return pending.size();
+  }
+
+  /* 2차 캐시를 먼저 지운다. 조회 캐시를 다시 채울 때 2차 캐시의 이전 값을 읽지 않게 한다 */
+  private void evictCached(List<Map.Entry<UUID, LocalDateTime>> rows) {
+    for (Map.Entry<UUID, LocalDateTime> row : rows) {
+      entityManagerFactory.getCache().evict(Auth.class, row.getKey());
+      authInfoCache.invalidate(row.getKey());
+    }
+  }
+
+  private void put(UUID authId, LocalDateTime loggedInAt) {
+    pending.merge(authId, loggedInAt, (current, next) -> next.isAfter(current) ? next : current);
+  }
+
+  private void write(List<Map.Entry<UUID, LocalDateTime>> rows) {
+    jdbcTemplate.batchUpdate(
+        UPDATE_LAST_LOGIN,
+        rows,
+        properties.getBatchSize(),
+        (ps, row) -> {
+          Timestamp loggedInAt = Timestamp.valueOf(row.getValue());
+          ps.setTimestamp(1, loggedInAt);
+          ps.setObject(2, row.getKey());
+          ps.setTimestamp(3, loggedInAt);
+        });
+  }
+}
@@ -0,0 +1,31 @@
+package com.tickatch.auth_service.auth.infrastructure.persistence;
+
+import java.time.Duration;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 마지막 로그인 시간 지연 반영 설정 프로퍼티.
+ *
+ * <p>application.yml의 auth.last-login-buffer.* 설정을 바인딩한다.
+ *
+ * @author Tickatch
+ * @since 1.0.0
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "auth.last-login-buffer")
+public class LastLoginBufferProperties {
+
+  /** 지연 반영 사용 여부. false면 로그인 트랜잭션에서 바로 갱신한다. */
+  private boolean enabled = false;
+
+  /** 버퍼를 DB에 반영하는 주기. */
+  private Duration flushInterval = Duration.ofSeconds(1);
+
+  /** UPDATE 배치 하나에 넣을 최대 행 수. */
+  private int batchSize = 500;
+}
@@ -0,0 +1,267 @@
+package com.tickatch.auth_service.auth.infrastructure.persistence;
+
+import com.tickatch.auth_service.auth.domain.vo.UserType;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.sql.PreparedStatement;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BooleanSupplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 가입된 {@code email|userType} 조합의 Bloom 필터.
+ *
+ * <p>이메일 중복 확인({@code /check-email}, 회원가입)은 입력할 때마다 호출되고 대부분 "없음"으로 끝난다. 이 필터가 "없다"고
+ * 답하면 DB를 조회하지 않고, "있을 수 있다"고 답한 경우에만 DB로 확인한다.
+ *
+ * <ul>
+ *   <li>기동 후 {@code auths} 테이블을 스트리밍으로 읽어 만들고, {@code rebuild-interval}마다 새로 만들어 교체한다
+ *   <li>이 인스턴스의 가입은 바로 추가하고, 다른 인스턴스의 가입은 {@code sync-interval}마다 {@code created_at}으로 가져온다
+ *   <li>탈퇴는 행을 지우지 않고 유니크 제약도 그대로이므로 필터에서 빼지 않는다. 삭제가 필요 없어 Bloom 필터로 충분하다
+ *   <li>처음 만들어지기 전이나 비활성화 상태에서는 모든 확인이 DB로 간다
+ * </ul>
+ *
+ * <p>다른 인스턴스의 가입은 최대 동기화 주기만큼 늦게 보이므로 그동안 "없음"으로 답할 수 있다. 회원가입은 DB 유니크 제약이
+ * 최종 판단이므로 중복 가입이 생기지 않는다.
+ *
+ * <p>지표:
+ *
+ * <ul>
+ *   <li>{@code auth.email-filter.size}: 비트 배열 크기(바이트)
+ *   <li>{@code auth.email-filter.entries}: 원소 수. 새 비트를 하나도 켜지 않은 추가는 이미 있던 원소로 보고 세지 않는다
+ *   <li>{@code auth.email-filter.false-positive.expected}: 채워진 비트 비율로 추정한 오탐률
+ *   <li>{@code auth.email-filter.lookups{result=negative|positive|false-positive}}: 실제 오탐률은
+ *       false-positive / (positive + false-positive)
+ *   <li>{@code auth.email-filter.rebuild}: 재구성 시간
+ * </ul>
+ *
+ * @author Tickatch
+ * @since 1.0.0
+ */
+@Slf4j
+@Component
+public class RegisteredEmailFilter {
+
+  private static final String SELECT_ALL = "SELECT email, user_type FROM auths";
+
+  private static final String SELECT_CREATED_SINCE =
+      "SELECT email, user_type FROM auths WHERE created_at >= ?";
+
+  /* 커밋 지연과 인스턴스 간 시계 차이를 덮기 위해 동기화 구간을 겹친다 */
+  private static final Duration SYNC_OVERLAP = Duration.ofMinutes(1);
+
+  private final RegisteredEmailFilterProperties properties;
+  private final JdbcTemplate jdbcTemplate;
+  private final TransactionTemplate readOnlyTransaction;
+
+  private volatile BloomFilter filter;
+  private final AtomicLong entries = new AtomicLong();
+
+  /* 재구성 중 추가된 키 - 새 필터로 교체한 뒤 다시 넣는다 */
+  private final AtomicBoolean rebuilding = new AtomicBoolean();
+  private final Queue<String> addedDuringRebuild = new ConcurrentLinkedQueue<>();
+
+  /* 다음 동기화가 읽기 시작할 created_at */
+  private volatile LocalDateTime syncedFrom;
+
+  private final Counter negativeCounter;
+  private final Counter positiveCounter;
+  private final Counter falsePositiveCounter;
+  private final Timer rebuildTimer;
+
+  public RegisteredEmailFilter(
+      RegisteredEmailFilterProperties properties,
+      JdbcTemplate jdbcTemplate,
+      PlatformTransactionManager transactionManager,
+      MeterRegistry registry) {
+    this.properties = properties;
+    this.jdbcTemplate = jdbcTemplate;
+    this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+    this.readOnlyTransaction.setReadOnly(true);
+
+    Gauge.builder(
+            "auth.email-filter.size", this, f -> f.filter == null ? 0 : f.filter.sizeInBytes())
+        .description("가입 이메일 필터 비트 배열 크기")
+        .baseUnit("bytes")
+        .register(registry);
+    Gauge.builder("auth.email-filter.entries", entries, AtomicLong::get)
+        .description("가입 이메일 필터에 추가한 원소 수 (근사치)")
+        .register(registry);
+    Gauge.builder(
+            "auth.email-filter.false-positive.expected",
+            this,
+            f -> f.filter == null ? Double.NaN : f.filter.expectedFalsePositiveRate())
+        .description("가입 이메일 필터 추정 오탐률")
+        .register(registry);
+    this.negativeCounter = lookupCounter(registry, "negative");
+    this.positiveCounter = lookupCounter(registry, "positive");
+    this.falsePositiveCounter = lookupCounter(registry, "false-positive");
+    this.rebuildTimer =
+        Timer.builder("auth.email-filter.rebuild")
+            .description("가입 이메일 필터 재구성 시간")
+            .register(registry);
+  }
+
+  /**
+   * 이메일과 사용자 유형 조합이 가입되어 있는지 확인한다.
+   *
+   * <p>필터가 "없다"고 답하면 false를 바로 반환하고, 아니면 {@code lookup}으로 DB를 확인한다.
+   *
+   * @param email 이메일
+   * @param userType 사용자 유형
+   * @param lookup DB 조회
+   * @return 가입되어 있으면 true
+   */
+  public boolean exists(String email, UserType userType, BooleanSupplier lookup) {
+    BloomFilter current = filter;
+    if (!properties.isEnabled() || current == null) {
+      return lookup.getAsBoolean();
+    }
+    if (!current.mightContain(key(email, userType))) {
+      negativeCounter.increment();
+      return false;
+    }
+
+    boolean exists = lookup.getAsBoolean();
+    (exists ? positiveCounter : falsePositiveCounter).increment();
+    return exists;
+  }
+
+  /**
+   * 가입된 조합을 추가한다.
+   *
+   * <p>트랜잭션이 롤백되어도 빼지 않는다. 남은 원소는 오탐 하나를 늘릴 뿐이고 다음 재구성에서 사라진다.
+   *
+   * @param email 이메일
+   * @param userType 사용자 유형
+   */
+  public void put(String email, UserType userType) {
+    put(key(email, userType));
+  }
+
+  /** 기동이 끝나면 필터를 처음 만든다. */
+  @Async("jobExecutor")
+  @EventListener(ApplicationReadyEvent.class)
+  public void initialize() {
+    rebuild();
+  }
+
+  /** 필터를 새로 만들어 교체한다. */
+  @Async("jobExecutor")
+  @Scheduled(
+      fixedDelayString = "${auth.email-filter.rebuild-interval:PT6H}",
+      initialDelayString = "${auth.email-filter.rebuild-interval:PT6H}")
+  public void rebuild() {
+    if (!properties.isEnabled() || !rebuilding.compareAndSet(false, true)) {
+      return;
+    }
+    try {
+      rebuildTimer.record(this::buildAndSwap);
+    } catch (RuntimeException e) {
+      log.warn("가입 이메일 필터 재구성 실패: {}", e.getMessage());
+    } finally {
+      rebuilding.set(false);
+      addedDuringRebuild.clear();
+    }
+  }
+
+  /** 마지막 동기화 이후 다른 인스턴스에서 가입한 조합을 가져온다. */
+  @Scheduled(fixedDelayString = "${auth.email-filter.sync-interval:PT30S}")
+  public void sync() {
+    LocalDateTime from = syncedFrom;
+    if (!properties.isEnabled() || filter == null || from == null) {
+      return;
+    }
+    LocalDateTime startedAt = LocalDateTime.now();
+    try {
+      jdbcTemplate.query(
+          SELECT_CREATED_SINCE,
+          rs -> {
+            put(key(rs.getString(1), rs.getString(2)));
+          },
+          Timestamp.valueOf(from));
+      syncedFrom = startedAt.minus(SYNC_OVERLAP);
+    } catch (RuntimeException e) {
+      log.warn("가입 이메일 필터 동기화 실패: {}", e.getMessage());
+    }
+  }
+
+  private void buildAndSwap() {
+    LocalDateTime startedAt = LocalDateTime.now();
+    Long rows = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM auths", Long.class);
+    long expected = Math.max(properties.getExpectedInsertions(), rows == null ? 0 : rows * 2);
+    BloomFilter built = BloomFilter.create(expected, properties.getFalsePositiveRate());
+    AtomicLong loaded = new AtomicLong();
+
+    // PostgreSQL은 트랜잭션 안에서만 fetchSize 단위로 나누어 읽는다.
+    readOnlyTransaction.executeWithoutResult(
+        status ->
+            jdbcTemplate.query(
+                con -> {
+                  PreparedStatement ps = con.prepareStatement(SELECT_ALL);
+                  ps.setFetchSize(properties.getFetchSize());
+                  return ps;
+                },
+                rs -> {
+                  if (built.put(key(rs.getString(1), rs.getString(2)))) {
+                    loaded.incrementAndGet();
+                  }
+                }));
+
+    entries.set(loaded.get());
+    filter = built;
+    String added;
+    while ((added = addedDuringRebuild.poll()) != null) {
+      if (built.put(added)) {
+        entries.incrementAndGet();
+      }
+    }
+    syncedFrom = startedAt.minus(SYNC_OVERLAP);
+    log.info(
+        "가입 이메일 필터 재구성 - entries: {}, bits: {}, hashes: {}",
+        loaded.get(),
+        built.bitSize(),
+        built.hashCount());
+  }
+
+  private void put(String key) {
+    BloomFilter current = filter;
+    if (current != null && current.put(key)) {
+      entries.incrementAndGet();
+    }
+    if (rebuilding.get()) {
+      addedDuringRebuild.add(key);
+    }
+  }
+
+  private static String key(String email, UserType userType) {
+    return key(email, userType.name());
+  }
+
+  private static String key(String email, String userType) {
+    return email + '|' + userType;
+  }
+
+  private static Counter lookupCounter(MeterRegistry registry, String result) {
+    return Counter.builder("auth.email-filter.lookups")
+        .description("가입 이메일 필터 조회 수")
+        .tag("result", result)
+        .register(registry);
+  }
+}
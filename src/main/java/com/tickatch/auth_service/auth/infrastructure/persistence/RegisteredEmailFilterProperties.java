@@ -0,0 +1,40 @@
+package com.tickatch.auth_service.auth.infrastructure.persistence;
+
+import java.time.Duration;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 가입 이메일 필터 설정 프로퍼티.
+ *
+ * <p>application.yml의 auth.email-filter.* 설정을 바인딩한다.
+ *
+ * @author Tickatch
+ * @since 1.0.0
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "auth.email-filter")
+public class RegisteredEmailFilterProperties {
+
+  /** 필터 사용 여부. false면 모든 중복 확인이 DB로 간다. */
+  private boolean enabled = true;
+
+  /** 최소 예상 원소 수. 재구성 시 실제 행 수의 2배와 비교해 큰 값을 쓴다. */
+  private long expectedInsertions = 1_000_000;
+
+  /** 목표 오탐률. */
+  private double falsePositiveRate = 0.01;
+
+  /** 다른 인스턴스에서 가입한 계정을 가져오는 주기. */
+  private Duration syncInterval = Duration.ofSeconds(30);
+
+  /** 전체 재구성 주기. */
+  private Duration rebuildInterval = Duration.ofHours(6);
+
+  /** 재구성 시 한 번에 읽을 행 수. */
+  private int fetchSize = 1_000;
+}
@@ -0,0 +1,84 @@
+package com.tickatch.auth_service.auth.infrastructure.persistence;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import com.tickatch.auth_service.auth.domain.AuthCacheRegions;
+import java.net.URI;
+import java.util.List;
+import java.util.OptionalLong;
+import java.util.UUID;
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Hibernate 2차 캐시 설정.
+ *
+ * <p>Auth, AuthProvider, Auth의 소셜 연동 목록과 자연 키({@code (email, userType)}, {@code (provider,
+ * providerUserId)})를 인스턴스 메모리(JCache 위의 Caffeine)에 둔다. 캐시 영역은 여기서 크기와 수명을 정해 미리 만들고,
+ * 정의되지 않은 영역을 Hibernate가 임의로 만들지 못하게 한다({@code missing_cache_strategy=fail}).
+ *
+ * <p>동시성 전략은 READ_WRITE다. 같은 인스턴스 안에서는 커밋과 함께 캐시가 갱신된다. 다른 인스턴스의 캐시는 {@link
+ * com.tickatch.auth_service.auth.infrastructure.cache.AuthCacheInvalidationListener}가 방송하는 무효화
+ * 이벤트를 받아 지우고, 이벤트가 유실되면 {@code ttl}이 지난 뒤 DB 값으로 바뀐다.
+ *
+ * <p>통계를 켜면 {@code hibernate.second.level.cache.requests}, {@code
+ * hibernate.cache.natural.id.requests} 등으로 적중률을 확인할 수 있다.
+ *
+ * @author Tickatch
+ * @since 1.0.0
+ */
+@Configuration
+public class SecondLevelCacheConfig {
+
+  /* 미리 만드는 영역. 이름은 엔티티 매핑과 같은 도메인 상수를 쓴다 */
+  static final List<String> REGIONS =
+      List.of(
+          AuthCacheRegions.AUTH,
+          AuthCacheRegions.AUTH_NATURAL_ID,
+          AuthCacheRegions.AUTH_PROVIDERS,
+          AuthCacheRegions.AUTH_PROVIDER,
+          AuthCacheRegions.AUTH_PROVIDER_NATURAL_ID);
+
+  /**
+   * 2차 캐시 영역을 가진 CacheManager를 만든다.
+   *
+   * <p>테스트처럼 한 JVM에 애플리케이션 컨텍스트가 여럿 떠도 영역이 겹치지 않도록 컨텍스트마다 별도 URI로 만든다.
+   */
+  @Bean(destroyMethod = "close")
+  public CacheManager secondLevelCacheManager(SecondLevelCacheProperties properties) {
+    CacheManager cacheManager =
+        Caching.getCachingProvider(CaffeineCachingProvider.class.getName())
+            .getCacheManager(
+                URI.create("tickatch:second-level-cache:" + UUID.randomUUID()),
+                getClass().getClassLoader());
+    for (String region : REGIONS) {
+      CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+      configuration.setStoreByValue(false);
+      configuration.setMaximumSize(OptionalLong.of(properties.getMaximumSize()));
+      configuration.setExpireAfterWrite(OptionalLong.of(properties.getTtl().toNanos()));
+      cacheManager.createCache(region, configuration);
+    }
+    return cacheManager;
+  }
+
+  @Bean
+  public HibernatePropertiesCustomizer secondLevelCacheCustomizer(
+      SecondLevelCacheProperties properties, CacheManager secondLevelCacheManager) {
+    return hibernateProperties -> {
+      hibernateProperties.put(
+          AvailableSettings.GENERATE_STATISTICS, properties.isStatisticsEnabled());
+      hibernateProperties.put(AvailableSettings.USE_SECOND_LEVEL_CACHE, properties.isEnabled());
+      if (!properties.isEnabled()) {
+        return;
+      }
+      hibernateProperties.put(AvailableSettings.CACHE_REGION_FACTORY, "jcache");
+      hibernateProperties.put(ConfigSettings.CACHE_MANAGER, secondLevelCacheManager);
+      hibernateProperties.put(ConfigSettings.MISSING_CACHE_STRATEGY, "fail");
+    };
+  }
+}
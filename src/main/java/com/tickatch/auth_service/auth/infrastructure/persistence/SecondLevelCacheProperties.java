@@ -0,0 +1,34 @@
+package com.tickatch.auth_service.auth.infrastructure.persistence;
+
+import java.time.Duration;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Hibernate 2차 캐시 설정 프로퍼티.
+ *
+ * <p>application.yml의 auth.second-level-cache.* 설정을 바인딩한다.
+ *
+ * @author Tickatch
+ * @since 1.0.0
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "auth.second-level-cache")
+public class SecondLevelCacheProperties {
+
+  /** 2차 캐시 사용 여부. */
+  private boolean enabled = true;
+
+  /** 캐시 영역별 최대 항목 수. */
+  private long maximumSize = 10_000;
+
+  /** 항목 유지 시간. 다른 인스턴스의 무효화 메시지가 유실돼도 이 시간이 지나면 DB 값으로 바뀐다. */
+  private Duration ttl = Duration.ofMinutes(10);
+
+  /** Hibernate 통계 수집 여부. 켜면 {@code hibernate.*} 지표로 노출된다. */
+  private boolean statisticsEnabled = true;
+}
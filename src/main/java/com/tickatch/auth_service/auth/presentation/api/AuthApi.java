@@ -14,10 +14,13 @@ import com.tickatch.auth_service.auth.presentation.api.dto.request.WithdrawReque
 import com.tickatch.auth_service.auth.presentation.api.dto.response.AuthInfoResponse;
 import com.tickatch.auth_service.auth.presentation.api.dto.response.CheckEmailResponse;
 import com.tickatch.auth_service.auth.presentation.api.dto.response.LoginResponse;
+import com.tickatch.auth_service.global.ratelimit.infrastructure.ClientIpResolver;
+import com.tickatch.auth_service.global.ratelimit.infrastructure.LoginRateLimiter;
 import io.github.tickatch.common.api.ApiResponse;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
@@ -46,6 +49,8 @@ public class AuthApi {
 
   private final AuthCommandService authCommandService;
   private final AuthQueryService authQueryService;
+  private final LoginRateLimiter loginRateLimiter;
+  private final ClientIpResolver clientIpResolver;
 
   /** 회원가입. */
   @Operation(summary = "회원가입", description = "이메일/비밀번호로 회원가입합니다.")
@@ -59,13 +64,16 @@ public class AuthApi {
         .body(ApiResponse.success(LoginResponse.from(result), "회원가입이 완료되었습니다."));
   }
 
-  /** 로그인. */
+  /** 로그인. 시도 횟수를 넘으면 DB 조회 전에 429로 거절한다. */
   @Operation(summary = "로그인", description = "이메일/비밀번호로 로그인합니다.")
   @PostMapping("/login")
   public ResponseEntity<ApiResponse<LoginResponse>> login(
       @Valid @RequestBody LoginRequest request,
       @Parameter(hidden = true) @RequestHeader(value = "User-Agent", defaultValue = "Unknown")
-          String userAgent) {
+          String userAgent,
+      HttpServletRequest httpRequest) {
+    String clientIp = clientIpResolver.resolve(httpRequest);
+    loginRateLimiter.check(request.email(), request.userType(), clientIp);
     LoginResult result = authCommandService.login(request.toCommand(userAgent));
     return ResponseEntity.ok(ApiResponse.success(LoginResponse.from(result)));
   }
@@ -122,11 +130,12 @@ public class AuthApi {
     return ResponseEntity.ok(ApiResponse.success(AuthInfoResponse.from(info)));
   }
 
-  /** 이메일 중복 확인. */
+  /** 이메일 중복 확인. IP별 요청 한도를 넘으면 429로 거절한다. */
   @Operation(summary = "이메일 중복 확인", description = "이메일 사용 가능 여부를 확인합니다.")
   @PostMapping("/check-email")
   public ResponseEntity<ApiResponse<CheckEmailResponse>> checkEmail(
-      @Valid @RequestBody CheckEmailRequest request) {
+      @Valid @RequestBody CheckEmailRequest request, HttpServletRequest httpRequest) {
+    loginRateLimiter.checkEmailLookup(clientIpResolver.resolve(httpRequest));
     boolean exists = authQueryService.existsByEmailAndUserType(request.email(), request.userType());
     return ResponseEntity.ok(ApiResponse.success(CheckEmailResponse.of(exists)));
   }
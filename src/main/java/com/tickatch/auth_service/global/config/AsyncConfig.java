@@ -2,6 +2,7 @@ package com.tickatch.auth_service.global.config;
 
 import java.lang.reflect.Method;
 import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadPoolExecutor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.aop.interceptor.AsyncUncaughtExceptionHandler;
 import org.springframework.context.annotation.Bean;
@@ -47,7 +48,12 @@ public class AsyncConfig implements AsyncConfigurer {
     return executor;
   }
 
-  /** 이벤트 발행 전용 스레드 풀. 도메인 이벤트를 Kafka로 발행할 때 사용한다. */
+  /**
+   * 이벤트 발행 전용 스레드 풀. 도메인 이벤트를 메시지 브로커로 발행할 때 사용한다.
+   *
+   * <p>풀과 큐가 모두 차면 호출한 스레드에서 직접 보낸다. 캐시 무효화 같은 이벤트는 버려지면 다른 인스턴스가 TTL 동안 옛
+   * 값을 쓰기 때문이다.
+   */
   @Bean(name = "eventExecutor")
   public Executor eventExecutor() {
     ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
@@ -57,6 +63,29 @@ public class AsyncConfig implements AsyncConfigurer {
     executor.setThreadNamePrefix("product-event-");
     executor.setWaitForTasksToCompleteOnShutdown(true);
     executor.setAwaitTerminationSeconds(60);
+    executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+    executor.initialize();
+    return executor;
+  }
+
+  /**
+   * 예약 작업 전용 스레드 풀. 여러 인스턴스 중 하나만 실행하는 배치 작업(아웃박스 릴레이, 토큰 정리, 파티션 관리, 이메일 필터
+   * 재구성)을 돌린다.
+   *
+   * <p>이 작업들은 배치 사이에 쉬거나 브로커 확인을 기다리며 스레드를 오래 붙잡으므로 {@code taskExecutor}와 나눈다. 작업마다 한
+   * 스레드씩 두고, 밀린 실행은 버려도 다음 주기에 다시 실행된다.
+   */
+  @Bean(name = "jobExecutor")
+  public Executor jobExecutor() {
+    ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+    executor.setCorePoolSize(4);
+    executor.setMaxPoolSize(4);
+    executor.setQueueCapacity(16);
+    executor.setThreadNamePrefix("auth-job-");
+    executor.setWaitForTasksToCompleteOnShutdown(true);
+    executor.setAwaitTerminationSeconds(30);
+    executor.setRejectedExecutionHandler(
+        (r, e) -> log.warn("Job rejected, job thread pool is full and queue is full"));
     executor.initialize();
     return executor;
   }
@@ -1,7 +1,11 @@
 package com.tickatch.auth_service.global.config;
 
+import com.tickatch.auth_service.global.password.infrastructure.BoundedPasswordEncoder;
+import com.tickatch.auth_service.global.password.infrastructure.PasswordEncoderFactory;
+import com.tickatch.auth_service.global.password.infrastructure.PasswordHashingProperties;
 import io.github.tickatch.common.security.BaseSecurityConfig;
 import io.github.tickatch.common.security.LoginFilter;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpMethod;
@@ -9,7 +13,6 @@ import org.springframework.security.config.Customizer;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.annotation.web.configurers.AuthorizeHttpRequestsConfigurer;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 
@@ -37,13 +40,19 @@ public class SecurityConfig extends BaseSecurityConfig {
   /**
    * 비밀번호 인코더 빈.
    *
-   * <p>BCrypt 알고리즘을 사용하여 비밀번호를 안전하게 해싱한다.
+   * <p>{@code password.hashing.algorithm}으로 정한 알고리즘(기본 BCrypt)으로 비밀번호를 해싱한다. 해시에는 알고리즘
+   * 접두사가 붙으며, 다른 알고리즘이나 설정으로 만든 해시는 로그인 시 다시 해싱된다. 해싱은 요청 스레드가 아닌 전용
+   * 스레드 풀에서 수행하며, 풀이 포화되면 즉시 503으로 실패한다.
    *
+   * @param properties 비밀번호 해싱 설정
+   * @param meterRegistry 지표 레지스트리
    * @return PasswordEncoder
    */
   @Bean
-  public PasswordEncoder passwordEncoder() {
-    return new BCryptPasswordEncoder();
+  public PasswordEncoder passwordEncoder(
+      PasswordHashingProperties properties, MeterRegistry meterRegistry) {
+    return new BoundedPasswordEncoder(
+        PasswordEncoderFactory.create(properties), properties, meterRegistry);
   }
 
   @Override
@@ -0,0 +1,42 @@
+package com.tickatch.auth_service.global.domain;
+
+import jakarta.persistence.MappedSuperclass;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.Transient;
+
+/**
+ * 직접 할당한 ID를 쓰는 엔티티의 신규 여부를 추적하는 추상 클래스.
+ *
+ * <p>ID를 생성 시점에 할당하면 Spring Data의 {@code save}는 ID가 있으므로 기존 엔티티로 보고 {@code merge}를 호출한다.
+ * Hibernate는 merge 전에 같은 ID의 행을 SELECT하므로 INSERT마다 조회가 한 번 더 생긴다. 하위 엔티티가 {@link
+ * org.springframework.data.domain.Persistable}을 구현하면 이 클래스의 {@link #isNew()}로 판단하여 새 엔티티는 바로
+ * {@code persist}한다.
+ *
+ * <p>새로 만든 객체는 신규이고, 저장({@link PostPersist}) 또는 조회({@link PostLoad}) 후에는 신규가 아니다.
+ *
+ * @author Tickatch
+ * @since 1.0.0
+ */
+@MappedSuperclass
+public abstract class AbstractPersistableEntity {
+
+  /* 신규 여부 - 저장하지 않음 */
+  @Transient private boolean isNew = true;
+
+  /**
+   * 아직 저장하지 않은 엔티티인지 확인한다.
+   *
+   * @return 저장 또는 조회 전이면 true
+   */
+  public boolean isNew() {
+    return isNew;
+  }
+
+  /** 저장 또는 조회 후 신규가 아닌 것으로 표시한다. */
+  @PostPersist
+  @PostLoad
+  protected void markNotNew() {
+    this.isNew = false;
+  }
+}
@@ -13,7 +13,8 @@ import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 /**
  * 엔티티의 기본 시간 감사를 제공하는 추상 클래스.
  *
- * <p>생성시간(createdAt), 수정시간(updatedAt) 필드를 제공하며, Spring Data JPA의 감사(audit) 기능을 활성화합니다.
+ * <p>생성시간(createdAt), 수정시간(updatedAt) 필드를 제공하며, Spring Data JPA의 감사(audit) 기능을 활성화합니다. 신규 여부는
+ * {@link AbstractPersistableEntity}가 추적합니다.
  *
  * @author 김형섭
  * @since 1.0.0
@@ -21,7 +22,7 @@ import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 @Getter
 @MappedSuperclass
 @EntityListeners(AuditingEntityListener.class)
-public abstract class AbstractTimeEntity {
+public abstract class AbstractTimeEntity extends AbstractPersistableEntity {
   /* 등록 일시 */
   @Column(name = "created_at", nullable = false, updatable = false)
   @CreatedDate
@@ -0,0 +1,76 @@
+package com.tickatch.auth_service.global.domain;
+
+import java.security.SecureRandom;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 시간 순서 UUID(버전 7, RFC 9562) 생성기.
+ *
+ * <p>상위 48비트는 Unix 밀리초, 이어지는 12비트({@code rand_a})는 같은 밀리초 안의 순번, 나머지 62비트는 난수다. 값이 시간
+ * 순으로 커지므로 B-tree 인덱스의 INSERT가 오른쪽 끝 페이지에 모여 {@link UUID#randomUUID()}(버전 4)보다 페이지 분할,
+ * WAL, 버퍼 캐시 미스가 적다.
+ *
+ * <p>밀리초와 순번을 {@link AtomicLong} 하나에 담아 CAS로 올리므로 여러 스레드가 동시에 호출해도 이 JVM 안에서는 항상 이전
+ * 값보다 큰 값을 반환한다. 한 밀리초에 4096개를 넘기거나 시계가 뒤로 가면 밀리초 필드를 1씩 앞당겨 순서를 지킨다.
+ *
+ * @author Tickatch
+ * @since 1.0.0
+ */
+public final class UuidV7 {
+
+  /* 순번(rand_a) 비트 수 */
+  private static final int SEQUENCE_BITS = 12;
+
+  private static final long VERSION_7 = 0x7000L;
+  private static final long VARIANT_MASK = 0x3FFF_FFFF_FFFF_FFFFL;
+  private static final long VARIANT_RFC_9562 = 0x8000_0000_0000_0000L;
+
+  private static final SecureRandom RANDOM = new SecureRandom();
+
+  /* 애플리케이션 전체가 공유하는 생성기 */
+  private static final UuidV7 SHARED = new UuidV7();
+
+  /* (Unix 밀리초 << 12) | 순번 - 마지막으로 발급한 값 */
+  private final AtomicLong last = new AtomicLong();
+
+  UuidV7() {}
+
+  /**
+   * 새 UUIDv7을 생성한다.
+   *
+   * @return 이 JVM에서 이전에 생성한 값보다 큰 UUID
+   */
+  public static UUID generate() {
+    return SHARED.next(System.currentTimeMillis());
+  }
+
+  /**
+   * 주어진 시각으로 이 생성기의 다음 UUIDv7을 만든다.
+   *
+   * @param epochMillis 현재 Unix 밀리초
+   * @return 이 생성기가 이전에 만든 값보다 큰 UUID
+   */
+  UUID next(long epochMillis) {
+    long candidate = epochMillis << SEQUENCE_BITS;
+    long next = last.accumulateAndGet(candidate, (prev, now) -> Math.max(prev + 1, now));
+
+    long mostSigBits = ((next >>> SEQUENCE_BITS) << 16) | VERSION_7 | (next & 0xFFF);
+    long leastSigBits = (RANDOM.nextLong() & VARIANT_MASK) | VARIANT_RFC_9562;
+    return new UUID(mostSigBits, leastSigBits);
+  }
+
+  /**
+   * UUIDv7에 담긴 Unix 밀리초를 반환한다.
+   *
+   * @param uuid UUIDv7
+   * @return 생성 시각 (Unix 밀리초)
+   * @throws IllegalArgumentException 버전 7이 아닌 경우
+   */
+  public static long epochMillis(UUID uuid) {
+    if (uuid.version() != 7) {
+      throw new IllegalArgumentException("UUIDv7이 아닙니다: " + uuid);
+    }
+    return uuid.getMostSignificantBits() >>> 16;
+  }
+}
@@ -0,0 +1,60 @@
+package com.tickatch.auth_service.global.jwt.infrastructure;
+
+import java.security.GeneralSecurityException;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.spec.ECGenParameterSpec;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * JWT 서명 알고리즘.
+ *
+ * <p>JWS 헤더의 alg 값, JCA 키/서명 알고리즘, 키 생성 방법을 묶어 관리한다.
+ *
+ * <ul>
+ *   <li>RS256: RSA-2048 (기본값, 기존 키와 호환)
+ *   <li>ES256: ECDSA P-256, 서명은 JWS 규격대로 r||s (P1363) 형식
+ *   <li>ED25519: EdDSA Ed25519 (JWS alg "EdDSA")
+ * </ul>
+ *
+ * @author Tickatch
+ * @since 1.0.0
+ */
+@Getter
+@RequiredArgsConstructor
+public enum JwtAlgorithm {
+  RS256("RS256", "RSA", "SHA256withRSA"),
+  ES256("ES256", "EC", "SHA256withECDSAinP1363Format"),
+  ED25519("EdDSA", "Ed25519", "Ed25519");
+
+  private static final int RSA_KEY_SIZE = 2048;
+  private static final String EC_CURVE = "secp256r1";
+
+  /** JWS 헤더의 alg 값. */
+  private final String jwsName;
+
+  /** KeyFactory/KeyPairGenerator 알고리즘 이름. */
+  private final String keyAlgorithm;
+
+  /** Signature 알고리즘 이름. */
+  private final String signatureAlgorithm;
+
+  /**
+   * 알고리즘에 맞는 새 키 쌍을 생성한다.
+   *
+   * @return 키 쌍
+   * @throws GeneralSecurityException 키 생성에 실패한 경우
+   */
+  public KeyPair generateKeyPair() throws GeneralSecurityException {
+    KeyPairGenerator generator = KeyPairGenerator.getInstance(keyAlgorithm);
+    switch (this) {
+      case RS256 -> generator.initialize(RSA_KEY_SIZE);
+      case ES256 -> generator.initialize(new ECGenParameterSpec(EC_CURVE));
+      case ED25519 -> {
+        // Ed25519는 곡선이 고정되어 있어 초기화가 필요 없다.
+      }
+    }
+    return generator.generateKeyPair();
+  }
+}
@@ -0,0 +1,19 @@
+package com.tickatch.auth_service.global.jwt.infrastructure;
+
+import java.security.PrivateKey;
+import java.security.PublicKey;
+import java.time.Instant;
+
+/**
+ * kid로 식별되는 서명 키 쌍.
+ *
+ * @param keyId 키 ID (JWS 헤더의 kid)
+ * @param privateKey 서명용 Private Key
+ * @param publicKey 검증용 Public Key
+ * @param activatesAt 활성화 시각. 이 시각이 지난 키 중 가장 늦은 키가 활성 서명 키가 되며, 그 전에는
+ *     검증용으로만 공개된다.
+ * @author Tickatch
+ * @since 1.0.0
+ */
+public record JwtKey(
+    String keyId, PrivateKey privateKey, PublicKey publicKey, Instant activatesAt) {}
@@ -0,0 +1,177 @@
+package com.tickatch.auth_service.global.jwt.infrastructure;
+
+import java.security.PublicKey;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 서명 키 링.
+ *
+ * <p>활성 서명 키 하나와 검증용 키 여러 개를 kid로 보관한다. 불변 객체이며, 키가 추가되거나 제거되거나 활성 키가 바뀌면 새
+ * 인스턴스로 교체된다. 인스턴스가 같으면 키 구성도 같으므로 참조 비교로 변경 여부를 판단할 수 있다.
+ *
+ * <ul>
+ *   <li>활성 키: 기준 시각까지 활성화된 키 중 활성화 시각이 가장 늦은 키
+ *   <li>대기 키: 아직 활성화 시각이 되지 않은 키. 서명에는 쓰지 않고 검증용으로만 공개한다.
+ *   <li>검증 키: 링에 있는 모든 키. kid로 O(1) 조회한다.
+ * </ul>
+ *
+ * @author Tickatch
+ * @since 1.0.0
+ */
+public final class JwtKeyRing {
+
+  private static final Comparator<JwtKey> NEWEST_FIRST =
+      Comparator.comparing(JwtKey::activatesAt).reversed();
+
+  private final JwtKey activeKey;
+  private final List<JwtKey> newestFirst;
+  private final Map<String, JwtKey> keysById;
+
+  private JwtKeyRing(List<JwtKey> newestFirst, Instant now) {
+    Map<String, JwtKey> unique = new LinkedHashMap<>();
+    for (JwtKey key : newestFirst) {
+      unique.putIfAbsent(key.keyId(), key);
+    }
+    this.newestFirst = List.copyOf(unique.values());
+    this.activeKey = selectActive(this.newestFirst, now);
+
+    // 활성 키를 먼저 둔다
+    Map<String, JwtKey> keys = new LinkedHashMap<>();
+    keys.put(activeKey.keyId(), activeKey);
+    for (JwtKey key : this.newestFirst) {
+      keys.putIfAbsent(key.keyId(), key);
+    }
+    this.keysById = Collections.unmodifiableMap(keys);
+  }
+
+  /* 활성화된 키 중 가장 최근 키. 모두 대기 중이면 가장 오래된 키 */
+  private static JwtKey selectActive(List<JwtKey> newestFirst, Instant now) {
+    for (JwtKey key : newestFirst) {
+      if (!key.activatesAt().isAfter(now)) {
+        return key;
+      }
+    }
+    return newestFirst.get(newestFirst.size() - 1);
+  }
+
+  /**
+   * 키 목록으로 키 링을 만든다. kid가 겹치면 활성화 시각이 더 늦은 키를 사용한다.
+   *
+   * @param keys 키 목록 (1개 이상)
+   * @param now 활성 키를 고를 기준 시각
+   * @return 키 링
+   */
+  public static JwtKeyRing of(Collection<JwtKey> keys, Instant now) {
+    if (keys.isEmpty()) {
+      throw new IllegalArgumentException("키 링에는 키가 하나 이상 있어야 합니다.");
+    }
+    List<JwtKey> sorted = new ArrayList<>(keys);
+    sorted.sort(NEWEST_FIRST);
+    return new JwtKeyRing(sorted, now);
+  }
+
+  /**
+   * 현재 시각 기준으로 키 링을 만든다.
+   *
+   * @param keys 키 목록 (1개 이상)
+   * @return 키 링
+   */
+  public static JwtKeyRing of(Collection<JwtKey> keys) {
+    return of(keys, Instant.now());
+  }
+
+  public static JwtKeyRing of(JwtKey key) {
+    return of(List.of(key));
+  }
+
+  /** 활성 서명 키를 반환한다. */
+  public JwtKey activeKey() {
+    return activeKey;
+  }
+
+  /** 활성화 시각이 가장 늦은 키를 반환한다. 대기 키가 있으면 대기 키다. */
+  public JwtKey newestKey() {
+    return newestFirst.get(0);
+  }
+
+  /**
+   * kid에 해당하는 검증용 Public Key를 반환한다.
+   *
+   * @param keyId 키 ID
+   * @return Public Key, 없으면 null
+   */
+  public PublicKey findPublicKey(String keyId) {
+    if (keyId == null) {
+      return null;
+    }
+    JwtKey key = keysById.get(keyId);
+    return key != null ? key.publicKey() : null;
+  }
+
+  /** 모든 키를 반환한다. 활성 키가 먼저 오고 나머지는 최신순이다. */
+  public Collection<JwtKey> keys() {
+    return keysById.values();
+  }
+
+  /**
+   * 현재 시각 기준으로 키를 추가한 새 키 링을 반환한다.
+   *
+   * @param key 추가할 키
+   * @return 새 키 링
+   */
+  public JwtKeyRing with(JwtKey key) {
+    return with(key, Instant.now());
+  }
+
+  /**
+   * 키를 추가한 새 키 링을 반환한다.
+   *
+   * @param key 추가할 키
+   * @param now 활성 키를 고를 기준 시각
+   * @return 새 키 링
+   */
+  public JwtKeyRing with(JwtKey key, Instant now) {
+    List<JwtKey> keys = new ArrayList<>(newestFirst);
+    keys.add(key);
+    return of(keys, now);
+  }
+
+  /**
+   * 기준 시각의 활성 키로 다시 고른 키 링을 반환한다.
+   *
+   * @param now 기준 시각
+   * @return 활성 키가 같으면 this, 바뀌면 새 키 링
+   */
+  public JwtKeyRing activeAt(Instant now) {
+    return selectActive(newestFirst, now) == activeKey ? this : new JwtKeyRing(newestFirst, now);
+  }
+
+  /**
+   * 교체된 지 retention 이상 지난 키를 제거한 키 링을 반환한다.
+   *
+   * <p>키는 바로 다음으로 최신인 키가 활성화된 시점에 교체된 것으로 본다. 활성 키와 대기 키는 항상 남는다.
+   *
+   * @param now 기준 시각
+   * @param retention 교체된 키를 검증용으로 유지할 기간
+   * @return 제거할 키가 없으면 this, 있으면 새 키 링
+   */
+  public JwtKeyRing retainValid(Instant now, Duration retention) {
+    List<JwtKey> retained = new ArrayList<>();
+    Instant replacedAt = null;
+    for (JwtKey key : newestFirst) {
+      if (replacedAt == null || replacedAt.plus(retention).isAfter(now)) {
+        retained.add(key);
+      }
+      replacedAt = key.activatesAt();
+    }
+    return retained.size() == newestFirst.size() ? this : new JwtKeyRing(retained, now);
+  }
+}
@@ -0,0 +1,71 @@
+package com.tickatch.auth_service.global.jwt.infrastructure;
+
+import com.tickatch.auth_service.global.scheduling.infrastructure.LeaderElection;
+import java.time.Instant;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * JWT 서명 키 로테이션 예약 작업.
+ *
+ * <p>{@code jwt.rotation.check-interval}마다 {@link RsaKeyManager}의 키 링을 갱신한다. 새 키는 한 인스턴스만 만든다.
+ * 여러 인스턴스가 같은 키 디렉토리를 보고 동시에 주기가 되었다고 판단하면 각자 키를 만들어 활성 키가 엇갈리기 때문이다.
+ *
+ * <p>{@link LeaderElection}의 잠금을 잡은 인스턴스가 키 디렉토리를 다시 읽고 필요하면 새 키를 만든다. 잠금을 못 잡은 인스턴스는
+ * 키 디렉토리만 다시 읽는다. 잠금 안에서 디렉토리를 읽으므로 다음에 잠금을 잡은 인스턴스는 앞서 만든 키를 보고 다시 만들지 않는다.
+ *
+ * @author Tickatch
+ * @since 1.0.0
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class JwtKeyRotationScheduler {
+
+  private static final String JOB = "jwt-key-rotation";
+
+  private final JwtProperties jwtProperties;
+  private final RsaKeyManager rsaKeyManager;
+  private final LeaderElection leaderElection;
+
+  /**
+   * 로테이션 주기를 확인한다.
+   *
+   * <p>{@code jwt.rotation.enabled}가 false이면 아무 일도 하지 않는다.
+   */
+  @Scheduled(
+      fixedDelayString = "${jwt.rotation.check-interval:PT10M}",
+      initialDelayString = "${jwt.rotation.check-interval:PT10M}")
+  public void rotateIfDue() {
+    if (!jwtProperties.getRotation().isEnabled()) {
+      return;
+    }
+    try {
+      Instant now = Instant.now();
+      leaderElection.runAsLeader(JOB, () -> rotate(now), () -> reload(now));
+    } catch (RuntimeException e) {
+      log.error("JWT 서명 키 로테이션 실패", e);
+    }
+  }
+
+  private Void rotate(Instant now) {
+    try {
+      rsaKeyManager.rotateIfDue(now);
+      return null;
+    } catch (Exception e) {
+      throw new IllegalStateException("서명 키 로테이션 실패", e);
+    }
+  }
+
+  private Void reload(Instant now) {
+    log.debug("다른 인스턴스가 서명 키 로테이션 중이라 키 디렉토리만 다시 읽음");
+    try {
+      rsaKeyManager.reload(now);
+      return null;
+    } catch (Exception e) {
+      throw new IllegalStateException("서명 키 디렉토리 재탐색 실패", e);
+    }
+  }
+}
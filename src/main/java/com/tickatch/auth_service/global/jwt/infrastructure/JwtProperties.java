@@ -1,5 +1,7 @@
 package com.tickatch.auth_service.global.jwt.infrastructure;
 
+import java.time.Duration;
+import java.time.Instant;
 import lombok.Getter;
 import lombok.Setter;
 import org.springframework.boot.context.properties.ConfigurationProperties;
@@ -22,7 +24,10 @@ public class JwtProperties {
   /** JWT 발급자. */
   private String issuer = "tickatch";
 
-  /** 키 ID (키 로테이션 시 버전 관리용). */
+  /** 서명 알고리즘 (RS256, ES256, ED25519). */
+  private JwtAlgorithm algorithm = JwtAlgorithm.RS256;
+
+  /** 기본 키의 키 ID. 로테이션으로 생성된 키는 {@link Rotation#getKeyIdPrefix()}로 시작한다. */
   private String keyId = "tickatch-auth-key-1";
 
   /** 키 저장 디렉토리 경로. */
@@ -40,9 +45,24 @@ public class JwtProperties {
   /** Public Key 값 (Base64 인코딩, 환경변수 주입용). */
   private String publicKey;
 
+  /**
+   * 환경변수로 주입한 키의 생성 시각 (선택, ISO-8601). 로테이션 주기를 이 시각부터 잰다. 없으면 로테이션된 키보다 앞선 키로 보고,
+   * 로테이션된 키가 없으면 기동 시각을 쓴다.
+   */
+  private Instant keyCreatedAt;
+
   /** Access Token 설정. */
   private AccessToken accessToken = new AccessToken();
 
+  /** 키 로테이션 설정. */
+  private Rotation rotation = new Rotation();
+
+  /** 검증 결과 캐시 설정. */
+  private VerifiedCache verifiedCache = new VerifiedCache();
+
+  /** JWKS/PEM 응답 설정. */
+  private Jwks jwks = new Jwks();
+
   @Getter
   @Setter
   public static class AccessToken {
@@ -50,6 +70,51 @@ public class JwtProperties {
     private long expiration = 300;
   }
 
+  @Getter
+  @Setter
+  public static class Rotation {
+    /** 주기적 키 로테이션 사용 여부. */
+    private boolean enabled = false;
+
+    /** 활성 키 교체 주기. */
+    private Duration interval = Duration.ofDays(7);
+
+    /** 교체된 키를 검증용으로 유지하는 기간 (Access Token 만료 시간보다 짧으면 만료 시간을 사용). */
+    private Duration retention = Duration.ofHours(1);
+
+    /**
+     * 로테이션 주기 확인 및 키 디렉토리 재탐색 간격.
+     *
+     * <p>새 키는 {@code jwt.jwks.max-age} + 이 간격만큼 검증용으로 먼저 공개한 뒤 활성화한다. 그동안 다른 인스턴스가 키
+     * 디렉토리에서 새 키를 읽고, 검증 측이 캐시한 JWKS도 새 키를 포함하게 된다.
+     */
+    private Duration checkInterval = Duration.ofMinutes(10);
+
+    /** 로테이션으로 생성하는 키 ID 접두사. 뒤에 생성 시각(UTC, yyyyMMddHHmmss)과 임의 문자열이 붙는다. */
+    private String keyIdPrefix = "tickatch-auth-key";
+  }
+
+  @Getter
+  @Setter
+  public static class VerifiedCache {
+    /** 캐시 사용 여부. */
+    private boolean enabled = true;
+
+    /** 최대 보관 토큰 수. */
+    private long maximumSize = 100_000;
+  }
+
+  @Getter
+  @Setter
+  public static class Jwks {
+    /**
+     * 응답 Cache-Control max-age.
+     *
+     * <p>로테이션 직후 새 kid를 모르는 검증 측이 있을 수 있으므로 짧게 유지한다. 검증 측은 모르는 kid를 만나면 다시 조회해야 한다.
+     */
+    private Duration maxAge = Duration.ofSeconds(60);
+  }
+
   /**
    * Access Token 만료 시간을 밀리초로 반환한다.
    *
@@ -0,0 +1,103 @@
+package com.tickatch.auth_service.global.jwt.infrastructure;
+
+import com.fasterxml.jackson.core.io.JsonStringEncoder;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.PrivateKey;
+import java.security.Signature;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * 키 하나에 고정된 JWT 서명 파이프라인.
+ *
+ * <p>헤더 세그먼트와 고정 클레임(iss)은 생성 시 한 번만 직렬화하고, {@link Signature}는 스레드마다 한 번만 {@code initSign}
+ * 한다. 토큰 발급마다 JwtBuilder, 헤더 맵, 서명 객체를 새로 만들지 않기 위함이다.
+ *
+ * <p>키가 바뀌면 인스턴스를 새로 만들어 교체한다. 인스턴스 자체는 불변이며 스레드 안전하다.
+ *
+ * @author Tickatch
+ * @since 1.0.0
+ */
+final class JwtSigner {
+
+  private static final Base64.Encoder BASE64_URL = Base64.getUrlEncoder().withoutPadding();
+
+  private final String keyId;
+  private final JwtAlgorithm algorithm;
+  private final String headerSegment;
+  private final String issuerClaim;
+  private final ThreadLocal<Signature> signatures;
+
+  JwtSigner(String keyId, JwtAlgorithm algorithm, PrivateKey privateKey, String issuer) {
+    this.keyId = keyId;
+    this.algorithm = algorithm;
+    this.headerSegment =
+        encode("{\"alg\":\"" + algorithm.getJwsName() + "\",\"kid\":" + quote(keyId) + "}");
+    this.issuerClaim = ",\"iss\":" + quote(issuer);
+    this.signatures = ThreadLocal.withInitial(() -> newSignature(algorithm, privateKey));
+  }
+
+  /**
+   * Access Token을 서명하여 compact 형식으로 반환한다.
+   *
+   * @param authId 토큰 주체 (sub)
+   * @param userType 사용자 유형 클레임 값
+   * @param issuedAtSeconds 발급 시각 (epoch 초)
+   * @param expiresAtSeconds 만료 시각 (epoch 초)
+   * @return 서명된 JWT
+   */
+  String sign(UUID authId, String userType, long issuedAtSeconds, long expiresAtSeconds) {
+    String payload =
+        new StringBuilder(160)
+            .append("{\"sub\":\"")
+            .append(authId)
+            .append("\",\"userType\":\"")
+            .append(userType)
+            .append('"')
+            .append(issuerClaim)
+            .append(",\"iat\":")
+            .append(issuedAtSeconds)
+            .append(",\"exp\":")
+            .append(expiresAtSeconds)
+            .append('}')
+            .toString();
+
+    String signingInput = headerSegment + '.' + encode(payload);
+    byte[] signingBytes = signingInput.getBytes(StandardCharsets.US_ASCII);
+
+    try {
+      Signature signature = signatures.get();
+      signature.update(signingBytes);
+      return signingInput + '.' + BASE64_URL.encodeToString(signature.sign());
+    } catch (GeneralSecurityException e) {
+      throw new IllegalStateException("JWT 서명 실패 - keyId: " + keyId, e);
+    }
+  }
+
+  String getKeyId() {
+    return keyId;
+  }
+
+  JwtAlgorithm getAlgorithm() {
+    return algorithm;
+  }
+
+  private static Signature newSignature(JwtAlgorithm algorithm, PrivateKey privateKey) {
+    try {
+      Signature signature = Signature.getInstance(algorithm.getSignatureAlgorithm());
+      signature.initSign(privateKey);
+      return signature;
+    } catch (GeneralSecurityException e) {
+      throw new IllegalStateException("JWT 서명 객체 초기화 실패 - algorithm: " + algorithm, e);
+    }
+  }
+
+  private static String encode(String json) {
+    return BASE64_URL.encodeToString(json.getBytes(StandardCharsets.UTF_8));
+  }
+
+  private static String quote(String value) {
+    return '"' + new String(JsonStringEncoder.getInstance().quoteAsString(value)) + '"';
+  }
+}
@@ -2,27 +2,49 @@ package com.tickatch.auth_service.global.jwt.infrastructure;
 
 import com.tickatch.auth_service.auth.domain.vo.UserType;
 import com.tickatch.auth_service.token.application.port.out.TokenProvider;
+import com.tickatch.auth_service.token.application.port.out.dto.TokenClaims;
+import com.tickatch.auth_service.token.domain.RefreshToken;
+import com.tickatch.auth_service.token.domain.exception.TokenErrorCode;
+import com.tickatch.auth_service.token.domain.exception.TokenException;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.Jws;
+import io.jsonwebtoken.JwsHeader;
 import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
-import java.security.interfaces.RSAPublicKey;
-import java.util.Date;
+import io.jsonwebtoken.LocatorAdapter;
+import java.security.Key;
+import java.security.PublicKey;
+import java.time.LocalDate;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
 /**
- * JWT 토큰 생성 및 검증 구현체 (RS256).
+ * JWT 토큰 생성 및 검증 구현체.
  *
- * <p>RSA 비대칭키를 사용하여 JWT를 생성하고 검증한다.
+ * <p>비대칭키를 사용하여 JWT를 생성하고 검증한다. 서명 알고리즘은 {@link JwtProperties#getAlgorithm()}으로 정한다(RS256,
+ * ES256, EdDSA).
  *
  * <ul>
  *   <li>서명: Private Key 사용 (Auth Service만 보유)
  *   <li>검증: Public Key 사용 (Gateway, 다른 서비스에 공개 가능)
  * </ul>
  *
+ * <p>서명은 키 링의 활성 키로 하고, 검증은 토큰 헤더의 kid로 키 링에서 Public Key를 찾아 한다. 로테이션 직후에도 이전 키로
+ * 서명된 토큰이 만료 전까지 검증된다.
+ *
+ * <p>{@link JwtParser}와 서명 파이프라인({@link JwtSigner})은 키 링 단위로 한 번만 만들어 재사용하며, {@link
+ * RsaKeyManager}의 키 링이 바뀐 경우에만 다시 만든다.
+ *
+ * <p>모든 검증 경로는 {@link #parseVerified(String)}를 거치므로 요청당 서명 검증은 한 번만 일어난다. 검증에 성공한 토큰은
+ * {@link VerifiedTokenCache}에 exp까지 보관되어 같은 토큰의 재검증을 생략한다.
+ *
  * @author Tickatch
  * @since 1.0.0
  */
@@ -35,68 +57,82 @@ public class JwtTokenProvider implements TokenProvider {
 
   private final JwtProperties jwtProperties;
   private final RsaKeyManager rsaKeyManager;
+  private final VerifiedTokenCache verifiedTokenCache;
+
+  /* 현재 키로 만든 서명/검증 객체. 키가 바뀌면 교체된다. */
+  private volatile KeySnapshot keySnapshot;
 
   @Override
   public String generateAccessToken(UUID authId, UserType userType) {
-    Date now = new Date();
-    Date expiry = new Date(now.getTime() + jwtProperties.getAccessTokenExpirationMillis());
-
-    return Jwts.builder()
-        .subject(authId.toString())
-        .claim(CLAIM_USER_TYPE, userType.name())
-        .issuer(jwtProperties.getIssuer())
-        .issuedAt(now)
-        .expiration(expiry)
-        .header()
-        .keyId(jwtProperties.getKeyId())
-        .and()
-        .signWith(rsaKeyManager.getPrivateKey())
-        .compact();
+    long issuedAt = System.currentTimeMillis() / 1000;
+    long expiresAt = issuedAt + jwtProperties.getAccessToken().getExpiration();
+
+    return currentKeys().signer().sign(authId, userType.name(), issuedAt, expiresAt);
   }
 
+  /**
+   * {@inheritDoc}
+   *
+   * <p>앞 5자는 발급일 힌트로 바꾼다. 파티션 테이블에서 토큰 조회가 볼 파티션을 줄이는 데 쓴다.
+   */
   @Override
   public String generateRefreshTokenValue() {
-    return UUID.randomUUID().toString().replace("-", "")
-        + UUID.randomUUID().toString().replace("-", "");
+    return RefreshToken.withIssueDateHint(
+        UUID.randomUUID().toString().replace("-", "")
+            + UUID.randomUUID().toString().replace("-", ""),
+        LocalDate.now());
   }
 
   @Override
   public boolean validateToken(String token) {
-    if (token == null || token.isBlank()) {
+    try {
+      parseVerified(token);
+      return true;
+    } catch (TokenException e) {
       return false;
     }
+  }
+
+  @Override
+  public TokenClaims parseVerified(String token) {
+    if (token == null || token.isBlank()) {
+      throw new TokenException(TokenErrorCode.INVALID_TOKEN);
+    }
+    // 세대를 먼저 읽어야 검증 도중 키가 바뀐 결과가 캐시에 남지 않는다.
+    long generation = verifiedTokenCache.generation();
+    KeySnapshot keys = currentKeys();
+    TokenClaims cached = verifiedTokenCache.get(token);
+    if (cached != null) {
+      return cached;
+    }
+
     try {
-      Jwts.parser().verifyWith(rsaKeyManager.getPublicKey()).build().parseSignedClaims(token);
-      return true;
+      Jws<Claims> jws = keys.parser().parseSignedClaims(token);
+      TokenClaims claims = toTokenClaims(jws);
+      verifiedTokenCache.put(token, claims, generation);
+      return claims;
     } catch (ExpiredJwtException e) {
       log.debug("만료된 JWT 토큰: {}", e.getMessage());
-    } catch (JwtException e) {
+      throw new TokenException(TokenErrorCode.TOKEN_EXPIRED);
+    } catch (JwtException | IllegalArgumentException e) {
       log.debug("유효하지 않은 JWT 토큰: {}", e.getMessage());
+      throw new TokenException(TokenErrorCode.INVALID_TOKEN);
     }
-    return false;
-  }
-
-  @Override
-  public UUID extractAuthId(String token) {
-    Claims claims = extractClaims(token);
-    return UUID.fromString(claims.getSubject());
   }
 
   @Override
-  public UserType extractUserType(String token) {
-    Claims claims = extractClaims(token);
-    String userTypeStr = claims.get(CLAIM_USER_TYPE, String.class);
-    return UserType.valueOf(userTypeStr);
+  public PublicKey getPublicKey() {
+    return currentKeys().keyRing().activeKey().publicKey();
   }
 
   @Override
-  public RSAPublicKey getPublicKey() {
-    return rsaKeyManager.getPublicKey();
+  public String getKeyId() {
+    return currentKeys().keyRing().activeKey().keyId();
   }
 
   @Override
-  public String getKeyId() {
-    return jwtProperties.getKeyId();
+  public Map<String, PublicKey> getVerificationKeys() {
+    return currentKeys().verificationKeys();
   }
 
   @Override
@@ -105,16 +141,85 @@ public class JwtTokenProvider implements TokenProvider {
   }
 
   /**
-   * 토큰에서 Claims를 추출한다.
+   * 검증된 JWS에서 필요한 클레임만 꺼낸다.
    *
-   * @param token JWT 토큰
-   * @return Claims
+   * @param jws 서명 검증을 마친 JWS
+   * @return 토큰 클레임
+   * @throws TokenException 필수 클레임이 없는 경우
    */
-  private Claims extractClaims(String token) {
-    return Jwts.parser()
-        .verifyWith(rsaKeyManager.getPublicKey())
-        .build()
-        .parseSignedClaims(token)
-        .getPayload();
+  private TokenClaims toTokenClaims(Jws<Claims> jws) {
+    Claims claims = jws.getPayload();
+    String subject = claims.getSubject();
+    String userType = claims.get(CLAIM_USER_TYPE, String.class);
+    if (subject == null || userType == null || claims.getExpiration() == null) {
+      throw new TokenException(TokenErrorCode.INVALID_TOKEN);
+    }
+
+    return TokenClaims.of(
+        UUID.fromString(subject),
+        UserType.valueOf(userType),
+        claims.getExpiration().getTime() / 1000,
+        jws.getHeader().getKeyId());
+  }
+
+  /**
+   * 현재 키 링에 해당하는 서명/검증 객체를 반환한다.
+   *
+   * <p>키 링이 바뀐 경우에만 새로 만든다. 동시에 여러 스레드가 다시 만들 수 있지만 결과가 같으므로 문제없다.
+   */
+  private KeySnapshot currentKeys() {
+    JwtKeyRing keyRing = rsaKeyManager.getKeyRing();
+    JwtAlgorithm algorithm = jwtProperties.getAlgorithm();
+
+    KeySnapshot snapshot = keySnapshot;
+    if (snapshot == null || snapshot.keyRing() != keyRing || snapshot.algorithm() != algorithm) {
+      JwtKey activeKey = keyRing.activeKey();
+      snapshot =
+          new KeySnapshot(
+              keyRing,
+              algorithm,
+              new JwtSigner(
+                  activeKey.keyId(), algorithm, activeKey.privateKey(), jwtProperties.getIssuer()),
+              Jwts.parser().keyLocator(new KeyRingLocator(keyRing)).build(),
+              toVerificationKeys(keyRing));
+      keySnapshot = snapshot;
+      verifiedTokenCache.invalidateAll();
+      log.debug(
+          "JWT 서명/검증 객체 초기화 - activeKeyId: {}, keys: {}",
+          activeKey.keyId(),
+          keyRing.keys().size());
+    }
+    return snapshot;
+  }
+
+  private static Map<String, PublicKey> toVerificationKeys(JwtKeyRing keyRing) {
+    Map<String, PublicKey> keys = new LinkedHashMap<>();
+    for (JwtKey key : keyRing.keys()) {
+      keys.put(key.keyId(), key.publicKey());
+    }
+    return Collections.unmodifiableMap(keys);
+  }
+
+  /** 특정 키 링에 묶인 서명기, 파서, 검증 키 목록. */
+  private record KeySnapshot(
+      JwtKeyRing keyRing,
+      JwtAlgorithm algorithm,
+      JwtSigner signer,
+      JwtParser parser,
+      Map<String, PublicKey> verificationKeys) {}
+
+  /** JWS 헤더의 kid로 키 링에서 검증 키를 찾는다. 없는 kid면 검증에 실패한다. */
+  private static final class KeyRingLocator extends LocatorAdapter<Key> {
+
+    private final JwtKeyRing keyRing;
+
+    private KeyRingLocator(JwtKeyRing keyRing) {
+      this.keyRing = keyRing;
+    }
+
+    @Override
+    protected Key locate(JwsHeader header) {
+      return keyRing.findPublicKey(header.getKeyId());
+    }
   }
 }
@@ -0,0 +1,164 @@
+package com.tickatch.auth_service.global.jwt.infrastructure;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.tickatch.auth_service.token.application.port.out.dto.TokenClaims;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * 서명 검증에 성공한 Access Token의 클레임 캐시.
+ *
+ * <p>같은 토큰이 만료 전까지 여러 번 검증되므로 RS256 검증 결과를 재사용한다.
+ *
+ * <ul>
+ *   <li>키: 토큰의 SHA-256 다이제스트 (원문 토큰은 보관하지 않음)
+ *   <li>만료: 항목마다 토큰의 exp 시각에 제거되며, 조회 시에도 exp를 다시 확인한다
+ *   <li>무효화: 서명 키가 바뀌면 {@link #invalidateAll()}로 세대를 올려 이전 항목을 모두 버린다
+ * </ul>
+ *
+ * <p>검증에 실패한 토큰은 캐시하지 않는다. 조회/적중/제거 지표는 {@code cache.*{cache=jwt.verified-token}}으로
+ * 노출된다.
+ *
+ * @author Tickatch
+ * @since 1.0.0
+ */
+@Slf4j
+@Component
+public class VerifiedTokenCache {
+
+  static final String CACHE_NAME = "jwt.verified-token";
+
+  private static final ThreadLocal<MessageDigest> SHA_256 =
+      ThreadLocal.withInitial(VerifiedTokenCache::newSha256);
+
+  private final boolean enabled;
+  private final Cache<TokenDigest, CachedClaims> cache;
+  private final AtomicLong generation = new AtomicLong();
+
+  public VerifiedTokenCache(JwtProperties jwtProperties, MeterRegistry meterRegistry) {
+    JwtProperties.VerifiedCache properties = jwtProperties.getVerifiedCache();
+    this.enabled = properties.isEnabled();
+    this.cache =
+        Caffeine.newBuilder()
+            .maximumSize(properties.getMaximumSize())
+            .expireAfter(new UntilTokenExpiry())
+            .recordStats()
+            .build();
+    CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+  }
+
+  /**
+   * 캐시된 클레임을 조회한다.
+   *
+   * @param token JWT 토큰
+   * @return 유효한 캐시 항목이 있으면 클레임, 없으면 null
+   */
+  public TokenClaims get(String token) {
+    if (!enabled) {
+      return null;
+    }
+    CachedClaims cached = cache.getIfPresent(TokenDigest.of(token));
+    if (cached == null
+        || cached.generation() != generation.get()
+        || cached.claims().isExpiredAt(nowSeconds())) {
+      return null;
+    }
+    return cached.claims();
+  }
+
+  /**
+   * 현재 세대 값을 반환한다. 검증 시작 전에 읽어 {@link #put}에 넘긴다.
+   *
+   * @return 세대 값
+   */
+  public long generation() {
+    return generation.get();
+  }
+
+  /**
+   * 검증에 성공한 토큰의 클레임을 저장한다.
+   *
+   * <p>검증 도중 키가 바뀌어 세대가 달라졌다면 저장하지 않는다.
+   *
+   * @param token JWT 토큰
+   * @param claims 검증된 클레임
+   * @param verifiedGeneration 검증 시작 시점의 세대 값
+   */
+  public void put(String token, TokenClaims claims, long verifiedGeneration) {
+    if (!enabled
+        || verifiedGeneration != generation.get()
+        || claims.isExpiredAt(nowSeconds())) {
+      return;
+    }
+    cache.put(TokenDigest.of(token), new CachedClaims(claims, verifiedGeneration));
+  }
+
+  /** 모든 항목을 무효화한다. 서명 키가 바뀌었을 때 호출한다. */
+  public void invalidateAll() {
+    generation.incrementAndGet();
+    cache.invalidateAll();
+    log.debug("검증 토큰 캐시 무효화");
+  }
+
+  long estimatedSize() {
+    cache.cleanUp();
+    return cache.estimatedSize();
+  }
+
+  private static long nowSeconds() {
+    return System.currentTimeMillis() / 1000;
+  }
+
+  private static MessageDigest newSha256() {
+    try {
+      return MessageDigest.getInstance("SHA-256");
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException("SHA-256 알고리즘을 사용할 수 없습니다.", e);
+    }
+  }
+
+  /** 토큰 SHA-256 다이제스트. 256비트를 long 네 개로 보관해 배열 복사 없이 비교한다. */
+  private record TokenDigest(long w0, long w1, long w2, long w3) {
+
+    static TokenDigest of(String token) {
+      byte[] digest = SHA_256.get().digest(token.getBytes(StandardCharsets.UTF_8));
+      ByteBuffer buffer = ByteBuffer.wrap(digest);
+      return new TokenDigest(
+          buffer.getLong(), buffer.getLong(), buffer.getLong(), buffer.getLong());
+    }
+  }
+
+  private record CachedClaims(TokenClaims claims, long generation) {}
+
+  /** 항목을 토큰의 exp 시각까지만 보관한다. */
+  private static final class UntilTokenExpiry implements Expiry<TokenDigest, CachedClaims> {
+
+    @Override
+    public long expireAfterCreate(TokenDigest key, CachedClaims value, long currentTime) {
+      long remainingSeconds = value.claims().expiresAt() - nowSeconds();
+      return TimeUnit.SECONDS.toNanos(Math.max(0, remainingSeconds));
+    }
+
+    @Override
+    public long expireAfterUpdate(
+        TokenDigest key, CachedClaims value, long currentTime, long currentDuration) {
+      return expireAfterCreate(key, value, currentTime);
+    }
+
+    @Override
+    public long expireAfterRead(
+        TokenDigest key, CachedClaims value, long currentTime, long currentDuration) {
+      return currentDuration;
+    }
+  }
+}
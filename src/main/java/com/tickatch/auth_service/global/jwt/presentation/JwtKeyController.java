@@ -1,11 +1,27 @@
 package com.tickatch.auth_service.global.jwt.presentation;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.tickatch.auth_service.global.jwt.infrastructure.JwtProperties;
 import com.tickatch.auth_service.token.application.port.out.TokenProvider;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.PublicKey;
+import java.security.interfaces.ECPublicKey;
+import java.security.interfaces.EdECPublicKey;
 import java.security.interfaces.RSAPublicKey;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Base64;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RestController;
@@ -17,6 +33,11 @@ import org.springframework.web.bind.annotation.RestController;
  *
  * <p>Public Key만 노출하므로 외부에 공개되어도 안전하다.
  *
+ * <p>키 종류에 따라 RSA(RS256), EC P-256(ES256), OKP Ed25519(EdDSA, RFC 8037) 형식으로 제공한다.
+ *
+ * <p>JWKS와 PEM 응답은 키 구성이 바뀔 때만 바이트 배열로 직렬화해 두고 재사용한다. 응답에는 본문 해시로 만든 강한 ETag와
+ * {@code Cache-Control: max-age}를 붙이며, {@code If-None-Match}가 일치하면 본문 없이 304를 반환한다.
+ *
  * @author Tickatch
  * @since 1.0.0
  * @see <a href="https://tools.ietf.org/html/rfc7517">RFC 7517 - JSON Web Key</a>
@@ -25,7 +46,18 @@ import org.springframework.web.bind.annotation.RestController;
 @RequiredArgsConstructor
 public class JwtKeyController {
 
+  private static final int EC_P256_COORDINATE_LENGTH = 32;
+  private static final int ED25519_KEY_LENGTH = 32;
+
+  private static final MediaType PEM_MEDIA_TYPE =
+      new MediaType("text", "plain", StandardCharsets.US_ASCII);
+
   private final TokenProvider tokenProvider;
+  private final ObjectMapper objectMapper;
+  private final JwtProperties jwtProperties;
+
+  /* 현재 키 구성으로 직렬화한 응답. 키 구성이 바뀌면 교체된다. */
+  private volatile PublishedKeys publishedKeys;
 
   /**
    * JWKS (JSON Web Key Set)를 반환한다.
@@ -47,30 +79,21 @@ public class JwtKeyController {
    * }
    * </pre>
    *
+   * <p>키 로테이션 중에는 활성 키와 보관 중인 이전 키를 모두 반환한다(활성 키가 먼저).
+   *
+   * <p>EC 키는 {@code kty=EC, crv=P-256, x, y}, Ed25519 키는 {@code kty=OKP, crv=Ed25519, x}로 제공한다.
+   *
    * @return JWKS 응답
    */
   @GetMapping("/.well-known/jwks.json")
-  public ResponseEntity<Map<String, Object>> getJwks() {
-    RSAPublicKey publicKey = tokenProvider.getPublicKey();
-
-    Map<String, Object> jwk =
-        Map.of(
-            "kty",
-            "RSA",
-            "alg",
-            "RS256",
-            "use",
-            "sig",
-            "kid",
-            tokenProvider.getKeyId(),
-            "n",
-            base64UrlEncode(publicKey.getModulus().toByteArray()),
-            "e",
-            base64UrlEncode(publicKey.getPublicExponent().toByteArray()));
-
-    Map<String, Object> jwks = Map.of("keys", List.of(jwk));
-
-    return ResponseEntity.ok(jwks);
+  public ResponseEntity<byte[]> getJwks() {
+    PublishedKeys published = currentPublishedKeys();
+
+    return ResponseEntity.ok()
+        .contentType(MediaType.APPLICATION_JSON)
+        .cacheControl(cacheControl())
+        .eTag(published.jwksEtag())
+        .body(published.jwks());
   }
 
   /**
@@ -81,11 +104,115 @@ public class JwtKeyController {
    * @return PEM 형식의 Public Key
    */
   @GetMapping("/.well-known/public-key.pem")
-  public ResponseEntity<String> getPublicKeyPem() {
-    RSAPublicKey publicKey = tokenProvider.getPublicKey();
-    String pem = toPemFormat(publicKey.getEncoded());
+  public ResponseEntity<byte[]> getPublicKeyPem() {
+    PublishedKeys published = currentPublishedKeys();
 
-    return ResponseEntity.ok(pem);
+    return ResponseEntity.ok()
+        .contentType(PEM_MEDIA_TYPE)
+        .cacheControl(cacheControl())
+        .eTag(published.pemEtag())
+        .body(published.pem());
+  }
+
+  /**
+   * 현재 키 구성의 직렬화된 응답을 반환한다.
+   *
+   * <p>{@link TokenProvider#getVerificationKeys()}는 키 구성이 같으면 같은 인스턴스를 반환하므로 참조 비교로 변경을 감지한다.
+   * 동시에 여러 스레드가 다시 만들 수 있지만 결과가 같으므로 문제없다.
+   */
+  private PublishedKeys currentPublishedKeys() {
+    Map<String, PublicKey> verificationKeys = tokenProvider.getVerificationKeys();
+
+    PublishedKeys published = publishedKeys;
+    if (published == null || published.source() != verificationKeys) {
+      published = publish(verificationKeys);
+      publishedKeys = published;
+    }
+    return published;
+  }
+
+  private PublishedKeys publish(Map<String, PublicKey> verificationKeys) {
+    List<Map<String, Object>> keys = new ArrayList<>();
+    verificationKeys.forEach((keyId, key) -> keys.add(toJwk(key, keyId)));
+
+    byte[] jwks;
+    try {
+      jwks = objectMapper.writeValueAsBytes(Map.of("keys", keys));
+    } catch (JsonProcessingException e) {
+      throw new IllegalStateException("JWKS 직렬화 실패", e);
+    }
+    // 활성 키가 먼저 오므로 첫 번째 키를 PEM으로 제공한다.
+    PublicKey activeKey = verificationKeys.values().iterator().next();
+    byte[] pem = toPemFormat(activeKey.getEncoded()).getBytes(StandardCharsets.US_ASCII);
+
+    return new PublishedKeys(verificationKeys, jwks, etag(jwks), pem, etag(pem));
+  }
+
+  private CacheControl cacheControl() {
+    return CacheControl.maxAge(jwtProperties.getJwks().getMaxAge()).cachePublic();
+  }
+
+  /** 본문 SHA-256 앞 16바이트로 강한 ETag 값을 만든다. */
+  private String etag(byte[] body) {
+    try {
+      byte[] digest = MessageDigest.getInstance("SHA-256").digest(body);
+      return "\"" + HexFormat.of().formatHex(digest, 0, 16) + "\"";
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException("SHA-256 알고리즘을 사용할 수 없습니다.", e);
+    }
+  }
+
+  /** Public Key 종류에 맞는 JWK를 만든다. */
+  private Map<String, Object> toJwk(PublicKey publicKey, String keyId) {
+    Map<String, Object> jwk = new LinkedHashMap<>();
+
+    if (publicKey instanceof RSAPublicKey rsaKey) {
+      jwk.put("kty", "RSA");
+      jwk.put("alg", "RS256");
+      putCommon(jwk, keyId);
+      jwk.put("n", base64UrlEncode(rsaKey.getModulus().toByteArray()));
+      jwk.put("e", base64UrlEncode(rsaKey.getPublicExponent().toByteArray()));
+    } else if (publicKey instanceof ECPublicKey ecKey) {
+      jwk.put("kty", "EC");
+      jwk.put("alg", "ES256");
+      putCommon(jwk, keyId);
+      jwk.put("crv", "P-256");
+      jwk.put("x", base64UrlEncodeRaw(toFixedLength(ecKey.getW().getAffineX())));
+      jwk.put("y", base64UrlEncodeRaw(toFixedLength(ecKey.getW().getAffineY())));
+    } else if (publicKey instanceof EdECPublicKey) {
+      // X.509 인코딩의 마지막 32바이트가 RFC 8032 형식의 공개키이다.
+      byte[] encoded = publicKey.getEncoded();
+      jwk.put("kty", "OKP");
+      jwk.put("alg", "EdDSA");
+      putCommon(jwk, keyId);
+      jwk.put("crv", "Ed25519");
+      jwk.put(
+          "x",
+          base64UrlEncodeRaw(
+              Arrays.copyOfRange(encoded, encoded.length - ED25519_KEY_LENGTH, encoded.length)));
+    } else {
+      throw new IllegalStateException("지원하지 않는 키 종류: " + publicKey.getAlgorithm());
+    }
+
+    return jwk;
+  }
+
+  private void putCommon(Map<String, Object> jwk, String keyId) {
+    jwk.put("use", "sig");
+    jwk.put("kid", keyId);
+  }
+
+  /** EC 좌표를 고정 길이(32바이트) 빅엔디언 바이트 배열로 변환한다. */
+  private byte[] toFixedLength(BigInteger coordinate) {
+    byte[] bytes = coordinate.toByteArray();
+    if (bytes.length == EC_P256_COORDINATE_LENGTH) {
+      return bytes;
+    }
+    byte[] fixed = new byte[EC_P256_COORDINATE_LENGTH];
+    int length = Math.min(bytes.length, EC_P256_COORDINATE_LENGTH);
+    int offset = EC_P256_COORDINATE_LENGTH - length;
+    System.arraycopy(bytes, bytes.length - length, fixed, offset, length);
+    return fixed;
   }
 
   /**
@@ -103,6 +230,11 @@ public class JwtKeyController {
     return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
   }
 
+  /** 고정 길이 값을 그대로 Base64 URL 인코딩한다 (선행 0 바이트 유지). */
+  private String base64UrlEncodeRaw(byte[] bytes) {
+    return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+  }
+
   /** 바이트 배열을 PEM 형식으로 변환한다. */
   private String toPemFormat(byte[] keyBytes) {
     String base64 = Base64.getEncoder().encodeToString(keyBytes);
@@ -117,4 +249,8 @@ public class JwtKeyController {
 
     return pem.toString();
   }
+
+  /** 키 구성 하나에 대해 직렬화한 JWKS/PEM 응답과 ETag. */
+  private record PublishedKeys(
+      Map<String, PublicKey> source, byte[] jwks, String jwksEtag, byte[] pem, String pemEtag) {}
 }
@@ -0,0 +1,177 @@
+package com.tickatch.auth_service.global.password.infrastructure;
+
+import com.tickatch.auth_service.auth.domain.exception.AuthErrorCode;
+import com.tickatch.auth_service.auth.domain.exception.AuthException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+/**
+ * 전용 스레드 풀에서 해싱을 수행하는 PasswordEncoder 데코레이터.
+ *
+ * <p>BCrypt 해싱/검증은 요청당 수십~수백 ms의 CPU를 쓴다. 요청 스레드에서 직접 수행하면 로그인 폭주 시 모든 서블릿 스레드가
+ * 해싱에 묶여 JWKS 조회 같은 가벼운 요청까지 지연된다. 이 클래스는 해싱을 고정 크기 스레드 풀과 유한 큐로 제한한다.
+ *
+ * <ul>
+ *   <li>큐가 가득 차면 대기하지 않고 {@link AuthErrorCode#PASSWORD_HASHING_UNAVAILABLE}(503)로 즉시 실패한다
+ *   <li>큐 대기를 포함해 {@link PasswordHashingProperties#getTimeout()} 안에 끝나지 않아도 같은 에러로 실패한다
+ *   <li>{@link #upgradeEncoding(String)}은 해싱이 없으므로 호출 스레드에서 바로 위임한다
+ * </ul>
+ *
+ * <p>지표:
+ *
+ * <ul>
+ *   <li>{@code password.hashing.wait}: 큐 대기 시간
+ *   <li>{@code password.hashing.duration{operation=encode|matches}}: 해싱 수행 시간
+ *   <li>{@code password.hashing.rejected{reason=saturated|timeout}}: 거절 횟수
+ *   <li>{@code executor.queued{name=password.hashing}} 등: 큐 깊이, 활성 스레드 수
+ * </ul>
+ *
+ * @author Tickatch
+ * @since 1.0.0
+ */
+@Slf4j
+public class BoundedPasswordEncoder implements PasswordEncoder, AutoCloseable {
+
+  static final String METRIC_PREFIX = "password.hashing";
+
+  private final PasswordEncoder delegate;
+  private final ThreadPoolExecutor executor;
+  private final Duration timeout;
+  private final Timer waitTimer;
+  private final Timer encodeTimer;
+  private final Timer matchesTimer;
+  private final Counter saturatedCounter;
+  private final Counter timeoutCounter;
+
+  public BoundedPasswordEncoder(
+      PasswordEncoder delegate, PasswordHashingProperties properties, MeterRegistry registry) {
+    this.delegate = delegate;
+    this.timeout = properties.getTimeout();
+    this.executor =
+        new ThreadPoolExecutor(
+            properties.getThreads(),
+            properties.getThreads(),
+            0L,
+            TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(properties.getQueueCapacity()),
+            new HashingThreadFactory(),
+            new ThreadPoolExecutor.AbortPolicy());
+    ExecutorServiceMetrics.monitor(registry, executor, METRIC_PREFIX);
+
+    this.waitTimer =
+        Timer.builder(METRIC_PREFIX + ".wait")
+            .description("비밀번호 해싱 큐 대기 시간")
+            .register(registry);
+    this.encodeTimer = durationTimer(registry, "encode");
+    this.matchesTimer = durationTimer(registry, "matches");
+    this.saturatedCounter = rejectedCounter(registry, "saturated");
+    this.timeoutCounter = rejectedCounter(registry, "timeout");
+  }
+
+  @Override
+  public String encode(CharSequence rawPassword) {
+    return execute(encodeTimer, () -> delegate.encode(rawPassword));
+  }
+
+  @Override
+  public boolean matches(CharSequence rawPassword, String encodedPassword) {
+    return execute(matchesTimer, () -> delegate.matches(rawPassword, encodedPassword));
+  }
+
+  @Override
+  public boolean upgradeEncoding(String encodedPassword) {
+    return delegate.upgradeEncoding(encodedPassword);
+  }
+
+  /** 해싱 스레드 풀을 종료한다. 빈 소멸 시 호출된다. */
+  @Override
+  public void close() {
+    executor.shutdown();
+  }
+
+  /**
+   * 작업을 해싱 스레드 풀에서 실행하고 결과를 기다린다.
+   *
+   * @throws AuthException 큐가 가득 찼거나 제한 시간 안에 끝나지 않은 경우
+   */
+  private <T> T execute(Timer timer, Callable<T> task) {
+    long submittedAt = System.nanoTime();
+    Future<T> future;
+    try {
+      future =
+          executor.submit(
+              () -> {
+                waitTimer.record(System.nanoTime() - submittedAt, TimeUnit.NANOSECONDS);
+                return timer.recordCallable(task);
+              });
+    } catch (RejectedExecutionException e) {
+      saturatedCounter.increment();
+      log.warn("비밀번호 해싱 큐 포화 - queued: {}", executor.getQueue().size());
+      throw new AuthException(AuthErrorCode.PASSWORD_HASHING_UNAVAILABLE);
+    }
+
+    try {
+      return future.get(timeout.toNanos(), TimeUnit.NANOSECONDS);
+    } catch (TimeoutException e) {
+      future.cancel(true);
+      timeoutCounter.increment();
+      log.warn("비밀번호 해싱 시간 초과 - timeout: {}", timeout);
+      throw new AuthException(AuthErrorCode.PASSWORD_HASHING_UNAVAILABLE);
+    } catch (InterruptedException e) {
+      future.cancel(true);
+      Thread.currentThread().interrupt();
+      throw new AuthException(AuthErrorCode.PASSWORD_HASHING_UNAVAILABLE);
+    } catch (ExecutionException e) {
+      Throwable cause = e.getCause();
+      if (cause instanceof RuntimeException runtimeException) {
+        throw runtimeException;
+      }
+      if (cause instanceof Error error) {
+        throw error;
+      }
+      throw new IllegalStateException("비밀번호 해싱 실패", cause);
+    }
+  }
+
+  private static Timer durationTimer(MeterRegistry registry, String operation) {
+    return Timer.builder(METRIC_PREFIX + ".duration")
+        .description("비밀번호 해싱 수행 시간")
+        .tag("operation", operation)
+        .register(registry);
+  }
+
+  private static Counter rejectedCounter(MeterRegistry registry, String reason) {
+    return Counter.builder(METRIC_PREFIX + ".rejected")
+        .description("비밀번호 해싱 거절 횟수")
+        .tag("reason", reason)
+        .register(registry);
+  }
+
+  /** 해싱 스레드 이름을 password-hash-N으로 지정한다. */
+  private static final class HashingThreadFactory implements ThreadFactory {
+
+    private final AtomicInteger sequence = new AtomicInteger();
+
+    @Override
+    public Thread newThread(Runnable runnable) {
+      Thread thread = new Thread(runnable, "password-hash-" + sequence.incrementAndGet());
+      thread.setDaemon(true);
+      return thread;
+    }
+  }
+}
@@ -0,0 +1,36 @@
+package com.tickatch.auth_service.global.password.infrastructure;
+
+import java.util.UUID;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+/**
+ * 존재하지 않는 계정의 로그인에 쓰는 더미 해시.
+ *
+ * <p>계정이 없을 때 해싱 없이 바로 실패하면, 있는 계정과 없는 계정의 응답 시간이 수십~수백 ms 차이 나 지연 분포가 둘로
+ * 갈리고 이메일 존재 여부도 드러난다. 기동 시 현재 알고리즘/설정으로 해시 하나를 만들어 두고, 계정이 없을 때 이 해시로
+ * 검증해 모든 로그인 시도가 같은 해싱 비용을 갖게 한다.
+ *
+ * @author Tickatch
+ * @since 1.0.0
+ */
+@Component
+public class DummyPasswordHash {
+
+  private final PasswordEncoder passwordEncoder;
+  private final String encoded;
+
+  public DummyPasswordHash(PasswordEncoder passwordEncoder) {
+    this.passwordEncoder = passwordEncoder;
+    this.encoded = passwordEncoder.encode(UUID.randomUUID().toString());
+  }
+
+  /**
+   * 더미 해시로 비밀번호를 검증한다. 결과는 항상 불일치이며, 실제 계정 검증과 같은 비용을 쓰는 것이 목적이다.
+   *
+   * @param rawPassword 요청의 원본 비밀번호
+   */
+  public void verify(String rawPassword) {
+    passwordEncoder.matches(rawPassword == null ? "" : rawPassword, encoded);
+  }
+}
@@ -0,0 +1,23 @@
+package com.tickatch.auth_service.global.password.infrastructure;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 비밀번호 해싱 알고리즘.
+ *
+ * <p>{@link #getId()}는 저장되는 해시의 접두사({@code {id}})이다. 저장된 해시의 접두사로 검증 알고리즘을 고르므로 값을 바꾸면
+ * 기존 해시를 검증할 수 없다.
+ *
+ * @author Tickatch
+ * @since 1.0.0
+ */
+@Getter
+@RequiredArgsConstructor
+public enum PasswordAlgorithm {
+  BCRYPT("bcrypt"),
+  ARGON2ID("argon2"),
+  SCRYPT("scrypt");
+
+  private final String id;
+}
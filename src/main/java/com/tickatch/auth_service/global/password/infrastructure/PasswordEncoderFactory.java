@@ -0,0 +1,117 @@
+package com.tickatch.auth_service.global.password.infrastructure;
+
+import java.util.HashMap;
+import java.util.Map;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.crypto.argon2.Argon2PasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.crypto.scrypt.SCryptPasswordEncoder;
+
+/**
+ * 알고리즘 접두사({@code {bcrypt}}, {@code {argon2}}, {@code {scrypt}})로 해시를 구분하는 PasswordEncoder를 만든다.
+ *
+ * <p>새 해시는 {@link PasswordHashingProperties#getAlgorithm()}으로 만들고, 검증은 저장된 해시의 접두사로 알고리즘을 골라
+ * 한다. 알고리즘을 바꿔도 기존 해시는 그대로 검증되며, 로그인 시 {@link PasswordEncoder#upgradeEncoding(String)}이 true를
+ * 반환하므로 새 알고리즘으로 다시 해싱된다. 접두사 없이 저장된 기존 BCrypt 해시도 같은 방식으로 바뀐다.
+ *
+ * <p>같은 알고리즘이라도 설정값(cost, 메모리, 반복 횟수)이 현재보다 낮은 해시는 재해싱 대상이다. BCrypt는 cost가 목표보다
+ * 높아도 재해싱한다.
+ *
+ * <p>BCrypt cost는 {@link PasswordHashingProperties.Bcrypt#getTimeBudget()}이 없으면 설정값을 그대로 쓰고, 있으면 기동
+ * 시 이 서버에서 해싱 1회가 예산 안에 끝나는 가장 높은 cost를 측정해 쓴다.
+ *
+ * @author Tickatch
+ * @since 1.0.0
+ */
+@Slf4j
+public final class PasswordEncoderFactory {
+
+  /* 측정용 비밀번호 - 길이만 실제 비밀번호와 비슷하면 된다 */
+  private static final String CALIBRATION_PASSWORD = "calibration-Password1!";
+
+  /* cost별 측정 횟수 - 최솟값을 써서 JIT/GC 잡음을 줄인다 */
+  private static final int CALIBRATION_ROUNDS = 3;
+
+  private PasswordEncoderFactory() {}
+
+  /**
+   * 설정에 맞는 PasswordEncoder를 만든다.
+   *
+   * @param properties 비밀번호 해싱 설정
+   * @return 접두사 기반 위임 PasswordEncoder
+   */
+  public static PasswordEncoder create(PasswordHashingProperties properties) {
+    PasswordAlgorithm algorithm = properties.getAlgorithm();
+    int cost =
+        algorithm == PasswordAlgorithm.BCRYPT
+            ? resolveBcryptCost(properties.getBcrypt())
+            : properties.getBcrypt().getCost();
+    TargetCostBCryptPasswordEncoder bcrypt = new TargetCostBCryptPasswordEncoder(cost);
+
+    Map<String, PasswordEncoder> encoders = new HashMap<>();
+    encoders.put(PasswordAlgorithm.BCRYPT.getId(), bcrypt);
+    encoders.put(PasswordAlgorithm.ARGON2ID.getId(), argon2(properties.getArgon2()));
+    encoders.put(PasswordAlgorithm.SCRYPT.getId(), scrypt(properties.getScrypt()));
+    log.info("비밀번호 해싱 알고리즘: {}, BCrypt cost: {}", algorithm, cost);
+
+    DelegatingPasswordEncoder delegating =
+        new DelegatingPasswordEncoder(algorithm.getId(), encoders);
+    delegating.setDefaultPasswordEncoderForMatches(bcrypt);
+    return delegating;
+  }
+
+  private static PasswordEncoder argon2(PasswordHashingProperties.Argon2 argon2) {
+    return new Argon2PasswordEncoder(
+        argon2.getSaltLength(),
+        argon2.getHashLength(),
+        argon2.getParallelism(),
+        argon2.getMemoryKib(),
+        argon2.getIterations());
+  }
+
+  private static PasswordEncoder scrypt(PasswordHashingProperties.Scrypt scrypt) {
+    return new SCryptPasswordEncoder(
+        scrypt.getCpuCost(),
+        scrypt.getBlockSize(),
+        scrypt.getParallelization(),
+        scrypt.getKeyLength(),
+        scrypt.getSaltLength());
+  }
+
+  /**
+   * 목표 BCrypt cost를 정한다.
+   *
+   * <p>시간 예산이 있으면 설정 cost부터 {@code maxCost}까지 한 단계씩 올리며 해싱 시간을 측정하고, 예산 안에 끝난 가장 높은
+   * cost를 고른다. BCrypt는 cost가 1 오를 때마다 시간이 두 배가 되므로 예산을 넘으면 바로 멈춘다. 설정 cost부터 예산을 넘으면
+   * 설정 cost를 쓴다.
+   */
+  static int resolveBcryptCost(PasswordHashingProperties.Bcrypt bcrypt) {
+    if (bcrypt.getTimeBudget() == null) {
+      return bcrypt.getCost();
+    }
+
+    long budgetNanos = bcrypt.getTimeBudget().toNanos();
+    int selected = bcrypt.getCost();
+    for (int cost = bcrypt.getCost(); cost <= bcrypt.getMaxCost(); cost++) {
+      long elapsed = measureNanos(cost);
+      log.debug("BCrypt cost 측정 - cost: {}, elapsed: {}ms", cost, elapsed / 1_000_000);
+      if (elapsed > budgetNanos) {
+        break;
+      }
+      selected = cost;
+    }
+    return selected;
+  }
+
+  private static long measureNanos(int cost) {
+    TargetCostBCryptPasswordEncoder encoder = new TargetCostBCryptPasswordEncoder(cost);
+    long best = Long.MAX_VALUE;
+    for (int i = 0; i < CALIBRATION_ROUNDS; i++) {
+      long startedAt = System.nanoTime();
+      encoder.encode(CALIBRATION_PASSWORD);
+      best = Math.min(best, System.nanoTime() - startedAt);
+    }
+    return best;
+  }
+}
@@ -0,0 +1,102 @@
+package com.tickatch.auth_service.global.password.infrastructure;
+
+import java.time.Duration;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 비밀번호 해싱 설정 프로퍼티.
+ *
+ * <p>application.yml의 password.hashing.* 설정을 바인딩한다.
+ *
+ * @author Tickatch
+ * @since 1.0.0
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "password.hashing")
+public class PasswordHashingProperties {
+
+  /** 해싱 전용 스레드 수 (기본: CPU 코어 수). */
+  private int threads = Runtime.getRuntime().availableProcessors();
+
+  /** 대기 큐 용량. 가득 차면 즉시 거절한다. */
+  private int queueCapacity = 64;
+
+  /** 해싱 결과를 기다리는 최대 시간 (큐 대기 포함). */
+  private Duration timeout = Duration.ofSeconds(3);
+
+  /**
+   * 저장된 해시의 알고리즘/cost 분포 지표 집계 시각 (cron). 모든 인스턴스가 같은 시각에 깨어나 한 인스턴스만 집계한다. 주기는
+   * 분 단위로 구분하므로 1분에 한 번보다 자주 돌리지 않는다.
+   */
+  private String metricsCron = "0 */10 * * * *";
+
+  /** 새 해시에 쓸 알고리즘. 다른 알고리즘으로 저장된 해시도 검증되며 로그인 시 이 알고리즘으로 다시 해싱된다. */
+  private PasswordAlgorithm algorithm = PasswordAlgorithm.BCRYPT;
+
+  /** BCrypt 설정. */
+  private Bcrypt bcrypt = new Bcrypt();
+
+  /** Argon2id 설정. */
+  private Argon2 argon2 = new Argon2();
+
+  /** scrypt 설정. */
+  private Scrypt scrypt = new Scrypt();
+
+  @Getter
+  @Setter
+  public static class Bcrypt {
+    /** 목표 cost. {@link #timeBudget}을 지정하면 측정의 최소 cost로 쓴다. */
+    private int cost = 10;
+
+    /** 해싱 1회 목표 시간. 지정하면 기동 시 이 시간 안에 끝나는 가장 높은 cost를 측정해 쓴다. */
+    private Duration timeBudget;
+
+    /** 측정으로 고를 수 있는 최대 cost. */
+    private int maxCost = 14;
+  }
+
+  /** 기본값은 OWASP Password Storage Cheat Sheet의 권장 최소값(m=19MiB, t=2, p=1)이다. */
+  @Getter
+  @Setter
+  public static class Argon2 {
+    /** 메모리 사용량 (KiB). 해싱 스레드마다 이만큼 쓴다. */
+    private int memoryKib = 19 * 1024;
+
+    /** 반복 횟수. */
+    private int iterations = 2;
+
+    /** 병렬도 (lane 수). */
+    private int parallelism = 1;
+
+    /** salt 길이 (바이트). */
+    private int saltLength = 16;
+
+    /** 해시 길이 (바이트). */
+    private int hashLength = 32;
+  }
+
+  /** 메모리 사용량은 128 * cpuCost * blockSize 바이트이다 (기본 64MiB). */
+  @Getter
+  @Setter
+  public static class Scrypt {
+    /** CPU/메모리 비용 N (2의 거듭제곱). */
+    private int cpuCost = 65536;
+
+    /** 블록 크기 r. */
+    private int blockSize = 8;
+
+    /** 병렬도 p. */
+    private int parallelization = 1;
+
+    /** salt 길이 (바이트). */
+    private int saltLength = 16;
+
+    /** 키 길이 (바이트). */
+    private int keyLength = 32;
+  }
+}
@@ -0,0 +1,51 @@
+package com.tickatch.auth_service.global.password.infrastructure;
+
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+/**
+ * 목표 cost와 다른 해시를 재해싱 대상으로 판단하는 BCryptPasswordEncoder.
+ *
+ * <p>기본 {@link BCryptPasswordEncoder#upgradeEncoding(String)}은 cost가 낮은 해시만 재해싱 대상으로 본다. cost를 낮춰
+ * 로그인 CPU 비용을 줄이는 경우도 있으므로, 목표보다 높거나 낮으면 모두 재해싱한다.
+ *
+ * @author Tickatch
+ * @since 1.0.0
+ */
+public class TargetCostBCryptPasswordEncoder extends BCryptPasswordEncoder {
+
+  private static final Pattern BCRYPT_PATTERN =
+      Pattern.compile("\\A\\$2([ayb])?\\$(\\d\\d)\\$[./0-9A-Za-z]{53}");
+
+  private final int targetCost;
+
+  public TargetCostBCryptPasswordEncoder(int targetCost) {
+    super(targetCost);
+    this.targetCost = targetCost;
+  }
+
+  /**
+   * BCrypt 해시의 cost를 읽는다.
+   *
+   * @param encodedPassword BCrypt 해시 (접두사 없음)
+   * @return cost, BCrypt 해시가 아니면 -1
+   */
+  public static int costOf(String encodedPassword) {
+    if (encodedPassword == null) {
+      return -1;
+    }
+    Matcher matcher = BCRYPT_PATTERN.matcher(encodedPassword);
+    return matcher.matches() ? Integer.parseInt(matcher.group(2)) : -1;
+  }
+
+  @Override
+  public boolean upgradeEncoding(String encodedPassword) {
+    int cost = costOf(encodedPassword);
+    return cost != -1 && cost != targetCost;
+  }
+
+  public int getTargetCost() {
+    return targetCost;
+  }
+}
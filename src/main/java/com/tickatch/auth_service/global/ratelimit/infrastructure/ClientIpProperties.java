@@ -0,0 +1,40 @@
+package com.tickatch.auth_service.global.ratelimit.infrastructure;
+
+import java.util.ArrayList;
+import java.util.List;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 클라이언트 IP 판별 설정 프로퍼티.
+ *
+ * <p>application.yml의 rate-limit.client-ip.* 설정을 바인딩한다.
+ *
+ * @author Tickatch
+ * @since 1.0.0
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "rate-limit.client-ip")
+public class ClientIpProperties {
+
+  /** 원 IP를 전달하는 헤더. */
+  private String forwardedHeader = "X-Forwarded-For";
+
+  /**
+   * 전달 헤더를 믿을 프록시(Gateway, 로드 밸런서) 주소 대역 (CIDR). 직접 연결한 주소가 이 대역이 아니면 헤더를 무시한다. 기본값은
+   * 사설/루프백 대역이다.
+   */
+  private List<String> trustedProxies =
+      new ArrayList<>(
+          List.of(
+              "10.0.0.0/8",
+              "172.16.0.0/12",
+              "192.168.0.0/16",
+              "127.0.0.0/8",
+              "::1/128",
+              "fc00::/7"));
+}
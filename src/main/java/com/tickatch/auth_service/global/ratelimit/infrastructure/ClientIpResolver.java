@@ -0,0 +1,90 @@
+package com.tickatch.auth_service.global.ratelimit.infrastructure;
+
+import jakarta.servlet.http.HttpServletRequest;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.regex.Pattern;
+import org.springframework.security.web.util.matcher.IpAddressMatcher;
+import org.springframework.stereotype.Component;
+
+/**
+ * 요청 제한에 쓸 클라이언트 IP 판별기.
+ *
+ * <p>이 서비스는 Gateway 뒤에 있으므로 {@link HttpServletRequest#getRemoteAddr()}는 Gateway 주소다. 그대로 쓰면 모든
+ * 사용자가 한 IP 버킷을 나눠 써서 IP별 한도가 클러스터 전체 한도가 된다.
+ *
+ * <p>직접 연결한 주소가 신뢰 프록시({@code rate-limit.client-ip.trusted-proxies})일 때만 {@code X-Forwarded-For}를
+ * 오른쪽(가장 가까운 홉)부터 읽어, 신뢰 프록시가 아닌 첫 주소를 클라이언트 IP로 쓴다. 헤더 왼쪽은 클라이언트가 마음대로 채울 수
+ * 있으므로 신뢰 프록시가 덧붙인 부분만 본다. 신뢰 프록시가 아닌 곳에서 직접 온 요청의 헤더는 무시한다.
+ *
+ * <p>IP 형식이 아닌 값은 호스트 이름 조회를 피하기 위해 주소로 해석하지 않고, 그 앞 홉에서 멈춘다.
+ *
+ * @author Tickatch
+ * @since 1.0.0
+ */
+@Component
+public class ClientIpResolver {
+
+  /* IPv4 또는 IPv6 리터럴 (호스트 이름 제외) */
+  private static final Pattern IP_LITERAL =
+      Pattern.compile(
+          "^(\\d{1,3}(\\.\\d{1,3}){3}|[0-9A-Fa-f:]*:[0-9A-Fa-f:]*(:\\d{1,3}(\\.\\d{1,3}){3})?)$");
+
+  private final String forwardedHeader;
+  private final List<IpAddressMatcher> trustedProxies;
+
+  public ClientIpResolver(ClientIpProperties properties) {
+    this.forwardedHeader = properties.getForwardedHeader();
+    this.trustedProxies =
+        properties.getTrustedProxies().stream().map(IpAddressMatcher::new).toList();
+  }
+
+  /**
+   * 요청의 클라이언트 IP를 구한다.
+   *
+   * @param request HTTP 요청
+   * @return 클라이언트 IP
+   */
+  public String resolve(HttpServletRequest request) {
+    String client = request.getRemoteAddr();
+    if (!isTrustedProxy(client)) {
+      return client;
+    }
+    List<String> hops = forwardedHops(request);
+    for (int i = hops.size() - 1; i >= 0; i--) {
+      String hop = hops.get(i);
+      if (!IP_LITERAL.matcher(hop).matches()) {
+        break;
+      }
+      client = hop;
+      if (!isTrustedProxy(hop)) {
+        break;
+      }
+    }
+    return client;
+  }
+
+  private List<String> forwardedHops(HttpServletRequest request) {
+    List<String> hops = new ArrayList<>();
+    for (String header : Collections.list(request.getHeaders(forwardedHeader))) {
+      for (String hop : header.split(",")) {
+        if (!hop.isBlank()) {
+          hops.add(hop.strip());
+        }
+      }
+    }
+    return hops;
+  }
+
+  private boolean isTrustedProxy(String address) {
+    if (address == null || !IP_LITERAL.matcher(address).matches()) {
+      return false;
+    }
+    try {
+      return trustedProxies.stream().anyMatch(matcher -> matcher.matches(address));
+    } catch (IllegalArgumentException e) {
+      return false;
+    }
+  }
+}
@@ -0,0 +1,65 @@
+package com.tickatch.auth_service.global.ratelimit.infrastructure;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 클러스터 요청 제한 설정 프로퍼티.
+ *
+ * <p>application.yml의 rate-limit.cluster.* 설정을 바인딩한다.
+ *
+ * @author Tickatch
+ * @since 1.0.0
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "rate-limit.cluster")
+public class ClusterRateLimitProperties {
+
+  static final String LOGIN_ACCOUNT = "login-account";
+  static final String LOGIN_IP = "login-ip";
+  static final String CHECK_EMAIL_IP = "check-email-ip";
+
+  /** 제한 사용 여부. */
+  private boolean enabled = true;
+
+  /** 로컬 증가분을 DB에 반영하는 주기. */
+  private Duration flushInterval = Duration.ofMillis(200);
+
+  /** 추적할 최대 키 수 (제한기 합계). */
+  private long maxKeys = 100_000;
+
+  /** 제한기별 윈도우 설정. */
+  private Map<String, Window> limits = defaultLimits();
+
+  @Getter
+  @Setter
+  public static class Window {
+    /** 윈도우 내 최대 요청 수 (모든 인스턴스 합계). */
+    private int limit;
+
+    /** 윈도우 길이. */
+    private Duration window;
+
+    public Window() {}
+
+    public Window(int limit, Duration window) {
+      this.limit = limit;
+      this.window = window;
+    }
+  }
+
+  private static Map<String, Window> defaultLimits() {
+    Map<String, Window> limits = new LinkedHashMap<>();
+    limits.put(LOGIN_ACCOUNT, new Window(30, Duration.ofMinutes(5)));
+    limits.put(LOGIN_IP, new Window(300, Duration.ofMinutes(1)));
+    limits.put(CHECK_EMAIL_IP, new Window(60, Duration.ofMinutes(1)));
+    return limits;
+  }
+}
@@ -0,0 +1,245 @@
+package com.tickatch.auth_service.global.ratelimit.infrastructure;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.tickatch.auth_service.global.ratelimit.infrastructure.RateLimitCounterStore.CounterRow;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * PostgreSQL 기반 클러스터 요청 제한기.
+ *
+ * <p>인스턴스별 제한기({@link TokenBucketLimiter})는 인스턴스 수만큼 허용량이 늘어나므로, 모든 인스턴스의 요청 수를
+ * {@code rate_limit_counters} 테이블에 모아 슬라이딩 윈도우로 판단한다.
+ *
+ * <ul>
+ *   <li>요청마다 DB에 쓰지 않는다. 허용한 요청은 로컬 버퍼({@link LongAdder})에만 더하고, {@code flush-interval}마다
+ *       버퍼를 비워 한 번의 배치 upsert로 반영한다.
+ *   <li>반영 직후 해당 키의 클러스터 합계를 다시 읽어 로컬 스냅샷을 갱신한다. 판단은 DB 조회 없이 스냅샷 + 아직 반영하지
+ *       않은 로컬 증가분으로 한다.
+ *   <li>슬라이딩 윈도우 추정치 = 이전 윈도우 수 × (이전 윈도우가 겹치는 비율) + 현재 윈도우 수
+ * </ul>
+ *
+ * <p>다른 인스턴스의 요청은 최대 flush 주기만큼 늦게 보이므로 한도는 근사치이다. DB 반영에 실패하면 증가분을 버퍼에 되돌려
+ * 다음 주기에 다시 시도하고, 그동안은 마지막 스냅샷과 로컬 수로 판단한다.
+ *
+ * <p>지표: {@code rate-limit.rejected{limiter=cluster.<name>}}, {@code rate-limit.cluster.flush}(반영
+ * 시간), {@code rate-limit.cluster.flush.failed}
+ *
+ * @author Tickatch
+ * @since 1.0.0
+ */
+@Slf4j
+@Component
+public class ClusterRateLimiter {
+
+  private final ClusterRateLimitProperties properties;
+  private final RateLimitCounterStore store;
+  private final Clock clock;
+  private final MeterRegistry meterRegistry;
+
+  /* 아직 DB에 반영하지 않은 증가분 */
+  private final ConcurrentHashMap<CounterId, LongAdder> pending = new ConcurrentHashMap<>();
+
+  /* 마지막으로 읽은 클러스터 합계 (제한기 + 키 → 윈도우별 수) */
+  private final Cache<SnapshotKey, WindowCounts> snapshots;
+
+  private final Map<String, Counter> rejectedCounters = new ConcurrentHashMap<>();
+  private final Timer flushTimer;
+  private final Counter flushFailedCounter;
+
+  @Autowired
+  public ClusterRateLimiter(
+      ClusterRateLimitProperties properties,
+      RateLimitCounterStore store,
+      MeterRegistry meterRegistry) {
+    this(properties, store, meterRegistry, Clock.systemUTC());
+  }
+
+  ClusterRateLimiter(
+      ClusterRateLimitProperties properties,
+      RateLimitCounterStore store,
+      MeterRegistry meterRegistry,
+      Clock clock) {
+    this.properties = properties;
+    this.store = store;
+    this.meterRegistry = meterRegistry;
+    this.clock = clock;
+    this.snapshots =
+        Caffeine.newBuilder()
+            .maximumSize(properties.getMaxKeys())
+            .expireAfterAccess(longestWindow(properties).multipliedBy(2))
+            .build();
+    this.flushTimer =
+        Timer.builder("rate-limit.cluster.flush")
+            .description("요청 제한 카운터 DB 반영 시간")
+            .register(meterRegistry);
+    this.flushFailedCounter =
+        Counter.builder("rate-limit.cluster.flush.failed")
+            .description("요청 제한 카운터 DB 반영 실패 횟수")
+            .register(meterRegistry);
+  }
+
+  /**
+   * 요청 하나를 허용할지 판단하고, 허용하면 센다.
+   *
+   * @param limiter 제한기 이름 ({@code rate-limit.cluster.limits}의 키)
+   * @param key 제한 키
+   * @return 허용되면 true, 윈도우 한도를 넘었으면 false
+   */
+  public boolean tryAcquire(String limiter, String key) {
+    ClusterRateLimitProperties.Window window = properties.getLimits().get(limiter);
+    if (!properties.isEnabled() || window == null) {
+      return true;
+    }
+
+    long now = clock.millis();
+    long windowMillis = window.getWindow().toMillis();
+    long currentStart = now - Math.floorMod(now, windowMillis);
+    long previousStart = currentStart - windowMillis;
+
+    WindowCounts snapshot = snapshots.getIfPresent(new SnapshotKey(limiter, key));
+    long current = pendingCount(limiter, key, currentStart);
+    long previous = pendingCount(limiter, key, previousStart);
+    if (snapshot != null) {
+      current += snapshot.count(currentStart);
+      previous += snapshot.count(previousStart);
+    }
+
+    double previousWeight = 1.0 - (double) (now - currentStart) / windowMillis;
+    double estimated = previous * previousWeight + current;
+    if (estimated >= window.getLimit()) {
+      rejectedCounter(limiter).increment();
+      return false;
+    }
+
+    pending.computeIfAbsent(new CounterId(limiter, key, currentStart), id -> new LongAdder())
+        .increment();
+    return true;
+  }
+
+  /** 로컬 증가분을 DB에 반영하고, 반영한 키의 클러스터 합계를 다시 읽는다. */
+  @Scheduled(fixedDelayString = "${rate-limit.cluster.flush-interval:PT0.2S}")
+  public void flush() {
+    if (pending.isEmpty()) {
+      return;
+    }
+
+    Map<CounterId, Integer> drained = new HashMap<>();
+    for (CounterId id : pending.keySet()) {
+      LongAdder adder = pending.remove(id);
+      if (adder != null) {
+        drained.merge(id, (int) adder.sum(), Integer::sum);
+      }
+    }
+
+    try {
+      flushTimer.record(() -> writeAndRefresh(drained));
+    } catch (RuntimeException e) {
+      flushFailedCounter.increment();
+      log.warn("요청 제한 카운터 DB 반영 실패 - counters: {}, error: {}", drained.size(), e.getMessage());
+      drained.forEach(
+          (id, count) -> pending.computeIfAbsent(id, ignored -> new LongAdder()).add(count));
+    }
+  }
+
+  /** 가장 긴 윈도우의 2배보다 오래된 카운터를 삭제한다. */
+  @Scheduled(fixedDelayString = "PT1M", initialDelayString = "PT1M")
+  public void purgeExpired() {
+    if (!properties.isEnabled()) {
+      return;
+    }
+    try {
+      long before = clock.millis() - longestWindow(properties).multipliedBy(2).toMillis();
+      int deleted = store.deleteWindowsBefore(before);
+      log.debug("만료된 요청 제한 카운터 삭제 - deleted: {}", deleted);
+    } catch (RuntimeException e) {
+      log.warn("요청 제한 카운터 정리 실패: {}", e.getMessage());
+    }
+  }
+
+  private void writeAndRefresh(Map<CounterId, Integer> drained) {
+    List<CounterRow> rows = new ArrayList<>(drained.size());
+    Map<String, Set<String>> keysByLimiter = new HashMap<>();
+    long since = Long.MAX_VALUE;
+    for (Map.Entry<CounterId, Integer> entry : drained.entrySet()) {
+      CounterId id = entry.getKey();
+      rows.add(new CounterRow(id.limiter(), id.key(), id.windowStart(), entry.getValue()));
+      keysByLimiter.computeIfAbsent(id.limiter(), ignored -> new HashSet<>()).add(id.key());
+      since = Math.min(since, previousWindowStart(id));
+    }
+    store.increment(rows);
+
+    Map<SnapshotKey, WindowCounts> refreshed = new HashMap<>();
+    for (Map.Entry<String, Set<String>> entry : keysByLimiter.entrySet()) {
+      String limiter = entry.getKey();
+      for (String key : entry.getValue()) {
+        refreshed.put(new SnapshotKey(limiter, key), new WindowCounts(new HashMap<>()));
+      }
+      for (CounterRow row : store.findCounts(limiter, entry.getValue(), since)) {
+        refreshed.get(new SnapshotKey(limiter, row.key())).put(row.windowStart(), row.count());
+      }
+    }
+    snapshots.putAll(refreshed);
+  }
+
+  private long previousWindowStart(CounterId id) {
+    ClusterRateLimitProperties.Window window = properties.getLimits().get(id.limiter());
+    return id.windowStart() - window.getWindow().toMillis();
+  }
+
+  private long pendingCount(String limiter, String key, long windowStart) {
+    LongAdder adder = pending.get(new CounterId(limiter, key, windowStart));
+    return adder == null ? 0 : adder.sum();
+  }
+
+  private Counter rejectedCounter(String limiter) {
+    return rejectedCounters.computeIfAbsent(
+        limiter,
+        name ->
+            Counter.builder("rate-limit.rejected")
+                .description("요청 제한으로 거절된 횟수")
+                .tag("limiter", "cluster." + name)
+                .register(meterRegistry));
+  }
+
+  private static Duration longestWindow(ClusterRateLimitProperties properties) {
+    return properties.getLimits().values().stream()
+        .map(ClusterRateLimitProperties.Window::getWindow)
+        .max(Duration::compareTo)
+        .orElse(Duration.ofMinutes(1));
+  }
+
+  /** 카운터 하나 (제한기, 키, 윈도우 시작). */
+  private record CounterId(String limiter, String key, long windowStart) {}
+
+  /** 스냅샷 조회 키. */
+  private record SnapshotKey(String limiter, String key) {}
+
+  /** 한 키의 윈도우 시작별 클러스터 합계. */
+  private record WindowCounts(Map<Long, Integer> counts) {
+
+    long count(long windowStart) {
+      return counts.getOrDefault(windowStart, 0);
+    }
+
+    void put(long windowStart, int count) {
+      counts.put(windowStart, count);
+    }
+  }
+}
@@ -0,0 +1,52 @@
+package com.tickatch.auth_service.global.ratelimit.infrastructure;
+
+import java.time.Duration;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 로그인 시도 제한 설정 프로퍼티.
+ *
+ * <p>application.yml의 rate-limit.login.* 설정을 바인딩한다.
+ *
+ * @author Tickatch
+ * @since 1.0.0
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "rate-limit.login")
+public class LoginRateLimitProperties {
+
+  /** 제한 사용 여부. */
+  private boolean enabled = true;
+
+  /** 이메일 + 사용자 유형별 제한. 한 계정에 대한 대입 공격을 막는다. */
+  private Limit account = new Limit(10, Duration.ofSeconds(30), 100_000);
+
+  /** 클라이언트 IP별 제한. 한 곳에서 여러 계정을 시도하는 공격을 막는다. */
+  private Limit ip = new Limit(50, Duration.ofSeconds(1), 100_000);
+
+  @Getter
+  @Setter
+  public static class Limit {
+    /** 버킷 용량 (연속으로 허용하는 최대 시도 수). */
+    private int capacity;
+
+    /** 토큰 1개가 다시 채워지는 시간. */
+    private Duration refillPeriod;
+
+    /** 유지할 최대 버킷 수. 넘으면 오래 쓰지 않은 버킷부터 제거된다. */
+    private long maxKeys;
+
+    public Limit() {}
+
+    public Limit(int capacity, Duration refillPeriod, long maxKeys) {
+      this.capacity = capacity;
+      this.refillPeriod = refillPeriod;
+      this.maxKeys = maxKeys;
+    }
+  }
+}
@@ -0,0 +1,94 @@
+package com.tickatch.auth_service.global.ratelimit.infrastructure;
+
+import com.tickatch.auth_service.auth.domain.exception.AuthErrorCode;
+import com.tickatch.auth_service.auth.domain.exception.AuthException;
+import com.tickatch.auth_service.auth.domain.vo.UserType;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.Locale;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * 로그인 시도 제한기.
+ *
+ * <p>로그인 요청이 DB 조회와 비밀번호 해싱에 닿기 전에 인스턴스 메모리의 토큰 버킷으로 시도 횟수를 제한한다. 한 계정에 대한
+ * 대입 공격이 {@code auths} 행 잠금 경합과 요청당 해싱으로 번지지 않게 한다.
+ *
+ * <ul>
+ *   <li>계정: 이메일(소문자) + 사용자 유형별 버킷
+ *   <li>IP: 클라이언트 IP별 버킷
+ * </ul>
+ *
+ * <p>두 버킷 중 하나라도 비어 있으면 {@link AuthErrorCode#TOO_MANY_LOGIN_ATTEMPTS}(429)로 거절한다. 인스턴스 버킷은
+ * 인스턴스마다 따로 세므로, 통과한 요청은 {@link ClusterRateLimiter}로 모든 인스턴스 합계 한도도 확인한다. 인스턴스 버킷이
+ * 짧은 폭주를, 클러스터 한도가 긴 윈도우의 총량을 막는다.
+ *
+ * @author Tickatch
+ * @since 1.0.0
+ */
+@Slf4j
+@Component
+public class LoginRateLimiter {
+
+  private final boolean enabled;
+  private final TokenBucketLimiter accountLimiter;
+  private final TokenBucketLimiter ipLimiter;
+  private final ClusterRateLimiter clusterRateLimiter;
+
+  public LoginRateLimiter(
+      LoginRateLimitProperties properties,
+      ClusterRateLimiter clusterRateLimiter,
+      MeterRegistry meterRegistry) {
+    this.enabled = properties.isEnabled();
+    this.clusterRateLimiter = clusterRateLimiter;
+    this.accountLimiter =
+        new TokenBucketLimiter("login.account", properties.getAccount(), meterRegistry);
+    this.ipLimiter = new TokenBucketLimiter("login.ip", properties.getIp(), meterRegistry);
+  }
+
+  /**
+   * 로그인 시도를 허용할지 확인한다.
+   *
+   * @param email 이메일
+   * @param userType 사용자 유형
+   * @param clientIp 클라이언트 IP
+   * @throws AuthException 시도 제한을 넘은 경우
+   */
+  public void check(String email, UserType userType, String clientIp) {
+    if (!enabled) {
+      return;
+    }
+    if (!ipLimiter.tryAcquire(clientIp)) {
+      log.warn("로그인 시도 제한 (IP) - ip: {}", clientIp);
+      throw new AuthException(AuthErrorCode.TOO_MANY_LOGIN_ATTEMPTS);
+    }
+    String accountKey = email.toLowerCase(Locale.ROOT) + '|' + userType.name();
+    if (!accountLimiter.tryAcquire(accountKey)) {
+      log.warn("로그인 시도 제한 (계정) - email: {}, userType: {}", email, userType);
+      throw new AuthException(AuthErrorCode.TOO_MANY_LOGIN_ATTEMPTS);
+    }
+    if (!clusterRateLimiter.tryAcquire(ClusterRateLimitProperties.LOGIN_IP, clientIp)
+        || !clusterRateLimiter.tryAcquire(ClusterRateLimitProperties.LOGIN_ACCOUNT, accountKey)) {
+      log.warn("로그인 시도 제한 (클러스터) - email: {}, ip: {}", email, clientIp);
+      throw new AuthException(AuthErrorCode.TOO_MANY_LOGIN_ATTEMPTS);
+    }
+  }
+
+  /**
+   * 이메일 중복 확인 요청을 허용할지 확인한다.
+   *
+   * <p>중복 확인은 계정 존재 여부를 알려주므로 IP별 클러스터 한도로 이메일 수집을 막는다.
+   *
+   * @param clientIp 클라이언트 IP
+   * @throws AuthException 요청 제한을 넘은 경우
+   */
+  public void checkEmailLookup(String clientIp) {
+    if (!enabled) {
+      return;
+    }
+    if (!clusterRateLimiter.tryAcquire(ClusterRateLimitProperties.CHECK_EMAIL_IP, clientIp)) {
+      log.warn("이메일 중복 확인 제한 - ip: {}", clientIp);
+      throw new AuthException(AuthErrorCode.TOO_MANY_REQUESTS);
+    }
+  }
+}
@@ -0,0 +1,161 @@
+package com.tickatch.auth_service.global.ratelimit.infrastructure;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * {@code rate_limit_counters} 테이블 접근 객체.
+ *
+ * <p>카운터는 (제한기, 키, 윈도우 시작) 단위 행이며 모든 인스턴스가 같은 행에 증가분을 더한다. 증가는 배치 upsert로 한다.
+ *
+ * <ul>
+ *   <li>PostgreSQL: {@code INSERT ... ON CONFLICT DO UPDATE} - 동시 삽입 경합에도 실패하지 않는다
+ *   <li>그 외(H2 등): 표준 {@code MERGE}
+ * </ul>
+ *
+ * <p>여러 인스턴스가 같은 행들을 다른 순서로 갱신하면 교착 상태가 날 수 있으므로 항상 키 순서로 정렬해 보낸다.
+ *
+ * @author Tickatch
+ * @since 1.0.0
+ */
+@Slf4j
+@Component
+public class RateLimitCounterStore {
+
+  private static final String POSTGRESQL_UPSERT =
+      """
+      INSERT INTO rate_limit_counters (limiter, limit_key, window_start, hit_count)
+      VALUES (?, ?, ?, ?)
+      ON CONFLICT (limiter, limit_key, window_start)
+      DO UPDATE SET hit_count = rate_limit_counters.hit_count + EXCLUDED.hit_count
+      """;
+
+  private static final String MERGE_UPSERT =
+      """
+      MERGE INTO rate_limit_counters t
+      USING (SELECT CAST(? AS VARCHAR(50)) AS limiter, CAST(? AS VARCHAR(400)) AS limit_key,
+                    CAST(? AS BIGINT) AS window_start, CAST(? AS INTEGER) AS hit_count) s
+      ON t.limiter = s.limiter AND t.limit_key = s.limit_key AND t.window_start = s.window_start
+      WHEN MATCHED THEN UPDATE SET hit_count = t.hit_count + s.hit_count
+      WHEN NOT MATCHED THEN INSERT (limiter, limit_key, window_start, hit_count)
+        VALUES (s.limiter, s.limit_key, s.window_start, s.hit_count)
+      """;
+
+  private static final String SELECT_COUNTS =
+      """
+      SELECT limit_key, window_start, hit_count
+        FROM rate_limit_counters
+       WHERE limiter = :limiter AND limit_key IN (:keys) AND window_start >= :since
+      """;
+
+  /* IN 절 하나에 넣을 최대 키 수 */
+  private static final int SELECT_CHUNK_SIZE = 500;
+
+  private static final Comparator<CounterRow> ROW_ORDER =
+      Comparator.comparing(CounterRow::limiter)
+          .thenComparing(CounterRow::key)
+          .thenComparingLong(CounterRow::windowStart);
+
+  private final JdbcTemplate jdbcTemplate;
+  private final NamedParameterJdbcTemplate namedJdbcTemplate;
+
+  /* 최초 사용 시 DB 종류를 보고 정한다 */
+  private volatile String upsertSql;
+
+  public RateLimitCounterStore(JdbcTemplate jdbcTemplate) {
+    this.jdbcTemplate = jdbcTemplate;
+    this.namedJdbcTemplate = new NamedParameterJdbcTemplate(jdbcTemplate);
+  }
+
+  /**
+   * 카운터에 증가분을 더한다.
+   *
+   * @param rows 증가분 (같은 카운터는 한 번만 포함되어야 한다)
+   */
+  public void increment(Collection<CounterRow> rows) {
+    if (rows.isEmpty()) {
+      return;
+    }
+    List<CounterRow> sorted = new ArrayList<>(rows);
+    sorted.sort(ROW_ORDER);
+    jdbcTemplate.batchUpdate(
+        upsertSql(),
+        sorted,
+        sorted.size(),
+        (ps, row) -> {
+          ps.setString(1, row.limiter());
+          ps.setString(2, row.key());
+          ps.setLong(3, row.windowStart());
+          ps.setInt(4, row.count());
+        });
+  }
+
+  /**
+   * 한 제한기의 여러 키에 대해 {@code since} 이후 윈도우의 카운터를 조회한다.
+   *
+   * @param limiter 제한기 이름
+   * @param keys 제한 키
+   * @param since 조회할 가장 이른 윈도우 시작 (epoch ms)
+   * @return 카운터 목록
+   */
+  public List<CounterRow> findCounts(String limiter, Collection<String> keys, long since) {
+    List<String> keyList = new ArrayList<>(keys);
+    List<CounterRow> rows = new ArrayList<>();
+    for (int from = 0; from < keyList.size(); from += SELECT_CHUNK_SIZE) {
+      List<String> chunk =
+          keyList.subList(from, Math.min(from + SELECT_CHUNK_SIZE, keyList.size()));
+      rows.addAll(
+          namedJdbcTemplate.query(
+              SELECT_COUNTS,
+              Map.of("limiter", limiter, "keys", chunk, "since", since),
+              (rs, rowNum) ->
+                  new CounterRow(
+                      limiter,
+                      rs.getString("limit_key"),
+                      rs.getLong("window_start"),
+                      rs.getInt("hit_count"))));
+    }
+    return rows;
+  }
+
+  /**
+   * 지정 시각보다 먼저 시작한 윈도우의 카운터를 삭제한다.
+   *
+   * @param before 기준 시각 (epoch ms)
+   * @return 삭제된 행 수
+   */
+  public int deleteWindowsBefore(long before) {
+    return jdbcTemplate.update("DELETE FROM rate_limit_counters WHERE window_start < ?", before);
+  }
+
+  private String upsertSql() {
+    String sql = upsertSql;
+    if (sql == null) {
+      String product =
+          jdbcTemplate.execute(
+              (ConnectionCallback<String>) con -> con.getMetaData().getDatabaseProductName());
+      sql = "PostgreSQL".equalsIgnoreCase(product) ? POSTGRESQL_UPSERT : MERGE_UPSERT;
+      log.debug("요청 제한 카운터 upsert 방식 - database: {}", product);
+      upsertSql = sql;
+    }
+    return sql;
+  }
+
+  /**
+   * 카운터 한 행.
+   *
+   * @param limiter 제한기 이름
+   * @param key 제한 키
+   * @param windowStart 윈도우 시작 (epoch ms)
+   * @param count 요청 수 (증가 시에는 증가분)
+   */
+  public record CounterRow(String limiter, String key, long windowStart, int count) {}
+}
@@ -0,0 +1,92 @@
+package com.tickatch.auth_service.global.ratelimit.infrastructure;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * 키별 토큰 버킷 제한기.
+ *
+ * <p>버킷 하나는 {@link AtomicLong} 하나이며 GCRA(Generic Cell Rate Algorithm) 방식으로 "다음 토큰이 비는 이론상 시각"만
+ * 저장한다. 시도마다 이 값을 CAS로 한 칸({@code refillPeriod}) 밀고, 현재 시각보다 {@code capacity}칸 넘게 앞서면
+ * 거절한다. 용량 {@code capacity}, 충전 주기 {@code refillPeriod}인 토큰 버킷과 같으며 락 없이 동작한다.
+ *
+ * <p>버킷은 Caffeine 맵(내부적으로 분할된 해시 테이블)에 보관한다. {@code maxKeys}를 넘으면 오래 쓰지 않은 버킷부터
+ * 제거하고, 버킷이 다시 가득 차는 시간({@code capacity * refillPeriod}) 동안 쓰지 않은 버킷도 제거한다. 가득 찬 버킷은
+ * 새 버킷과 같으므로 제거해도 결과가 달라지지 않는다.
+ *
+ * <p>지표:
+ *
+ * <ul>
+ *   <li>{@code rate-limit.rejected{limiter}}: 거절 횟수
+ *   <li>{@code cache.size{cache=rate-limit.<name>}} 등: 버킷 수와 제거 횟수
+ * </ul>
+ *
+ * @author Tickatch
+ * @since 1.0.0
+ */
+public class TokenBucketLimiter {
+
+  private final long intervalNanos;
+  private final long burstNanos;
+  private final LongSupplier nanoClock;
+  private final Cache<String, AtomicLong> buckets;
+  private final Counter rejectedCounter;
+
+  public TokenBucketLimiter(
+      String name, LoginRateLimitProperties.Limit limit, MeterRegistry registry) {
+    this(name, limit, registry, System::nanoTime);
+  }
+
+  TokenBucketLimiter(
+      String name,
+      LoginRateLimitProperties.Limit limit,
+      MeterRegistry registry,
+      LongSupplier nanoClock) {
+    this.intervalNanos = limit.getRefillPeriod().toNanos();
+    this.burstNanos = intervalNanos * limit.getCapacity();
+    this.nanoClock = nanoClock;
+    this.buckets =
+        Caffeine.newBuilder()
+            .maximumSize(limit.getMaxKeys())
+            .expireAfterAccess(Duration.ofNanos(burstNanos))
+            .ticker(nanoClock::getAsLong)
+            .recordStats()
+            .build();
+    CaffeineCacheMetrics.monitor(registry, buckets, "rate-limit." + name);
+    this.rejectedCounter =
+        Counter.builder("rate-limit.rejected")
+            .description("요청 제한으로 거절된 횟수")
+            .tag("limiter", name)
+            .register(registry);
+  }
+
+  /**
+   * 키의 버킷에서 토큰 하나를 꺼낸다.
+   *
+   * @param key 제한 키
+   * @return 허용되면 true, 버킷이 비어 있으면 false
+   */
+  public boolean tryAcquire(String key) {
+    long now = nanoClock.getAsLong();
+    AtomicLong theoreticalArrival = buckets.get(key, ignored -> new AtomicLong(now));
+
+    while (true) {
+      long current = theoreticalArrival.get();
+      // nanoTime은 음수일 수 있으므로 차이로 비교한다.
+      long next = (current - now > 0 ? current : now) + intervalNanos;
+      if (next - now > burstNanos) {
+        rejectedCounter.increment();
+        return false;
+      }
+      if (theoreticalArrival.compareAndSet(current, next)) {
+        return true;
+      }
+    }
+  }
+}
@@ -0,0 +1,135 @@
+package com.tickatch.auth_service.global.scheduling.infrastructure;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.function.Supplier;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * 여러 인스턴스 중 하나만 실행해야 하는 예약 작업의 실행 인스턴스 선출.
+ *
+ * <ul>
+ *   <li>{@link #runAsLeader}: 작업 이름으로 만든 키의 세션 advisory lock을 잡은 인스턴스만 실행한다. 잠금은 별도 커넥션에서
+ *       잡고 그 커넥션은 트랜잭션 없이 유휴 상태로 두므로, 작업이 오래 걸려도 VACUUM을 막지 않는다. 실행이 끝나면 잠금을
+ *       풀므로 같은 작업이 겹쳐 실행되지 않게만 한다.
+ *   <li>{@link #claimTick}: 모든 인스턴스가 같은 cron 시각에 깨어나는 작업을 주기마다 한 번만 실행한다. {@code
+ *       scheduled_job_ticks}에 작업 이름과 주기 시각 행을 먼저 넣은 인스턴스가 실행하며, 행은 실행 뒤에도 남으므로 시계가 늦은
+ *       인스턴스가 같은 주기를 다시 실행하지 않는다.
+ * </ul>
+ *
+ * <p>PostgreSQL이 아닌 DB(H2 등)는 단일 인스턴스로 보고 선출 없이 실행한다.
+ *
+ * @author Tickatch
+ * @since 1.0.0
+ */
+@Component
+@RequiredArgsConstructor
+public class LeaderElection {
+
+  /* advisory lock 키 접두사 */
+  private static final String KEY_PREFIX = "tickatch.auth.";
+
+  /* 지난 주기 선점 행 보관 기간 */
+  private static final Duration TICK_RETENTION = Duration.ofDays(1);
+
+  private final JdbcTemplate jdbcTemplate;
+
+  private volatile Boolean postgreSql;
+
+  /**
+   * advisory lock을 잡으면 작업을 실행한다.
+   *
+   * @param job 작업 이름. 잠금 키를 만든다
+   * @param task 잠금을 잡았거나 PostgreSQL이 아닐 때 실행할 작업
+   * @param onSkipped 다른 인스턴스가 잠금을 잡고 있을 때 실행할 작업
+   * @return 실행한 작업의 결과
+   */
+  public <T> T runAsLeader(String job, Supplier<T> task, Supplier<T> onSkipped) {
+    return jdbcTemplate.execute(
+        (ConnectionCallback<T>)
+            lockConnection -> {
+              if (!isPostgreSql(lockConnection)) {
+                return task.get();
+              }
+              long key = lockKey(job);
+              if (!advisoryLock(lockConnection, "SELECT pg_try_advisory_lock(?)", key)) {
+                return onSkipped.get();
+              }
+              try {
+                return task.get();
+              } finally {
+                advisoryLock(lockConnection, "SELECT pg_advisory_unlock(?)", key);
+              }
+            });
+  }
+
+  /**
+   * 이번 주기를 선점한다.
+   *
+   * <p>인스턴스마다 자기 시계의 cron 시각에 깨어나므로, 분 단위로 자른 현재 시각은 시계가 어긋나도 같은 주기를 가리킨다. 따라서
+   * cron은 1분에 한 번보다 자주 돌리지 않는다.
+   *
+   * @param job 작업 이름
+   * @param now 이 인스턴스의 현재 시각
+   * @return 이 인스턴스가 이번 주기를 실행해야 하면 true
+   */
+  public boolean claimTick(String job, Instant now) {
+    if (!isPostgreSql()) {
+      return true;
+    }
+    long tick = now.truncatedTo(ChronoUnit.MINUTES).toEpochMilli();
+    jdbcTemplate.update(
+        "DELETE FROM scheduled_job_ticks WHERE job = ? AND tick < ?",
+        job,
+        tick - TICK_RETENTION.toMillis());
+    return jdbcTemplate.update(
+            "INSERT INTO scheduled_job_ticks (job, tick, claimed_at) VALUES (?, ?, now())"
+                + " ON CONFLICT DO NOTHING",
+            job,
+            tick)
+        == 1;
+  }
+
+  /**
+   * PostgreSQL에 연결되어 있는지 확인한다. 다른 DB는 단일 인스턴스로 본다.
+   *
+   * @return PostgreSQL이면 true
+   */
+  public boolean isPostgreSql() {
+    Boolean cached = postgreSql;
+    if (cached != null) {
+      return cached;
+    }
+    return Boolean.TRUE.equals(
+        jdbcTemplate.execute((ConnectionCallback<Boolean>) this::isPostgreSql));
+  }
+
+  private boolean isPostgreSql(Connection con) throws SQLException {
+    if (postgreSql == null) {
+      postgreSql = "PostgreSQL".equalsIgnoreCase(con.getMetaData().getDatabaseProductName());
+    }
+    return postgreSql;
+  }
+
+  /* 다른 작업의 잠금과 겹치지 않게 작업 이름에서 만든다 */
+  static long lockKey(String job) {
+    return (KEY_PREFIX + job).hashCode();
+  }
+
+  private static boolean advisoryLock(Connection con, String sql, long key) throws SQLException {
+    try (PreparedStatement ps = con.prepareStatement(sql)) {
+      ps.setLong(1, key);
+      try (ResultSet rs = ps.executeQuery()) {
+        return rs.next() && rs.getBoolean(1);
+      }
+    }
+  }
+}
@@ -1,7 +1,9 @@
 package com.tickatch.auth_service.token.application.port.out;
 
 import com.tickatch.auth_service.auth.domain.vo.UserType;
-import java.security.interfaces.RSAPublicKey;
+import com.tickatch.auth_service.token.application.port.out.dto.TokenClaims;
+import java.security.PublicKey;
+import java.util.Map;
 import java.util.UUID;
 
 /**
@@ -34,7 +36,8 @@ public interface TokenProvider {
   /**
    * Refresh Token 값을 생성한다.
    *
-   * <p>UUID 기반의 랜덤 문자열을 생성한다. Refresh Token은 DB에 저장되므로 JWT 형식이 아니어도 된다.
+   * <p>UUID 기반의 랜덤 문자열을 생성한다. Refresh Token은 DB에 저장되므로 JWT 형식이 아니어도 된다. 앞부분에 발급일
+   * 힌트가 붙을 수 있다.
    *
    * @return 생성된 Refresh Token 값
    */
@@ -48,13 +51,27 @@ public interface TokenProvider {
    */
   boolean validateToken(String token);
 
+  /**
+   * 토큰 서명을 한 번 검증하고 클레임을 반환한다.
+   *
+   * <p>Auth ID와 사용자 유형이 모두 필요한 경우 {@link #extractAuthId}와 {@link #extractUserType}을 각각 호출하지 말고 이
+   * 메서드를 사용한다.
+   *
+   * @param token JWT 토큰
+   * @return 검증된 클레임
+   * @throws com.tickatch.auth_service.token.domain.exception.TokenException 토큰이 만료되었거나 유효하지 않은 경우
+   */
+  TokenClaims parseVerified(String token);
+
   /**
    * 토큰에서 Auth ID를 추출한다.
    *
    * @param token JWT 토큰
    * @return Auth ID
    */
-  UUID extractAuthId(String token);
+  default UUID extractAuthId(String token) {
+    return parseVerified(token).authId();
+  }
 
   /**
    * 토큰에서 사용자 유형을 추출한다.
@@ -62,19 +79,31 @@ public interface TokenProvider {
    * @param token JWT 토큰
    * @return 사용자 유형
    */
-  UserType extractUserType(String token);
+  default UserType extractUserType(String token) {
+    return parseVerified(token).userType();
+  }
 
   /**
-   * JWT 서명 검증용 Public Key를 반환한다.
+   * 활성 서명 키의 Public Key를 반환한다.
    *
    * <p>Gateway나 다른 서비스에서 토큰 검증에 사용한다. Public Key는 공개되어도 안전하다.
    *
-   * @return RSA Public Key
+   * @return 서명 알고리즘에 맞는 Public Key (RSA, EC, EdDSA)
+   */
+  PublicKey getPublicKey();
+
+  /**
+   * 검증에 사용할 수 있는 모든 Public Key를 반환한다.
+   *
+   * <p>키 로테이션 중에는 활성 키와 함께 아직 보관 중인 이전 키들이 포함된다. 활성 키가 먼저 온다. 키 구성이 바뀌지 않았다면 같은
+   * 불변 인스턴스를 반환한다.
+   *
+   * @return 키 ID별 Public Key
    */
-  RSAPublicKey getPublicKey();
+  Map<String, PublicKey> getVerificationKeys();
 
   /**
-   * 키 ID를 반환한다.
+   * 활성 서명 키의 키 ID를 반환한다.
    *
    * <p>JWKS에서 키를 식별하는 데 사용된다. 키 로테이션 시 버전 관리에 활용한다.
    *
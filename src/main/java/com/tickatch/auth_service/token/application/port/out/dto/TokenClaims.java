@@ -0,0 +1,31 @@
+package com.tickatch.auth_service.token.application.port.out.dto;
+
+import com.tickatch.auth_service.auth.domain.vo.UserType;
+import java.util.UUID;
+
+/**
+ * 서명 검증을 마친 Access Token의 클레임.
+ *
+ * <p>한 번의 서명 검증으로 필요한 값을 모두 꺼내 담는다. 만료 시각은 원시 값(epoch 초)으로 보관하여 할당을 줄인다.
+ *
+ * @param authId Auth ID (sub)
+ * @param userType 사용자 유형
+ * @param expiresAt 만료 시각 (epoch 초, exp)
+ * @param keyId 서명 키 ID (kid)
+ */
+public record TokenClaims(UUID authId, UserType userType, long expiresAt, String keyId) {
+
+  public static TokenClaims of(UUID authId, UserType userType, long expiresAt, String keyId) {
+    return new TokenClaims(authId, userType, expiresAt, keyId);
+  }
+
+  /**
+   * 주어진 시각 기준으로 만료되었는지 확인한다.
+   *
+   * @param nowEpochSecond 현재 시각 (epoch 초)
+   * @return 만료되었으면 true
+   */
+  public boolean isExpiredAt(long nowEpochSecond) {
+    return nowEpochSecond >= expiresAt;
+  }
+}
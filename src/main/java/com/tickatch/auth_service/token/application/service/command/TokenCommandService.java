@@ -1,14 +1,15 @@
 package com.tickatch.auth_service.token.application.service.command;
 
-import com.tickatch.auth_service.token.application.port.out.AuthPort;
 import com.tickatch.auth_service.token.application.port.out.TokenProvider;
 import com.tickatch.auth_service.token.application.service.command.dto.IssueTokenCommand;
 import com.tickatch.auth_service.token.application.service.command.dto.RefreshTokenCommand;
+import com.tickatch.auth_service.token.application.service.command.dto.RefreshTokenResult;
 import com.tickatch.auth_service.token.application.service.command.dto.TokenResult;
 import com.tickatch.auth_service.token.domain.RefreshToken;
 import com.tickatch.auth_service.token.domain.RefreshTokenRepository;
 import com.tickatch.auth_service.token.domain.exception.TokenErrorCode;
 import com.tickatch.auth_service.token.domain.exception.TokenException;
+import com.tickatch.auth_service.token.domain.repository.dto.RefreshTokenWithOwner;
 import java.time.LocalDateTime;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
@@ -32,7 +33,6 @@ public class TokenCommandService {
 
   private final TokenProvider tokenProvider;
   private final RefreshTokenRepository refreshTokenRepository;
-  private final AuthPort authPort;
 
   /**
    * 토큰을 발급한다.
@@ -63,35 +63,29 @@ public class TokenCommandService {
    *
    * <p>기존 Refresh Token을 검증하고, 새로운 Access Token과 Refresh Token을 발급한다. 기존 Refresh Token은 새 값으로 교체된다.
    *
+   * <p>RefreshToken과 소유자(Auth)의 이메일, 사용자 유형은 한 번의 조인 쿼리로 조회한다. 토큰 조회와 검증은 요청당 한 번만
+   * 일어난다.
+   *
    * @param command 토큰 갱신 요청
-   * @return 갱신된 토큰 정보
-   * @throws TokenException 토큰이 유효하지 않은 경우
+   * @return 갱신된 토큰과 소유자 정보
+   * @throws TokenException 토큰이 유효하지 않거나 소유자가 존재하지 않는 경우
    */
-  public TokenResult refreshTokens(RefreshTokenCommand command) {
-    RefreshToken refreshToken =
+  public RefreshTokenResult refreshTokens(RefreshTokenCommand command) {
+    RefreshTokenWithOwner found =
         refreshTokenRepository
-            .findByToken(command.refreshToken())
+            .findWithOwnerByToken(command.refreshToken())
             .orElseThrow(() -> new TokenException(TokenErrorCode.INVALID_REFRESH_TOKEN));
+    RefreshToken refreshToken = found.refreshToken();
 
-    // 이미 폐기된 토큰 사용 시도 감지 (탈취 가능성)
-    if (refreshToken.isRevoked()) {
-      log.warn("폐기된 토큰 재사용 시도 감지 - authId: {}", refreshToken.getAuthId());
-      // 보안: 해당 사용자의 모든 토큰 폐기
-      refreshTokenRepository.revokeAllByAuthId(refreshToken.getAuthId());
-      throw new TokenException(TokenErrorCode.TOKEN_ALREADY_REVOKED);
-    }
-
-    // 만료된 토큰 검증
-    refreshToken.validateUsable();
+    validateUsable(refreshToken);
 
-    // Auth에서 userType 조회
-    var userType =
-        authPort
-            .findUserTypeByAuthId(refreshToken.getAuthId())
-            .orElseThrow(() -> new TokenException(TokenErrorCode.AUTH_NOT_FOUND));
+    if (!found.hasOwner()) {
+      throw new TokenException(TokenErrorCode.AUTH_NOT_FOUND);
+    }
 
     // 새 Access Token 생성
-    String newAccessToken = tokenProvider.generateAccessToken(refreshToken.getAuthId(), userType);
+    String newAccessToken =
+        tokenProvider.generateAccessToken(refreshToken.getAuthId(), found.userType());
 
     // 새 토큰 값으로 Rotation
     String newRefreshTokenValue = tokenProvider.generateRefreshTokenValue();
@@ -99,48 +93,14 @@ public class TokenCommandService {
 
     log.info("토큰 갱신 완료 - authId: {}", refreshToken.getAuthId());
 
-    return TokenResult.of(
-        newAccessToken,
-        newRefreshTokenValue,
-        calculateAccessTokenExpiry(),
-        refreshToken.getExpiresAt());
-  }
-
-  /**
-   * Refresh Token을 검증하고 정보를 반환한다.
-   *
-   * <p>토큰 갱신 시 Auth 정보 조회에 사용한다.
-   *
-   * @param refreshTokenValue Refresh Token 값
-   * @return 검증된 RefreshToken
-   * @throws TokenException 토큰이 유효하지 않은 경우
-   */
-  public RefreshToken validateAndGetRefreshToken(String refreshTokenValue) {
-    RefreshToken refreshToken =
-        refreshTokenRepository
-            .findByToken(refreshTokenValue)
-            .orElseThrow(() -> new TokenException(TokenErrorCode.INVALID_REFRESH_TOKEN));
-
-    if (refreshToken.isRevoked()) {
-      log.warn("폐기된 토큰 재사용 시도 감지 - authId: {}", refreshToken.getAuthId());
-      refreshTokenRepository.revokeAllByAuthId(refreshToken.getAuthId());
-      throw new TokenException(TokenErrorCode.TOKEN_ALREADY_REVOKED);
-    }
-
-    refreshToken.validateUsable();
-    return refreshToken;
-  }
-
-  /**
-   * Refresh Token을 새 값으로 갱신한다 (Rotation).
-   *
-   * @param refreshToken 갱신할 RefreshToken
-   * @return 새 Refresh Token 값
-   */
-  public String rotateRefreshToken(RefreshToken refreshToken) {
-    String newRefreshTokenValue = tokenProvider.generateRefreshTokenValue();
-    refreshToken.rotate(newRefreshTokenValue);
-    return newRefreshTokenValue;
+    TokenResult tokenResult =
+        TokenResult.of(
+            newAccessToken,
+            newRefreshTokenValue,
+            calculateAccessTokenExpiry(),
+            refreshToken.getExpiresAt());
+    return RefreshTokenResult.of(
+        refreshToken.getAuthId(), found.email(), found.userType(), tokenResult);
   }
 
   /**
@@ -178,6 +138,23 @@ public class TokenCommandService {
     log.info("모든 토큰 삭제 완료 - authId: {}", authId);
   }
 
+  /**
+   * Refresh Token이 사용 가능한지 검증한다.
+   *
+   * <p>이미 폐기된 토큰의 재사용은 탈취 가능성이 있으므로 해당 사용자의 모든 토큰을 폐기한다.
+   *
+   * @param refreshToken 검증할 RefreshToken
+   * @throws TokenException 토큰이 폐기되었거나 만료된 경우
+   */
+  private void validateUsable(RefreshToken refreshToken) {
+    if (refreshToken.isRevoked()) {
+      log.warn("폐기된 토큰 재사용 시도 감지 - authId: {}", refreshToken.getAuthId());
+      refreshTokenRepository.revokeAllByAuthId(refreshToken.getAuthId());
+      throw new TokenException(TokenErrorCode.TOKEN_ALREADY_REVOKED);
+    }
+    refreshToken.validateUsable();
+  }
+
   /** Access Token 만료 시간을 계산한다. */
   private LocalDateTime calculateAccessTokenExpiry() {
     return LocalDateTime.now().plusSeconds(tokenProvider.getAccessTokenExpirationSeconds());
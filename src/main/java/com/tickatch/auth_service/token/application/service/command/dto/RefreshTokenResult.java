@@ -0,0 +1,23 @@
+package com.tickatch.auth_service.token.application.service.command.dto;
+
+import com.tickatch.auth_service.auth.domain.vo.UserType;
+import java.util.UUID;
+
+/**
+ * 토큰 갱신 결과.
+ *
+ * <p>갱신된 토큰과 함께 토큰 소유자 정보를 담아, 호출 측이 Auth를 다시 조회하지 않도록 한다.
+ *
+ * @param authId 토큰 소유자 Auth ID
+ * @param email 토큰 소유자 이메일
+ * @param userType 토큰 소유자 사용자 유형
+ * @param tokenResult 갱신된 토큰 정보
+ */
+public record RefreshTokenResult(
+    UUID authId, String email, UserType userType, TokenResult tokenResult) {
+
+  public static RefreshTokenResult of(
+      UUID authId, String email, UserType userType, TokenResult tokenResult) {
+    return new RefreshTokenResult(authId, email, userType, tokenResult);
+  }
+}
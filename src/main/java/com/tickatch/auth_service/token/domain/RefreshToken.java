@@ -1,17 +1,30 @@
 package com.tickatch.auth_service.token.domain;
 
+import com.tickatch.auth_service.global.domain.AbstractPersistableEntity;
+import com.tickatch.auth_service.global.domain.UuidV7;
 import com.tickatch.auth_service.token.domain.exception.TokenErrorCode;
 import com.tickatch.auth_service.token.domain.exception.TokenException;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.Id;
 import jakarta.persistence.Table;
+import jakarta.persistence.Transient;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.UUID;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.PartitionKey;
+import org.springframework.data.domain.Persistable;
 
 /**
  * 리프레시 토큰 Aggregate Root.
@@ -27,6 +40,13 @@ import lombok.NoArgsConstructor;
  *   <li>이미 사용된 토큰 재사용 감지 시 모든 토큰 폐기 (보안)
  * </ul>
  *
+ * <p>DB에는 토큰 원문 대신 SHA-256 다이제스트(32바이트)만 저장하고 조회 키로 사용한다. 원문은 발급/교체 직후 응답에 담기
+ * 위해 메모리에만 보관하며, DB에서 읽어 온 엔티티의 {@link #getToken()}은 null이다.
+ *
+ * <p>{@code refresh_tokens}는 {@code expires_at} 기준 일 단위 파티션 테이블일 수 있다. 토큰 값 앞 5자에 발급일 힌트를
+ * 두어 조회 시 만료 일시 범위를 좁히고({@link #expiryRangesOf(String)}), {@code expires_at}을 {@link PartitionKey}로
+ * 지정해 UPDATE/DELETE가 행이 있는 파티션만 보게 한다. Rotation으로 만료 일시가 바뀌면 PostgreSQL이 행을 새 파티션으로 옮긴다.
+ *
  * @author Tickatch
  * @since 1.0.0
  */
@@ -34,12 +54,21 @@ import lombok.NoArgsConstructor;
 @Table(name = "refresh_tokens")
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
-public class RefreshToken {
+public class RefreshToken extends AbstractPersistableEntity implements Persistable<UUID> {
 
   /* 기본 만료 기간 (시간) - 로그인 유지 미선택 시 */
   private static final long DEFAULT_EXPIRY_HOURS = 1;
   /* 로그인 유지 만료 기간 (일) - 로그인 유지 선택 시 */
   private static final long REMEMBER_ME_EXPIRY_DAYS = 30;
+  /* 토큰 해시 길이 (바이트) */
+  private static final int TOKEN_HASH_LENGTH = 32;
+  /* 발급일 힌트 표식 - 16진수만 쓰던 기존 토큰 값과 구분한다 */
+  private static final char ISSUE_DATE_MARKER = 'r';
+  /* 발급 시각과 만료 일시 계산 시각 사이 허용 오차 */
+  private static final Duration ISSUE_DATE_SLACK = Duration.ofMinutes(1);
+
+  /** 발급일 힌트 길이 (표식 1자 + 16진수 epoch day 4자). */
+  public static final int ISSUE_DATE_HINT_LENGTH = 5;
 
   /* 토큰 ID */
   @Id
@@ -50,15 +79,19 @@ public class RefreshToken {
   @Column(name = "auth_id", nullable = false)
   private UUID authId;
 
-  /* 토큰 값 */
-  @Column(name = "token", nullable = false, unique = true, length = 500)
-  private String token;
+  /* 토큰 해시 (SHA-256) */
+  @Column(name = "token_hash", nullable = false, unique = true, length = TOKEN_HASH_LENGTH)
+  private byte[] tokenHash;
+
+  /* 토큰 원문 - 저장하지 않음 */
+  @Transient private String token;
 
   /* 디바이스 정보 */
   @Column(name = "device_info")
   private String deviceInfo;
 
-  /* 만료 일시 */
+  /* 만료 일시 - 파티션 키 */
+  @PartitionKey
   @Column(name = "expires_at", nullable = false)
   private LocalDateTime expiresAt;
 
@@ -76,9 +109,10 @@ public class RefreshToken {
 
   private RefreshToken(
       UUID authId, String token, String deviceInfo, LocalDateTime expiresAt, boolean rememberMe) {
-    this.id = UUID.randomUUID();
+    this.id = UuidV7.generate();
     this.authId = authId;
     this.token = token;
+    this.tokenHash = hashToken(token);
     this.deviceInfo = deviceInfo;
     this.expiresAt = expiresAt;
     this.createdAt = LocalDateTime.now();
@@ -104,11 +138,7 @@ public class RefreshToken {
    */
   public static RefreshToken create(
       UUID authId, String token, String deviceInfo, boolean rememberMe) {
-    LocalDateTime expiresAt =
-        rememberMe
-            ? LocalDateTime.now().plusDays(REMEMBER_ME_EXPIRY_DAYS)
-            : LocalDateTime.now().plusHours(DEFAULT_EXPIRY_HOURS);
-    return new RefreshToken(authId, token, deviceInfo, expiresAt, rememberMe);
+    return new RefreshToken(authId, token, deviceInfo, expiryFromNow(rememberMe), rememberMe);
   }
 
   /**
@@ -116,15 +146,23 @@ public class RefreshToken {
    *
    * <p>테스트 또는 특수한 경우에 사용한다.
    *
+   * <p>토큰 값에 발급일 힌트가 있으면 만료 일시가 힌트의 만료 구간({@link #expiryRangesOf(String)}) 안에 있어야 한다.
+   * 구간 밖이면 토큰 값으로 조회할 수 없으므로 생성하지 않는다. 임의 만료 일시가 필요하면 힌트 없는 토큰 값을 쓴다.
+   *
    * @param authId Auth ID
    * @param token 토큰 값
    * @param deviceInfo 디바이스 정보
    * @param expiresAt 만료 일시
    * @param rememberMe 로그인 유지 여부
    * @return 생성된 RefreshToken
+   * @throws IllegalArgumentException 만료 일시가 발급일 힌트의 만료 구간 밖인 경우
    */
   public static RefreshToken createWithExpiry(
       UUID authId, String token, String deviceInfo, LocalDateTime expiresAt, boolean rememberMe) {
+    List<ExpiryRange> ranges = expiryRangesOf(token);
+    if (!ranges.isEmpty() && ranges.stream().noneMatch(range -> range.contains(expiresAt))) {
+      throw new IllegalArgumentException("만료 일시가 발급일 힌트의 만료 구간 밖입니다: " + expiresAt);
+    }
     return new RefreshToken(authId, token, deviceInfo, expiresAt, rememberMe);
   }
 
@@ -139,10 +177,91 @@ public class RefreshToken {
   public void rotate(String newToken) {
     validateUsable();
     this.token = newToken;
-    this.expiresAt =
-        this.rememberMe
-            ? LocalDateTime.now().plusDays(REMEMBER_ME_EXPIRY_DAYS)
-            : LocalDateTime.now().plusHours(DEFAULT_EXPIRY_HOURS);
+    this.tokenHash = hashToken(newToken);
+    this.expiresAt = expiryFromNow(this.rememberMe);
+  }
+
+  /**
+   * 지금부터 계산한 만료 일시를 반환한다.
+   *
+   * <p>DB 정밀도(마이크로초)로 자른다. 파티션 키는 UPDATE 조건에 쓰이므로 메모리 값과 저장된 값이 같아야 한다.
+   *
+   * @param rememberMe 로그인 유지 여부
+   * @return 만료 일시
+   */
+  private static LocalDateTime expiryFromNow(boolean rememberMe) {
+    LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
+    return rememberMe ? now.plusDays(REMEMBER_ME_EXPIRY_DAYS) : now.plusHours(DEFAULT_EXPIRY_HOURS);
+  }
+
+  /**
+   * 토큰 값 앞 5자를 발급일 힌트로 바꾼다.
+   *
+   * <p>힌트는 표식 {@code r}과 발급일의 epoch day(16진수 4자)다. 나머지는 그대로 두므로 길이는 바뀌지 않는다.
+   *
+   * @param tokenValue 임의 토큰 값 (5자 이상)
+   * @param issuedOn 발급일
+   * @return 발급일 힌트가 붙은 토큰 값
+   */
+  public static String withIssueDateHint(String tokenValue, LocalDate issuedOn) {
+    return ISSUE_DATE_MARKER
+        + "%04x".formatted(issuedOn.toEpochDay())
+        + tokenValue.substring(ISSUE_DATE_HINT_LENGTH);
+  }
+
+  /**
+   * 토큰 값의 발급일 힌트를 읽는다.
+   *
+   * @param token 토큰 원문
+   * @return 발급일. 힌트가 없는 토큰이면 빈 값
+   */
+  public static Optional<LocalDate> issueDateOf(String token) {
+    if (token == null
+        || token.length() < ISSUE_DATE_HINT_LENGTH
+        || token.charAt(0) != ISSUE_DATE_MARKER) {
+      return Optional.empty();
+    }
+    try {
+      return Optional.of(
+          LocalDate.ofEpochDay(Integer.parseInt(token, 1, ISSUE_DATE_HINT_LENGTH, 16)));
+    } catch (NumberFormatException e) {
+      return Optional.empty();
+    }
+  }
+
+  /**
+   * 토큰 값의 발급일 힌트로 가능한 만료 일시 구간을 구한다.
+   *
+   * <p>발급과 교체 모두 그날의 어느 시각에 만료 기간을 더하므로, 만료 기간마다 하루 폭의 구간이 하나씩 나온다. 파티션 테이블에서는
+   * 이 구간으로 조회할 파티션을 2~4개로 줄인다.
+   *
+   * @param token 토큰 원문
+   * @return [from, to) 구간 목록. 힌트가 없는 토큰이면 빈 목록
+   */
+  public static List<ExpiryRange> expiryRangesOf(String token) {
+    return issueDateOf(token)
+        .map(
+            issuedOn ->
+                List.of(
+                    ExpiryRange.of(issuedOn, Duration.ofHours(DEFAULT_EXPIRY_HOURS)),
+                    ExpiryRange.of(issuedOn, Duration.ofDays(REMEMBER_ME_EXPIRY_DAYS))))
+        .orElse(List.of());
+  }
+
+  /**
+   * 토큰 원문의 SHA-256 다이제스트를 계산한다.
+   *
+   * <p>저장과 조회에 같은 값을 써야 하므로 토큰 조회 시에도 이 메서드로 키를 만든다.
+   *
+   * @param token 토큰 원문
+   * @return 32바이트 다이제스트
+   */
+  public static byte[] hashToken(String token) {
+    try {
+      return MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException("SHA-256을 사용할 수 없습니다", e);
+    }
   }
 
   /** 토큰을 폐기한다. */
@@ -197,4 +316,28 @@ public class RefreshToken {
   public int hashCode() {
     return Objects.hash(id);
   }
+
+  /**
+   * 만료 일시 구간 [from, to).
+   *
+   * @param from 시작 (포함)
+   * @param to 끝 (제외)
+   */
+  public record ExpiryRange(LocalDateTime from, LocalDateTime to) {
+
+    private static ExpiryRange of(LocalDate issuedOn, Duration lifetime) {
+      LocalDateTime start = issuedOn.atStartOfDay().plus(lifetime);
+      return new ExpiryRange(start, start.plusDays(1).plus(ISSUE_DATE_SLACK));
+    }
+
+    /**
+     * 만료 일시가 구간 안에 있는지 확인한다.
+     *
+     * @param expiresAt 만료 일시
+     * @return from 이상 to 미만이면 true
+     */
+    public boolean contains(LocalDateTime expiresAt) {
+      return !expiresAt.isBefore(from) && expiresAt.isBefore(to);
+    }
+  }
 }
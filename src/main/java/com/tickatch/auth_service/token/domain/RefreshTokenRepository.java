@@ -1,6 +1,7 @@
 package com.tickatch.auth_service.token.domain;
 
 import com.tickatch.auth_service.token.domain.repository.dto.RefreshTokenSearchCondition;
+import com.tickatch.auth_service.token.domain.repository.dto.RefreshTokenWithOwner;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -29,6 +30,9 @@ public interface RefreshTokenRepository {
   /**
    * ID로 RefreshToken을 조회한다.
    *
+   * <p>파티션 테이블에서는 ID만으로 파티션을 고를 수 없어 모든 파티션의 PK 인덱스를 한 번씩 본다. 관리용 조회에만 쓰고 요청
+   * 경로에서는 토큰 값으로 조회한다.
+   *
    * @param id RefreshToken ID
    * @return 조회된 RefreshToken (없으면 empty)
    */
@@ -37,13 +41,23 @@ public interface RefreshTokenRepository {
   /**
    * 토큰 값으로 RefreshToken을 조회한다.
    *
-   * <p>토큰 갱신 시 사용한다.
+   * <p>토큰 갱신 시 사용한다. 구현체는 토큰 원문이 아닌 해시({@link RefreshToken#hashToken(String)})로 조회한다.
    *
    * @param token 토큰 값
    * @return 조회된 RefreshToken (없으면 empty)
    */
   Optional<RefreshToken> findByToken(String token);
 
+  /**
+   * 토큰 값으로 RefreshToken과 소유자 정보를 함께 조회한다.
+   *
+   * <p>토큰 갱신 시 사용한다. RefreshToken과 Auth를 한 번의 조인 쿼리로 조회하여 Auth를 따로 조회하지 않는다.
+   *
+   * @param token 토큰 값
+   * @return 조회된 RefreshToken과 소유자 정보 (토큰이 없으면 empty)
+   */
+  Optional<RefreshTokenWithOwner> findWithOwnerByToken(String token);
+
   /**
    * Auth ID로 모든 RefreshToken을 조회한다.
    *
@@ -86,7 +100,7 @@ public interface RefreshTokenRepository {
   /**
    * 만료되었거나 폐기된 토큰을 삭제한다.
    *
-   * <p>스케줄러에서 정기적으로 호출하여 불필요한 토큰을 정리한다.
+   * <p>한 문장으로 모든 대상 행을 지우므로 행이 많으면 오래 잠근다. 정기 정리는 {@code RefreshTokenPurger}가 나눠서 한다.
    *
    * @return 삭제된 토큰 수
    */
@@ -3,7 +3,6 @@ package com.tickatch.auth_service.token.domain.repository;
 import com.tickatch.auth_service.token.domain.RefreshToken;
 import java.time.LocalDateTime;
 import java.util.List;
-import java.util.Optional;
 import java.util.UUID;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
@@ -21,14 +20,6 @@ import org.springframework.data.repository.query.Param;
  */
 public interface RefreshTokenJpaRepository extends JpaRepository<RefreshToken, UUID> {
 
-  /**
-   * 토큰 값으로 RefreshToken을 조회한다.
-   *
-   * @param token 토큰 값
-   * @return 조회된 RefreshToken (없으면 empty)
-   */
-  Optional<RefreshToken> findByToken(String token);
-
   /**
    * Auth ID로 모든 RefreshToken을 조회한다.
    *
@@ -1,15 +1,20 @@
 package com.tickatch.auth_service.token.domain.repository;
 
+import static com.tickatch.auth_service.auth.domain.QAuth.auth;
 import static com.tickatch.auth_service.token.domain.QRefreshToken.refreshToken;
 
+import com.querydsl.core.Tuple;
 import com.querydsl.core.types.Order;
 import com.querydsl.core.types.OrderSpecifier;
 import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.Expressions;
 import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import com.tickatch.auth_service.token.domain.RefreshToken;
+import com.tickatch.auth_service.token.domain.RefreshToken.ExpiryRange;
 import com.tickatch.auth_service.token.domain.RefreshTokenRepository;
 import com.tickatch.auth_service.token.domain.repository.dto.RefreshTokenSearchCondition;
+import com.tickatch.auth_service.token.domain.repository.dto.RefreshTokenWithOwner;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
@@ -49,9 +54,41 @@ public class RefreshTokenRepositoryImpl implements RefreshTokenRepository {
     return refreshTokenJpaRepository.findById(id);
   }
 
+  /**
+   * {@inheritDoc}
+   *
+   * <p>토큰 원문을 SHA-256으로 해시하여 {@code token_hash} 인덱스로 조회한다. 발급일 힌트가 있으면 만료 일시 범위를 함께
+   * 걸어 파티션 테이블에서도 해당 파티션만 본다.
+   */
   @Override
   public Optional<RefreshToken> findByToken(String token) {
-    return refreshTokenJpaRepository.findByToken(token);
+    return Optional.ofNullable(
+        queryFactory.selectFrom(refreshToken).where(tokenEq(token)).fetchOne());
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * <p>QueryDSL로 {@code refresh_tokens LEFT JOIN auths}를 수행한다. Auth는 이메일과 사용자 유형만 조회하므로 엔티티로
+   * 적재되지 않는다. 토큰 조건은 {@link #findByToken(String)}과 같다.
+   */
+  @Override
+  public Optional<RefreshTokenWithOwner> findWithOwnerByToken(String token) {
+    Tuple row =
+        queryFactory
+            .select(refreshToken, auth.email, auth.userType)
+            .from(refreshToken)
+            .leftJoin(auth)
+            .on(auth.id.eq(refreshToken.authId))
+            .where(tokenEq(token))
+            .fetchOne();
+
+    if (row == null) {
+      return Optional.empty();
+    }
+    return Optional.of(
+        new RefreshTokenWithOwner(
+            row.get(refreshToken), row.get(auth.email), row.get(auth.userType)));
   }
 
   @Override
@@ -117,6 +154,33 @@ public class RefreshTokenRepositoryImpl implements RefreshTokenRepository {
     return PageableExecutionUtils.getPage(content, pageable, countQuery::fetchOne);
   }
 
+  /**
+   * 토큰 값 일치 조건.
+   *
+   * <p>해시 일치에 더해, 발급일 힌트가 있으면 가능한 만료 일시 구간 중 하나에 들어야 한다. PostgreSQL은 이 구간으로 파티션을
+   * 가지치기한다.
+   *
+   * @param token 토큰 원문
+   * @return 토큰 값 일치 조건
+   */
+  private BooleanExpression tokenEq(String token) {
+    BooleanExpression hashEq = refreshToken.tokenHash.eq(RefreshToken.hashToken(token));
+    List<ExpiryRange> ranges = RefreshToken.expiryRangesOf(token);
+    if (ranges.isEmpty()) {
+      return hashEq;
+    }
+    return hashEq.and(
+        Expressions.anyOf(
+            ranges.stream()
+                .map(
+                    range ->
+                        refreshToken
+                            .expiresAt
+                            .goe(range.from())
+                            .and(refreshToken.expiresAt.lt(range.to())))
+                .toArray(BooleanExpression[]::new)));
+  }
+
   /**
    * Auth ID 일치 검색 조건.
    *
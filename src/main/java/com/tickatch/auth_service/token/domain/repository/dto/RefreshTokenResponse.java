@@ -11,7 +11,7 @@ import lombok.Getter;
  *
  * <p>RefreshToken 조회 시 반환되는 데이터를 담는다. 엔티티를 외부에 노출하지 않고 필요한 필드만 전달한다.
  *
- * <p>보안상 토큰 값은 마스킹 처리한다.
+ * <p>보안상 토큰 값은 마스킹 처리한다. DB에는 토큰 원문이 저장되지 않으므로 조회된 토큰은 항상 {@code ****}로 표시된다.
  *
  * @author Tickatch
  * @since 1.0.0
@@ -0,0 +1,28 @@
+package com.tickatch.auth_service.token.domain.repository.dto;
+
+import com.tickatch.auth_service.auth.domain.vo.UserType;
+import com.tickatch.auth_service.token.domain.RefreshToken;
+
+/**
+ * RefreshToken과 소유자 정보 조회 결과.
+ *
+ * <p>토큰 갱신 시 RefreshToken과 소유자(Auth)의 이메일, 사용자 유형을 한 번의 조인 쿼리로 조회한 결과를 담는다. 소유자가
+ * 존재하지 않으면 {@code email}과 {@code userType}은 null이다.
+ *
+ * @param refreshToken 조회된 RefreshToken (영속 상태)
+ * @param email 소유자 이메일
+ * @param userType 소유자 사용자 유형
+ * @author Tickatch
+ * @since 1.0.0
+ */
+public record RefreshTokenWithOwner(RefreshToken refreshToken, String email, UserType userType) {
+
+  /**
+   * 소유자(Auth)가 존재하는지 확인한다.
+   *
+   * @return 소유자가 조회되었으면 true
+   */
+  public boolean hasOwner() {
+    return userType != null;
+  }
+}
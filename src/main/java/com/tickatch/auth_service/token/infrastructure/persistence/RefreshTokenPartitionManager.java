@@ -0,0 +1,216 @@
+package com.tickatch.auth_service.token.infrastructure.persistence;
+
+import com.tickatch.auth_service.global.scheduling.infrastructure.LeaderElection;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 일 단위 {@code refresh_tokens} 파티션을 미리 만들고 다 만료된 파티션을 버리는 관리 작업.
+ *
+ * <p>파티션 저장 모드({@code token.partition.enabled})에서 {@code refresh_tokens}는 {@code expires_at} 기준
+ * 일 단위 범위 파티션({@code refresh_tokens_pYYYYMMDD})으로 나뉜다. 만료 행을 하나씩 지우는 대신, 범위가 끝난 파티션을
+ * {@code DETACH ... CONCURRENTLY} 후 {@code DROP}한다. 행 삭제가 없으므로 VACUUM 부담과 인덱스 팽창이 생기지 않는다.
+ *
+ * <ul>
+ *   <li>생성: 오늘부터 {@code premake-days}일 뒤까지의 파티션. 가장 긴 토큰 수명보다 길게 잡아 INSERT와 Rotation이 갈 곳이
+ *       항상 있게 한다.
+ *   <li>삭제: 범위 끝이 {@code 오늘 - retention-days}보다 이르거나 같은 파티션. 모든 행이 이미 만료되었다.
+ * </ul>
+ *
+ * <p>PostgreSQL에서만 동작하며 {@link LeaderElection}으로 인스턴스 하나만 실행한다. 그 외 DB(H2 등)는 파티션 테이블이
+ * 아니므로 아무것도 하지 않는다. 예약 작업 전용 실행기({@code jobExecutor})에서 돈다.
+ *
+ * <p>지표: {@code token.partition.created}, {@code token.partition.dropped}
+ *
+ * @author Tickatch
+ * @since 1.0.0
+ * @see RefreshTokenPurger
+ */
+@Slf4j
+@Component
+public class RefreshTokenPartitionManager {
+
+  private static final String JOB = "refresh-token-partition";
+
+  /* 파티션 이름 접두사. 뒤에 yyyyMMdd가 붙는다 */
+  private static final String PARTITION_PREFIX = "refresh_tokens_p";
+
+  private static final String LIST_PARTITIONS =
+      """
+      SELECT c.relname
+        FROM pg_inherits i
+        JOIN pg_class c ON c.oid = i.inhrelid
+        JOIN pg_class p ON p.oid = i.inhparent
+       WHERE p.relname = 'refresh_tokens'
+         AND p.relnamespace = current_schema()::regnamespace
+      """;
+
+  private static final String CREATE_PARTITION =
+      "CREATE TABLE IF NOT EXISTS %s PARTITION OF refresh_tokens FOR VALUES FROM ('%s') TO ('%s')";
+
+  private static final String DETACH_PARTITION =
+      "ALTER TABLE refresh_tokens DETACH PARTITION %s CONCURRENTLY";
+
+  private static final String DROP_PARTITION = "DROP TABLE IF EXISTS %s";
+
+  private final RefreshTokenPartitionProperties properties;
+  private final JdbcTemplate jdbcTemplate;
+  private final LeaderElection leaderElection;
+
+  private final AtomicBoolean running = new AtomicBoolean();
+
+  private final Counter createdCounter;
+  private final Counter droppedCounter;
+
+  public RefreshTokenPartitionManager(
+      RefreshTokenPartitionProperties properties,
+      JdbcTemplate jdbcTemplate,
+      LeaderElection leaderElection,
+      MeterRegistry registry) {
+    this.properties = properties;
+    this.jdbcTemplate = jdbcTemplate;
+    this.leaderElection = leaderElection;
+    this.createdCounter =
+        Counter.builder("token.partition.created")
+            .description("만든 리프레시 토큰 파티션 수")
+            .register(registry);
+    this.droppedCounter =
+        Counter.builder("token.partition.dropped")
+            .description("버린 리프레시 토큰 파티션 수")
+            .register(registry);
+  }
+
+  /** 예약된 파티션 관리를 실행한다. */
+  @Async("jobExecutor")
+  @Scheduled(
+      fixedDelayString = "${token.partition.interval:PT1H}",
+      initialDelayString = "${token.partition.interval:PT1H}")
+  public void scheduledMaintain() {
+    if (!properties.isEnabled()) {
+      return;
+    }
+    try {
+      maintain();
+    } catch (RuntimeException e) {
+      log.warn("리프레시 토큰 파티션 관리 실패: {}", e.getMessage());
+    }
+  }
+
+  /** 필요한 파티션을 만들고 다 만료된 파티션을 버린다. 다른 실행이 진행 중이면 건너뛴다. */
+  public void maintain() {
+    if (!running.compareAndSet(false, true)) {
+      return;
+    }
+    try {
+      if (leaderElection.isPostgreSql()) {
+        leaderElection.runAsLeader(JOB, this::maintainPartitions, this::skip);
+      }
+    } finally {
+      running.set(false);
+    }
+  }
+
+  private Void maintainPartitions() {
+    LocalDate today = LocalDate.now();
+    List<String> existing = jdbcTemplate.queryForList(LIST_PARTITIONS, String.class);
+    createPartitions(existing, today);
+    dropPartitions(existing, today);
+    return null;
+  }
+
+  private Void skip() {
+    log.debug("다른 인스턴스가 리프레시 토큰 파티션 관리 중이라 건너뜀");
+    return null;
+  }
+
+  private void createPartitions(Collection<String> existing, LocalDate today) {
+    for (LocalDate day : daysToCreate(today)) {
+      String name = partitionName(day);
+      if (existing.contains(name)) {
+        continue;
+      }
+      jdbcTemplate.execute(CREATE_PARTITION.formatted(name, day, day.plusDays(1)));
+      createdCounter.increment();
+      log.info("리프레시 토큰 파티션 생성 - {}", name);
+    }
+  }
+
+  private void dropPartitions(Collection<String> existing, LocalDate today) {
+    for (String name : partitionsToDrop(existing, today)) {
+      try {
+        jdbcTemplate.execute(DETACH_PARTITION.formatted(name));
+        jdbcTemplate.execute(DROP_PARTITION.formatted(name));
+        droppedCounter.increment();
+        log.info("리프레시 토큰 파티션 삭제 - {}", name);
+      } catch (DataAccessException e) {
+        log.warn("리프레시 토큰 파티션 삭제 실패 - {}: {}", name, e.getMessage());
+      }
+    }
+  }
+
+  /**
+   * 오늘부터 미리 만들어 둘 파티션의 날짜를 반환한다.
+   *
+   * @param today 오늘
+   * @return 오늘부터 {@code premake-days}일 뒤까지의 날짜
+   */
+  List<LocalDate> daysToCreate(LocalDate today) {
+    return today.datesUntil(today.plusDays(properties.getPremakeDays() + 1L)).toList();
+  }
+
+  /**
+   * 버릴 파티션 이름을 반환한다.
+   *
+   * <p>이름 형식이 다른 테이블(수동으로 만든 파티션 등)은 건드리지 않는다.
+   *
+   * @param existing 현재 파티션 이름 목록
+   * @param today 오늘
+   * @return 범위 끝이 {@code 오늘 - retention-days} 이전인 파티션 이름
+   */
+  List<String> partitionsToDrop(Collection<String> existing, LocalDate today) {
+    LocalDate cutoff = today.minusDays(properties.getRetentionDays());
+    List<String> names = new ArrayList<>();
+    for (String name : existing) {
+      LocalDate day = partitionDay(name);
+      if (day != null && !day.plusDays(1).isAfter(cutoff)) {
+        names.add(name);
+      }
+    }
+    return names;
+  }
+
+  /**
+   * 날짜의 파티션 이름을 만든다.
+   *
+   * @param day 파티션 날짜
+   * @return {@code refresh_tokens_pYYYYMMDD}
+   */
+  static String partitionName(LocalDate day) {
+    return PARTITION_PREFIX + DateTimeFormatter.BASIC_ISO_DATE.format(day);
+  }
+
+  private static LocalDate partitionDay(String name) {
+    if (!name.startsWith(PARTITION_PREFIX)) {
+      return null;
+    }
+    try {
+      return LocalDate.parse(
+          name.substring(PARTITION_PREFIX.length()), DateTimeFormatter.BASIC_ISO_DATE);
+    } catch (DateTimeParseException e) {
+      return null;
+    }
+  }
+}
@@ -0,0 +1,35 @@
+package com.tickatch.auth_service.token.infrastructure.persistence;
+
+import java.time.Duration;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 리프레시 토큰 파티션 설정 프로퍼티.
+ *
+ * <p>application.yml의 token.partition.* 설정을 바인딩한다. {@code refresh_tokens}를
+ * db/manual/refresh_tokens_partitioned.sql로 파티션 테이블로 바꾼 뒤에 켠다.
+ *
+ * @author Tickatch
+ * @since 1.0.0
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "token.partition")
+public class RefreshTokenPartitionProperties {
+
+  /** 파티션 저장 모드 사용 여부. 켜면 만료 행은 지우지 않고 파티션째 버린다. */
+  private boolean enabled = false;
+
+  /** 파티션 관리 실행 주기. */
+  private Duration interval = Duration.ofHours(1);
+
+  /** 오늘부터 미리 만들어 둘 일 단위 파티션 수. 가장 긴 토큰 수명(30일)보다 길어야 한다. */
+  private int premakeDays = 35;
+
+  /** 모든 행이 만료된 파티션을 버리기 전 더 보관할 일 수. */
+  private int retentionDays = 0;
+}
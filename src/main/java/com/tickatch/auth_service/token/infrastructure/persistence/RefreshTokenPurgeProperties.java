@@ -0,0 +1,37 @@
+package com.tickatch.auth_service.token.infrastructure.persistence;
+
+import java.time.Duration;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 리프레시 토큰 정리 설정 프로퍼티.
+ *
+ * <p>application.yml의 token.purge.* 설정을 바인딩한다.
+ *
+ * @author Tickatch
+ * @since 1.0.0
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "token.purge")
+public class RefreshTokenPurgeProperties {
+
+  /** 정리 사용 여부. */
+  private boolean enabled = true;
+
+  /** 실행 주기 (이전 실행 시작 기준). */
+  private Duration interval = Duration.ofMinutes(10);
+
+  /** DELETE 한 번에 지울 최대 행 수. */
+  private int batchSize = 1_000;
+
+  /** 배치 사이 쉬는 시간. 복제 지연과 I/O 부하를 줄인다. */
+  private Duration pause = Duration.ofMillis(100);
+
+  /** 한 번 실행의 최대 시간. 남은 행은 다음 실행에서 지운다. */
+  private Duration maxRuntime = Duration.ofMinutes(5);
+}
@@ -0,0 +1,237 @@
+package com.tickatch.auth_service.token.infrastructure.persistence;
+
+import com.tickatch.auth_service.global.scheduling.infrastructure.LeaderElection;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 만료되었거나 폐기된 리프레시 토큰을 나눠서 지우는 정리 작업.
+ *
+ * <p>한 번의 {@code DELETE ... WHERE revoked = true OR expires_at < now}는 수백만 행을 한 트랜잭션에서 잠그고 WAL을
+ * 한꺼번에 쓴다. 이 작업은 {@code (expires_at, id)} 키셋 순서로 {@code batch-size}행씩 지우고, 배치마다 커밋한 뒤 {@code
+ * pause}만큼 쉰다. {@code max-runtime}을 넘기면 멈추고 남은 행은 다음 실행에서 지운다.
+ *
+ * <ul>
+ *   <li>1단계: {@code expires_at < 실행 시작 시각}인 행 ({@code idx_refresh_token_expires_at})
+ *   <li>2단계: 아직 만료되지 않은 폐기 행 ({@code idx_refresh_token_revoked_expires_at} 부분 인덱스)
+ * </ul>
+ *
+ * <p>파티션 저장 모드({@code token.partition.enabled})에서는 만료 행을 {@link RefreshTokenPartitionManager}가 파티션째
+ * 버리므로 1단계를 건너뛴다.
+ *
+ * <p>만료와 폐기는 되돌릴 수 없으므로 조회와 삭제 사이에 다른 요청이 행을 바꿔도 지우면 안 되는 행을 지우지 않는다. 삭제 문에도 같은
+ * 조건을 한 번 더 건다.
+ *
+ * <p>{@link LeaderElection}으로 인스턴스 하나만 실행한다.
+ *
+ * <p>배치 사이에 쉬는 동안 스레드를 붙잡으므로 예약 작업 전용 실행기({@code jobExecutor})에서 돌며, 이전 실행이 끝나지 않았으면
+ * 건너뛴다.
+ *
+ * <p>지표: {@code token.purge.deleted{reason=expired|revoked}}(삭제 행 수), {@code token.purge}(실행 시간),
+ * {@code token.purge.skipped}(다른 인스턴스가 실행 중이라 건너뜀)
+ *
+ * @author Tickatch
+ * @since 1.0.0
+ */
+@Slf4j
+@Component
+public class RefreshTokenPurger {
+
+  private static final String JOB = "refresh-token-purge";
+
+  private static final String SELECT_FIRST =
+      """
+      SELECT id, expires_at
+        FROM refresh_tokens
+       WHERE %s
+       ORDER BY expires_at, id
+       LIMIT :limit
+      """;
+
+  private static final String SELECT_NEXT =
+      """
+      SELECT id, expires_at
+        FROM refresh_tokens
+       WHERE %s
+         AND expires_at >= :afterExpiresAt
+         AND (expires_at > :afterExpiresAt OR id > :afterId)
+       ORDER BY expires_at, id
+       LIMIT :limit
+      """;
+
+  private static final String DELETE_BATCH =
+      "DELETE FROM refresh_tokens WHERE id IN (:ids) AND %s";
+
+  private final RefreshTokenPurgeProperties properties;
+  private final RefreshTokenPartitionProperties partitionProperties;
+  private final NamedParameterJdbcTemplate namedJdbcTemplate;
+  private final LeaderElection leaderElection;
+
+  private final AtomicBoolean running = new AtomicBoolean();
+
+  private final Map<Phase, Counter> deletedCounters = new EnumMap<>(Phase.class);
+  private final Timer purgeTimer;
+  private final Counter skippedCounter;
+
+  public RefreshTokenPurger(
+      RefreshTokenPurgeProperties properties,
+      RefreshTokenPartitionProperties partitionProperties,
+      JdbcTemplate jdbcTemplate,
+      LeaderElection leaderElection,
+      MeterRegistry registry) {
+    this.properties = properties;
+    this.partitionProperties = partitionProperties;
+    this.namedJdbcTemplate = new NamedParameterJdbcTemplate(jdbcTemplate);
+    this.leaderElection = leaderElection;
+    for (Phase phase : Phase.values()) {
+      deletedCounters.put(
+          phase,
+          Counter.builder("token.purge.deleted")
+              .tag("reason", phase.reason)
+              .description("정리한 리프레시 토큰 수")
+              .register(registry));
+    }
+    this.purgeTimer =
+        Timer.builder("token.purge").description("리프레시 토큰 정리 실행 시간").register(registry);
+    this.skippedCounter =
+        Counter.builder("token.purge.skipped")
+            .description("다른 인스턴스가 실행 중이라 건너뛴 리프레시 토큰 정리 횟수")
+            .register(registry);
+  }
+
+  /** 예약된 정리를 실행한다. */
+  @Async("jobExecutor")
+  @Scheduled(
+      fixedDelayString = "${token.purge.interval:PT10M}",
+      initialDelayString = "${token.purge.interval:PT10M}")
+  public void scheduledPurge() {
+    if (!properties.isEnabled()) {
+      return;
+    }
+    try {
+      purge();
+    } catch (RuntimeException e) {
+      log.warn("리프레시 토큰 정리 실패: {}", e.getMessage());
+    }
+  }
+
+  /**
+   * 만료되었거나 폐기된 토큰을 정리한다.
+   *
+   * @return 삭제한 행 수. 이 인스턴스의 다른 실행이나 다른 인스턴스가 정리 중이면 0
+   */
+  public int purge() {
+    if (!running.compareAndSet(false, true)) {
+      return 0;
+    }
+    try {
+      Integer deleted = leaderElection.runAsLeader(JOB, this::timedPurge, this::skip);
+      return deleted == null ? 0 : deleted;
+    } finally {
+      running.set(false);
+    }
+  }
+
+  private int skip() {
+    skippedCounter.increment();
+    log.debug("다른 인스턴스가 리프레시 토큰 정리 중이라 건너뜀");
+    return 0;
+  }
+
+  private int timedPurge() {
+    Timer.Sample sample = Timer.start();
+    try {
+      Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+      long deadline = System.nanoTime() + properties.getMaxRuntime().toNanos();
+
+      int expired =
+          partitionProperties.isEnabled() ? 0 : purgePhase(Phase.EXPIRED, now, deadline);
+      int revoked = purgePhase(Phase.REVOKED, now, deadline);
+
+      if (expired + revoked > 0) {
+        log.info("리프레시 토큰 정리 완료 - expired: {}, revoked: {}", expired, revoked);
+      }
+      return expired + revoked;
+    } finally {
+      sample.stop(purgeTimer);
+    }
+  }
+
+  private int purgePhase(Phase phase, Timestamp now, long deadline) {
+    MapSqlParameterSource params =
+        new MapSqlParameterSource("now", now).addValue("limit", properties.getBatchSize());
+    String selectFirst = SELECT_FIRST.formatted(phase.condition);
+    String selectNext = SELECT_NEXT.formatted(phase.condition);
+    String delete = DELETE_BATCH.formatted(phase.condition);
+    int total = 0;
+
+    String select = selectFirst;
+    while (System.nanoTime() < deadline) {
+      List<Key> keys =
+          namedJdbcTemplate.query(
+              select,
+              params,
+              (rs, rowNum) ->
+                  new Key(rs.getTimestamp("expires_at"), rs.getObject("id", UUID.class)));
+      if (keys.isEmpty()) {
+        break;
+      }
+
+      int deleted =
+          namedJdbcTemplate.update(
+              delete, params.addValue("ids", keys.stream().map(Key::id).toList()));
+      total += deleted;
+      deletedCounters.get(phase).increment(deleted);
+
+      if (keys.size() < properties.getBatchSize() || !pause()) {
+        break;
+      }
+      Key last = keys.get(keys.size() - 1);
+      params.addValue("afterExpiresAt", last.expiresAt()).addValue("afterId", last.id());
+      select = selectNext;
+    }
+    return total;
+  }
+
+  private boolean pause() {
+    try {
+      Thread.sleep(properties.getPause().toMillis());
+      return true;
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      return false;
+    }
+  }
+
+  /** 정리 단계. 만료 행을 먼저 지운 뒤 남은 폐기 행을 지운다. */
+  private enum Phase {
+    EXPIRED("expired", "expires_at < :now"),
+    REVOKED("revoked", "revoked = true");
+
+    private final String reason;
+    private final String condition;
+
+    Phase(String reason, String condition) {
+      this.reason = reason;
+      this.condition = condition;
+    }
+  }
+
+  /** 키셋 위치. */
+  private record Key(Timestamp expiresAt, UUID id) {}
+}
@@ -1,21 +1,18 @@
 -- =============================================================================
--- Auth Service Database Initialization Script
+-- V1: Auth Service 기준 스키마
+-- =============================================================================
+-- Flyway 도입 전 init.sql에 db/manual/refresh_token_hash.sql(token_hash 이관)을 적용한 상태다.
+-- 그 상태의 기존 DB는 baseline-on-migrate로 V1을 건너뛰므로, 이후에 추가한 객체는 V2 이후 마이그레이션에 둔다.
+-- 스키마(auth_service)는 Flyway가 만들고 search_path도 Flyway가 잡는다.
+-- ID 기본값은 확장 없이 쓸 수 있는 gen_random_uuid()(PostgreSQL 13 이상)를 쓴다.
+-- init.sql에 있던 인덱스 중 유니크 제약과 앞 컬럼이 겹쳐 V2/V5에서 지우는 인덱스는 여기서 만들지 않는다.
 -- =============================================================================
-
--- 스키마 생성
-CREATE SCHEMA IF NOT EXISTS auth_service;
-
--- 스키마 설정
-SET search_path TO auth_service;
-
--- UUID 확장 활성화
-CREATE EXTENSION IF NOT EXISTS "uuid-ossp";
 
 -- -----------------------------------------------------------------------------
 -- Auth 테이블 (인증 정보)
 -- -----------------------------------------------------------------------------
 CREATE TABLE IF NOT EXISTS auths (
-                                     id                      UUID            PRIMARY KEY DEFAULT uuid_generate_v4(),
+                                     id                      UUID            PRIMARY KEY DEFAULT gen_random_uuid(),
 
     -- 기본 정보
     email                   VARCHAR(255)    NOT NULL,
@@ -43,7 +40,6 @@ CREATE TABLE IF NOT EXISTS auths (
     );
 
 -- Auth 인덱스
-CREATE INDEX IF NOT EXISTS idx_auth_email ON auths(email);
 CREATE INDEX IF NOT EXISTS idx_auth_user_type ON auths(user_type);
 CREATE INDEX IF NOT EXISTS idx_auth_status ON auths(status);
 CREATE INDEX IF NOT EXISTS idx_auth_deleted_at ON auths(deleted_at);
@@ -52,7 +48,7 @@ CREATE INDEX IF NOT EXISTS idx_auth_deleted_at ON auths(deleted_at);
 -- AuthProvider 테이블 (소셜 로그인 연동 정보)
 -- -----------------------------------------------------------------------------
 CREATE TABLE IF NOT EXISTS auth_providers (
-                                              id                      UUID            PRIMARY KEY DEFAULT uuid_generate_v4(),
+                                              id                      UUID            PRIMARY KEY DEFAULT gen_random_uuid(),
 
     -- 연동 정보
     auth_id                 UUID            NOT NULL,
@@ -68,20 +64,16 @@ CREATE TABLE IF NOT EXISTS auth_providers (
     CONSTRAINT chk_provider_type CHECK (provider IN ('KAKAO', 'NAVER', 'GOOGLE'))
     );
 
--- AuthProvider 인덱스
-CREATE INDEX IF NOT EXISTS idx_auth_provider_auth_id ON auth_providers(auth_id);
-CREATE INDEX IF NOT EXISTS idx_auth_provider_provider ON auth_providers(provider);
-CREATE INDEX IF NOT EXISTS idx_auth_provider_provider_user_id ON auth_providers(provider_user_id);
-
 -- -----------------------------------------------------------------------------
 -- RefreshToken 테이블 (리프레시 토큰)
 -- -----------------------------------------------------------------------------
+-- 일 단위 파티션 저장 모드는 db/manual/refresh_tokens_partitioned.sql로 전환한다.
 CREATE TABLE IF NOT EXISTS refresh_tokens (
-                                              id                      UUID            PRIMARY KEY DEFAULT uuid_generate_v4(),
+                                              id                      UUID            PRIMARY KEY DEFAULT gen_random_uuid(),
 
     -- 토큰 정보
     auth_id                 UUID            NOT NULL,
-    token                   VARCHAR(500)    NOT NULL,
+    token_hash              BYTEA           NOT NULL,
     device_info             VARCHAR(500),
 
     -- 상태 정보
@@ -91,14 +83,12 @@ CREATE TABLE IF NOT EXISTS refresh_tokens (
     remember_me             BOOLEAN         NOT NULL DEFAULT FALSE,
 
     -- 제약 조건
-    CONSTRAINT uk_refresh_token UNIQUE (token)
+    CONSTRAINT uk_refresh_token_hash UNIQUE (token_hash)
     );
 
 -- RefreshToken 인덱스
 CREATE INDEX IF NOT EXISTS idx_refresh_token_auth_id ON refresh_tokens(auth_id);
-CREATE INDEX IF NOT EXISTS idx_refresh_token_token ON refresh_tokens(token);
 CREATE INDEX IF NOT EXISTS idx_refresh_token_expires_at ON refresh_tokens(expires_at);
-CREATE INDEX IF NOT EXISTS idx_refresh_token_revoked ON refresh_tokens(revoked);
 
 -- -----------------------------------------------------------------------------
 -- 코멘트
@@ -131,9 +121,9 @@ COMMENT ON COLUMN auth_providers.connected_at IS '연동 일시';
 COMMENT ON TABLE refresh_tokens IS '리프레시 토큰 테이블';
 COMMENT ON COLUMN refresh_tokens.id IS '토큰 ID (UUID)';
 COMMENT ON COLUMN refresh_tokens.auth_id IS '인증 ID';
-COMMENT ON COLUMN refresh_tokens.token IS '토큰 값';
+COMMENT ON COLUMN refresh_tokens.token_hash IS '토큰 원문의 SHA-256 다이제스트 (32바이트)';
 COMMENT ON COLUMN refresh_tokens.device_info IS '디바이스 정보';
 COMMENT ON COLUMN refresh_tokens.expires_at IS '만료 일시';
 COMMENT ON COLUMN refresh_tokens.created_at IS '생성 일시';
 COMMENT ON COLUMN refresh_tokens.revoked IS '폐기 여부';
-COMMENT ON COLUMN refresh_tokens.remember_me IS '로그인 유지 여부 (true: 30일, false: 1시간)';
\ No newline at end of file
+COMMENT ON COLUMN refresh_tokens.remember_me IS '로그인 유지 여부 (true: 30일, false: 1시간)';
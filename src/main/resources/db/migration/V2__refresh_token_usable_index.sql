@@ -0,0 +1,26 @@
+-- =============================================================================
+-- V2: 사용 가능 토큰 부분 인덱스, 중복 인덱스 제거
+-- =============================================================================
+-- RefreshTokenJpaRepository의 두 쿼리는 폐기되지 않은 행만 본다.
+--   findAllUsableByAuthId: auth_id = ? AND revoked = false AND expires_at > ?
+--   revokeAllByAuthId:     UPDATE ... WHERE auth_id = ? AND revoked = false
+-- (auth_id, expires_at) WHERE revoked = false 부분 인덱스는 두 쿼리의 조건을 모두 인덱스 안에서 거르고,
+-- 폐기 행이 빠져 auth_id 전체 인덱스보다 작다.
+-- idx_refresh_token_auth_id는 폐기 여부와 무관한 조회/삭제(findAllByAuthId, deleteAllByAuthId)에 남긴다.
+--
+-- 제거하는 인덱스는 모두 기존 DB에만 남아 있고, 앞 컬럼이 같은 유니크 제약으로 대신된다.
+--   idx_refresh_token_revoked             선택도가 낮은 boolean 단일 인덱스
+--   idx_auth_email                        uk_auth_email_user_type (email, user_type)
+--   idx_auth_provider_auth_id             uk_auth_provider (auth_id, provider)
+-- auth_providers의 provider, provider_user_id 인덱스는 대신할 유니크 인덱스를 만든 뒤 V5에서 지운다.
+--
+-- 모든 문장이 CONCURRENTLY라 Flyway가 트랜잭션 없이 실행하며 쓰기를 막지 않는다.
+-- 파티션 테이블에는 CONCURRENTLY를 쓸 수 없으므로 db/manual/refresh_tokens_partitioned.sql은 이 마이그레이션 뒤에 실행한다.
+-- =============================================================================
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_refresh_token_auth_id_usable
+    ON refresh_tokens (auth_id, expires_at) WHERE revoked = FALSE;
+
+DROP INDEX CONCURRENTLY IF EXISTS idx_refresh_token_revoked;
+DROP INDEX CONCURRENTLY IF EXISTS idx_auth_email;
+DROP INDEX CONCURRENTLY IF EXISTS idx_auth_provider_auth_id;
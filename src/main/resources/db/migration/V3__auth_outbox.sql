@@ -0,0 +1,29 @@
+-- =============================================================================
+-- V3: 인증 로그 아웃박스
+-- =============================================================================
+-- 인증 로그 이벤트를 업무 데이터와 같은 트랜잭션에서 기록하고, AuthOutboxRelay가 id 순서로 꺼내
+-- RabbitMQ publisher confirm을 받은 뒤 지운다. id는 UUIDv7이라 기본 키 순서가 곧 기록 순서다.
+--
+-- 행이 계속 들어오고 곧바로 지워지는 큐 테이블이라, 테이블 크기 비율이 아닌 고정 행 수로 autovacuum을
+-- 돌려 죽은 튜플이 쌓여 id 순서 조회가 느려지지 않게 한다.
+-- =============================================================================
+
+CREATE TABLE IF NOT EXISTS auth_outbox (
+    id                      UUID            PRIMARY KEY,
+    exchange                VARCHAR(100)    NOT NULL,
+    routing_key             VARCHAR(100)    NOT NULL,
+    payload                 TEXT            NOT NULL,
+    created_at              TIMESTAMP       NOT NULL
+    );
+
+ALTER TABLE auth_outbox SET (
+    autovacuum_vacuum_scale_factor = 0,
+    autovacuum_vacuum_threshold = 1000
+    );
+
+COMMENT ON TABLE auth_outbox IS '인증 로그 아웃박스 (브로커 전송 대기 메시지)';
+COMMENT ON COLUMN auth_outbox.id IS '메시지 ID (UUIDv7, 이벤트 ID와 같음)';
+COMMENT ON COLUMN auth_outbox.exchange IS '발행할 Exchange';
+COMMENT ON COLUMN auth_outbox.routing_key IS '라우팅 키';
+COMMENT ON COLUMN auth_outbox.payload IS '이벤트 JSON';
+COMMENT ON COLUMN auth_outbox.created_at IS '기록 일시';
@@ -0,0 +1,24 @@
+-- =============================================================================
+-- V4: 클러스터 요청 제한 카운터
+-- =============================================================================
+-- ClusterRateLimiter가 인스턴스별 카운트를 모아 고정 윈도우 단위로 더한다. 슬라이딩 윈도우는 현재와 직전 윈도우로 계산한다.
+-- Flyway 도입 전부터 있던 DB는 V1을 건너뛰므로 여기서 만든다. 이미 있으면 그대로 둔다.
+-- =============================================================================
+
+CREATE TABLE IF NOT EXISTS rate_limit_counters (
+    limiter                 VARCHAR(50)     NOT NULL,
+    limit_key               VARCHAR(400)    NOT NULL,
+    window_start            BIGINT          NOT NULL,
+    hit_count               INTEGER         NOT NULL,
+
+    CONSTRAINT pk_rate_limit_counters PRIMARY KEY (limiter, limit_key, window_start)
+    );
+
+-- 오래된 윈도우 정리용
+CREATE INDEX IF NOT EXISTS idx_rate_limit_counters_window_start ON rate_limit_counters(window_start);
+
+COMMENT ON TABLE rate_limit_counters IS '클러스터 요청 제한 카운터 (슬라이딩 윈도우)';
+COMMENT ON COLUMN rate_limit_counters.limiter IS '제한기 이름 (login-account, login-ip, check-email-ip)';
+COMMENT ON COLUMN rate_limit_counters.limit_key IS '제한 키 (이메일|사용자 유형, IP)';
+COMMENT ON COLUMN rate_limit_counters.window_start IS '고정 윈도우 시작 시각 (epoch ms)';
+COMMENT ON COLUMN rate_limit_counters.hit_count IS '윈도우 내 요청 수 (모든 인스턴스 합계)';
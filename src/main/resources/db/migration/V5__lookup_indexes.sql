@@ -0,0 +1,37 @@
+-- =============================================================================
+-- V5: 가입 조회, 폐기 토큰 정리, 소셜 연동 자연 키 인덱스 (중복 인덱스 제거)
+-- =============================================================================
+-- Flyway 도입 전에는 db/manual 스크립트로 따로 적용하던 객체다. V1을 건너뛴 기존 DB에도 적용되도록 여기서 만들고,
+-- 수동 스크립트를 이미 실행한 DB는 IF NOT EXISTS로 건너뛴다.
+--
+--   idx_auth_created_at                    RegisteredEmailFilter 동기화 (created_at 이후 가입 조회)
+--   idx_refresh_token_revoked_expires_at   RefreshTokenPurger 폐기 행 정리 (만료 전 폐기 행만 키셋 순서로 조회)
+--   uk_auth_provider_user                  AuthProvider 자연 키 (provider, provider_user_id) - 2차 캐시 조회 키라 유일해야 한다
+--
+-- uk_auth_provider_user는 중복 행이 있으면 실패한다. 소셜 연동 전 다른 계정 연동 여부를 확인하므로 중복은 없어야 하지만,
+-- 기존 DB는 아래 쿼리로 먼저 확인한다. 유니크 인덱스로 두며, 수동 스크립트로 만든 DB에는 같은 이름의 제약이 붙어 있다.
+--
+--   SELECT provider, provider_user_id, count(*)
+--     FROM auth_providers
+--    GROUP BY provider, provider_user_id
+--   HAVING count(*) > 1;
+--
+-- 기존 provider, provider_user_id 단일 인덱스는 uk_auth_provider_user를 만든 뒤에 지운다. 유니크 인덱스 생성이 실패하면
+-- 마이그레이션이 거기서 멈추므로 OAuth 로그인 조회 인덱스가 남는다. 실패하면 INVALID 상태의 uk_auth_provider_user가
+-- 남으므로, 중복을 정리하고 그 인덱스를 DROP한 뒤 flyway repair 후 다시 실행한다.
+--
+-- 모든 문장이 CONCURRENTLY라 Flyway가 트랜잭션 없이 실행하며 쓰기를 막지 않는다.
+-- 파티션 테이블에는 CONCURRENTLY를 쓸 수 없으므로 db/manual/refresh_tokens_partitioned.sql은 이 마이그레이션 뒤에 실행한다.
+-- =============================================================================
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_auth_created_at
+    ON auths (created_at);
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_refresh_token_revoked_expires_at
+    ON refresh_tokens (expires_at, id) WHERE revoked = TRUE;
+
+CREATE UNIQUE INDEX CONCURRENTLY IF NOT EXISTS uk_auth_provider_user
+    ON auth_providers (provider, provider_user_id);
+
+DROP INDEX CONCURRENTLY IF EXISTS idx_auth_provider_provider;
+DROP INDEX CONCURRENTLY IF EXISTS idx_auth_provider_provider_user_id;
@@ -0,0 +1,20 @@
+-- =============================================================================
+-- V6: 예약 작업 주기 선점
+-- =============================================================================
+-- 모든 인스턴스가 같은 cron 시각에 깨어나는 작업이 주기마다 한 인스턴스만 실행되도록, 작업 이름과 주기 시각으로
+-- 행을 INSERT ... ON CONFLICT DO NOTHING 한다. 행을 넣은 인스턴스만 실행한다. 잠금처럼 실행이 끝나도 풀리지
+-- 않으므로 시계가 조금 늦은 인스턴스가 같은 주기를 다시 실행하지 않는다.
+-- =============================================================================
+
+CREATE TABLE IF NOT EXISTS scheduled_job_ticks (
+    job                     VARCHAR(50)     NOT NULL,
+    tick                    BIGINT          NOT NULL,
+    claimed_at              TIMESTAMP       NOT NULL,
+
+    CONSTRAINT pk_scheduled_job_ticks PRIMARY KEY (job, tick)
+    );
+
+COMMENT ON TABLE scheduled_job_ticks IS '예약 작업 주기 선점 기록';
+COMMENT ON COLUMN scheduled_job_ticks.job IS '작업 이름 (password-hash-metrics)';
+COMMENT ON COLUMN scheduled_job_ticks.tick IS '주기 시각 (분 단위로 자른 epoch ms)';
+COMMENT ON COLUMN scheduled_job_ticks.claimed_at IS '선점 일시';
@@ -0,0 +1,87 @@
+package com.tickatch.auth_service.auth.application.service.command;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.tickatch.auth_service.auth.application.service.command.dto.LoginCommand;
+import com.tickatch.auth_service.auth.domain.Auth;
+import com.tickatch.auth_service.auth.domain.AuthRepository;
+import com.tickatch.auth_service.auth.domain.exception.AuthErrorCode;
+import com.tickatch.auth_service.auth.domain.exception.AuthException;
+import com.tickatch.auth_service.auth.domain.vo.AuthStatus;
+import com.tickatch.auth_service.auth.domain.vo.UserType;
+import java.util.UUID;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@SpringBootTest
+@DisplayName("AuthCommandService 로그인 실패 기록 통합 테스트")
+class AuthCommandServiceLoginFailureTest {
+
+  @Autowired private AuthCommandService authCommandService;
+  @Autowired private AuthRepository authRepository;
+  @Autowired private PlatformTransactionManager transactionManager;
+  @Autowired private JdbcTemplate jdbcTemplate;
+
+  private String email;
+  private UUID authId;
+
+  @BeforeEach
+  void setUp() {
+    email = "fail-" + UUID.randomUUID() + "@example.com";
+    authId =
+        new TransactionTemplate(transactionManager)
+            .execute(
+                status ->
+                    authRepository.save(
+                        Auth.register(
+                            email,
+                            "Pass123!",
+                            UserType.CUSTOMER,
+                            new BCryptPasswordEncoder(4),
+                            "SYSTEM")))
+            .getId();
+  }
+
+  @AfterEach
+  void tearDown() {
+    jdbcTemplate.update("DELETE FROM auths WHERE id = ?", authId);
+  }
+
+  @Test
+  void 로그인이_실패해도_실패_횟수는_커밋된다() {
+    assertThatThrownBy(() -> authCommandService.login(wrongPassword()))
+        .isInstanceOf(AuthException.class)
+        .hasFieldOrPropertyWithValue("errorCode", AuthErrorCode.INVALID_CREDENTIALS);
+
+    assertThat(
+            jdbcTemplate.queryForObject(
+                "SELECT login_fail_count FROM auths WHERE id = ?", Integer.class, authId))
+        .isEqualTo(1);
+  }
+
+  @Test
+  void 실패가_최대치에_이르면_잠금이_커밋된다() {
+    for (int i = 0; i < 5; i++) {
+      assertThatThrownBy(() -> authCommandService.login(wrongPassword()))
+          .isInstanceOf(AuthException.class);
+    }
+
+    assertThat(
+            jdbcTemplate.queryForObject(
+                "SELECT status FROM auths WHERE id = ?", String.class, authId))
+        .isEqualTo(AuthStatus.LOCKED.name());
+  }
+
+  private LoginCommand wrongPassword() {
+    return LoginCommand.of(email, "Wrong123!", UserType.CUSTOMER, "test-device", false);
+  }
+}
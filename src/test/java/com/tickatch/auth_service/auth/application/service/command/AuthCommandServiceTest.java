@@ -9,6 +9,7 @@ import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.verify;
 
 import com.tickatch.auth_service.auth.application.messaging.AuthLogEventPublisher;
+import com.tickatch.auth_service.auth.application.port.out.LastLoginPort;
 import com.tickatch.auth_service.auth.application.port.out.TokenPort;
 import com.tickatch.auth_service.auth.application.service.command.dto.ChangePasswordCommand;
 import com.tickatch.auth_service.auth.application.service.command.dto.LoginCommand;
@@ -21,7 +22,11 @@ import com.tickatch.auth_service.auth.domain.AuthRepository;
 import com.tickatch.auth_service.auth.domain.exception.AuthErrorCode;
 import com.tickatch.auth_service.auth.domain.exception.AuthException;
 import com.tickatch.auth_service.auth.domain.vo.UserType;
+import com.tickatch.auth_service.auth.infrastructure.adapter.DummyPasswordAdapter;
+import com.tickatch.auth_service.auth.infrastructure.metrics.LoginMetrics;
+import com.tickatch.auth_service.global.password.infrastructure.DummyPasswordHash;
 import com.tickatch.auth_service.token.application.service.command.dto.TokenResult;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.time.LocalDateTime;
 import java.util.Optional;
 import java.util.UUID;
@@ -47,6 +52,8 @@ class AuthCommandServiceTest {
 
   @Mock private TokenPort tokenPort;
 
+  @Mock private LastLoginPort lastLoginPort;
+
   private PasswordEncoder passwordEncoder;
 
   @MockitoBean private AuthLogEventPublisher logEventPublisher;
@@ -55,7 +62,14 @@ class AuthCommandServiceTest {
   void setUp() {
     passwordEncoder = new BCryptPasswordEncoder();
     authCommandService =
-        new AuthCommandService(authRepository, tokenPort, passwordEncoder, logEventPublisher);
+        new AuthCommandService(
+            authRepository,
+            tokenPort,
+            passwordEncoder,
+            logEventPublisher,
+            new DummyPasswordAdapter(new DummyPasswordHash(passwordEncoder)),
+            new LoginMetrics(new SimpleMeterRegistry()),
+            lastLoginPort);
   }
 
   private TokenResult createTokenResult() {
@@ -5,6 +5,8 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 
 import com.tickatch.auth_service.auth.application.service.query.dto.AuthInfo;
 import com.tickatch.auth_service.auth.domain.Auth;
@@ -13,13 +15,16 @@ import com.tickatch.auth_service.auth.domain.exception.AuthErrorCode;
 import com.tickatch.auth_service.auth.domain.exception.AuthException;
 import com.tickatch.auth_service.auth.domain.vo.ProviderType;
 import com.tickatch.auth_service.auth.domain.vo.UserType;
+import com.tickatch.auth_service.auth.infrastructure.cache.AuthInfoCache;
+import com.tickatch.auth_service.auth.infrastructure.cache.AuthInfoCacheProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.util.Optional;
 import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
@@ -28,10 +33,18 @@ import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 @ExtendWith(MockitoExtension.class)
 class AuthQueryServiceTest {
 
-  @InjectMocks private AuthQueryService authQueryService;
+  private AuthQueryService authQueryService;
 
   @Mock private AuthRepository authRepository;
 
+  @BeforeEach
+  void setUp() {
+    authQueryService =
+        new AuthQueryService(
+            authRepository,
+            new AuthInfoCache(new AuthInfoCacheProperties(), new SimpleMeterRegistry()));
+  }
+
   private Auth createAuth() {
     return Auth.register(
         "test@test.com", "Password123!", UserType.CUSTOMER, new BCryptPasswordEncoder(), "SYSTEM");
@@ -54,6 +67,19 @@ class AuthQueryServiceTest {
       assertThat(result.userType()).isEqualTo(UserType.CUSTOMER);
     }
 
+    @Test
+    void 같은_ID를_다시_조회하면_캐시에서_반환한다() {
+      Auth auth = createAuth();
+      UUID authId = auth.getId();
+      given(authRepository.findById(authId)).willReturn(Optional.of(auth));
+
+      authQueryService.findById(authId);
+      AuthInfo result = authQueryService.findById(authId);
+
+      assertThat(result.email()).isEqualTo("test@test.com");
+      verify(authRepository, times(1)).findById(authId);
+    }
+
     @Test
     void 존재하지_않는_ID_조회_시_실패한다() {
       UUID authId = UUID.randomUUID();
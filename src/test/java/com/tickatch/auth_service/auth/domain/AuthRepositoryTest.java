@@ -1,12 +1,20 @@
 package com.tickatch.auth_service.auth.domain;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
+import com.tickatch.auth_service.auth.domain.exception.AuthErrorCode;
+import com.tickatch.auth_service.auth.domain.exception.AuthException;
 import com.tickatch.auth_service.auth.domain.repository.AuthRepositoryImpl;
 import com.tickatch.auth_service.auth.domain.repository.dto.AuthSearchCondition;
+import com.tickatch.auth_service.auth.domain.repository.dto.PasswordHashCount;
 import com.tickatch.auth_service.auth.domain.vo.AuthStatus;
 import com.tickatch.auth_service.auth.domain.vo.ProviderType;
 import com.tickatch.auth_service.auth.domain.vo.UserType;
+import com.tickatch.auth_service.global.password.infrastructure.PasswordAlgorithm;
+import com.tickatch.auth_service.global.password.infrastructure.PasswordEncoderFactory;
+import com.tickatch.auth_service.global.password.infrastructure.PasswordHashingProperties;
+import java.util.List;
 import java.util.Optional;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -63,6 +71,46 @@ class AuthRepositoryTest {
     }
   }
 
+  @Nested
+  class 비밀번호_해시_집계_테스트 {
+
+    @Test
+    void BCrypt는_접두사_유무와_관계없이_cost별로_센다() {
+      PasswordEncoder cost4 = new BCryptPasswordEncoder(4);
+      PasswordHashingProperties properties = new PasswordHashingProperties();
+      properties.getBcrypt().setCost(5);
+      PasswordEncoder prefixedCost5 = PasswordEncoderFactory.create(properties);
+      authRepository.save(
+          Auth.register("a@example.com", "Pass123!", UserType.CUSTOMER, cost4, "SYSTEM"));
+      authRepository.save(
+          Auth.register("b@example.com", "Pass123!", UserType.CUSTOMER, cost4, "SYSTEM"));
+      authRepository.save(
+          Auth.register("c@example.com", "Pass123!", UserType.CUSTOMER, prefixedCost5, "SYSTEM"));
+
+      List<PasswordHashCount> counts = authRepository.countPasswordsByAlgorithm();
+
+      assertThat(counts)
+          .contains(new PasswordHashCount("bcrypt", 4, 2), new PasswordHashCount("bcrypt", 5, 1));
+    }
+
+    @Test
+    void 다른_알고리즘은_접두사별로_센다() {
+      PasswordHashingProperties properties = new PasswordHashingProperties();
+      properties.setAlgorithm(PasswordAlgorithm.ARGON2ID);
+      properties.getArgon2().setMemoryKib(1024);
+      properties.getArgon2().setIterations(1);
+      PasswordEncoder argon2 = PasswordEncoderFactory.create(properties);
+      authRepository.save(
+          Auth.register("a@example.com", "Pass123!", UserType.CUSTOMER, argon2, "SYSTEM"));
+      authRepository.save(
+          Auth.register("b@example.com", "Pass123!", UserType.SELLER, argon2, "SYSTEM"));
+
+      List<PasswordHashCount> counts = authRepository.countPasswordsByAlgorithm();
+
+      assertThat(counts).contains(new PasswordHashCount("argon2", null, 2));
+    }
+  }
+
   @Nested
   class 이메일_사용자유형_조회_테스트 {
 
@@ -133,6 +181,18 @@ class AuthRepositoryTest {
 
       assertThat(exists).isFalse();
     }
+
+    @Test
+    void 같은_이메일_사용자유형으로_저장하면_이메일_중복_예외를_던진다() {
+      authRepository.save(
+          Auth.register("test@example.com", "Pass123!", UserType.CUSTOMER, encoder, "SYSTEM"));
+      Auth duplicate =
+          Auth.register("test@example.com", "Pass123!", UserType.CUSTOMER, encoder, "SYSTEM");
+
+      assertThatThrownBy(() -> authRepository.save(duplicate))
+          .isInstanceOf(AuthException.class)
+          .hasFieldOrPropertyWithValue("errorCode", AuthErrorCode.EMAIL_ALREADY_EXISTS);
+    }
   }
 
   @Nested
@@ -8,6 +8,8 @@ import com.tickatch.auth_service.auth.domain.exception.AuthException;
 import com.tickatch.auth_service.auth.domain.vo.AuthStatus;
 import com.tickatch.auth_service.auth.domain.vo.ProviderType;
 import com.tickatch.auth_service.auth.domain.vo.UserType;
+import com.tickatch.auth_service.global.password.infrastructure.TargetCostBCryptPasswordEncoder;
+import java.time.LocalDateTime;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -154,6 +156,30 @@ class AuthTest {
       assertThat(auth.getLastLoginAt()).isNotNull();
     }
 
+    @Test
+    void 지연_반영_로그인_성공은_마지막_로그인_시간을_바꾸지_않고_실패_횟수만_초기화한다() {
+      Auth auth =
+          Auth.register("test@example.com", "Pass123!", UserType.CUSTOMER, encoder, "SYSTEM");
+      auth.recordLoginFailure();
+
+      LocalDateTime loggedInAt = auth.recordLoginSuccessDeferringLastLogin();
+
+      assertThat(loggedInAt).isNotNull();
+      assertThat(auth.getLoginFailCount()).isZero();
+      assertThat(auth.getLastLoginAt()).isNull();
+    }
+
+    @Test
+    void 잠금_상태에서_지연_반영_로그인_성공_기록_시_예외를_던진다() {
+      Auth auth =
+          Auth.register("test@example.com", "Pass123!", UserType.CUSTOMER, encoder, "SYSTEM");
+      auth.lock();
+
+      assertThatThrownBy(auth::recordLoginSuccessDeferringLastLogin)
+          .isInstanceOf(AuthException.class)
+          .hasFieldOrPropertyWithValue("errorCode", AuthErrorCode.ACCOUNT_LOCKED);
+    }
+
     @Test
     void 잠금_상태에서_로그인_성공_기록_시_예외를_던진다() {
       Auth auth =
@@ -225,6 +251,37 @@ class AuthTest {
     }
   }
 
+  @Nested
+  class 비밀번호_재해싱_테스트 {
+
+    @Test
+    void 목표_cost와_다른_해시는_다시_해싱한다() {
+      PasswordEncoder legacy = new BCryptPasswordEncoder(4);
+      Auth auth =
+          Auth.register("test@example.com", "Pass123!", UserType.CUSTOMER, legacy, "SYSTEM");
+      PasswordEncoder target = new TargetCostBCryptPasswordEncoder(5);
+
+      boolean rehashed = auth.rehashPasswordIfNeeded("Pass123!", target);
+
+      assertThat(rehashed).isTrue();
+      assertThat(auth.getPassword().getEncodedValue()).startsWith("$2a$05$");
+      assertThat(auth.matchesPassword("Pass123!", target)).isTrue();
+    }
+
+    @Test
+    void 목표_cost와_같은_해시는_그대로_둔다() {
+      PasswordEncoder target = new TargetCostBCryptPasswordEncoder(4);
+      Auth auth =
+          Auth.register("test@example.com", "Pass123!", UserType.CUSTOMER, target, "SYSTEM");
+      String before = auth.getPassword().getEncodedValue();
+
+      boolean rehashed = auth.rehashPasswordIfNeeded("Pass123!", target);
+
+      assertThat(rehashed).isFalse();
+      assertThat(auth.getPassword().getEncodedValue()).isEqualTo(before);
+    }
+  }
+
   @Nested
   class 비밀번호_초기화_테스트 {
 
@@ -76,6 +76,15 @@ class AuthErrorCodeTest {
           .isEqualTo(HttpStatus.UNPROCESSABLE_ENTITY.value());
     }
 
+    @Test
+    void 에러코드_429는_TOO_MANY_REQUESTS_상태를_가진다() {
+
+      assertThat(AuthErrorCode.TOO_MANY_LOGIN_ATTEMPTS.getStatus())
+          .isEqualTo(HttpStatus.TOO_MANY_REQUESTS.value());
+      assertThat(AuthErrorCode.TOO_MANY_REQUESTS.getStatus())
+          .isEqualTo(HttpStatus.TOO_MANY_REQUESTS.value());
+    }
+
     @Test
     void 에러코드_503은_SERVICE_UNAVAILABLE_상태를_가진다() {
 
@@ -83,6 +92,8 @@ class AuthErrorCodeTest {
           .isEqualTo(HttpStatus.SERVICE_UNAVAILABLE.value());
       assertThat(AuthErrorCode.EVENT_PUBLISH_FAILED.getStatus())
           .isEqualTo(HttpStatus.SERVICE_UNAVAILABLE.value());
+      assertThat(AuthErrorCode.PASSWORD_HASHING_UNAVAILABLE.getStatus())
+          .isEqualTo(HttpStatus.SERVICE_UNAVAILABLE.value());
     }
   }
 
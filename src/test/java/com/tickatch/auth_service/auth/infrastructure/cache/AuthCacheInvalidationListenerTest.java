@@ -0,0 +1,178 @@
+package com.tickatch.auth_service.auth.infrastructure.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import com.tickatch.auth_service.auth.application.service.query.dto.AuthInfo;
+import com.tickatch.auth_service.auth.domain.Auth;
+import com.tickatch.auth_service.auth.domain.AuthProvider;
+import com.tickatch.auth_service.auth.domain.vo.ProviderType;
+import com.tickatch.auth_service.auth.domain.vo.UserType;
+import com.tickatch.auth_service.auth.infrastructure.messaging.publisher.AuthCacheInvalidationPublisher;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import java.util.Optional;
+import java.util.UUID;
+import org.hibernate.event.spi.PostInsertEvent;
+import org.hibernate.event.spi.PostUpdateEvent;
+import org.hibernate.persister.entity.EntityPersister;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@DisplayName("AuthCacheInvalidationListener 테스트")
+@ExtendWith(MockitoExtension.class)
+class AuthCacheInvalidationListenerTest {
+
+  /* Auth 속성 이름. 인덱스가 바뀐 속성 번호다 */
+  private static final String[] AUTH_PROPERTIES = {
+    "email", "lastLoginAt", "loginFailCount", "password", "status", "updatedAt", "updatedBy"
+  };
+
+  @Mock private AuthCacheInvalidationPublisher invalidationPublisher;
+  @Mock private EntityManagerFactory entityManagerFactory;
+
+  private AuthInfoCache authInfoCache;
+  private AuthCacheInvalidationListener listener;
+  private Auth auth;
+
+  @BeforeEach
+  void setUp() {
+    authInfoCache = new AuthInfoCache(new AuthInfoCacheProperties(), new SimpleMeterRegistry());
+    listener =
+        new AuthCacheInvalidationListener(
+            authInfoCache, invalidationPublisher, entityManagerFactory);
+    auth =
+        Auth.register(
+            "test@test.com",
+            "Password123!",
+            UserType.CUSTOMER,
+            new BCryptPasswordEncoder(),
+            "SYSTEM");
+    authInfoCache.get(auth.getId(), id -> Optional.of(AuthInfo.from(auth)));
+  }
+
+  @AfterEach
+  void tearDown() {
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.clearSynchronization();
+    }
+  }
+
+  private boolean cached(UUID authId) {
+    return authInfoCache.get(authId, id -> Optional.empty()).isPresent();
+  }
+
+  private PostUpdateEvent updated(Object entity, int... dirtyProperties) {
+    EntityPersister persister = mock(EntityPersister.class);
+    given(persister.getPropertyNames()).willReturn(AUTH_PROPERTIES);
+    PostUpdateEvent event = mock(PostUpdateEvent.class);
+    given(event.getEntity()).willReturn(entity);
+    given(event.getDirtyProperties()).willReturn(dirtyProperties);
+    given(event.getPersister()).willReturn(persister);
+    return event;
+  }
+
+  private PostInsertEvent inserted(Object entity) {
+    PostInsertEvent event = mock(PostInsertEvent.class);
+    given(event.getEntity()).willReturn(entity);
+    return event;
+  }
+
+  @Nested
+  class 무효화_테스트 {
+
+    @Test
+    void Auth가_수정되면_로컬_캐시를_지우고_방송한다() {
+      listener.onPostUpdate(updated(auth, 3, 5, 6));
+
+      assertThat(cached(auth.getId())).isFalse();
+      verify(invalidationPublisher).publish(auth.getId());
+    }
+
+    @Test
+    void 로그인_기록만_바뀌면_무효화하지_않는다() {
+      listener.onPostUpdate(updated(auth, 1, 5, 6));
+
+      assertThat(cached(auth.getId())).isTrue();
+      verify(invalidationPublisher, never()).publish(any());
+    }
+
+    @Test
+    void 실패_횟수만_바뀌어도_무효화한다() {
+      listener.onPostUpdate(updated(auth, 2, 5, 6));
+
+      assertThat(cached(auth.getId())).isFalse();
+      verify(invalidationPublisher).publish(auth.getId());
+    }
+
+    @Test
+    void 실패_횟수와_함께_상태가_바뀌면_무효화한다() {
+      listener.onPostUpdate(updated(auth, 2, 4, 5));
+
+      assertThat(cached(auth.getId())).isFalse();
+      verify(invalidationPublisher).publish(auth.getId());
+    }
+
+    @Test
+    void 바뀐_속성을_모르면_무효화한다() {
+      PostUpdateEvent event = mock(PostUpdateEvent.class);
+      given(event.getEntity()).willReturn(auth);
+
+      listener.onPostUpdate(event);
+
+      assertThat(cached(auth.getId())).isFalse();
+    }
+
+    @Test
+    void 소셜_연동이_추가되면_소유_Auth를_무효화한다() {
+      auth.connectProvider(ProviderType.KAKAO, "kakao-123");
+      AuthProvider provider = auth.getProviders().get(0);
+
+      listener.onPostInsert(inserted(provider));
+
+      assertThat(cached(auth.getId())).isFalse();
+      verify(invalidationPublisher).publish(auth.getId());
+    }
+
+    @Test
+    void 새_Auth_저장은_무시한다() {
+      listener.onPostInsert(inserted(auth));
+
+      assertThat(cached(auth.getId())).isTrue();
+      verify(invalidationPublisher, never()).publish(any());
+    }
+  }
+
+  @Nested
+  class 트랜잭션_테스트 {
+
+    @Test
+    void 트랜잭션_안에서는_커밋된_뒤에_무효화한다() {
+      TransactionSynchronizationManager.initSynchronization();
+
+      listener.onPostUpdate(updated(auth, 4));
+
+      assertThat(cached(auth.getId())).isTrue();
+      verify(invalidationPublisher, never()).publish(any());
+
+      TransactionSynchronizationManager.getSynchronizations()
+          .forEach(TransactionSynchronization::afterCommit);
+
+      assertThat(cached(auth.getId())).isFalse();
+      verify(invalidationPublisher).publish(auth.getId());
+    }
+  }
+}
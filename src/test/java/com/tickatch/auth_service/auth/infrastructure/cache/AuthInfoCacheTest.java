@@ -0,0 +1,94 @@
+package com.tickatch.auth_service.auth.infrastructure.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.tickatch.auth_service.auth.application.service.query.dto.AuthInfo;
+import com.tickatch.auth_service.auth.domain.vo.AuthStatus;
+import com.tickatch.auth_service.auth.domain.vo.UserType;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("AuthInfoCache 테스트")
+class AuthInfoCacheTest {
+
+  private final AtomicInteger loads = new AtomicInteger();
+
+  private static AuthInfo authInfo(UUID authId, AuthStatus status) {
+    return new AuthInfo(
+        authId, "test@test.com", UserType.CUSTOMER, status, null, List.of(), LocalDateTime.now());
+  }
+
+  private Optional<AuthInfo> load(UUID authId, AuthStatus status) {
+    loads.incrementAndGet();
+    return Optional.of(authInfo(authId, status));
+  }
+
+  private static AuthInfoCache cache(boolean enabled) {
+    AuthInfoCacheProperties properties = new AuthInfoCacheProperties();
+    properties.setEnabled(enabled);
+    return new AuthInfoCache(properties, new SimpleMeterRegistry());
+  }
+
+  @Nested
+  class 조회_테스트 {
+
+    @Test
+    void 한_번_적재하면_다시_적재하지_않는다() {
+      AuthInfoCache cache = cache(true);
+      UUID authId = UUID.randomUUID();
+
+      cache.get(authId, id -> load(id, AuthStatus.ACTIVE));
+      Optional<AuthInfo> result = cache.get(authId, id -> load(id, AuthStatus.ACTIVE));
+
+      assertThat(result).isPresent();
+      assertThat(loads.get()).isEqualTo(1);
+    }
+
+    @Test
+    void 없는_계정은_캐시하지_않는다() {
+      AuthInfoCache cache = cache(true);
+      UUID authId = UUID.randomUUID();
+
+      cache.get(authId, id -> Optional.empty());
+      Optional<AuthInfo> result = cache.get(authId, id -> load(id, AuthStatus.ACTIVE));
+
+      assertThat(result).isPresent();
+      assertThat(loads.get()).isEqualTo(1);
+    }
+
+    @Test
+    void 비활성화하면_매번_적재한다() {
+      AuthInfoCache cache = cache(false);
+      UUID authId = UUID.randomUUID();
+
+      cache.get(authId, id -> load(id, AuthStatus.ACTIVE));
+      cache.get(authId, id -> load(id, AuthStatus.ACTIVE));
+
+      assertThat(loads.get()).isEqualTo(2);
+    }
+  }
+
+  @Nested
+  class 무효화_테스트 {
+
+    @Test
+    void 무효화하면_다음_조회에서_다시_적재한다() {
+      AuthInfoCache cache = cache(true);
+      UUID authId = UUID.randomUUID();
+      cache.get(authId, id -> load(id, AuthStatus.ACTIVE));
+
+      cache.invalidate(authId);
+      Optional<AuthInfo> result = cache.get(authId, id -> load(id, AuthStatus.LOCKED));
+
+      assertThat(result).map(AuthInfo::status).contains(AuthStatus.LOCKED);
+      assertThat(loads.get()).isEqualTo(2);
+    }
+  }
+}
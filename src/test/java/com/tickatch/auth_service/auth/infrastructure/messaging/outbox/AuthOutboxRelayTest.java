@@ -0,0 +1,226 @@
+package com.tickatch.auth_service.auth.infrastructure.messaging.outbox;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.tickatch.auth_service.auth.infrastructure.messaging.event.AuthActionType;
+import com.tickatch.auth_service.auth.infrastructure.messaging.event.AuthLogEvent;
+import com.tickatch.auth_service.auth.infrastructure.messaging.outbox.AuthOutboxStore.OutboxMessage;
+import com.tickatch.auth_service.global.scheduling.infrastructure.LeaderElection;
+import io.github.tickatch.common.util.JsonUtils;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.amqp.core.MessagePostProcessor;
+import org.springframework.amqp.rabbit.connection.ConnectionFactory;
+import org.springframework.amqp.rabbit.connection.CorrelationData;
+import org.springframework.amqp.rabbit.connection.CorrelationData.Confirm;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+@DisplayName("AuthOutboxRelay 테스트 (H2)")
+class AuthOutboxRelayTest {
+
+  private JdbcTemplate jdbcTemplate;
+  private AuthOutboxStore store;
+  private AuthOutboxProperties properties;
+  private RabbitTemplate rabbitTemplate;
+  private ConnectionFactory connectionFactory;
+  private SimpleMeterRegistry meterRegistry;
+  private AuthOutboxRelay relay;
+
+  /* 브로커가 거부할 메시지 ID */
+  private final Set<String> nacked = new HashSet<>();
+
+  @BeforeEach
+  void setUp() {
+    DriverManagerDataSource dataSource =
+        new DriverManagerDataSource(
+            "jdbc:h2:mem:auth-outbox-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1", "sa", "");
+    jdbcTemplate = new JdbcTemplate(dataSource);
+    jdbcTemplate.execute(
+        """
+        CREATE TABLE auth_outbox (
+            id          UUID         PRIMARY KEY,
+            exchange    VARCHAR(100) NOT NULL,
+            routing_key VARCHAR(100) NOT NULL,
+            payload     TEXT         NOT NULL,
+            created_at  TIMESTAMP    NOT NULL
+        )
+        """);
+    store = new AuthOutboxStore(jdbcTemplate);
+
+    properties = new AuthOutboxProperties();
+    properties.setBatchSize(2);
+    properties.setConfirmTimeout(Duration.ofMillis(50));
+
+    rabbitTemplate = mock(RabbitTemplate.class);
+    connectionFactory = mock(ConnectionFactory.class);
+    given(rabbitTemplate.getConnectionFactory()).willReturn(connectionFactory);
+    given(connectionFactory.isPublisherConfirms()).willReturn(true);
+
+    meterRegistry = new SimpleMeterRegistry();
+    relay =
+        new AuthOutboxRelay(
+            properties, store, rabbitTemplate, new LeaderElection(jdbcTemplate), meterRegistry);
+  }
+
+  private void brokerConfirms() {
+    willAnswer(
+            invocation -> {
+              CorrelationData correlation = invocation.getArgument(4);
+              boolean ack = !nacked.contains(correlation.getId());
+              correlation.getFuture().complete(new Confirm(ack, ack ? null : "rejected"));
+              return null;
+            })
+        .given(rabbitTemplate)
+        .convertAndSend(
+            anyString(),
+            anyString(),
+            any(Object.class),
+            any(MessagePostProcessor.class),
+            any(CorrelationData.class));
+  }
+
+  private List<UUID> append(int count) {
+    List<UUID> ids = new ArrayList<>();
+    for (int i = 0; i < count; i++) {
+      AuthLogEvent event =
+          AuthLogEvent.createSystemEvent(UUID.randomUUID(), "CUSTOMER", AuthActionType.LOGIN);
+      store.append(
+          new OutboxMessage(
+              event.eventId(),
+              "tickatch.log",
+              "auth.log",
+              JsonUtils.getObjectMapper().valueToTree(event).toString(),
+              event.occurredAt()));
+      ids.add(event.eventId());
+    }
+    return ids;
+  }
+
+  private int remaining() {
+    Integer count = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM auth_outbox", Integer.class);
+    return count == null ? 0 : count;
+  }
+
+  private List<Object> sentEvents(int times) {
+    ArgumentCaptor<Object> events = ArgumentCaptor.forClass(Object.class);
+    verify(rabbitTemplate, times(times))
+        .convertAndSend(
+            anyString(),
+            anyString(),
+            events.capture(),
+            any(MessagePostProcessor.class),
+            any(CorrelationData.class));
+    return events.getAllValues();
+  }
+
+  @Nested
+  class 전송_테스트 {
+
+    @Test
+    void 기록_순서대로_배치를_나눠_보내고_확인된_메시지를_지운다() {
+      brokerConfirms();
+      List<UUID> ids = append(5);
+
+      int sent = relay.relay();
+
+      assertThat(sent).isEqualTo(5);
+      assertThat(remaining()).isZero();
+      assertThat(sentEvents(5))
+          .extracting(event -> ((AuthLogEvent) event).eventId())
+          .containsExactlyElementsOf(ids);
+      assertThat(meterRegistry.get("auth.outbox.published").counter().count()).isEqualTo(5);
+    }
+
+    @Test
+    void 거부된_메시지는_남기고_다음_배치로_넘어가지_않는다() {
+      brokerConfirms();
+      List<UUID> ids = append(4);
+      nacked.add(ids.get(1).toString());
+
+      int sent = relay.relay();
+
+      assertThat(sent).isEqualTo(1);
+      assertThat(store.findOldest(10))
+          .extracting(OutboxMessage::id)
+          .containsExactly(ids.get(1), ids.get(2), ids.get(3));
+      assertThat(meterRegistry.get("auth.outbox.failed").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void 확인이_오지_않으면_남겨_두었다가_다시_보낸다() {
+      append(2);
+
+      assertThat(relay.relay()).isZero();
+      assertThat(remaining()).isEqualTo(2);
+
+      brokerConfirms();
+
+      assertThat(relay.relay()).isEqualTo(2);
+      assertThat(remaining()).isZero();
+    }
+
+    @Test
+    void 읽을_수_없는_메시지는_버린다() {
+      brokerConfirms();
+      store.append(
+          new OutboxMessage(
+              UUID.randomUUID(), "tickatch.log", "auth.log", "{broken", LocalDateTime.now()));
+
+      assertThat(relay.relay()).isEqualTo(1);
+      assertThat(remaining()).isZero();
+      assertThat(meterRegistry.get("auth.outbox.discarded").counter().count()).isEqualTo(1);
+    }
+  }
+
+  @Nested
+  class 실행_제한_테스트 {
+
+    @Test
+    void publisher_confirm이_꺼져_있으면_보내지_않는다() {
+      append(2);
+      given(connectionFactory.isPublisherConfirms()).willReturn(false);
+
+      assertThat(relay.relay()).isZero();
+      assertThat(remaining()).isEqualTo(2);
+      verify(rabbitTemplate, never())
+          .convertAndSend(
+              anyString(),
+              anyString(),
+              any(Object.class),
+              any(MessagePostProcessor.class),
+              any(CorrelationData.class));
+    }
+
+    @Test
+    void 비활성화하면_예약_실행에서_보내지_않는다() {
+      brokerConfirms();
+      append(2);
+      properties.setEnabled(false);
+
+      relay.scheduledRelay();
+
+      assertThat(remaining()).isEqualTo(2);
+    }
+  }
+}
@@ -0,0 +1,77 @@
+package com.tickatch.auth_service.auth.infrastructure.messaging.publisher;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+
+import com.tickatch.auth_service.auth.infrastructure.messaging.config.RabbitMQConfig;
+import com.tickatch.auth_service.auth.infrastructure.messaging.event.AuthCacheInvalidatedEvent;
+import com.tickatch.auth_service.global.config.AsyncConfig;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+
+@DisplayName("AuthCacheInvalidationPublisher 테스트")
+@SpringJUnitConfig({AsyncConfig.class, AuthCacheInvalidationPublisher.class})
+class AuthCacheInvalidationPublisherTest {
+
+  @Autowired private AuthCacheInvalidationPublisher publisher;
+
+  @Autowired
+  @Qualifier("eventExecutor")
+  private Executor eventExecutor;
+
+  @MockitoBean private RabbitTemplate rabbitTemplate;
+
+  @Test
+  void 무효화를_비동기로_방송한다() {
+    UUID authId = UUID.randomUUID();
+
+    publisher.publish(authId);
+
+    verify(rabbitTemplate, timeout(1000))
+        .convertAndSend(
+            eq("tickatch.user"),
+            eq(RabbitMQConfig.ROUTING_KEY_AUTH_CACHE_INVALIDATED),
+            any(AuthCacheInvalidatedEvent.class));
+  }
+
+  @Test
+  void 실행기가_가득_차도_무효화를_버리지_않는다() {
+    ThreadPoolTaskExecutor executor = (ThreadPoolTaskExecutor) eventExecutor;
+    CountDownLatch release = new CountDownLatch(1);
+    try {
+      for (int i = 0; i < executor.getMaxPoolSize() + executor.getQueueCapacity(); i++) {
+        executor.execute(() -> awaitQuietly(release));
+      }
+
+      publisher.publish(UUID.randomUUID());
+
+      // 풀과 큐가 모두 막혀 있으므로 호출한 스레드에서 이미 보냈어야 한다
+      verify(rabbitTemplate)
+          .convertAndSend(
+              eq("tickatch.user"),
+              eq(RabbitMQConfig.ROUTING_KEY_AUTH_CACHE_INVALIDATED),
+              any(AuthCacheInvalidatedEvent.class));
+    } finally {
+      release.countDown();
+    }
+  }
+
+  private static void awaitQuietly(CountDownLatch latch) {
+    try {
+      latch.await();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+}
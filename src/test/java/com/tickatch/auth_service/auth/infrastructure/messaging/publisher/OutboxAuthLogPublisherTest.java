@@ -0,0 +1,171 @@
+package com.tickatch.auth_service.auth.infrastructure.messaging.publisher;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.tickatch.auth_service.auth.infrastructure.messaging.event.AuthLogEvent;
+import com.tickatch.auth_service.auth.infrastructure.messaging.outbox.AuthOutboxStore;
+import com.tickatch.auth_service.auth.infrastructure.messaging.outbox.AuthOutboxStore.OutboxMessage;
+import com.zaxxer.hikari.HikariDataSource;
+import io.github.tickatch.common.util.JsonUtils;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@DisplayName("OutboxAuthLogPublisher 테스트 (H2)")
+class OutboxAuthLogPublisherTest {
+
+  private AuthOutboxStore store;
+  private TransactionTemplate businessTransaction;
+  private OutboxAuthLogPublisher publisher;
+
+  @BeforeEach
+  void setUp() {
+    DriverManagerDataSource dataSource =
+        new DriverManagerDataSource(
+            "jdbc:h2:mem:auth-log-outbox-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1", "sa", "");
+    JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+    createOutboxTable(jdbcTemplate);
+    DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+    store = new AuthOutboxStore(jdbcTemplate);
+    businessTransaction = new TransactionTemplate(transactionManager);
+    publisher = new OutboxAuthLogPublisher(store, "tickatch.log");
+  }
+
+  private static void createOutboxTable(JdbcTemplate jdbcTemplate) {
+    jdbcTemplate.execute(
+        """
+        CREATE TABLE auth_outbox (
+            id          UUID         PRIMARY KEY,
+            exchange    VARCHAR(100) NOT NULL,
+            routing_key VARCHAR(100) NOT NULL,
+            payload     TEXT         NOT NULL,
+            created_at  TIMESTAMP    NOT NULL
+        )
+        """);
+  }
+
+  private AuthLogEvent eventOf(OutboxMessage message) throws Exception {
+    return JsonUtils.getObjectMapper().readValue(message.payload(), AuthLogEvent.class);
+  }
+
+  @Nested
+  class 기록_테스트 {
+
+    @Test
+    void 성공_이벤트는_업무_트랜잭션과_함께_커밋된다() throws Exception {
+      UUID authId = UUID.randomUUID();
+
+      businessTransaction.executeWithoutResult(
+          status -> publisher.publishLogin(authId, "CUSTOMER"));
+
+      List<OutboxMessage> messages = store.findOldest(10);
+      assertThat(messages).hasSize(1);
+      assertThat(messages.get(0).exchange()).isEqualTo("tickatch.log");
+      assertThat(messages.get(0).routingKey()).isEqualTo("auth.log");
+      AuthLogEvent event = eventOf(messages.get(0));
+      assertThat(event.eventId()).isEqualTo(messages.get(0).id());
+      assertThat(event.authId()).isEqualTo(authId);
+      assertThat(event.actionType()).isEqualTo("LOGIN");
+    }
+
+    @Test
+    void 성공_이벤트는_업무_트랜잭션이_롤백되면_남지_않는다() {
+      assertThatThrownBy(
+              () ->
+                  businessTransaction.executeWithoutResult(
+                      status -> {
+                        publisher.publishRegistered(UUID.randomUUID(), "CUSTOMER");
+                        throw new IllegalStateException("가입 실패");
+                      }))
+          .isInstanceOf(IllegalStateException.class);
+
+      assertThat(store.findOldest(10)).isEmpty();
+    }
+
+    @Test
+    void 실패_이벤트는_업무_트랜잭션이_롤백되어도_남는다() throws Exception {
+      assertThatThrownBy(
+              () ->
+                  businessTransaction.executeWithoutResult(
+                      status -> {
+                        publisher.publishLoginFailed("CUSTOMER");
+                        throw new IllegalStateException("로그인 실패");
+                      }))
+          .isInstanceOf(IllegalStateException.class);
+
+      List<OutboxMessage> messages = store.findOldest(10);
+      assertThat(messages).hasSize(1);
+      assertThat(eventOf(messages.get(0)).actionType()).isEqualTo("LOGIN_FAILED");
+    }
+  }
+
+  @Nested
+  class 커넥션_풀_테스트 {
+
+    private static final int POOL_SIZE = 2;
+    private static final int LOGIN_ATTEMPTS = 6;
+
+    @Test
+    void 풀_크기만큼_실패한_로그인이_동시에_몰려도_실패_이벤트를_모두_기록한다() throws Exception {
+      try (HikariDataSource pool = new HikariDataSource()) {
+        pool.setJdbcUrl("jdbc:h2:mem:auth-log-pool-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1");
+        pool.setUsername("sa");
+        pool.setMaximumPoolSize(POOL_SIZE);
+        pool.setConnectionTimeout(3_000);
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(pool);
+        createOutboxTable(jdbcTemplate);
+        AuthOutboxStore pooledStore = new AuthOutboxStore(jdbcTemplate);
+        OutboxAuthLogPublisher pooledPublisher =
+            new OutboxAuthLogPublisher(pooledStore, "tickatch.log");
+        TransactionTemplate loginTransaction =
+            new TransactionTemplate(new DataSourceTransactionManager(pool));
+
+        // 풀의 커넥션을 모두 잡은 상태에서 실패 이벤트를 발행하고 롤백한다
+        CyclicBarrier allConnectionsHeld = new CyclicBarrier(POOL_SIZE);
+        ExecutorService executor = Executors.newFixedThreadPool(LOGIN_ATTEMPTS);
+        List<Future<Throwable>> results = new ArrayList<>();
+        for (int i = 0; i < LOGIN_ATTEMPTS; i++) {
+          results.add(
+              executor.submit(
+                  () -> {
+                    try {
+                      loginTransaction.executeWithoutResult(
+                          status -> {
+                            try {
+                              allConnectionsHeld.await(5, TimeUnit.SECONDS);
+                            } catch (Exception e) {
+                              throw new IllegalStateException(e);
+                            }
+                            pooledPublisher.publishLoginFailed("CUSTOMER");
+                            throw new IllegalArgumentException("비밀번호 불일치");
+                          });
+                      return null;
+                    } catch (Throwable t) {
+                      return t;
+                    }
+                  }));
+        }
+        executor.shutdown();
+
+        for (Future<Throwable> result : results) {
+          assertThat(result.get(10, TimeUnit.SECONDS)).isInstanceOf(IllegalArgumentException.class);
+        }
+        assertThat(pooledStore.findOldest(LOGIN_ATTEMPTS + 1)).hasSize(LOGIN_ATTEMPTS);
+      }
+    }
+  }
+}
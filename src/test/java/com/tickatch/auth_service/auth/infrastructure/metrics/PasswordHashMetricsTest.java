@@ -0,0 +1,149 @@
+package com.tickatch.auth_service.auth.infrastructure.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.tickatch.auth_service.auth.domain.AuthRepository;
+import com.tickatch.auth_service.auth.domain.repository.dto.PasswordHashCount;
+import com.tickatch.auth_service.global.scheduling.infrastructure.LeaderElection;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import java.io.IOException;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.UUID;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+@DisplayName("PasswordHashMetrics 테스트")
+class PasswordHashMetricsTest {
+
+  private AuthRepository authRepository;
+  private SimpleMeterRegistry meterRegistry;
+  private PasswordHashMetrics metrics;
+
+  @BeforeEach
+  void setUp() {
+    authRepository = mock(AuthRepository.class);
+    meterRegistry = new SimpleMeterRegistry();
+    JdbcTemplate jdbcTemplate =
+        new JdbcTemplate(
+            new DriverManagerDataSource(
+                "jdbc:h2:mem:password-hash-metrics-" + UUID.randomUUID(), "sa", ""));
+    metrics =
+        new PasswordHashMetrics(authRepository, new LeaderElection(jdbcTemplate), meterRegistry);
+  }
+
+  private double stored(String algorithm, String cost) {
+    return meterRegistry
+        .get("password.hash.stored")
+        .tag("algorithm", algorithm)
+        .tag("cost", cost)
+        .gauge()
+        .value();
+  }
+
+  @Test
+  void 알고리즘과_cost별로_게이지를_채운다() {
+    given(authRepository.countPasswordsByAlgorithm())
+        .willReturn(
+            List.of(
+                new PasswordHashCount("bcrypt", 4, 3),
+                new PasswordHashCount("bcrypt", 12, 1),
+                new PasswordHashCount("argon2", null, 2)));
+
+    metrics.refresh();
+
+    assertThat(stored("bcrypt", "04")).isEqualTo(3);
+    assertThat(stored("bcrypt", "12")).isEqualTo(1);
+    assertThat(stored("argon2id", "none")).isEqualTo(2);
+  }
+
+  @Test
+  void 없어진_조합의_게이지는_지운다() {
+    given(authRepository.countPasswordsByAlgorithm())
+        .willReturn(List.of(new PasswordHashCount("bcrypt", 4, 1)))
+        .willReturn(List.of(new PasswordHashCount("bcrypt", 10, 1)));
+
+    metrics.refresh();
+    metrics.refresh();
+
+    assertThat(meterRegistry.find("password.hash.stored").tag("cost", "04").gauge()).isNull();
+    assertThat(stored("bcrypt", "10")).isEqualTo(1);
+  }
+
+  @Nested
+  @DisplayName("주기 선점 (embedded PostgreSQL)")
+  @TestInstance(TestInstance.Lifecycle.PER_CLASS)
+  class 주기_선점_테스트 {
+
+    private EmbeddedPostgres postgres;
+    private JdbcTemplate postgresJdbcTemplate;
+
+    @BeforeAll
+    void startPostgres() throws IOException {
+      postgres = EmbeddedPostgres.start();
+      Flyway.configure()
+          .dataSource(postgres.getPostgresDatabase())
+          .schemas("auth_service")
+          .defaultSchema("auth_service")
+          .load()
+          .migrate();
+      postgresJdbcTemplate =
+          new JdbcTemplate(
+              new DriverManagerDataSource(
+                  postgres.getJdbcUrl("postgres", "postgres") + "&currentSchema=auth_service"));
+    }
+
+    @AfterAll
+    void stopPostgres() throws IOException {
+      postgres.close();
+    }
+
+    private PasswordHashMetrics instanceAt(String now, SimpleMeterRegistry registry) {
+      return new PasswordHashMetrics(
+          authRepository,
+          new LeaderElection(postgresJdbcTemplate),
+          registry,
+          Clock.fixed(Instant.parse(now), ZoneOffset.UTC));
+    }
+
+    @Test
+    void 시계가_늦은_인스턴스는_같은_주기를_다시_집계하지_않는다() {
+      given(authRepository.countPasswordsByAlgorithm())
+          .willReturn(List.of(new PasswordHashCount("bcrypt", 10, 5)));
+      SimpleMeterRegistry lateRegistry = new SimpleMeterRegistry();
+
+      instanceAt("2026-01-01T10:00:00.010Z", meterRegistry).refresh();
+      instanceAt("2026-01-01T10:00:00.900Z", lateRegistry).refresh();
+
+      verify(authRepository, times(1)).countPasswordsByAlgorithm();
+      assertThat(stored("bcrypt", "10")).isEqualTo(5);
+      assertThat(lateRegistry.find("password.hash.stored").gauges()).isEmpty();
+    }
+
+    @Test
+    void 다음_주기는_다시_선점한다() {
+      given(authRepository.countPasswordsByAlgorithm())
+          .willReturn(List.of(new PasswordHashCount("bcrypt", 10, 5)));
+
+      instanceAt("2026-01-01T11:00:00.010Z", meterRegistry).refresh();
+      instanceAt("2026-01-01T11:10:00.010Z", new SimpleMeterRegistry()).refresh();
+
+      verify(authRepository, times(2)).countPasswordsByAlgorithm();
+    }
+  }
+}
@@ -0,0 +1,85 @@
+package com.tickatch.auth_service.auth.infrastructure.persistence;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("BloomFilter 테스트")
+class BloomFilterTest {
+
+  @Nested
+  class 조회_테스트 {
+
+    @Test
+    void 추가한_키는_항상_있을_수_있다고_답한다() {
+      BloomFilter filter = BloomFilter.create(10_000, 0.01);
+      for (int i = 0; i < 10_000; i++) {
+        filter.put("user" + i + "@example.com|CUSTOMER");
+      }
+
+      for (int i = 0; i < 10_000; i++) {
+        assertThat(filter.mightContain("user" + i + "@example.com|CUSTOMER")).isTrue();
+      }
+    }
+
+    @Test
+    void 예상_원소_수까지_채워도_오탐률이_목표_근처이다() {
+      BloomFilter filter = BloomFilter.create(10_000, 0.01);
+      for (int i = 0; i < 10_000; i++) {
+        filter.put("user" + i + "@example.com|CUSTOMER");
+      }
+
+      int falsePositives = 0;
+      for (int i = 0; i < 100_000; i++) {
+        if (filter.mightContain("other" + i + "@example.com|CUSTOMER")) {
+          falsePositives++;
+        }
+      }
+
+      assertThat(falsePositives / 100_000.0).isLessThan(0.02);
+      assertThat(filter.expectedFalsePositiveRate()).isBetween(0.005, 0.02);
+    }
+
+    @Test
+    void 사용자_유형이_다르면_다른_키이다() {
+      BloomFilter filter = BloomFilter.create(1_000, 0.001);
+      filter.put("test@example.com|CUSTOMER");
+
+      assertThat(filter.mightContain("test@example.com|SELLER")).isFalse();
+    }
+  }
+
+  @Nested
+  class 추가_테스트 {
+
+    @Test
+    void 같은_키를_다시_추가하면_false를_반환한다() {
+      BloomFilter filter = BloomFilter.create(1_000, 0.01);
+
+      assertThat(filter.put("test@example.com|CUSTOMER")).isTrue();
+      assertThat(filter.put("test@example.com|CUSTOMER")).isFalse();
+    }
+  }
+
+  @Nested
+  class 생성_테스트 {
+
+    @Test
+    void 오탐률이_0과_1_사이가_아니면_예외를_던진다() {
+      assertThatThrownBy(() -> BloomFilter.create(1_000, 1.0))
+          .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void 예상_원소_수와_오탐률로_크기를_정한다() {
+      BloomFilter filter = BloomFilter.create(1_000_000, 0.01);
+
+      // m = -n ln p / (ln 2)^2 ≈ 9.59n, k = m/n ln 2 ≈ 7
+      assertThat(filter.bitSize()).isBetween(9_500_000L, 9_700_000L);
+      assertThat(filter.hashCount()).isEqualTo(7);
+    }
+  }
+}
@@ -0,0 +1,173 @@
+package com.tickatch.auth_service.auth.infrastructure.persistence;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import com.tickatch.auth_service.auth.domain.Auth;
+import com.tickatch.auth_service.auth.infrastructure.cache.AuthInfoCache;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.Cache;
+import jakarta.persistence.EntityManagerFactory;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@DisplayName("LastLoginBuffer 테스트 (H2)")
+class LastLoginBufferTest {
+
+  private static final LocalDateTime BASE = LocalDateTime.of(2025, 1, 1, 12, 0);
+
+  private JdbcTemplate jdbcTemplate;
+  private SimpleMeterRegistry meterRegistry;
+  private AuthInfoCache authInfoCache;
+  private Cache secondLevelCache;
+  private LastLoginBuffer buffer;
+
+  @BeforeEach
+  void setUp() {
+    DriverManagerDataSource dataSource =
+        new DriverManagerDataSource(
+            "jdbc:h2:mem:last-login-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1", "sa", "");
+    jdbcTemplate = new JdbcTemplate(dataSource);
+    meterRegistry = new SimpleMeterRegistry();
+    LastLoginBufferProperties properties = new LastLoginBufferProperties();
+    properties.setEnabled(true);
+    authInfoCache = mock(AuthInfoCache.class);
+    secondLevelCache = mock(Cache.class);
+    EntityManagerFactory entityManagerFactory = mock(EntityManagerFactory.class);
+    given(entityManagerFactory.getCache()).willReturn(secondLevelCache);
+    buffer =
+        new LastLoginBuffer(
+            properties, jdbcTemplate, authInfoCache, entityManagerFactory, meterRegistry);
+  }
+
+  @AfterEach
+  void tearDown() {
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.clearSynchronization();
+    }
+  }
+
+  private void createAuthsTable() {
+    jdbcTemplate.execute("CREATE TABLE auths (id UUID PRIMARY KEY, last_login_at TIMESTAMP)");
+  }
+
+  private UUID insertAuth(LocalDateTime lastLoginAt) {
+    UUID id = UUID.randomUUID();
+    jdbcTemplate.update(
+        "INSERT INTO auths (id, last_login_at) VALUES (?, ?)",
+        id,
+        lastLoginAt == null ? null : Timestamp.valueOf(lastLoginAt));
+    return id;
+  }
+
+  private LocalDateTime lastLoginAt(UUID id) {
+    return jdbcTemplate.queryForObject(
+        "SELECT last_login_at FROM auths WHERE id = ?", LocalDateTime.class, id);
+  }
+
+  @Nested
+  class 반영_테스트 {
+
+    @BeforeEach
+    void setUp() {
+      createAuthsTable();
+    }
+
+    @Test
+    void 계정별로_가장_늦은_시각만_반영한다() {
+      UUID first = insertAuth(null);
+      UUID second = insertAuth(null);
+
+      buffer.record(first, BASE.plusSeconds(2));
+      buffer.record(first, BASE.plusSeconds(1));
+      buffer.record(second, BASE);
+      assertThat(buffer.pendingSize()).isEqualTo(2);
+
+      buffer.flush();
+
+      assertThat(lastLoginAt(first)).isEqualTo(BASE.plusSeconds(2));
+      assertThat(lastLoginAt(second)).isEqualTo(BASE);
+      assertThat(buffer.pendingSize()).isZero();
+      assertThat(meterRegistry.get("auth.last-login.flushed").counter().count()).isEqualTo(2);
+    }
+
+    @Test
+    void DB에_더_늦은_시각이_있으면_덮어쓰지_않는다() {
+      UUID id = insertAuth(BASE.plusMinutes(1));
+
+      buffer.record(id, BASE);
+      buffer.flush();
+
+      assertThat(lastLoginAt(id)).isEqualTo(BASE.plusMinutes(1));
+    }
+
+    @Test
+    void 반영한_계정은_2차_캐시와_조회_캐시에서_지운다() {
+      UUID id = insertAuth(null);
+
+      buffer.record(id, BASE);
+      buffer.flush();
+
+      InOrder order = inOrder(secondLevelCache, authInfoCache);
+      order.verify(secondLevelCache).evict(Auth.class, id);
+      order.verify(authInfoCache).invalidate(id);
+    }
+  }
+
+  @Nested
+  class 실패_테스트 {
+
+    @Test
+    void 반영에_실패하면_버퍼에_되돌려_다음_주기에_반영한다() {
+      UUID id = UUID.randomUUID();
+      buffer.record(id, BASE);
+
+      buffer.flush();
+
+      assertThat(buffer.pendingSize()).isEqualTo(1);
+      assertThat(meterRegistry.get("auth.last-login.flush.failed").counter().count())
+          .isEqualTo(1);
+      verify(authInfoCache, never()).invalidate(any());
+
+      createAuthsTable();
+      jdbcTemplate.update("INSERT INTO auths (id) VALUES (?)", id);
+      buffer.flush();
+
+      assertThat(lastLoginAt(id)).isEqualTo(BASE);
+      assertThat(buffer.pendingSize()).isZero();
+    }
+  }
+
+  @Nested
+  class 트랜잭션_테스트 {
+
+    @Test
+    void 트랜잭션_안에서는_커밋된_뒤에_버퍼에_넣는다() {
+      TransactionSynchronizationManager.initSynchronization();
+      buffer.record(UUID.randomUUID(), BASE);
+
+      assertThat(buffer.pendingSize()).isZero();
+
+      TransactionSynchronizationManager.getSynchronizations()
+          .forEach(TransactionSynchronization::afterCommit);
+
+      assertThat(buffer.pendingSize()).isEqualTo(1);
+    }
+  }
+}
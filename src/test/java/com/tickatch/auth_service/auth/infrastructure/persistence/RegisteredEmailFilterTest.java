@@ -0,0 +1,140 @@
+package com.tickatch.auth_service.auth.infrastructure.persistence;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.tickatch.auth_service.auth.domain.vo.UserType;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+@DisplayName("RegisteredEmailFilter 테스트 (H2)")
+class RegisteredEmailFilterTest {
+
+  private JdbcTemplate jdbcTemplate;
+  private SimpleMeterRegistry meterRegistry;
+  private RegisteredEmailFilter filter;
+  private AtomicInteger lookups;
+
+  @BeforeEach
+  void setUp() {
+    DriverManagerDataSource dataSource =
+        new DriverManagerDataSource(
+            "jdbc:h2:mem:email-filter-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1", "sa", "");
+    jdbcTemplate = new JdbcTemplate(dataSource);
+    jdbcTemplate.execute(
+        """
+        CREATE TABLE auths (
+            email      VARCHAR(255) NOT NULL,
+            user_type  VARCHAR(20)  NOT NULL,
+            created_at TIMESTAMP    NOT NULL DEFAULT CURRENT_TIMESTAMP
+        )
+        """);
+    insert("existing@example.com", UserType.CUSTOMER);
+
+    RegisteredEmailFilterProperties properties = new RegisteredEmailFilterProperties();
+    properties.setExpectedInsertions(1_000);
+    meterRegistry = new SimpleMeterRegistry();
+    filter =
+        new RegisteredEmailFilter(
+            properties,
+            jdbcTemplate,
+            new DataSourceTransactionManager(dataSource),
+            meterRegistry);
+    lookups = new AtomicInteger();
+  }
+
+  private void insert(String email, UserType userType) {
+    jdbcTemplate.update(
+        "INSERT INTO auths (email, user_type) VALUES (?, ?)", email, userType.name());
+  }
+
+  private boolean exists(String email, UserType userType) {
+    return filter.exists(
+        email,
+        userType,
+        () -> {
+          lookups.incrementAndGet();
+          Integer count =
+              jdbcTemplate.queryForObject(
+                  "SELECT COUNT(*) FROM auths WHERE email = ? AND user_type = ?",
+                  Integer.class,
+                  email,
+                  userType.name());
+          return count != null && count > 0;
+        });
+  }
+
+  private double lookupCount(String result) {
+    return meterRegistry.get("auth.email-filter.lookups").tag("result", result).counter().count();
+  }
+
+  @Nested
+  class 조회_테스트 {
+
+    @Test
+    void 필터를_만들기_전에는_모두_DB로_확인한다() {
+      assertThat(exists("new@example.com", UserType.CUSTOMER)).isFalse();
+
+      assertThat(lookups.get()).isEqualTo(1);
+    }
+
+    @Test
+    void 필터에_없으면_DB를_조회하지_않는다() {
+      filter.rebuild();
+
+      assertThat(exists("new@example.com", UserType.CUSTOMER)).isFalse();
+
+      assertThat(lookups.get()).isZero();
+      assertThat(lookupCount("negative")).isEqualTo(1);
+    }
+
+    @Test
+    void 필터에_있으면_DB로_확인한다() {
+      filter.rebuild();
+
+      assertThat(exists("existing@example.com", UserType.CUSTOMER)).isTrue();
+
+      assertThat(lookups.get()).isEqualTo(1);
+      assertThat(lookupCount("positive")).isEqualTo(1);
+    }
+  }
+
+  @Nested
+  class 갱신_테스트 {
+
+    @Test
+    void 추가한_조합은_바로_DB로_확인한다() {
+      filter.rebuild();
+      insert("new@example.com", UserType.SELLER);
+      filter.put("new@example.com", UserType.SELLER);
+
+      assertThat(exists("new@example.com", UserType.SELLER)).isTrue();
+    }
+
+    @Test
+    void 다른_인스턴스에서_가입한_조합은_동기화_후_보인다() {
+      filter.rebuild();
+      insert("other@example.com", UserType.CUSTOMER);
+
+      filter.sync();
+
+      assertThat(exists("other@example.com", UserType.CUSTOMER)).isTrue();
+    }
+
+    @Test
+    void 재구성하면_원소_수와_크기를_지표로_노출한다() {
+      filter.rebuild();
+
+      assertThat(meterRegistry.get("auth.email-filter.entries").gauge().value()).isEqualTo(1);
+      assertThat(meterRegistry.get("auth.email-filter.size").gauge().value()).isPositive();
+      assertThat(meterRegistry.get("auth.email-filter.rebuild").timer().count()).isEqualTo(1);
+    }
+  }
+}
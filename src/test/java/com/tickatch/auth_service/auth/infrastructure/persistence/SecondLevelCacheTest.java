@@ -0,0 +1,178 @@
+package com.tickatch.auth_service.auth.infrastructure.persistence;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.tickatch.auth_service.auth.domain.Auth;
+import com.tickatch.auth_service.auth.domain.AuthCacheRegions;
+import com.tickatch.auth_service.auth.domain.AuthProvider;
+import com.tickatch.auth_service.auth.domain.AuthRepository;
+import com.tickatch.auth_service.auth.domain.vo.ProviderType;
+import com.tickatch.auth_service.auth.domain.vo.UserType;
+import com.tickatch.auth_service.auth.infrastructure.messaging.consumer.AuthCacheInvalidationConsumer;
+import com.tickatch.auth_service.auth.infrastructure.messaging.event.AuthCacheInvalidatedEvent;
+import jakarta.persistence.EntityManagerFactory;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Supplier;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@SpringBootTest
+@DisplayName("Hibernate 2차 캐시 통합 테스트")
+class SecondLevelCacheTest {
+
+  @Autowired private AuthRepository authRepository;
+  @Autowired private AuthCacheInvalidationConsumer invalidationConsumer;
+  @Autowired private EntityManagerFactory entityManagerFactory;
+  @Autowired private PlatformTransactionManager transactionManager;
+  @Autowired private JdbcTemplate jdbcTemplate;
+
+  private Statistics statistics;
+  private String email;
+  private String providerUserId;
+  private UUID authId;
+
+  @BeforeEach
+  void setUp() {
+    statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    email = "l2-" + UUID.randomUUID() + "@example.com";
+    providerUserId = "kakao-" + UUID.randomUUID();
+    authId =
+        inTransaction(
+                () ->
+                    authRepository.save(
+                        Auth.registerWithOAuth(
+                            email,
+                            "Pass123!",
+                            UserType.CUSTOMER,
+                            ProviderType.KAKAO,
+                            providerUserId,
+                            new BCryptPasswordEncoder(4),
+                            "SYSTEM")))
+            .getId();
+    statistics.clear();
+  }
+
+  @AfterEach
+  void tearDown() {
+    jdbcTemplate.update("DELETE FROM auth_providers WHERE auth_id = ?", authId);
+    jdbcTemplate.update("DELETE FROM auths WHERE id = ?", authId);
+    entityManagerFactory.unwrap(SessionFactory.class).getCache().evictAllRegions();
+  }
+
+  private <T> T inTransaction(Supplier<T> action) {
+    return new TransactionTemplate(transactionManager).execute(status -> action.get());
+  }
+
+  @Nested
+  class 조회_테스트 {
+
+    @Test
+    void 커밋된_Auth는_ID_조회에서_2차_캐시로_읽는다() {
+      inTransaction(() -> authRepository.findById(authId));
+
+      assertThat(statistics.getDomainDataRegionStatistics(AuthCacheRegions.AUTH).getHitCount())
+          .isPositive();
+    }
+
+    @Test
+    void 이메일과_사용자유형_조회는_자연키_캐시를_거친다() {
+      Optional<Auth> found =
+          inTransaction(() -> authRepository.findByEmailAndUserType(email, UserType.CUSTOMER));
+
+      assertThat(found).map(Auth::getId).contains(authId);
+      assertThat(statistics.getNaturalIdCacheHitCount()).isPositive();
+    }
+
+    @Test
+    void 소셜_계정_조회는_자연키_캐시를_거친다() {
+      Optional<UUID> found =
+          inTransaction(
+              () ->
+                  authRepository
+                      .findByProviderAndProviderUserId(ProviderType.KAKAO, providerUserId)
+                      .map(Auth::getId));
+
+      assertThat(found).contains(authId);
+      assertThat(statistics.getNaturalIdCacheHitCount()).isPositive();
+    }
+  }
+
+  @Nested
+  class 무효화_테스트 {
+
+    @Test
+    void 무효화_이벤트를_받으면_Auth_항목을_지운다() {
+      inTransaction(() -> authRepository.findById(authId));
+      assertThat(entityManagerFactory.getCache().contains(Auth.class, authId)).isTrue();
+
+      invalidationConsumer.handleInvalidated(new AuthCacheInvalidatedEvent(authId));
+
+      assertThat(entityManagerFactory.getCache().contains(Auth.class, authId)).isFalse();
+    }
+
+    @Test
+    void 해제된_연동의_자연키_적중은_그_연동만_엔티티_캐시에서_지운다() {
+      String otherProviderUserId = "naver-" + UUID.randomUUID();
+      UUID otherAuthId =
+          inTransaction(
+                  () ->
+                      authRepository.save(
+                          Auth.registerWithOAuth(
+                              "l2-" + UUID.randomUUID() + "@example.com",
+                              "Pass123!",
+                              UserType.CUSTOMER,
+                              ProviderType.NAVER,
+                              otherProviderUserId,
+                              new BCryptPasswordEncoder(4),
+                              "SYSTEM")))
+              .getId();
+      try {
+        UUID staleProviderId = providerIdOf(authId);
+        UUID otherProviderId = providerIdOf(otherAuthId);
+        inTransaction(
+            () ->
+                authRepository.findByProviderAndProviderUserId(ProviderType.KAKAO, providerUserId));
+        inTransaction(
+            () ->
+                authRepository.findByProviderAndProviderUserId(
+                    ProviderType.NAVER, otherProviderUserId));
+
+        // 다른 인스턴스에서 연동을 해제하고 무효화 이벤트를 보낸 상황
+        jdbcTemplate.update("DELETE FROM auth_providers WHERE id = ?", staleProviderId);
+        invalidationConsumer.handleInvalidated(new AuthCacheInvalidatedEvent(authId));
+
+        Optional<Auth> found =
+            inTransaction(
+                () ->
+                    authRepository.findByProviderAndProviderUserId(
+                        ProviderType.KAKAO, providerUserId));
+
+        assertThat(found).isEmpty();
+        assertThat(entityManagerFactory.getCache().contains(AuthProvider.class, staleProviderId))
+            .isFalse();
+        assertThat(entityManagerFactory.getCache().contains(AuthProvider.class, otherProviderId))
+            .isTrue();
+      } finally {
+        jdbcTemplate.update("DELETE FROM auth_providers WHERE auth_id = ?", otherAuthId);
+        jdbcTemplate.update("DELETE FROM auths WHERE id = ?", otherAuthId);
+      }
+    }
+
+    private UUID providerIdOf(UUID ownerId) {
+      return jdbcTemplate.queryForObject(
+          "SELECT id FROM auth_providers WHERE auth_id = ?", UUID.class, ownerId);
+    }
+  }
+}
@@ -3,6 +3,7 @@ package com.tickatch.auth_service.auth.presentation.api;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.verify;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
@@ -24,6 +25,9 @@ import com.tickatch.auth_service.auth.presentation.api.dto.request.LogoutRequest
 import com.tickatch.auth_service.auth.presentation.api.dto.request.RefreshRequest;
 import com.tickatch.auth_service.auth.presentation.api.dto.request.RegisterRequest;
 import com.tickatch.auth_service.auth.presentation.api.dto.request.WithdrawRequest;
+import com.tickatch.auth_service.global.ratelimit.infrastructure.ClientIpProperties;
+import com.tickatch.auth_service.global.ratelimit.infrastructure.ClientIpResolver;
+import com.tickatch.auth_service.global.ratelimit.infrastructure.LoginRateLimiter;
 import com.tickatch.auth_service.token.application.service.command.dto.TokenResult;
 import java.time.LocalDateTime;
 import java.util.List;
@@ -34,6 +38,7 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.Import;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
@@ -41,6 +46,7 @@ import org.springframework.test.web.servlet.MockMvc;
 @DisplayName("AuthApi 테스트")
 @WebMvcTest(AuthApi.class)
 @AutoConfigureMockMvc(addFilters = false)
+@Import({ClientIpResolver.class, ClientIpProperties.class})
 class AuthApiTest {
 
   @Autowired private MockMvc mockMvc;
@@ -51,6 +57,8 @@ class AuthApiTest {
 
   @MockitoBean private AuthQueryService authQueryService;
 
+  @MockitoBean private LoginRateLimiter loginRateLimiter;
+
   private LoginResult createLoginResult() {
     UUID authId = UUID.randomUUID();
     TokenResult tokenResult =
@@ -131,6 +139,74 @@ class AuthApiTest {
           .andExpect(jsonPath("$.accessToken").value("access-token"))
           .andExpect(jsonPath("$.refreshToken").value("refresh-token"));
     }
+
+    @Test
+    void 로그인_전에_클라이언트_IP로_시도_제한을_확인한다() throws Exception {
+      LoginRequest request =
+          new LoginRequest("test@test.com", "Password123!", UserType.CUSTOMER, false);
+
+      given(authCommandService.login(any())).willReturn(createLoginResult());
+
+      mockMvc
+          .perform(
+              post("/api/v1/auth/login")
+                  .with(
+                      servletRequest -> {
+                        servletRequest.setRemoteAddr("10.0.0.1");
+                        return servletRequest;
+                      })
+                  .contentType(MediaType.APPLICATION_JSON)
+                  .content(objectMapper.writeValueAsString(request)))
+          .andExpect(status().isOk());
+
+      verify(loginRateLimiter).check("test@test.com", UserType.CUSTOMER, "10.0.0.1");
+    }
+
+    @Test
+    void Gateway가_전달한_원_IP로_시도_제한을_확인한다() throws Exception {
+      LoginRequest request =
+          new LoginRequest("test@test.com", "Password123!", UserType.CUSTOMER, false);
+
+      given(authCommandService.login(any())).willReturn(createLoginResult());
+
+      mockMvc
+          .perform(
+              post("/api/v1/auth/login")
+                  .with(
+                      servletRequest -> {
+                        servletRequest.setRemoteAddr("10.0.0.1");
+                        return servletRequest;
+                      })
+                  .header("X-Forwarded-For", "203.0.113.7")
+                  .contentType(MediaType.APPLICATION_JSON)
+                  .content(objectMapper.writeValueAsString(request)))
+          .andExpect(status().isOk());
+
+      verify(loginRateLimiter).check("test@test.com", UserType.CUSTOMER, "203.0.113.7");
+    }
+
+    @Test
+    void 신뢰하지_않는_주소에서_온_전달_헤더는_무시한다() throws Exception {
+      LoginRequest request =
+          new LoginRequest("test@test.com", "Password123!", UserType.CUSTOMER, false);
+
+      given(authCommandService.login(any())).willReturn(createLoginResult());
+
+      mockMvc
+          .perform(
+              post("/api/v1/auth/login")
+                  .with(
+                      servletRequest -> {
+                        servletRequest.setRemoteAddr("198.51.100.20");
+                        return servletRequest;
+                      })
+                  .header("X-Forwarded-For", "203.0.113.7")
+                  .contentType(MediaType.APPLICATION_JSON)
+                  .content(objectMapper.writeValueAsString(request)))
+          .andExpect(status().isOk());
+
+      verify(loginRateLimiter).check("test@test.com", UserType.CUSTOMER, "198.51.100.20");
+    }
   }
 
   @Nested
@@ -279,5 +355,25 @@ class AuthApiTest {
           .andExpect(status().isOk())
           .andExpect(jsonPath("$.available").value(false));
     }
+
+    @Test
+    void Gateway가_전달한_원_IP로_요청_한도를_확인한다() throws Exception {
+      CheckEmailRequest request = new CheckEmailRequest("new@test.com", UserType.CUSTOMER);
+
+      mockMvc
+          .perform(
+              post("/api/v1/auth/check-email")
+                  .with(
+                      servletRequest -> {
+                        servletRequest.setRemoteAddr("10.0.0.1");
+                        return servletRequest;
+                      })
+                  .header("X-Forwarded-For", "203.0.113.7, 10.0.0.2")
+                  .contentType(MediaType.APPLICATION_JSON)
+                  .content(objectMapper.writeValueAsString(request)))
+          .andExpect(status().isOk());
+
+      verify(loginRateLimiter).checkEmailLookup("203.0.113.7");
+    }
   }
 }
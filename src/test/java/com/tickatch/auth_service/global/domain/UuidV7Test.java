@@ -0,0 +1,118 @@
+package com.tickatch.auth_service.global.domain;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("UuidV7 테스트")
+class UuidV7Test {
+
+  @Nested
+  class 형식_테스트 {
+
+    @Test
+    void 버전_7과_RFC_변형으로_생성한다() {
+      UUID uuid = UuidV7.generate();
+
+      assertThat(uuid.version()).isEqualTo(7);
+      assertThat(uuid.variant()).isEqualTo(2);
+    }
+
+    @Test
+    void 상위_48비트에_생성_시각을_담는다() {
+      long before = System.currentTimeMillis();
+      UUID uuid = UuidV7.generate();
+      long after = System.currentTimeMillis();
+
+      assertThat(UuidV7.epochMillis(uuid)).isBetween(before, after + 1);
+    }
+
+    @Test
+    void 버전_7이_아니면_시각을_읽지_않는다() {
+      assertThatThrownBy(() -> UuidV7.epochMillis(UUID.randomUUID()))
+          .isInstanceOf(IllegalArgumentException.class);
+    }
+  }
+
+  @Nested
+  class 순서_테스트 {
+
+    @Test
+    void 같은_밀리초_안에서도_계속_커진다() {
+      UuidV7 generator = new UuidV7();
+      long now = 1_760_000_000_000L;
+      UUID previous = generator.next(now);
+
+      for (int i = 0; i < 4_000; i++) {
+        UUID next = generator.next(now);
+        assertThat(next).isGreaterThan(previous);
+        assertThat(UuidV7.epochMillis(next)).isEqualTo(now);
+        previous = next;
+      }
+    }
+
+    @Test
+    void 순번을_다_쓰면_다음_밀리초로_넘어간다() {
+      UuidV7 generator = new UuidV7();
+      long now = 1_760_000_000_000L;
+      UUID last = null;
+
+      for (int i = 0; i <= 4_096; i++) {
+        last = generator.next(now);
+      }
+
+      assertThat(UuidV7.epochMillis(last)).isEqualTo(now + 1);
+    }
+
+    @Test
+    void 시계가_뒤로_가도_작아지지_않는다() {
+      UuidV7 generator = new UuidV7();
+      UUID later = generator.next(1_760_000_000_000L);
+      UUID earlier = generator.next(1_759_999_999_000L);
+
+      assertThat(earlier).isGreaterThan(later);
+    }
+
+    @Test
+    void 여러_스레드가_동시에_생성해도_중복_없이_스레드마다_증가한다() throws Exception {
+      int threads = 8;
+      int perThread = 20_000;
+      ExecutorService executor = Executors.newFixedThreadPool(threads);
+      try {
+        List<Callable<List<UUID>>> tasks = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+          tasks.add(
+              () -> {
+                List<UUID> ids = new ArrayList<>(perThread);
+                for (int i = 0; i < perThread; i++) {
+                  ids.add(UuidV7.generate());
+                }
+                return ids;
+              });
+        }
+
+        Set<UUID> all = new HashSet<>();
+        for (Future<List<UUID>> future : executor.invokeAll(tasks)) {
+          List<UUID> ids = future.get();
+          assertThat(ids).isSorted();
+          all.addAll(ids);
+        }
+        assertThat(all).hasSize(threads * perThread);
+      } finally {
+        executor.shutdownNow();
+      }
+    }
+  }
+}
@@ -1,17 +1,28 @@
 package com.tickatch.auth_service.global.jwt.infrastructure;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import com.tickatch.auth_service.auth.domain.vo.UserType;
+import com.tickatch.auth_service.token.application.port.out.dto.TokenClaims;
+import com.tickatch.auth_service.token.domain.exception.TokenErrorCode;
+import com.tickatch.auth_service.token.domain.exception.TokenException;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jws;
+import io.jsonwebtoken.Jwts;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.security.KeyPair;
 import java.security.KeyPairGenerator;
-import java.security.interfaces.RSAPrivateKey;
-import java.security.interfaces.RSAPublicKey;
+import java.security.PrivateKey;
+import java.security.PublicKey;
+import java.time.Instant;
 import java.util.UUID;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
 
 @DisplayName("JwtTokenProvider 테스트")
 class JwtTokenProviderTest {
@@ -27,7 +38,14 @@ class JwtTokenProviderTest {
     jwtProperties.setKeyId("test-key-1");
     jwtProperties.getAccessToken().setExpiration(300);
     rsaKeyManager = createTestRsaKeyManager();
-    jwtTokenProvider = new JwtTokenProvider(jwtProperties, rsaKeyManager);
+    jwtTokenProvider = createProvider(rsaKeyManager);
+  }
+
+  private JwtTokenProvider createProvider(RsaKeyManager keyManager) {
+    return new JwtTokenProvider(
+        jwtProperties,
+        keyManager,
+        new VerifiedTokenCache(jwtProperties, new SimpleMeterRegistry()));
   }
 
   private RsaKeyManager createTestRsaKeyManager() throws Exception {
@@ -35,8 +53,7 @@ class JwtTokenProviderTest {
     keyPairGenerator.initialize(2048);
     KeyPair keyPair = keyPairGenerator.generateKeyPair();
 
-    return new TestRsaKeyManager(
-        (RSAPrivateKey) keyPair.getPrivate(), (RSAPublicKey) keyPair.getPublic());
+    return new TestRsaKeyManager(keyPair.getPrivate(), keyPair.getPublic());
   }
 
   @Nested
@@ -63,6 +80,110 @@ class JwtTokenProviderTest {
 
       assertThat(extractedUserType).isEqualTo(userType);
     }
+
+    @Test
+    void 생성된_토큰은_표준_JWT_파서로_검증된다() {
+      UUID authId = UUID.randomUUID();
+
+      String token = jwtTokenProvider.generateAccessToken(authId, UserType.ADMIN);
+      Jws<Claims> jws =
+          Jwts.parser().verifyWith(rsaKeyManager.getPublicKey()).build().parseSignedClaims(token);
+
+      Claims claims = jws.getPayload();
+
+      assertThat(jws.getHeader().getAlgorithm()).isEqualTo("RS256");
+      assertThat(jws.getHeader().getKeyId()).isEqualTo("test-key-1");
+      assertThat(claims.getSubject()).isEqualTo(authId.toString());
+      assertThat(claims.getIssuer()).isEqualTo("tickatch-test");
+      assertThat(claims.get("userType", String.class)).isEqualTo("ADMIN");
+      assertThat(claims.getExpiration().getTime() - claims.getIssuedAt().getTime())
+          .isEqualTo(300_000L);
+    }
+
+    @Test
+    void 키가_바뀌면_새_키로_서명하고_검증한다() throws Exception {
+      SwappableRsaKeyManager keyManager = new SwappableRsaKeyManager();
+      keyManager.swap(createTestRsaKeyManager());
+      JwtTokenProvider provider = createProvider(keyManager);
+      String oldToken = provider.generateAccessToken(UUID.randomUUID(), UserType.CUSTOMER);
+
+      keyManager.swap(createTestRsaKeyManager());
+      String newToken = provider.generateAccessToken(UUID.randomUUID(), UserType.CUSTOMER);
+
+      assertThat(provider.validateToken(oldToken)).isFalse();
+      assertThat(provider.validateToken(newToken)).isTrue();
+    }
+
+    @Test
+    void 캐시된_토큰도_키가_바뀌면_검증에_실패한다() throws Exception {
+      SwappableRsaKeyManager keyManager = new SwappableRsaKeyManager();
+      keyManager.swap(createTestRsaKeyManager());
+      JwtTokenProvider provider = createProvider(keyManager);
+      String token = provider.generateAccessToken(UUID.randomUUID(), UserType.CUSTOMER);
+      assertThat(provider.validateToken(token)).isTrue();
+
+      keyManager.swap(createTestRsaKeyManager());
+
+      assertThat(provider.validateToken(token)).isFalse();
+    }
+  }
+
+  @Nested
+  class 서명_알고리즘_테스트 {
+
+    @ParameterizedTest
+    @EnumSource(JwtAlgorithm.class)
+    void 설정한_알고리즘으로_서명하고_표준_JWT_파서로_검증된다(JwtAlgorithm algorithm) throws Exception {
+      jwtProperties.setAlgorithm(algorithm);
+      KeyPair keyPair = algorithm.generateKeyPair();
+      JwtTokenProvider provider =
+          createProvider(new TestRsaKeyManager(keyPair.getPrivate(), keyPair.getPublic()));
+      UUID authId = UUID.randomUUID();
+
+      String token = provider.generateAccessToken(authId, UserType.CUSTOMER);
+      Jws<Claims> jws =
+          Jwts.parser().verifyWith(keyPair.getPublic()).build().parseSignedClaims(token);
+
+      assertThat(jws.getHeader().getAlgorithm()).isEqualTo(algorithm.getJwsName());
+      assertThat(jws.getPayload().getSubject()).isEqualTo(authId.toString());
+      assertThat(provider.parseVerified(token).authId()).isEqualTo(authId);
+    }
+  }
+
+  @Nested
+  class 키_로테이션_테스트 {
+
+    @Test
+    void 로테이션_후에도_이전_키로_서명된_토큰을_kid로_검증한다() throws Exception {
+      Instant now = Instant.now();
+      JwtKey oldKey = createKey("old-key", now.minusSeconds(60));
+      SwappableRsaKeyManager keyManager = new SwappableRsaKeyManager();
+      keyManager.swap(JwtKeyRing.of(oldKey));
+      JwtTokenProvider provider = createProvider(keyManager);
+      String oldToken = provider.generateAccessToken(UUID.randomUUID(), UserType.CUSTOMER);
+
+      keyManager.swap(keyManager.getKeyRing().with(createKey("new-key", now)));
+      String newToken = provider.generateAccessToken(UUID.randomUUID(), UserType.CUSTOMER);
+
+      assertThat(provider.parseVerified(oldToken).keyId()).isEqualTo("old-key");
+      assertThat(provider.parseVerified(newToken).keyId()).isEqualTo("new-key");
+      assertThat(provider.getKeyId()).isEqualTo("new-key");
+      assertThat(provider.getVerificationKeys()).containsOnlyKeys("new-key", "old-key");
+    }
+
+    @Test
+    void 키_링에서_제거된_키로_서명된_토큰은_검증에_실패한다() throws Exception {
+      Instant now = Instant.now();
+      SwappableRsaKeyManager keyManager = new SwappableRsaKeyManager();
+      keyManager.swap(JwtKeyRing.of(createKey("old-key", now.minusSeconds(60))));
+      JwtTokenProvider provider = createProvider(keyManager);
+      String oldToken = provider.generateAccessToken(UUID.randomUUID(), UserType.CUSTOMER);
+      assertThat(provider.validateToken(oldToken)).isTrue();
+
+      keyManager.swap(JwtKeyRing.of(createKey("new-key", now)));
+
+      assertThat(provider.validateToken(oldToken)).isFalse();
+    }
   }
 
   @Nested
@@ -115,7 +236,7 @@ class JwtTokenProviderTest {
     @Test
     void 다른_키로_서명된_토큰은_false를_반환한다() throws Exception {
       RsaKeyManager otherKeyManager = createTestRsaKeyManager();
-      JwtTokenProvider otherProvider = new JwtTokenProvider(jwtProperties, otherKeyManager);
+      JwtTokenProvider otherProvider = createProvider(otherKeyManager);
 
       UUID authId = UUID.randomUUID();
       String token = otherProvider.generateAccessToken(authId, UserType.CUSTOMER);
@@ -126,12 +247,53 @@ class JwtTokenProviderTest {
     }
   }
 
+  @Nested
+  class 클레임_파싱_테스트 {
+
+    @Test
+    void 한_번의_검증으로_모든_클레임을_반환한다() {
+      UUID authId = UUID.randomUUID();
+      String token = jwtTokenProvider.generateAccessToken(authId, UserType.SELLER);
+
+      TokenClaims claims = jwtTokenProvider.parseVerified(token);
+
+      assertThat(claims.authId()).isEqualTo(authId);
+      assertThat(claims.userType()).isEqualTo(UserType.SELLER);
+      assertThat(claims.keyId()).isEqualTo("test-key-1");
+      assertThat(claims.expiresAt()).isGreaterThan(System.currentTimeMillis() / 1000);
+    }
+
+    @Test
+    void 만료된_토큰은_TOKEN_EXPIRED_예외가_발생한다() {
+      jwtProperties.getAccessToken().setExpiration(-60);
+      String token = jwtTokenProvider.generateAccessToken(UUID.randomUUID(), UserType.CUSTOMER);
+
+      assertThatThrownBy(() -> jwtTokenProvider.parseVerified(token))
+          .isInstanceOf(TokenException.class)
+          .hasFieldOrPropertyWithValue("errorCode", TokenErrorCode.TOKEN_EXPIRED);
+    }
+
+    @Test
+    void 잘못된_토큰은_INVALID_TOKEN_예외가_발생한다() {
+      assertThatThrownBy(() -> jwtTokenProvider.parseVerified("invalid-token"))
+          .isInstanceOf(TokenException.class)
+          .hasFieldOrPropertyWithValue("errorCode", TokenErrorCode.INVALID_TOKEN);
+    }
+
+    @Test
+    void 빈_토큰은_INVALID_TOKEN_예외가_발생한다() {
+      assertThatThrownBy(() -> jwtTokenProvider.parseVerified(" "))
+          .isInstanceOf(TokenException.class)
+          .hasFieldOrPropertyWithValue("errorCode", TokenErrorCode.INVALID_TOKEN);
+    }
+  }
+
   @Nested
   class Public_key_조회_테스트 {
 
     @Test
     void publicKey를_반환한다() {
-      RSAPublicKey publicKey = jwtTokenProvider.getPublicKey();
+      PublicKey publicKey = jwtTokenProvider.getPublicKey();
 
       assertThat(publicKey).isNotNull();
       assertThat(publicKey.getAlgorithm()).isEqualTo("RSA");
@@ -145,24 +307,43 @@ class JwtTokenProviderTest {
     }
   }
 
-  private static class TestRsaKeyManager extends RsaKeyManager {
-    private final RSAPrivateKey privateKey;
-    private final RSAPublicKey publicKey;
+  private static JwtKey createKey(String keyId, Instant createdAt) throws Exception {
+    KeyPair keyPair = JwtAlgorithm.RS256.generateKeyPair();
+    return new JwtKey(keyId, keyPair.getPrivate(), keyPair.getPublic(), createdAt);
+  }
+
+  private static class SwappableRsaKeyManager extends RsaKeyManager {
+    private JwtKeyRing keyRing;
 
-    TestRsaKeyManager(RSAPrivateKey privateKey, RSAPublicKey publicKey) {
+    SwappableRsaKeyManager() {
       super(new JwtProperties());
-      this.privateKey = privateKey;
-      this.publicKey = publicKey;
+    }
+
+    void swap(RsaKeyManager delegate) {
+      this.keyRing = delegate.getKeyRing();
+    }
+
+    void swap(JwtKeyRing keyRing) {
+      this.keyRing = keyRing;
     }
 
     @Override
-    public RSAPrivateKey getPrivateKey() {
-      return privateKey;
+    public JwtKeyRing getKeyRing() {
+      return keyRing;
+    }
+  }
+
+  private static class TestRsaKeyManager extends RsaKeyManager {
+    private final JwtKeyRing keyRing;
+
+    TestRsaKeyManager(PrivateKey privateKey, PublicKey publicKey) {
+      super(new JwtProperties());
+      this.keyRing = JwtKeyRing.of(new JwtKey("test-key-1", privateKey, publicKey, Instant.now()));
     }
 
     @Override
-    public RSAPublicKey getPublicKey() {
-      return publicKey;
+    public JwtKeyRing getKeyRing() {
+      return keyRing;
     }
   }
 }
@@ -1,9 +1,15 @@
 package com.tickatch.auth_service.global.jwt.infrastructure;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.security.KeyPair;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -48,6 +54,239 @@ class RsaKeyManagerTest {
     }
   }
 
+  @Nested
+  class 서명_알고리즘별_키_테스트 {
+
+    @Test
+    void ES256이면_EC_키를_생성한다() {
+      JwtProperties properties = new JwtProperties();
+      properties.setKeyDirectory(tempDir.toString());
+      properties.setAlgorithm(JwtAlgorithm.ES256);
+
+      RsaKeyManager keyManager = new RsaKeyManager(properties);
+      keyManager.init();
+
+      assertThat(keyManager.getPrivateKey().getAlgorithm()).isEqualTo("EC");
+      assertThat(keyManager.getPublicKey().getAlgorithm()).isEqualTo("EC");
+    }
+
+    @Test
+    void ED25519이면_저장된_키를_다시_로딩한다() {
+      JwtProperties properties = new JwtProperties();
+      properties.setKeyDirectory(tempDir.toString());
+      properties.setAlgorithm(JwtAlgorithm.ED25519);
+
+      RsaKeyManager keyManager1 = new RsaKeyManager(properties);
+      keyManager1.init();
+      RsaKeyManager keyManager2 = new RsaKeyManager(properties);
+      keyManager2.init();
+
+      assertThat(keyManager2.getPublicKeyBase64()).isEqualTo(keyManager1.getPublicKeyBase64());
+    }
+
+    @Test
+    void 저장된_키_종류가_알고리즘과_다르면_초기화에_실패한다() {
+      JwtProperties properties = new JwtProperties();
+      properties.setKeyDirectory(tempDir.toString());
+      new RsaKeyManager(properties).init();
+
+      properties.setAlgorithm(JwtAlgorithm.ES256);
+      RsaKeyManager keyManager = new RsaKeyManager(properties);
+
+      assertThatThrownBy(keyManager::init).isInstanceOf(IllegalStateException.class);
+    }
+  }
+
+  @Nested
+  class 키_로테이션_테스트 {
+
+    private JwtProperties rotationProperties() {
+      JwtProperties properties = new JwtProperties();
+      properties.setKeyDirectory(tempDir.toString());
+      properties.setKeyId("base-key");
+      properties.getRotation().setEnabled(true);
+      properties.getRotation().setInterval(Duration.ofDays(7));
+      properties.getRotation().setRetention(Duration.ofHours(1));
+      return properties;
+    }
+
+    @Test
+    void 로테이션하면_새_키가_활성화되고_이전_키는_검증용으로_남는다() {
+      RsaKeyManager keyManager = new RsaKeyManager(rotationProperties());
+      keyManager.init();
+
+      String newKeyId = keyManager.rotate();
+
+      JwtKeyRing keyRing = keyManager.getKeyRing();
+      assertThat(keyRing.activeKey().keyId()).isEqualTo(newKeyId);
+      assertThat(keyRing.findPublicKey("base-key")).isNotNull();
+      assertThat(Files.exists(tempDir.resolve(newKeyId + "-private.pem"))).isTrue();
+      assertThat(Files.exists(tempDir.resolve(newKeyId + "-public.pem"))).isTrue();
+    }
+
+    @Test
+    void 주기가_지나면_새_키를_먼저_공개하고_활성화_시각에_교체한다() throws Exception {
+      RsaKeyManager keyManager = new RsaKeyManager(rotationProperties());
+      keyManager.init();
+      Instant rotatedAt = Instant.now().plus(Duration.ofDays(8));
+
+      keyManager.rotateIfDue(rotatedAt);
+
+      JwtKeyRing published = keyManager.getKeyRing();
+      String newKeyId = published.newestKey().keyId();
+      assertThat(newKeyId).isNotEqualTo("base-key");
+      assertThat(published.activeKey().keyId()).isEqualTo("base-key");
+      assertThat(published.findPublicKey(newKeyId)).isNotNull();
+      assertThat(published.newestKey().activatesAt())
+          .isEqualTo(rotatedAt.plus(keyManager.activationDelay()));
+
+      keyManager.rotateIfDue(rotatedAt.plus(keyManager.activationDelay()));
+
+      assertThat(keyManager.getKeyRing().activeKey().keyId()).isEqualTo(newKeyId);
+      assertThat(keyManager.getKeyRing().findPublicKey("base-key")).isNotNull();
+    }
+
+    @Test
+    void 대기_키가_있으면_새_키를_더_만들지_않는다() throws Exception {
+      RsaKeyManager keyManager = new RsaKeyManager(rotationProperties());
+      keyManager.init();
+      Instant rotatedAt = Instant.now().plus(Duration.ofDays(8));
+
+      keyManager.rotateIfDue(rotatedAt);
+      keyManager.rotateIfDue(rotatedAt.plus(Duration.ofMinutes(5)));
+
+      assertThat(keyManager.getKeyRing().keys()).hasSize(2);
+    }
+
+    @Test
+    void 보관_기간이_지나면_이전_키를_제거한다() throws Exception {
+      RsaKeyManager keyManager = new RsaKeyManager(rotationProperties());
+      keyManager.init();
+      Instant rotatedAt = Instant.now().plus(Duration.ofDays(8));
+      keyManager.rotateIfDue(rotatedAt);
+      String newKeyId = keyManager.getKeyRing().newestKey().keyId();
+
+      keyManager.rotateIfDue(rotatedAt.plus(Duration.ofHours(2)));
+
+      assertThat(keyManager.getKeyRing().activeKey().keyId()).isEqualTo(newKeyId);
+      assertThat(keyManager.getKeyRing().findPublicKey("base-key")).isNull();
+    }
+
+    @Test
+    void 다른_인스턴스가_만든_대기_키는_같은_활성화_시각에_교체한다() throws Exception {
+      JwtProperties properties = rotationProperties();
+      RsaKeyManager rotator = new RsaKeyManager(properties);
+      rotator.init();
+      RsaKeyManager follower = new RsaKeyManager(properties);
+      follower.init();
+      Instant rotatedAt = Instant.now().plus(Duration.ofDays(8));
+
+      rotator.rotateIfDue(rotatedAt);
+      String newKeyId = rotator.getKeyRing().newestKey().keyId();
+      follower.reload(rotatedAt.plus(Duration.ofMinutes(1)));
+
+      assertThat(follower.getKeyRing().findPublicKey(newKeyId)).isNotNull();
+      assertThat(follower.getKeyRing().activeKey().keyId()).isEqualTo("base-key");
+
+      follower.reload(rotatedAt.plus(follower.activationDelay()));
+
+      assertThat(follower.getKeyRing().activeKey().keyId()).isEqualTo(newKeyId);
+    }
+
+    @Test
+    void 같은_초에_로테이션해도_키_ID가_겹치지_않는다() {
+      RsaKeyManager keyManager = new RsaKeyManager(rotationProperties());
+      keyManager.init();
+
+      String first = keyManager.rotate();
+      String second = keyManager.rotate();
+
+      assertThat(first).isNotEqualTo(second);
+      assertThat(keyManager.getKeyRing().findPublicKey(first)).isNotNull();
+      assertThat(keyManager.getKeyRing().findPublicKey(second)).isNotNull();
+    }
+
+    @Test
+    void 주기가_지나지_않으면_교체하지_않는다() throws Exception {
+      RsaKeyManager keyManager = new RsaKeyManager(rotationProperties());
+      keyManager.init();
+      JwtKeyRing before = keyManager.getKeyRing();
+
+      keyManager.rotateIfDue(Instant.now().plus(Duration.ofDays(1)));
+
+      assertThat(keyManager.getKeyRing()).isSameAs(before);
+    }
+
+    @Test
+    void 재기동하면_로테이션된_키를_모두_로딩한다() throws Exception {
+      JwtProperties properties = rotationProperties();
+      RsaKeyManager keyManager1 = new RsaKeyManager(properties);
+      keyManager1.init();
+      Files.setLastModifiedTime(
+          tempDir.resolve("private.pem"), FileTime.from(Instant.now().minusSeconds(60)));
+      String newKeyId = keyManager1.rotate();
+
+      RsaKeyManager keyManager2 = new RsaKeyManager(properties);
+      keyManager2.init();
+
+      assertThat(keyManager2.getKeyRing().activeKey().keyId()).isEqualTo(newKeyId);
+      assertThat(keyManager2.getKeyRing().findPublicKey("base-key")).isNotNull();
+    }
+  }
+
+  @Nested
+  class 환경변수_키_테스트 {
+
+    private JwtProperties envKeyProperties() throws Exception {
+      KeyPair keyPair = JwtAlgorithm.RS256.generateKeyPair();
+      JwtProperties properties = new JwtProperties();
+      properties.setKeyDirectory(tempDir.toString());
+      properties.setKeyId("env-key");
+      properties.setPrivateKey(
+          Base64.getEncoder().encodeToString(keyPair.getPrivate().getEncoded()));
+      properties.setPublicKey(Base64.getEncoder().encodeToString(keyPair.getPublic().getEncoded()));
+      properties.getRotation().setEnabled(true);
+      return properties;
+    }
+
+    @Test
+    void 설정한_생성_시각을_쓴다() throws Exception {
+      JwtProperties properties = envKeyProperties();
+      Instant createdAt = Instant.parse("2026-01-01T00:00:00Z");
+      properties.setKeyCreatedAt(createdAt);
+
+      RsaKeyManager keyManager = new RsaKeyManager(properties);
+      keyManager.init();
+
+      assertThat(keyManager.getKeyRing().activeKey().activatesAt()).isEqualTo(createdAt);
+    }
+
+    @Test
+    void 생성_시각이_없으면_기동_직후_로테이션하지_않는다() throws Exception {
+      RsaKeyManager keyManager = new RsaKeyManager(envKeyProperties());
+      keyManager.init();
+      JwtKeyRing before = keyManager.getKeyRing();
+
+      keyManager.rotateIfDue(Instant.now().plus(Duration.ofMinutes(10)));
+
+      assertThat(keyManager.getKeyRing()).isSameAs(before);
+    }
+
+    @Test
+    void 생성_시각이_없으면_로테이션된_키보다_앞선_키로_본다() throws Exception {
+      JwtProperties properties = envKeyProperties();
+      RsaKeyManager keyManager1 = new RsaKeyManager(properties);
+      keyManager1.init();
+      String rotatedKeyId = keyManager1.rotate();
+
+      RsaKeyManager keyManager2 = new RsaKeyManager(properties);
+      keyManager2.init();
+
+      assertThat(keyManager2.getKeyRing().activeKey().keyId()).isEqualTo(rotatedKeyId);
+      assertThat(keyManager2.getKeyRing().findPublicKey("env-key")).isNotNull();
+    }
+  }
+
   @Nested
   class PublicKeyBase64_테스트 {
 
@@ -0,0 +1,123 @@
+package com.tickatch.auth_service.global.jwt.infrastructure;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.tickatch.auth_service.auth.domain.vo.UserType;
+import com.tickatch.auth_service.token.application.port.out.dto.TokenClaims;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("VerifiedTokenCache 테스트")
+class VerifiedTokenCacheTest {
+
+  private static final String TOKEN = "header.payload.signature";
+
+  private JwtProperties jwtProperties;
+  private SimpleMeterRegistry meterRegistry;
+  private VerifiedTokenCache verifiedTokenCache;
+
+  @BeforeEach
+  void setUp() {
+    jwtProperties = new JwtProperties();
+    meterRegistry = new SimpleMeterRegistry();
+    verifiedTokenCache = new VerifiedTokenCache(jwtProperties, meterRegistry);
+  }
+
+  private TokenClaims claimsExpiringIn(long seconds) {
+    return TokenClaims.of(
+        UUID.randomUUID(), UserType.CUSTOMER, System.currentTimeMillis() / 1000 + seconds, "kid");
+  }
+
+  @Nested
+  class 조회_테스트 {
+
+    @Test
+    void 저장한_클레임을_반환한다() {
+      TokenClaims claims = claimsExpiringIn(300);
+
+      verifiedTokenCache.put(TOKEN, claims, verifiedTokenCache.generation());
+
+      assertThat(verifiedTokenCache.get(TOKEN)).isEqualTo(claims);
+    }
+
+    @Test
+    void 저장하지_않은_토큰은_null을_반환한다() {
+      verifiedTokenCache.put(TOKEN, claimsExpiringIn(300), verifiedTokenCache.generation());
+
+      assertThat(verifiedTokenCache.get(TOKEN + "x")).isNull();
+    }
+
+    @Test
+    void 비활성화되면_저장하지_않는다() {
+      jwtProperties.getVerifiedCache().setEnabled(false);
+      VerifiedTokenCache disabled = new VerifiedTokenCache(jwtProperties, meterRegistry);
+
+      disabled.put(TOKEN, claimsExpiringIn(300), disabled.generation());
+
+      assertThat(disabled.get(TOKEN)).isNull();
+    }
+  }
+
+  @Nested
+  class 만료_및_무효화_테스트 {
+
+    @Test
+    void 이미_만료된_클레임은_저장하지_않는다() {
+      verifiedTokenCache.put(TOKEN, claimsExpiringIn(-1), verifiedTokenCache.generation());
+
+      assertThat(verifiedTokenCache.get(TOKEN)).isNull();
+      assertThat(verifiedTokenCache.estimatedSize()).isZero();
+    }
+
+    @Test
+    void 전체_무효화_후에는_조회되지_않는다() {
+      verifiedTokenCache.put(TOKEN, claimsExpiringIn(300), verifiedTokenCache.generation());
+
+      verifiedTokenCache.invalidateAll();
+
+      assertThat(verifiedTokenCache.get(TOKEN)).isNull();
+    }
+
+    @Test
+    void 검증_도중_세대가_바뀌면_저장하지_않는다() {
+      long generation = verifiedTokenCache.generation();
+      verifiedTokenCache.invalidateAll();
+
+      verifiedTokenCache.put(TOKEN, claimsExpiringIn(300), generation);
+
+      assertThat(verifiedTokenCache.get(TOKEN)).isNull();
+    }
+  }
+
+  @Nested
+  class 지표_테스트 {
+
+    @Test
+    void 적중과_미스_횟수를_기록한다() {
+      verifiedTokenCache.get(TOKEN);
+      verifiedTokenCache.put(TOKEN, claimsExpiringIn(300), verifiedTokenCache.generation());
+      verifiedTokenCache.get(TOKEN);
+
+      assertThat(
+              meterRegistry
+                  .get("cache.gets")
+                  .tag("cache", VerifiedTokenCache.CACHE_NAME)
+                  .tag("result", "hit")
+                  .functionCounter()
+                  .count())
+          .isEqualTo(1.0);
+      assertThat(
+              meterRegistry
+                  .get("cache.gets")
+                  .tag("cache", VerifiedTokenCache.CACHE_NAME)
+                  .tag("result", "miss")
+                  .functionCounter()
+                  .count())
+          .isEqualTo(1.0);
+    }
+  }
+}
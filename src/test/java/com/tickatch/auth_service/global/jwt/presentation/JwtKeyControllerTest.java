@@ -3,12 +3,18 @@ package com.tickatch.auth_service.global.jwt.presentation;
 import static org.mockito.BDDMockito.given;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
+import com.tickatch.auth_service.global.jwt.infrastructure.JwtProperties;
 import com.tickatch.auth_service.token.application.port.out.TokenProvider;
 import java.security.KeyPair;
 import java.security.KeyPairGenerator;
+import java.security.PublicKey;
+import java.security.spec.ECGenParameterSpec;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.security.interfaces.RSAPublicKey;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -17,12 +23,15 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
 
 @DisplayName("JwtKeyController 테스트")
 @WebMvcTest(JwtKeyController.class)
 @AutoConfigureMockMvc(addFilters = false)
+@Import(JwtProperties.class)
 class JwtKeyControllerTest {
 
   @Autowired private MockMvc mockMvc;
@@ -45,8 +54,7 @@ class JwtKeyControllerTest {
 
     @Test
     void JWKS_반환을_성공한다() throws Exception {
-      given(tokenProvider.getPublicKey()).willReturn(publicKey);
-      given(tokenProvider.getKeyId()).willReturn("test-key-id");
+      given(tokenProvider.getVerificationKeys()).willReturn(Map.of("test-key-id", publicKey));
 
       mockMvc
           .perform(get("/.well-known/jwks.json"))
@@ -59,6 +67,108 @@ class JwtKeyControllerTest {
           .andExpect(jsonPath("$.keys[0].n").exists())
           .andExpect(jsonPath("$.keys[0].e").exists());
     }
+
+    @Test
+    void 로테이션_중인_모든_키를_반환한다() throws Exception {
+      KeyPairGenerator keyPairGenerator = KeyPairGenerator.getInstance("RSA");
+      keyPairGenerator.initialize(2048);
+      Map<String, PublicKey> keys = new LinkedHashMap<>();
+      keys.put("new-key", keyPairGenerator.generateKeyPair().getPublic());
+      keys.put("old-key", publicKey);
+      given(tokenProvider.getVerificationKeys()).willReturn(keys);
+
+      mockMvc
+          .perform(get("/.well-known/jwks.json"))
+          .andExpect(status().isOk())
+          .andExpect(jsonPath("$.keys.length()").value(2))
+          .andExpect(jsonPath("$.keys[0].kid").value("new-key"))
+          .andExpect(jsonPath("$.keys[1].kid").value("old-key"));
+    }
+
+    @Test
+    void EC_키는_P256_JWK로_반환한다() throws Exception {
+      KeyPairGenerator keyPairGenerator = KeyPairGenerator.getInstance("EC");
+      keyPairGenerator.initialize(new ECGenParameterSpec("secp256r1"));
+      PublicKey ecPublicKey = keyPairGenerator.generateKeyPair().getPublic();
+      given(tokenProvider.getVerificationKeys()).willReturn(Map.of("test-key-id", ecPublicKey));
+
+      mockMvc
+          .perform(get("/.well-known/jwks.json"))
+          .andExpect(status().isOk())
+          .andExpect(jsonPath("$.keys[0].kty").value("EC"))
+          .andExpect(jsonPath("$.keys[0].alg").value("ES256"))
+          .andExpect(jsonPath("$.keys[0].crv").value("P-256"))
+          .andExpect(jsonPath("$.keys[0].x").value(org.hamcrest.Matchers.hasLength(43)))
+          .andExpect(jsonPath("$.keys[0].y").value(org.hamcrest.Matchers.hasLength(43)));
+    }
+
+    @Test
+    void Ed25519_키는_OKP_JWK로_반환한다() throws Exception {
+      KeyPairGenerator keyPairGenerator = KeyPairGenerator.getInstance("Ed25519");
+      PublicKey edPublicKey = keyPairGenerator.generateKeyPair().getPublic();
+      given(tokenProvider.getVerificationKeys()).willReturn(Map.of("test-key-id", edPublicKey));
+
+      mockMvc
+          .perform(get("/.well-known/jwks.json"))
+          .andExpect(status().isOk())
+          .andExpect(jsonPath("$.keys[0].kty").value("OKP"))
+          .andExpect(jsonPath("$.keys[0].alg").value("EdDSA"))
+          .andExpect(jsonPath("$.keys[0].crv").value("Ed25519"))
+          .andExpect(jsonPath("$.keys[0].x").value(org.hamcrest.Matchers.hasLength(43)));
+    }
+  }
+
+  @Nested
+  @DisplayName("조건부 요청 및 캐시 헤더")
+  class ConditionalRequest {
+
+    @Test
+    void ETag와_Cache_Control_헤더를_반환한다() throws Exception {
+      given(tokenProvider.getVerificationKeys()).willReturn(Map.of("test-key-id", publicKey));
+
+      mockMvc
+          .perform(get("/.well-known/jwks.json"))
+          .andExpect(status().isOk())
+          .andExpect(header().exists(HttpHeaders.ETAG))
+          .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "max-age=60, public"));
+    }
+
+    @Test
+    void If_None_Match가_일치하면_304를_반환한다() throws Exception {
+      given(tokenProvider.getVerificationKeys()).willReturn(Map.of("test-key-id", publicKey));
+      String etag =
+          mockMvc
+              .perform(get("/.well-known/jwks.json"))
+              .andReturn()
+              .getResponse()
+              .getHeader(HttpHeaders.ETAG);
+
+      mockMvc
+          .perform(get("/.well-known/jwks.json").header(HttpHeaders.IF_NONE_MATCH, etag))
+          .andExpect(status().isNotModified())
+          .andExpect(content().bytes(new byte[0]));
+    }
+
+    @Test
+    void 키가_바뀌면_ETag가_바뀐다() throws Exception {
+      given(tokenProvider.getVerificationKeys()).willReturn(Map.of("test-key-id", publicKey));
+      String etag =
+          mockMvc
+              .perform(get("/.well-known/public-key.pem"))
+              .andReturn()
+              .getResponse()
+              .getHeader(HttpHeaders.ETAG);
+
+      KeyPairGenerator keyPairGenerator = KeyPairGenerator.getInstance("RSA");
+      keyPairGenerator.initialize(2048);
+      PublicKey newPublicKey = keyPairGenerator.generateKeyPair().getPublic();
+      given(tokenProvider.getVerificationKeys()).willReturn(Map.of("new-key-id", newPublicKey));
+
+      mockMvc
+          .perform(get("/.well-known/public-key.pem").header(HttpHeaders.IF_NONE_MATCH, etag))
+          .andExpect(status().isOk())
+          .andExpect(header().string(HttpHeaders.ETAG, org.hamcrest.Matchers.not(etag)));
+    }
   }
 
   @Nested
@@ -67,7 +177,7 @@ class JwtKeyControllerTest {
 
     @Test
     void PEM_형식_Public_Key_반환을_성공한다() throws Exception {
-      given(tokenProvider.getPublicKey()).willReturn(publicKey);
+      given(tokenProvider.getVerificationKeys()).willReturn(Map.of("test-key-id", publicKey));
 
       mockMvc
           .perform(get("/.well-known/public-key.pem"))
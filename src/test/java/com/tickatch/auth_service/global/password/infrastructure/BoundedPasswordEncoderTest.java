@@ -0,0 +1,185 @@
+package com.tickatch.auth_service.global.password.infrastructure;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.tickatch.auth_service.auth.domain.exception.AuthErrorCode;
+import com.tickatch.auth_service.auth.domain.exception.AuthException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+@DisplayName("BoundedPasswordEncoder 테스트")
+class BoundedPasswordEncoderTest {
+
+  private SimpleMeterRegistry registry;
+  private BoundedPasswordEncoder encoder;
+
+  @BeforeEach
+  void setUp() {
+    registry = new SimpleMeterRegistry();
+  }
+
+  @AfterEach
+  void tearDown() {
+    if (encoder != null) {
+      encoder.close();
+    }
+  }
+
+  private BoundedPasswordEncoder createEncoder(
+      PasswordEncoder delegate, int threads, int queueCapacity, Duration timeout) {
+    PasswordHashingProperties properties = new PasswordHashingProperties();
+    properties.setThreads(threads);
+    properties.setQueueCapacity(queueCapacity);
+    properties.setTimeout(timeout);
+    encoder = new BoundedPasswordEncoder(delegate, properties, registry);
+    return encoder;
+  }
+
+  @Nested
+  class 위임_테스트 {
+
+    @Test
+    void 해싱_스레드에서_인코딩하고_검증한다() {
+      createEncoder(new BCryptPasswordEncoder(4), 2, 4, Duration.ofSeconds(5));
+
+      String encoded = encoder.encode("Password123!");
+
+      assertThat(encoder.matches("Password123!", encoded)).isTrue();
+      assertThat(encoder.matches("wrong", encoded)).isFalse();
+    }
+
+    @Test
+    void 해싱_시간과_대기_시간을_기록한다() {
+      createEncoder(new BCryptPasswordEncoder(4), 1, 4, Duration.ofSeconds(5));
+
+      encoder.matches("Password123!", encoder.encode("Password123!"));
+
+      assertThat(
+              registry.get("password.hashing.duration").tag("operation", "encode").timer().count())
+          .isEqualTo(1);
+      assertThat(
+              registry.get("password.hashing.duration").tag("operation", "matches").timer().count())
+          .isEqualTo(1);
+      assertThat(registry.get("password.hashing.wait").timer().count()).isEqualTo(2);
+    }
+
+    @Test
+    void 위임_인코더의_런타임_예외는_그대로_전파한다() {
+      PasswordEncoder failing = new FakeEncoder(null);
+      createEncoder(failing, 1, 1, Duration.ofSeconds(5));
+
+      assertThatThrownBy(() -> encoder.encode(null)).isInstanceOf(IllegalArgumentException.class);
+    }
+  }
+
+  @Nested
+  class 포화_테스트 {
+
+    @Test
+    void 큐가_가득_차면_즉시_실패한다() throws Exception {
+      CountDownLatch release = new CountDownLatch(1);
+      createEncoder(new FakeEncoder(release), 1, 1, Duration.ofSeconds(5));
+
+      // 실행 중 1개 + 큐 대기 1개로 포화시킨다
+      CompletableFuture<String> running = CompletableFuture.supplyAsync(() -> encoder.encode("a"));
+      CompletableFuture<String> queued = CompletableFuture.supplyAsync(() -> encoder.encode("b"));
+      awaitQueued(1);
+
+      try {
+        assertThatThrownBy(() -> encoder.encode("c"))
+            .isInstanceOf(AuthException.class)
+            .hasFieldOrPropertyWithValue("errorCode", AuthErrorCode.PASSWORD_HASHING_UNAVAILABLE);
+        assertThat(
+                registry
+                    .get("password.hashing.rejected")
+                    .tag("reason", "saturated")
+                    .counter()
+                    .count())
+            .isEqualTo(1);
+      } finally {
+        release.countDown();
+      }
+      assertThat(running.get(5, TimeUnit.SECONDS)).isEqualTo("encoded-a");
+      assertThat(queued.get(5, TimeUnit.SECONDS)).isEqualTo("encoded-b");
+    }
+
+    @Test
+    void 제한_시간을_넘기면_실패한다() {
+      CountDownLatch release = new CountDownLatch(1);
+      createEncoder(new FakeEncoder(release), 1, 1, Duration.ofMillis(50));
+
+      try {
+        assertThatThrownBy(() -> encoder.encode("a"))
+            .isInstanceOf(AuthException.class)
+            .hasFieldOrPropertyWithValue("errorCode", AuthErrorCode.PASSWORD_HASHING_UNAVAILABLE);
+        assertThat(
+                registry
+                    .get("password.hashing.rejected")
+                    .tag("reason", "timeout")
+                    .counter()
+                    .count())
+            .isEqualTo(1);
+      } finally {
+        release.countDown();
+      }
+    }
+
+    private void awaitQueued(int expected) throws InterruptedException {
+      long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+      while (registry.get("executor.queued").tag("name", "password.hashing").gauge().value()
+          < expected) {
+        if (System.nanoTime() > deadline) {
+          throw new AssertionError("해싱 큐가 채워지지 않았습니다");
+        }
+        Thread.sleep(5);
+      }
+    }
+  }
+
+  /** latch가 열릴 때까지 대기한 뒤 고정 값을 반환하는 인코더. null 입력은 거부한다. */
+  private static final class FakeEncoder implements PasswordEncoder {
+
+    private final CountDownLatch release;
+
+    private FakeEncoder(CountDownLatch release) {
+      this.release = release;
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+      if (rawPassword == null) {
+        throw new IllegalArgumentException("rawPassword cannot be null");
+      }
+      await();
+      return "encoded-" + rawPassword;
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+      await();
+      return encodedPassword.equals("encoded-" + rawPassword);
+    }
+
+    private void await() {
+      if (release == null) {
+        return;
+      }
+      try {
+        release.await(5, TimeUnit.SECONDS);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+    }
+  }
+}
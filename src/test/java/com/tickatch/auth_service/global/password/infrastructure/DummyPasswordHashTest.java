@@ -0,0 +1,42 @@
+package com.tickatch.auth_service.global.password.infrastructure;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+@DisplayName("DummyPasswordHash 테스트")
+class DummyPasswordHashTest {
+
+  @Test
+  void 기동_시_만든_해시로_검증한다() {
+    PasswordEncoder encoder = mock(PasswordEncoder.class);
+    given(encoder.encode(anyString())).willReturn("{bcrypt}dummy");
+
+    DummyPasswordHash dummyPasswordHash = new DummyPasswordHash(encoder);
+    dummyPasswordHash.verify("Pass123!");
+    dummyPasswordHash.verify("Other123!");
+
+    verify(encoder).matches("Pass123!", "{bcrypt}dummy");
+    verify(encoder).matches("Other123!", "{bcrypt}dummy");
+  }
+
+  @Test
+  void null_비밀번호도_검증_비용을_쓴다() {
+    PasswordEncoder encoder = mock(PasswordEncoder.class);
+    given(encoder.encode(anyString())).willReturn("{bcrypt}dummy");
+
+    new DummyPasswordHash(encoder).verify(null);
+
+    ArgumentCaptor<CharSequence> raw = ArgumentCaptor.forClass(CharSequence.class);
+    verify(encoder).matches(raw.capture(), eq("{bcrypt}dummy"));
+    assertThat(raw.getValue()).isEqualTo("");
+  }
+}
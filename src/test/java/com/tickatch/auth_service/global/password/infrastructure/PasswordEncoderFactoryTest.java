@@ -0,0 +1,154 @@
+package com.tickatch.auth_service.global.password.infrastructure;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+@DisplayName("PasswordEncoderFactory 테스트")
+class PasswordEncoderFactoryTest {
+
+  private static final String RAW = "Pass123!";
+
+  private PasswordEncoder createEncoder(int cost) {
+    PasswordHashingProperties properties = new PasswordHashingProperties();
+    properties.getBcrypt().setCost(cost);
+    return PasswordEncoderFactory.create(properties);
+  }
+
+  @Nested
+  class 인코딩_테스트 {
+
+    @Test
+    void 접두사가_붙은_목표_cost_해시를_만든다() {
+      PasswordEncoder encoder = createEncoder(4);
+
+      String encoded = encoder.encode(RAW);
+
+      assertThat(encoded).startsWith("{bcrypt}$2a$04$");
+      assertThat(encoder.matches(RAW, encoded)).isTrue();
+      assertThat(encoder.upgradeEncoding(encoded)).isFalse();
+    }
+
+    @Test
+    void 접두사_없는_기존_해시도_검증한다() {
+      PasswordEncoder encoder = createEncoder(4);
+      String legacy = new BCryptPasswordEncoder(4).encode(RAW);
+
+      assertThat(encoder.matches(RAW, legacy)).isTrue();
+      assertThat(encoder.matches("Wrong123!", legacy)).isFalse();
+    }
+  }
+
+  @Nested
+  class 재해싱_판단_테스트 {
+
+    @Test
+    void 접두사_없는_기존_해시는_재해싱_대상이다() {
+      PasswordEncoder encoder = createEncoder(4);
+
+      assertThat(encoder.upgradeEncoding(new BCryptPasswordEncoder(4).encode(RAW))).isTrue();
+    }
+
+    @Test
+    void 목표보다_낮은_cost는_재해싱_대상이다() {
+      PasswordEncoder encoder = createEncoder(5);
+
+      assertThat(encoder.upgradeEncoding(createEncoder(4).encode(RAW))).isTrue();
+    }
+
+    @Test
+    void 목표보다_높은_cost도_재해싱_대상이다() {
+      PasswordEncoder encoder = createEncoder(4);
+
+      assertThat(encoder.upgradeEncoding(createEncoder(5).encode(RAW))).isTrue();
+    }
+  }
+
+  @Nested
+  class 알고리즘_선택_테스트 {
+
+    private PasswordEncoder createEncoder(PasswordAlgorithm algorithm) {
+      PasswordHashingProperties properties = new PasswordHashingProperties();
+      properties.setAlgorithm(algorithm);
+      properties.getBcrypt().setCost(4);
+      properties.getArgon2().setMemoryKib(1024);
+      properties.getArgon2().setIterations(1);
+      properties.getScrypt().setCpuCost(1024);
+      properties.getScrypt().setBlockSize(1);
+      return PasswordEncoderFactory.create(properties);
+    }
+
+    @Test
+    void Argon2id를_선택하면_argon2_접두사로_해싱한다() {
+      PasswordEncoder encoder = createEncoder(PasswordAlgorithm.ARGON2ID);
+
+      String encoded = encoder.encode(RAW);
+
+      assertThat(encoded).startsWith("{argon2}$argon2id$");
+      assertThat(encoder.matches(RAW, encoded)).isTrue();
+      assertThat(encoder.upgradeEncoding(encoded)).isFalse();
+    }
+
+    @Test
+    void scrypt를_선택하면_scrypt_접두사로_해싱한다() {
+      PasswordEncoder encoder = createEncoder(PasswordAlgorithm.SCRYPT);
+
+      String encoded = encoder.encode(RAW);
+
+      assertThat(encoded).startsWith("{scrypt}");
+      assertThat(encoder.matches(RAW, encoded)).isTrue();
+    }
+
+    @Test
+    void 다른_알고리즘으로_저장된_해시도_검증하고_재해싱_대상으로_본다() {
+      PasswordEncoder argon2 = createEncoder(PasswordAlgorithm.ARGON2ID);
+      String bcryptHash = createEncoder(PasswordAlgorithm.BCRYPT).encode(RAW);
+      String scryptHash = createEncoder(PasswordAlgorithm.SCRYPT).encode(RAW);
+      String legacyHash = new BCryptPasswordEncoder(4).encode(RAW);
+
+      assertThat(argon2.matches(RAW, bcryptHash)).isTrue();
+      assertThat(argon2.matches(RAW, scryptHash)).isTrue();
+      assertThat(argon2.matches(RAW, legacyHash)).isTrue();
+      assertThat(argon2.upgradeEncoding(bcryptHash)).isTrue();
+      assertThat(argon2.upgradeEncoding(scryptHash)).isTrue();
+      assertThat(argon2.upgradeEncoding(legacyHash)).isTrue();
+    }
+  }
+
+  @Nested
+  class cost_측정_테스트 {
+
+    @Test
+    void 시간_예산이_없으면_설정_cost를_쓴다() {
+      PasswordHashingProperties.Bcrypt bcrypt = new PasswordHashingProperties.Bcrypt();
+      bcrypt.setCost(11);
+
+      assertThat(PasswordEncoderFactory.resolveBcryptCost(bcrypt)).isEqualTo(11);
+    }
+
+    @Test
+    void 예산이_충분하면_최대_cost까지_올린다() {
+      PasswordHashingProperties.Bcrypt bcrypt = new PasswordHashingProperties.Bcrypt();
+      bcrypt.setCost(4);
+      bcrypt.setMaxCost(5);
+      bcrypt.setTimeBudget(Duration.ofMinutes(1));
+
+      assertThat(PasswordEncoderFactory.resolveBcryptCost(bcrypt)).isEqualTo(5);
+    }
+
+    @Test
+    void 예산을_넘으면_설정_cost를_쓴다() {
+      PasswordHashingProperties.Bcrypt bcrypt = new PasswordHashingProperties.Bcrypt();
+      bcrypt.setCost(4);
+      bcrypt.setMaxCost(6);
+      bcrypt.setTimeBudget(Duration.ofNanos(1));
+
+      assertThat(PasswordEncoderFactory.resolveBcryptCost(bcrypt)).isEqualTo(4);
+    }
+  }
+}
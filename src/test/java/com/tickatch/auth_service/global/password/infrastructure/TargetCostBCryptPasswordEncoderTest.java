@@ -0,0 +1,31 @@
+package com.tickatch.auth_service.global.password.infrastructure;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("TargetCostBCryptPasswordEncoder 테스트")
+class TargetCostBCryptPasswordEncoderTest {
+
+  @Test
+  void 해시에서_cost를_읽는다() {
+    String encoded = new TargetCostBCryptPasswordEncoder(5).encode("Pass123!");
+
+    assertThat(TargetCostBCryptPasswordEncoder.costOf(encoded)).isEqualTo(5);
+  }
+
+  @Test
+  void BCrypt_해시가_아니면_cost는_음수이다() {
+    assertThat(TargetCostBCryptPasswordEncoder.costOf("plain")).isEqualTo(-1);
+    assertThat(TargetCostBCryptPasswordEncoder.costOf(null)).isEqualTo(-1);
+  }
+
+  @Test
+  void BCrypt_해시가_아니면_재해싱_대상이_아니다() {
+    TargetCostBCryptPasswordEncoder encoder = new TargetCostBCryptPasswordEncoder(4);
+
+    assertThat(encoder.upgradeEncoding("plain")).isFalse();
+    assertThat(encoder.upgradeEncoding(null)).isFalse();
+  }
+}
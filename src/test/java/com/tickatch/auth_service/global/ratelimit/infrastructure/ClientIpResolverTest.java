@@ -0,0 +1,92 @@
+package com.tickatch.auth_service.global.ratelimit.infrastructure;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+@DisplayName("ClientIpResolver 테스트")
+class ClientIpResolverTest {
+
+  private ClientIpResolver resolver;
+
+  @BeforeEach
+  void setUp() {
+    ClientIpProperties properties = new ClientIpProperties();
+    properties.setTrustedProxies(List.of("10.0.0.0/8", "::1/128"));
+    resolver = new ClientIpResolver(properties);
+  }
+
+  private MockHttpServletRequest requestFrom(String remoteAddr, String... forwardedFor) {
+    MockHttpServletRequest request = new MockHttpServletRequest();
+    request.setRemoteAddr(remoteAddr);
+    for (String value : forwardedFor) {
+      request.addHeader("X-Forwarded-For", value);
+    }
+    return request;
+  }
+
+  @Nested
+  class 신뢰_프록시_테스트 {
+
+    @Test
+    void 신뢰_프록시가_전달한_원_IP를_쓴다() {
+      assertThat(resolver.resolve(requestFrom("10.0.0.1", "203.0.113.7")))
+          .isEqualTo("203.0.113.7");
+    }
+
+    @Test
+    void 오른쪽부터_신뢰_프록시를_건너뛴다() {
+      assertThat(resolver.resolve(requestFrom("10.0.0.1", "203.0.113.7, 10.1.2.3")))
+          .isEqualTo("203.0.113.7");
+    }
+
+    @Test
+    void 클라이언트가_채운_왼쪽_값은_믿지_않는다() {
+      assertThat(resolver.resolve(requestFrom("10.0.0.1", "1.1.1.1, 203.0.113.7")))
+          .isEqualTo("203.0.113.7");
+    }
+
+    @Test
+    void 여러_헤더로_나뉘어_와도_순서대로_읽는다() {
+      assertThat(resolver.resolve(requestFrom("10.0.0.1", "203.0.113.7", "10.1.2.3")))
+          .isEqualTo("203.0.113.7");
+    }
+
+    @Test
+    void 헤더가_없으면_직접_연결한_주소를_쓴다() {
+      assertThat(resolver.resolve(requestFrom("10.0.0.1"))).isEqualTo("10.0.0.1");
+    }
+
+    @Test
+    void 모든_홉이_신뢰_프록시면_가장_왼쪽_주소를_쓴다() {
+      assertThat(resolver.resolve(requestFrom("10.0.0.1", "10.9.9.9, 10.1.2.3")))
+          .isEqualTo("10.9.9.9");
+    }
+
+    @Test
+    void IP가_아닌_값을_만나면_그_앞_홉에서_멈춘다() {
+      assertThat(resolver.resolve(requestFrom("10.0.0.1", "203.0.113.7, unknown, 10.1.2.3")))
+          .isEqualTo("10.1.2.3");
+    }
+
+    @Test
+    void IPv6_프록시와_주소를_처리한다() {
+      assertThat(resolver.resolve(requestFrom("::1", "2001:db8::7"))).isEqualTo("2001:db8::7");
+    }
+  }
+
+  @Nested
+  class 비신뢰_주소_테스트 {
+
+    @Test
+    void 신뢰하지_않는_주소에서_온_헤더는_무시한다() {
+      assertThat(resolver.resolve(requestFrom("198.51.100.20", "203.0.113.7")))
+          .isEqualTo("198.51.100.20");
+    }
+  }
+}
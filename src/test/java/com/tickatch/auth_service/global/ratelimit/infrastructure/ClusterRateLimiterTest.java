@@ -0,0 +1,136 @@
+package com.tickatch.auth_service.global.ratelimit.infrastructure;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import com.tickatch.auth_service.global.ratelimit.infrastructure.RateLimitCounterStore.CounterRow;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+@DisplayName("ClusterRateLimiter 테스트")
+class ClusterRateLimiterTest {
+
+  private static final String LIMITER = "test";
+  private static final long WINDOW_START = 60_000L * 1_000;
+
+  private RateLimitCounterStore store;
+  private SimpleMeterRegistry registry;
+
+  @BeforeEach
+  void setUp() {
+    store = mock(RateLimitCounterStore.class);
+    registry = new SimpleMeterRegistry();
+  }
+
+  private ClusterRateLimiter createLimiter(int limit, long nowMillis) {
+    ClusterRateLimitProperties properties = new ClusterRateLimitProperties();
+    properties.setLimits(
+        Map.of(LIMITER, new ClusterRateLimitProperties.Window(limit, Duration.ofMinutes(1))));
+    Clock clock = Clock.fixed(Instant.ofEpochMilli(nowMillis), ZoneOffset.UTC);
+    return new ClusterRateLimiter(properties, store, registry, clock);
+  }
+
+  @Nested
+  class 판단_테스트 {
+
+    @Test
+    void 반영_전에는_로컬_수로_한도를_판단한다() {
+      ClusterRateLimiter limiter = createLimiter(2, WINDOW_START);
+
+      assertThat(limiter.tryAcquire(LIMITER, "key")).isTrue();
+      assertThat(limiter.tryAcquire(LIMITER, "key")).isTrue();
+      assertThat(limiter.tryAcquire(LIMITER, "key")).isFalse();
+      verify(store, never()).increment(any());
+    }
+
+    @Test
+    void 반영_후에는_다른_인스턴스의_수를_포함해_판단한다() {
+      ClusterRateLimiter limiter = createLimiter(5, WINDOW_START);
+      given(store.findCounts(eq(LIMITER), anyCollection(), anyLong()))
+          .willReturn(List.of(new CounterRow(LIMITER, "key", WINDOW_START, 5)));
+
+      assertThat(limiter.tryAcquire(LIMITER, "key")).isTrue();
+      limiter.flush();
+
+      assertThat(limiter.tryAcquire(LIMITER, "key")).isFalse();
+    }
+
+    @Test
+    void 이전_윈도우는_겹치는_비율만큼_반영한다() {
+      // 현재 윈도우의 3/4 지점 - 이전 윈도우 8건 중 2건만 반영된다.
+      ClusterRateLimiter limiter = createLimiter(4, WINDOW_START + 45_000);
+      given(store.findCounts(eq(LIMITER), anyCollection(), anyLong()))
+          .willReturn(
+              List.of(
+                  new CounterRow(LIMITER, "key", WINDOW_START - 60_000, 8),
+                  new CounterRow(LIMITER, "key", WINDOW_START, 1)));
+      limiter.tryAcquire(LIMITER, "key");
+      limiter.flush();
+
+      assertThat(limiter.tryAcquire(LIMITER, "key")).isTrue();
+      assertThat(limiter.tryAcquire(LIMITER, "key")).isFalse();
+    }
+
+    @Test
+    void 설정에_없는_제한기는_항상_허용한다() {
+      ClusterRateLimiter limiter = createLimiter(1, WINDOW_START);
+
+      assertThat(limiter.tryAcquire("unknown", "key")).isTrue();
+      assertThat(limiter.tryAcquire("unknown", "key")).isTrue();
+    }
+  }
+
+  @Nested
+  class 반영_테스트 {
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void 같은_카운터의_증가분을_모아_한_번에_반영한다() {
+      ClusterRateLimiter limiter = createLimiter(10, WINDOW_START);
+      limiter.tryAcquire(LIMITER, "a");
+      limiter.tryAcquire(LIMITER, "a");
+      limiter.tryAcquire(LIMITER, "b");
+
+      limiter.flush();
+
+      ArgumentCaptor<Collection<CounterRow>> rows = ArgumentCaptor.forClass(Collection.class);
+      verify(store).increment(rows.capture());
+      assertThat(rows.getValue())
+          .containsExactlyInAnyOrder(
+              new CounterRow(LIMITER, "a", WINDOW_START, 2),
+              new CounterRow(LIMITER, "b", WINDOW_START, 1));
+    }
+
+    @Test
+    void 반영에_실패하면_증가분을_되돌려_다음에_다시_반영한다() {
+      ClusterRateLimiter limiter = createLimiter(2, WINDOW_START);
+      willThrow(new IllegalStateException("db down")).given(store).increment(any());
+      limiter.tryAcquire(LIMITER, "key");
+      limiter.tryAcquire(LIMITER, "key");
+
+      limiter.flush();
+
+      assertThat(limiter.tryAcquire(LIMITER, "key")).isFalse();
+      assertThat(registry.get("rate-limit.cluster.flush.failed").counter().count()).isEqualTo(1.0);
+    }
+  }
+}
@@ -0,0 +1,99 @@
+package com.tickatch.auth_service.global.ratelimit.infrastructure;
+
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+import com.tickatch.auth_service.auth.domain.exception.AuthErrorCode;
+import com.tickatch.auth_service.auth.domain.exception.AuthException;
+import com.tickatch.auth_service.auth.domain.vo.UserType;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("LoginRateLimiter 테스트")
+class LoginRateLimiterTest {
+
+  private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+  private LoginRateLimiter createLimiter(int accountCapacity, int ipCapacity, boolean enabled) {
+    LoginRateLimitProperties properties = new LoginRateLimitProperties();
+    properties.setEnabled(enabled);
+    properties.setAccount(
+        new LoginRateLimitProperties.Limit(accountCapacity, Duration.ofMinutes(1), 1_000));
+    properties.setIp(new LoginRateLimitProperties.Limit(ipCapacity, Duration.ofMinutes(1), 1_000));
+    ClusterRateLimitProperties clusterProperties = new ClusterRateLimitProperties();
+    clusterProperties.setEnabled(false);
+    ClusterRateLimiter clusterRateLimiter =
+        new ClusterRateLimiter(clusterProperties, mock(RateLimitCounterStore.class), registry);
+    return new LoginRateLimiter(properties, clusterRateLimiter, registry);
+  }
+
+  @Test
+  void 계정별_시도_횟수를_넘으면_429로_거절한다() {
+    LoginRateLimiter limiter = createLimiter(2, 100, true);
+    limiter.check("test@test.com", UserType.CUSTOMER, "10.0.0.1");
+    limiter.check("TEST@test.com", UserType.CUSTOMER, "10.0.0.2");
+
+    assertThatThrownBy(() -> limiter.check("test@test.com", UserType.CUSTOMER, "10.0.0.3"))
+        .isInstanceOf(AuthException.class)
+        .hasFieldOrPropertyWithValue("errorCode", AuthErrorCode.TOO_MANY_LOGIN_ATTEMPTS);
+  }
+
+  @Test
+  void 사용자_유형이_다르면_다른_계정으로_센다() {
+    LoginRateLimiter limiter = createLimiter(1, 100, true);
+    limiter.check("test@test.com", UserType.CUSTOMER, "10.0.0.1");
+
+    assertThatCode(() -> limiter.check("test@test.com", UserType.SELLER, "10.0.0.1"))
+        .doesNotThrowAnyException();
+  }
+
+  @Test
+  void IP별_시도_횟수를_넘으면_429로_거절한다() {
+    LoginRateLimiter limiter = createLimiter(100, 2, true);
+    limiter.check("a@test.com", UserType.CUSTOMER, "10.0.0.1");
+    limiter.check("b@test.com", UserType.CUSTOMER, "10.0.0.1");
+
+    assertThatThrownBy(() -> limiter.check("c@test.com", UserType.CUSTOMER, "10.0.0.1"))
+        .isInstanceOf(AuthException.class)
+        .hasFieldOrPropertyWithValue("errorCode", AuthErrorCode.TOO_MANY_LOGIN_ATTEMPTS);
+  }
+
+  @Test
+  void 비활성화하면_제한하지_않는다() {
+    LoginRateLimiter limiter = createLimiter(1, 1, false);
+    limiter.check("test@test.com", UserType.CUSTOMER, "10.0.0.1");
+
+    assertThatCode(() -> limiter.check("test@test.com", UserType.CUSTOMER, "10.0.0.1"))
+        .doesNotThrowAnyException();
+  }
+
+  @Test
+  void 클러스터_한도를_넘으면_429로_거절한다() {
+    LoginRateLimitProperties properties = new LoginRateLimitProperties();
+    ClusterRateLimiter clusterRateLimiter = mock(ClusterRateLimiter.class);
+    given(clusterRateLimiter.tryAcquire(anyString(), anyString())).willReturn(false);
+    LoginRateLimiter limiter = new LoginRateLimiter(properties, clusterRateLimiter, registry);
+
+    assertThatThrownBy(() -> limiter.check("test@test.com", UserType.CUSTOMER, "10.0.0.1"))
+        .isInstanceOf(AuthException.class)
+        .hasFieldOrPropertyWithValue("errorCode", AuthErrorCode.TOO_MANY_LOGIN_ATTEMPTS);
+  }
+
+  @Test
+  void 이메일_중복_확인이_IP별_한도를_넘으면_429로_거절한다() {
+    LoginRateLimitProperties properties = new LoginRateLimitProperties();
+    ClusterRateLimiter clusterRateLimiter = mock(ClusterRateLimiter.class);
+    given(clusterRateLimiter.tryAcquire(ClusterRateLimitProperties.CHECK_EMAIL_IP, "10.0.0.1"))
+        .willReturn(false);
+    LoginRateLimiter limiter = new LoginRateLimiter(properties, clusterRateLimiter, registry);
+
+    assertThatThrownBy(() -> limiter.checkEmailLookup("10.0.0.1"))
+        .isInstanceOf(AuthException.class)
+        .hasFieldOrPropertyWithValue("errorCode", AuthErrorCode.TOO_MANY_REQUESTS);
+  }
+}
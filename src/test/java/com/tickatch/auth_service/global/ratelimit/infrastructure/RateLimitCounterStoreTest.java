@@ -0,0 +1,88 @@
+package com.tickatch.auth_service.global.ratelimit.infrastructure;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.tickatch.auth_service.global.ratelimit.infrastructure.RateLimitCounterStore.CounterRow;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+@DisplayName("RateLimitCounterStore 테스트 (H2)")
+class RateLimitCounterStoreTest {
+
+  private RateLimitCounterStore store;
+
+  @BeforeEach
+  void setUp() {
+    DriverManagerDataSource dataSource =
+        new DriverManagerDataSource(
+            "jdbc:h2:mem:rate-limit-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1", "sa", "");
+    JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+    jdbcTemplate.execute(
+        """
+        CREATE TABLE rate_limit_counters (
+            limiter      VARCHAR(50)  NOT NULL,
+            limit_key    VARCHAR(400) NOT NULL,
+            window_start BIGINT       NOT NULL,
+            hit_count    INTEGER      NOT NULL,
+            PRIMARY KEY (limiter, limit_key, window_start)
+        )
+        """);
+    store = new RateLimitCounterStore(jdbcTemplate);
+  }
+
+  @Nested
+  class 증가_테스트 {
+
+    @Test
+    void 없는_카운터는_만들고_있는_카운터는_더한다() {
+      store.increment(List.of(new CounterRow("login-ip", "10.0.0.1", 1000L, 3)));
+      store.increment(
+          List.of(
+              new CounterRow("login-ip", "10.0.0.1", 1000L, 2),
+              new CounterRow("login-ip", "10.0.0.2", 1000L, 1)));
+
+      List<CounterRow> rows = store.findCounts("login-ip", List.of("10.0.0.1", "10.0.0.2"), 0L);
+
+      assertThat(rows)
+          .containsExactlyInAnyOrder(
+              new CounterRow("login-ip", "10.0.0.1", 1000L, 5),
+              new CounterRow("login-ip", "10.0.0.2", 1000L, 1));
+    }
+
+    @Test
+    void 윈도우와_제한기가_다르면_따로_센다() {
+      store.increment(
+          List.of(
+              new CounterRow("login-ip", "10.0.0.1", 1000L, 1),
+              new CounterRow("login-ip", "10.0.0.1", 2000L, 1),
+              new CounterRow("check-email-ip", "10.0.0.1", 1000L, 1)));
+
+      assertThat(store.findCounts("login-ip", List.of("10.0.0.1"), 0L)).hasSize(2);
+      assertThat(store.findCounts("login-ip", List.of("10.0.0.1"), 2000L)).hasSize(1);
+    }
+  }
+
+  @Nested
+  class 정리_테스트 {
+
+    @Test
+    void 기준보다_먼저_시작한_윈도우를_삭제한다() {
+      store.increment(
+          List.of(
+              new CounterRow("login-ip", "10.0.0.1", 1000L, 1),
+              new CounterRow("login-ip", "10.0.0.1", 2000L, 1)));
+
+      int deleted = store.deleteWindowsBefore(2000L);
+
+      assertThat(deleted).isEqualTo(1);
+      assertThat(store.findCounts("login-ip", List.of("10.0.0.1"), 0L))
+          .containsExactly(new CounterRow("login-ip", "10.0.0.1", 2000L, 1));
+    }
+  }
+}
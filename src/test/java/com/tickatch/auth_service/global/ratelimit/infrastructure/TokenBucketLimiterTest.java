@@ -0,0 +1,131 @@
+package com.tickatch.auth_service.global.ratelimit.infrastructure;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("TokenBucketLimiter 테스트")
+class TokenBucketLimiterTest {
+
+  private SimpleMeterRegistry registry;
+  private AtomicLong clock;
+
+  @BeforeEach
+  void setUp() {
+    registry = new SimpleMeterRegistry();
+    clock = new AtomicLong(-1_000_000_000L);
+  }
+
+  private TokenBucketLimiter createLimiter(int capacity, Duration refillPeriod) {
+    return new TokenBucketLimiter(
+        "test",
+        new LoginRateLimitProperties.Limit(capacity, refillPeriod, 1_000),
+        registry,
+        clock::get);
+  }
+
+  @Nested
+  class 허용_테스트 {
+
+    @Test
+    void 용량만큼_연속으로_허용하고_초과하면_거절한다() {
+      TokenBucketLimiter limiter = createLimiter(3, Duration.ofSeconds(1));
+
+      assertThat(limiter.tryAcquire("key")).isTrue();
+      assertThat(limiter.tryAcquire("key")).isTrue();
+      assertThat(limiter.tryAcquire("key")).isTrue();
+      assertThat(limiter.tryAcquire("key")).isFalse();
+    }
+
+    @Test
+    void 충전_주기가_지나면_토큰_하나를_다시_허용한다() {
+      TokenBucketLimiter limiter = createLimiter(2, Duration.ofSeconds(1));
+      limiter.tryAcquire("key");
+      limiter.tryAcquire("key");
+
+      clock.addAndGet(Duration.ofSeconds(1).toNanos());
+
+      assertThat(limiter.tryAcquire("key")).isTrue();
+      assertThat(limiter.tryAcquire("key")).isFalse();
+    }
+
+    @Test
+    void 오래_쉬어도_용량_이상은_쌓이지_않는다() {
+      TokenBucketLimiter limiter = createLimiter(2, Duration.ofSeconds(1));
+      limiter.tryAcquire("key");
+
+      clock.addAndGet(Duration.ofMinutes(10).toNanos());
+
+      assertThat(limiter.tryAcquire("key")).isTrue();
+      assertThat(limiter.tryAcquire("key")).isTrue();
+      assertThat(limiter.tryAcquire("key")).isFalse();
+    }
+
+    @Test
+    void 키마다_버킷이_따로다() {
+      TokenBucketLimiter limiter = createLimiter(1, Duration.ofSeconds(1));
+
+      assertThat(limiter.tryAcquire("a")).isTrue();
+      assertThat(limiter.tryAcquire("a")).isFalse();
+      assertThat(limiter.tryAcquire("b")).isTrue();
+    }
+  }
+
+  @Nested
+  class 동시성_테스트 {
+
+    @Test
+    void 동시에_요청해도_용량만큼만_허용한다() throws Exception {
+      TokenBucketLimiter limiter = createLimiter(100, Duration.ofHours(1));
+      ExecutorService executor = Executors.newFixedThreadPool(8);
+      CountDownLatch start = new CountDownLatch(1);
+      AtomicInteger allowed = new AtomicInteger();
+
+      for (int i = 0; i < 1_000; i++) {
+        executor.execute(
+            () -> {
+              try {
+                start.await();
+              } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+              }
+              if (limiter.tryAcquire("key")) {
+                allowed.incrementAndGet();
+              }
+            });
+      }
+      start.countDown();
+      executor.shutdown();
+      assertThat(executor.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+
+      assertThat(allowed.get()).isEqualTo(100);
+    }
+  }
+
+  @Nested
+  class 지표_테스트 {
+
+    @Test
+    void 거절_횟수를_기록한다() {
+      TokenBucketLimiter limiter = createLimiter(1, Duration.ofSeconds(1));
+      limiter.tryAcquire("key");
+      limiter.tryAcquire("key");
+      limiter.tryAcquire("key");
+
+      assertThat(registry.get("rate-limit.rejected").tag("limiter", "test").counter().count())
+          .isEqualTo(2.0);
+    }
+  }
+}
@@ -0,0 +1,113 @@
+package com.tickatch.auth_service.global.scheduling.infrastructure;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import java.io.IOException;
+import java.time.Instant;
+import java.util.UUID;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+@DisplayName("LeaderElection 테스트")
+class LeaderElectionTest {
+
+  @Test
+  void 잠금_키는_작업_이름에서_만든다() {
+    assertThat(LeaderElection.lockKey("refresh-token-purge"))
+        .isEqualTo("tickatch.auth.refresh-token-purge".hashCode());
+  }
+
+  @Nested
+  @DisplayName("PostgreSQL이 아닌 DB (H2)")
+  class 단일_인스턴스_테스트 {
+
+    private final LeaderElection leaderElection =
+        new LeaderElection(
+            new JdbcTemplate(
+                new DriverManagerDataSource(
+                    "jdbc:h2:mem:leader-election-" + UUID.randomUUID(), "sa", "")));
+
+    @Test
+    void 잠금_없이_실행한다() {
+      assertThat(leaderElection.isPostgreSql()).isFalse();
+      assertThat(leaderElection.runAsLeader("job", () -> "ran", () -> "skipped"))
+          .isEqualTo("ran");
+    }
+
+    @Test
+    void 주기는_항상_선점한다() {
+      Instant now = Instant.parse("2026-01-01T10:00:00Z");
+
+      assertThat(leaderElection.claimTick("job", now)).isTrue();
+      assertThat(leaderElection.claimTick("job", now)).isTrue();
+    }
+  }
+
+  @Nested
+  @DisplayName("embedded PostgreSQL")
+  @TestInstance(TestInstance.Lifecycle.PER_CLASS)
+  class 선출_테스트 {
+
+    private EmbeddedPostgres postgres;
+    private LeaderElection leaderElection;
+
+    @BeforeAll
+    void startPostgres() throws IOException {
+      postgres = EmbeddedPostgres.start();
+      Flyway.configure()
+          .dataSource(postgres.getPostgresDatabase())
+          .schemas("auth_service")
+          .defaultSchema("auth_service")
+          .load()
+          .migrate();
+      leaderElection =
+          new LeaderElection(
+              new JdbcTemplate(
+                  new DriverManagerDataSource(
+                      postgres.getJdbcUrl("postgres", "postgres")
+                          + "&currentSchema=auth_service")));
+    }
+
+    @AfterAll
+    void stopPostgres() throws IOException {
+      postgres.close();
+    }
+
+    @Test
+    void 다른_커넥션이_잠금을_잡고_있으면_건너뛴다() {
+      String inner =
+          leaderElection.runAsLeader(
+              "job",
+              () -> leaderElection.runAsLeader("job", () -> "ran", () -> "skipped"),
+              () -> "");
+
+      assertThat(inner).isEqualTo("skipped");
+    }
+
+    @Test
+    void 실행이_끝나면_잠금을_푼다() {
+      leaderElection.runAsLeader("job", () -> "ran", () -> "skipped");
+
+      assertThat(leaderElection.runAsLeader("job", () -> "ran", () -> "skipped"))
+          .isEqualTo("ran");
+    }
+
+    @Test
+    void 같은_분의_주기는_한_번만_선점한다() {
+      assertThat(leaderElection.claimTick("job", Instant.parse("2026-01-01T10:00:00.010Z")))
+          .isTrue();
+      assertThat(leaderElection.claimTick("job", Instant.parse("2026-01-01T10:00:00.900Z")))
+          .isFalse();
+      assertThat(leaderElection.claimTick("job", Instant.parse("2026-01-01T10:10:00.010Z")))
+          .isTrue();
+    }
+  }
+}
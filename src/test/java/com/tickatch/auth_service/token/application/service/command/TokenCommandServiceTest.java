@@ -7,15 +7,16 @@ import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.verify;
 
 import com.tickatch.auth_service.auth.domain.vo.UserType;
-import com.tickatch.auth_service.token.application.port.out.AuthPort;
 import com.tickatch.auth_service.token.application.port.out.TokenProvider;
 import com.tickatch.auth_service.token.application.service.command.dto.IssueTokenCommand;
 import com.tickatch.auth_service.token.application.service.command.dto.RefreshTokenCommand;
+import com.tickatch.auth_service.token.application.service.command.dto.RefreshTokenResult;
 import com.tickatch.auth_service.token.application.service.command.dto.TokenResult;
 import com.tickatch.auth_service.token.domain.RefreshToken;
 import com.tickatch.auth_service.token.domain.RefreshTokenRepository;
 import com.tickatch.auth_service.token.domain.exception.TokenErrorCode;
 import com.tickatch.auth_service.token.domain.exception.TokenException;
+import com.tickatch.auth_service.token.domain.repository.dto.RefreshTokenWithOwner;
 import java.util.Optional;
 import java.util.UUID;
 import org.junit.jupiter.api.DisplayName;
@@ -36,8 +37,6 @@ class TokenCommandServiceTest {
 
   @Mock private RefreshTokenRepository refreshTokenRepository;
 
-  @Mock private AuthPort authPort;
-
   @Nested
   class 토큰_발급_테스트 {
 
@@ -73,25 +72,32 @@ class TokenCommandServiceTest {
 
       RefreshTokenCommand command = RefreshTokenCommand.of("old-token");
 
-      given(refreshTokenRepository.findByToken("old-token")).willReturn(Optional.of(refreshToken));
-      given(authPort.findUserTypeByAuthId(authId)).willReturn(Optional.of(UserType.CUSTOMER));
+      given(refreshTokenRepository.findWithOwnerByToken("old-token"))
+          .willReturn(
+              Optional.of(
+                  new RefreshTokenWithOwner(refreshToken, "test@test.com", UserType.CUSTOMER)));
       given(tokenProvider.generateAccessToken(authId, UserType.CUSTOMER))
           .willReturn("new-access-token");
       given(tokenProvider.generateRefreshTokenValue()).willReturn("new-refresh-token");
       given(tokenProvider.getAccessTokenExpirationSeconds()).willReturn(300L);
 
-      TokenResult result = tokenCommandService.refreshTokens(command);
+      RefreshTokenResult result = tokenCommandService.refreshTokens(command);
 
       assertThat(result).isNotNull();
-      assertThat(result.accessToken()).isEqualTo("new-access-token");
-      assertThat(result.refreshToken()).isEqualTo("new-refresh-token");
+      assertThat(result.authId()).isEqualTo(authId);
+      assertThat(result.email()).isEqualTo("test@test.com");
+      assertThat(result.userType()).isEqualTo(UserType.CUSTOMER);
+      assertThat(result.tokenResult().accessToken()).isEqualTo("new-access-token");
+      assertThat(result.tokenResult().refreshToken()).isEqualTo("new-refresh-token");
+      assertThat(refreshToken.getToken()).isEqualTo("new-refresh-token");
     }
 
     @Test
     void 존재하지_않는_토큰으로_갱신_시_실패한다() {
       RefreshTokenCommand command = RefreshTokenCommand.of("invalid-token");
 
-      given(refreshTokenRepository.findByToken("invalid-token")).willReturn(Optional.empty());
+      given(refreshTokenRepository.findWithOwnerByToken("invalid-token"))
+          .willReturn(Optional.empty());
 
       assertThatThrownBy(() -> tokenCommandService.refreshTokens(command))
           .isInstanceOf(TokenException.class)
@@ -106,8 +112,10 @@ class TokenCommandServiceTest {
 
       RefreshTokenCommand command = RefreshTokenCommand.of("revoked-token");
 
-      given(refreshTokenRepository.findByToken("revoked-token"))
-          .willReturn(Optional.of(refreshToken));
+      given(refreshTokenRepository.findWithOwnerByToken("revoked-token"))
+          .willReturn(
+              Optional.of(
+                  new RefreshTokenWithOwner(refreshToken, "test@test.com", UserType.CUSTOMER)));
 
       assertThatThrownBy(() -> tokenCommandService.refreshTokens(command))
           .isInstanceOf(TokenException.class)
@@ -115,6 +123,21 @@ class TokenCommandServiceTest {
 
       verify(refreshTokenRepository).revokeAllByAuthId(authId);
     }
+
+    @Test
+    void 토큰_소유자가_없으면_갱신_시_실패한다() {
+      RefreshToken refreshToken =
+          RefreshToken.create(UUID.randomUUID(), "orphan-token", "device", false);
+
+      RefreshTokenCommand command = RefreshTokenCommand.of("orphan-token");
+
+      given(refreshTokenRepository.findWithOwnerByToken("orphan-token"))
+          .willReturn(Optional.of(new RefreshTokenWithOwner(refreshToken, null, null)));
+
+      assertThatThrownBy(() -> tokenCommandService.refreshTokens(command))
+          .isInstanceOf(TokenException.class)
+          .hasFieldOrPropertyWithValue("errorCode", TokenErrorCode.AUTH_NOT_FOUND);
+    }
   }
 
   @Nested
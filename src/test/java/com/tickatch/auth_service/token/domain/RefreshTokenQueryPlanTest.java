@@ -0,0 +1,206 @@
+package com.tickatch.auth_service.token.domain;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import java.io.IOException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import org.flywaydb.core.Flyway;
+import org.flywaydb.core.api.FlywayException;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+@DisplayName("RefreshToken 쿼리 실행 계획 테스트 (embedded PostgreSQL)")
+class RefreshTokenQueryPlanTest {
+
+  private static final int AUTH_COUNT = 2_000;
+  private static final int TOKENS_PER_AUTH = 10;
+
+  private static EmbeddedPostgres postgres;
+  private static JdbcTemplate jdbcTemplate;
+  private static UUID authId;
+
+  @BeforeAll
+  static void setUp() throws IOException {
+    postgres = EmbeddedPostgres.start();
+    Flyway.configure()
+        .dataSource(postgres.getPostgresDatabase())
+        .schemas("auth_service")
+        .defaultSchema("auth_service")
+        .load()
+        .migrate();
+
+    jdbcTemplate = new JdbcTemplate(postgres.getPostgresDatabase());
+    // 사용자마다 토큰 10개, 그중 3개는 폐기, 절반은 만료
+    jdbcTemplate.update(
+        """
+        INSERT INTO auth_service.refresh_tokens
+            (id, auth_id, token_hash, expires_at, created_at, revoked, remember_me)
+        SELECT gen_random_uuid(),
+               auth.id,
+               sha256(convert_to(gen_random_uuid()::text, 'UTF8')),
+               now() + make_interval(days => token.n - 5),
+               now(),
+               token.n % 10 < 3,
+               false
+          FROM (SELECT gen_random_uuid() AS id FROM generate_series(1, ?)) auth,
+               generate_series(1, ?) AS token(n)
+        """,
+        AUTH_COUNT,
+        TOKENS_PER_AUTH);
+    jdbcTemplate.execute("ANALYZE auth_service.refresh_tokens");
+    authId =
+        jdbcTemplate.queryForObject(
+            "SELECT auth_id FROM auth_service.refresh_tokens LIMIT 1", UUID.class);
+  }
+
+  @AfterAll
+  static void tearDown() throws IOException {
+    postgres.close();
+  }
+
+  /* RefreshTokenJpaRepository 쿼리와 같은 조건의 SQL 실행 계획 */
+  private static String explain(String sql, Object... args) {
+    List<String> lines = jdbcTemplate.queryForList("EXPLAIN " + sql, String.class, args);
+    return String.join("\n", lines);
+  }
+
+  @Nested
+  class 사용_가능_토큰_인덱스_테스트 {
+
+    @Test
+    void 사용_가능한_토큰_조회는_부분_인덱스를_쓴다() {
+      String plan =
+          explain(
+              "SELECT * FROM auth_service.refresh_tokens "
+                  + "WHERE auth_id = ? AND revoked = false AND expires_at > ?",
+              authId,
+              Timestamp.valueOf(LocalDateTime.now()));
+
+      assertThat(plan).contains("idx_refresh_token_auth_id_usable").doesNotContain("Seq Scan");
+    }
+
+    @Test
+    void 사용자_토큰_일괄_폐기는_부분_인덱스를_쓴다() {
+      String plan =
+          explain(
+              "UPDATE auth_service.refresh_tokens SET revoked = true "
+                  + "WHERE auth_id = ? AND revoked = false",
+              authId);
+
+      assertThat(plan).contains("idx_refresh_token_auth_id_usable").doesNotContain("Seq Scan");
+    }
+
+    @Test
+    void 사용자_토큰_전체_삭제는_auth_id_인덱스를_쓴다() {
+      String plan = explain("DELETE FROM auth_service.refresh_tokens WHERE auth_id = ?", authId);
+
+      assertThat(plan).contains("idx_refresh_token_auth_id").doesNotContain("Seq Scan");
+    }
+  }
+
+  @Nested
+  class 중복_인덱스_테스트 {
+
+    @Test
+    void 유니크_제약과_겹치는_인덱스는_남아있지_않다() {
+      List<String> indexes =
+          jdbcTemplate.queryForList(
+              "SELECT indexname FROM pg_indexes WHERE schemaname = 'auth_service'", String.class);
+
+      assertThat(indexes)
+          .contains("idx_refresh_token_auth_id_usable", "idx_refresh_token_auth_id")
+          .doesNotContain(
+              "idx_refresh_token_revoked",
+              "idx_auth_email",
+              "idx_auth_provider_auth_id",
+              "idx_auth_provider_provider",
+              "idx_auth_provider_provider_user_id");
+    }
+  }
+
+  @Nested
+  class 기준선_DB_마이그레이션_테스트 {
+
+    /* Flyway 도입 전 init.sql에 token_hash 이관만 적용한 스키마 */
+    private void createLegacySchema(String schema) {
+      jdbcTemplate.execute(
+          """
+          CREATE SCHEMA %1$s;
+          CREATE TABLE %1$s.auths (
+              id UUID PRIMARY KEY, email VARCHAR(255) NOT NULL, created_at TIMESTAMP NOT NULL);
+          CREATE TABLE %1$s.auth_providers (
+              id UUID PRIMARY KEY, auth_id UUID NOT NULL,
+              provider VARCHAR(20) NOT NULL, provider_user_id VARCHAR(255) NOT NULL);
+          CREATE INDEX idx_auth_provider_provider ON %1$s.auth_providers(provider);
+          CREATE INDEX idx_auth_provider_provider_user_id
+              ON %1$s.auth_providers(provider_user_id);
+          CREATE TABLE %1$s.refresh_tokens (
+              id UUID PRIMARY KEY, auth_id UUID NOT NULL, token_hash BYTEA NOT NULL,
+              expires_at TIMESTAMP NOT NULL, revoked BOOLEAN NOT NULL DEFAULT FALSE);
+          """
+              .formatted(schema));
+    }
+
+    private void migrateFromBaseline(String schema) {
+      Flyway.configure()
+          .dataSource(postgres.getPostgresDatabase())
+          .schemas(schema)
+          .defaultSchema(schema)
+          .baselineOnMigrate(true)
+          .baselineVersion("1")
+          .load()
+          .migrate();
+    }
+
+    private List<String> indexesOf(String schema) {
+      return jdbcTemplate.queryForList(
+          "SELECT indexname FROM pg_indexes WHERE schemaname = ?", String.class, schema);
+    }
+
+    @Test
+    void V1을_건너뛴_DB에도_이후에_추가한_테이블과_인덱스를_만든다() {
+      createLegacySchema("auth_legacy");
+
+      migrateFromBaseline("auth_legacy");
+
+      assertThat(
+              jdbcTemplate.queryForList(
+                  "SELECT tablename FROM pg_tables WHERE schemaname = 'auth_legacy'",
+                  String.class))
+          .contains("rate_limit_counters", "auth_outbox", "scheduled_job_ticks");
+      assertThat(indexesOf("auth_legacy"))
+          .contains(
+              "idx_auth_created_at",
+              "idx_refresh_token_revoked_expires_at",
+              "uk_auth_provider_user",
+              "idx_refresh_token_auth_id_usable")
+          .doesNotContain("idx_auth_provider_provider", "idx_auth_provider_provider_user_id");
+    }
+
+    @Test
+    void 소셜_연동_유니크_인덱스를_못_만들면_기존_조회_인덱스를_남긴다() {
+      createLegacySchema("auth_legacy_duplicate");
+      jdbcTemplate.execute(
+          """
+          INSERT INTO auth_legacy_duplicate.auth_providers
+          VALUES (gen_random_uuid(), gen_random_uuid(), 'KAKAO', 'kakao-1'),
+                 (gen_random_uuid(), gen_random_uuid(), 'KAKAO', 'kakao-1')
+          """);
+
+      assertThatThrownBy(() -> migrateFromBaseline("auth_legacy_duplicate"))
+          .isInstanceOf(FlywayException.class);
+
+      assertThat(indexesOf("auth_legacy_duplicate"))
+          .contains("idx_auth_provider_provider", "idx_auth_provider_provider_user_id");
+    }
+  }
+}
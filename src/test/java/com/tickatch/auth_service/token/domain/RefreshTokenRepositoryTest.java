@@ -2,13 +2,22 @@ package com.tickatch.auth_service.token.domain;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import com.tickatch.auth_service.auth.domain.Auth;
+import com.tickatch.auth_service.auth.domain.vo.UserType;
 import com.tickatch.auth_service.token.domain.repository.RefreshTokenRepositoryImpl;
 import com.tickatch.auth_service.token.domain.repository.dto.RefreshTokenSearchCondition;
+import com.tickatch.auth_service.token.domain.repository.dto.RefreshTokenWithOwner;
 import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
 import jakarta.persistence.PersistenceContext;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -18,6 +27,7 @@ import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.transaction.annotation.Transactional;
 
 @SpringBootTest
@@ -27,6 +37,8 @@ class RefreshTokenRepositoryTest {
 
   @Autowired private RefreshTokenRepositoryImpl refreshTokenRepository;
 
+  @Autowired private EntityManagerFactory entityManagerFactory;
+
   @PersistenceContext private EntityManager em;
 
   private UUID authId;
@@ -41,6 +53,11 @@ class RefreshTokenRepositoryTest {
     em.clear();
   }
 
+  private static String hexValue() {
+    return UUID.randomUUID().toString().replace("-", "")
+        + UUID.randomUUID().toString().replace("-", "");
+  }
+
   @Nested
   class 저장_테스트 {
 
@@ -56,6 +73,25 @@ class RefreshTokenRepositoryTest {
       assertThat(saved.getToken()).isNotNull();
     }
 
+    @Test
+    void 새_토큰은_조회_없이_한_번의_배치로_INSERT한다() {
+      Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+      statistics.clear();
+
+      for (int i = 0; i < 3; i++) {
+        RefreshToken token =
+            RefreshToken.create(authId, UUID.randomUUID().toString(), "Chrome/Windows", false);
+        assertThat(token.isNew()).isTrue();
+        refreshTokenRepository.save(token);
+        assertThat(token.isNew()).isFalse();
+      }
+      em.flush();
+
+      assertThat(statistics.getEntityLoadCount()).isZero();
+      assertThat(statistics.getEntityInsertCount()).isEqualTo(3);
+      assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
     @Test
     void ID로_RefreshToken을_조회한다() {
       RefreshToken token =
@@ -77,11 +113,87 @@ class RefreshTokenRepositoryTest {
       String tokenValue = UUID.randomUUID().toString();
       RefreshToken token = RefreshToken.create(authId, tokenValue, "Chrome/Windows", false);
       refreshTokenRepository.save(token);
+      flushAndClear();
 
       Optional<RefreshToken> found = refreshTokenRepository.findByToken(tokenValue);
 
       assertThat(found).isPresent();
-      assertThat(found.get().getToken()).isEqualTo(tokenValue);
+      assertThat(found.get().getId()).isEqualTo(token.getId());
+      assertThat(found.get().getTokenHash()).isEqualTo(RefreshToken.hashToken(tokenValue));
+    }
+
+    @Test
+    void 발급일_힌트가_있는_토큰도_조회한다() {
+      String tokenValue = RefreshToken.withIssueDateHint(hexValue(), LocalDate.now());
+      RefreshToken token = RefreshToken.create(authId, tokenValue, "Chrome/Windows", true);
+      refreshTokenRepository.save(token);
+      flushAndClear();
+
+      assertThat(refreshTokenRepository.findByToken(tokenValue))
+          .map(RefreshToken::getId)
+          .contains(token.getId());
+      assertThat(refreshTokenRepository.findWithOwnerByToken(tokenValue)).isPresent();
+    }
+
+    @Test
+    void 만료_일시를_지정한_힌트_토큰도_만료_구간으로_조회한다() {
+      String tokenValue = RefreshToken.withIssueDateHint(hexValue(), LocalDate.now());
+      LocalDateTime expiresAt = LocalDateTime.now().plusHours(1).truncatedTo(ChronoUnit.MICROS);
+      RefreshToken token =
+          RefreshToken.createWithExpiry(authId, tokenValue, "Chrome/Windows", expiresAt, false);
+      refreshTokenRepository.save(token);
+      flushAndClear();
+
+      assertThat(refreshTokenRepository.findByToken(tokenValue))
+          .map(RefreshToken::getExpiresAt)
+          .contains(expiresAt);
+    }
+
+    @Test
+    void 만료_일시가_발급일_힌트의_구간_밖이면_조회하지_않는다() {
+      String tokenValue = RefreshToken.withIssueDateHint(hexValue(), LocalDate.now().minusDays(3));
+      RefreshToken token = RefreshToken.create(authId, tokenValue, "Chrome/Windows", false);
+      refreshTokenRepository.save(token);
+      flushAndClear();
+
+      assertThat(refreshTokenRepository.findByToken(tokenValue)).isEmpty();
+    }
+
+    @Test
+    void 조회한_토큰은_신규가_아니다() {
+      RefreshToken token =
+          RefreshToken.create(authId, UUID.randomUUID().toString(), "Chrome/Windows", false);
+      refreshTokenRepository.save(token);
+      flushAndClear();
+
+      assertThat(refreshTokenRepository.findById(token.getId()))
+          .get()
+          .returns(false, RefreshToken::isNew);
+    }
+
+    @Test
+    void 토큰_원문은_저장하지_않는다() {
+      String tokenValue = UUID.randomUUID().toString();
+      RefreshToken token = RefreshToken.create(authId, tokenValue, "Chrome/Windows", false);
+      refreshTokenRepository.save(token);
+      flushAndClear();
+
+      RefreshToken found = refreshTokenRepository.findById(token.getId()).orElseThrow();
+
+      assertThat(found.getToken()).isNull();
+    }
+
+    @Test
+    void Rotation_후에는_새_토큰_값으로만_조회된다() {
+      String oldValue = UUID.randomUUID().toString();
+      String newValue = UUID.randomUUID().toString();
+      RefreshToken token = RefreshToken.create(authId, oldValue, "Chrome/Windows", false);
+      refreshTokenRepository.save(token);
+      token.rotate(newValue);
+      flushAndClear();
+
+      assertThat(refreshTokenRepository.findByToken(oldValue)).isEmpty();
+      assertThat(refreshTokenRepository.findByToken(newValue)).isPresent();
     }
 
     @Test
@@ -92,6 +204,55 @@ class RefreshTokenRepositoryTest {
     }
   }
 
+  @Nested
+  class 소유자_조인_조회_테스트 {
+
+    @Test
+    void 토큰과_소유자의_이메일_사용자유형을_함께_조회한다() {
+      Auth auth =
+          Auth.register(
+              "owner@test.com",
+              "Password123!",
+              UserType.SELLER,
+              new BCryptPasswordEncoder(),
+              "SYSTEM");
+      em.persist(auth);
+      String tokenValue = UUID.randomUUID().toString();
+      refreshTokenRepository.save(
+          RefreshToken.create(auth.getId(), tokenValue, "Chrome/Windows", false));
+      flushAndClear();
+
+      Optional<RefreshTokenWithOwner> found =
+          refreshTokenRepository.findWithOwnerByToken(tokenValue);
+
+      assertThat(found).isPresent();
+      assertThat(found.get().refreshToken().getAuthId()).isEqualTo(auth.getId());
+      assertThat(found.get().email()).isEqualTo("owner@test.com");
+      assertThat(found.get().userType()).isEqualTo(UserType.SELLER);
+      assertThat(found.get().hasOwner()).isTrue();
+    }
+
+    @Test
+    void 소유자가_없으면_토큰만_조회한다() {
+      String tokenValue = UUID.randomUUID().toString();
+      refreshTokenRepository.save(
+          RefreshToken.create(authId, tokenValue, "Chrome/Windows", false));
+      flushAndClear();
+
+      Optional<RefreshTokenWithOwner> found =
+          refreshTokenRepository.findWithOwnerByToken(tokenValue);
+
+      assertThat(found).isPresent();
+      assertThat(found.get().hasOwner()).isFalse();
+      assertThat(found.get().email()).isNull();
+    }
+
+    @Test
+    void 존재하지_않는_토큰값은_빈값을_반환한다() {
+      assertThat(refreshTokenRepository.findWithOwnerByToken("nonexistent-token")).isEmpty();
+    }
+  }
+
   @Nested
   class AuthId_조회_테스트 {
 
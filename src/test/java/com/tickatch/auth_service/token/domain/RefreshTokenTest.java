@@ -5,6 +5,7 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import com.tickatch.auth_service.token.domain.exception.TokenErrorCode;
 import com.tickatch.auth_service.token.domain.exception.TokenException;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.UUID;
 import org.junit.jupiter.api.DisplayName;
@@ -57,6 +58,41 @@ class RefreshTokenTest {
 
       assertThat(refreshToken.getExpiresAt()).isEqualTo(customExpiry);
     }
+
+    @Test
+    void 발급일_힌트가_있으면_만료_구간_안의_만료_시간으로만_생성한다() {
+      String token = RefreshToken.withIssueDateHint("0123456789abcdef".repeat(4), LocalDate.now());
+      LocalDateTime inRange = LocalDateTime.now().plusDays(30);
+      LocalDateTime outOfRange = LocalDateTime.now().plusDays(7);
+
+      assertThat(
+              RefreshToken.createWithExpiry(UUID.randomUUID(), token, "device", inRange, true)
+                  .getExpiresAt())
+          .isEqualTo(inRange);
+      assertThatThrownBy(
+              () ->
+                  RefreshToken.createWithExpiry(
+                      UUID.randomUUID(), token, "device", outOfRange, false))
+          .isInstanceOf(IllegalArgumentException.class);
+    }
+  }
+
+  @Nested
+  class 토큰_해시 {
+
+    @Test
+    void 생성_시_토큰_원문의_SHA256_해시를_저장한다() {
+      RefreshToken refreshToken = RefreshToken.create(UUID.randomUUID(), "token", "device", false);
+
+      assertThat(refreshToken.getTokenHash()).hasSize(32);
+      assertThat(refreshToken.getTokenHash()).isEqualTo(RefreshToken.hashToken("token"));
+    }
+
+    @Test
+    void 같은_토큰은_같은_해시를_다른_토큰은_다른_해시를_만든다() {
+      assertThat(RefreshToken.hashToken("token")).isEqualTo(RefreshToken.hashToken("token"));
+      assertThat(RefreshToken.hashToken("token")).isNotEqualTo(RefreshToken.hashToken("token2"));
+    }
   }
 
   @Nested
@@ -71,6 +107,7 @@ class RefreshTokenTest {
       refreshToken.rotate(newToken);
 
       assertThat(refreshToken.getToken()).isEqualTo(newToken);
+      assertThat(refreshToken.getTokenHash()).isEqualTo(RefreshToken.hashToken(newToken));
     }
 
     @Test
@@ -217,6 +254,46 @@ class RefreshTokenTest {
     }
   }
 
+  @Nested
+  class 발급일_힌트_테스트 {
+
+    private static final String RANDOM_VALUE = "0123456789abcdef".repeat(4);
+
+    @Test
+    void 발급일_힌트를_붙여도_길이는_그대로다() {
+      LocalDate issuedOn = LocalDate.of(2026, 10, 16);
+
+      String token = RefreshToken.withIssueDateHint(RANDOM_VALUE, issuedOn);
+
+      assertThat(token).hasSize(RANDOM_VALUE.length()).startsWith("r");
+      assertThat(RefreshToken.issueDateOf(token)).contains(issuedOn);
+    }
+
+    @Test
+    void 힌트가_없는_토큰은_빈값을_반환한다() {
+      assertThat(RefreshToken.issueDateOf(RANDOM_VALUE)).isEmpty();
+      assertThat(RefreshToken.issueDateOf("refresh-token-value")).isEmpty();
+      assertThat(RefreshToken.expiryRangesOf(RANDOM_VALUE)).isEmpty();
+    }
+
+    @Test
+    void 발급_직후_만료_일시는_힌트의_만료_구간에_들어간다() {
+      String token = RefreshToken.withIssueDateHint(RANDOM_VALUE, LocalDate.now());
+
+      for (boolean rememberMe : new boolean[] {false, true}) {
+        LocalDateTime expiresAt =
+            RefreshToken.create(UUID.randomUUID(), token, "device", rememberMe).getExpiresAt();
+
+        assertThat(RefreshToken.expiryRangesOf(token))
+            .anySatisfy(
+                range -> {
+                  assertThat(expiresAt).isAfterOrEqualTo(range.from());
+                  assertThat(expiresAt).isBefore(range.to());
+                });
+      }
+    }
+  }
+
   @Nested
   class 동등성_테스트 {
 
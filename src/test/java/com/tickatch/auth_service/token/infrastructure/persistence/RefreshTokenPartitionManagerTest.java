@@ -0,0 +1,105 @@
+package com.tickatch.auth_service.token.infrastructure.persistence;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.tickatch.auth_service.global.scheduling.infrastructure.LeaderElection;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+@DisplayName("RefreshTokenPartitionManager 테스트")
+class RefreshTokenPartitionManagerTest {
+
+  private static final LocalDate TODAY = LocalDate.of(2026, 10, 16);
+
+  private RefreshTokenPartitionProperties properties;
+  private SimpleMeterRegistry meterRegistry;
+  private RefreshTokenPartitionManager manager;
+
+  @BeforeEach
+  void setUp() {
+    DriverManagerDataSource dataSource =
+        new DriverManagerDataSource(
+            "jdbc:h2:mem:token-partition-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1", "sa", "");
+    properties = new RefreshTokenPartitionProperties();
+    properties.setEnabled(true);
+    meterRegistry = new SimpleMeterRegistry();
+    JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+    manager =
+        new RefreshTokenPartitionManager(
+            properties, jdbcTemplate, new LeaderElection(jdbcTemplate), meterRegistry);
+  }
+
+  @Nested
+  class 생성_대상_테스트 {
+
+    @Test
+    void 오늘부터_미리_만들_일수만큼_날짜를_반환한다() {
+      properties.setPremakeDays(35);
+
+      List<LocalDate> days = manager.daysToCreate(TODAY);
+
+      assertThat(days).hasSize(36).startsWith(TODAY).endsWith(TODAY.plusDays(35));
+    }
+
+    @Test
+    void 파티션_이름은_날짜를_붙여_만든다() {
+      assertThat(RefreshTokenPartitionManager.partitionName(TODAY))
+          .isEqualTo("refresh_tokens_p20261016");
+    }
+  }
+
+  @Nested
+  class 삭제_대상_테스트 {
+
+    @Test
+    void 범위가_끝난_파티션만_버린다() {
+      List<String> existing =
+          List.of(
+              "refresh_tokens_p20261014",
+              "refresh_tokens_p20261015",
+              "refresh_tokens_p20261016",
+              "refresh_tokens_p20261017");
+
+      assertThat(manager.partitionsToDrop(existing, TODAY))
+          .containsExactly("refresh_tokens_p20261014", "refresh_tokens_p20261015");
+    }
+
+    @Test
+    void 보관_일수만큼_더_남긴다() {
+      properties.setRetentionDays(1);
+
+      assertThat(
+              manager.partitionsToDrop(
+                  List.of("refresh_tokens_p20261014", "refresh_tokens_p20261015"), TODAY))
+          .containsExactly("refresh_tokens_p20261014");
+    }
+
+    @Test
+    void 이름_형식이_다른_테이블은_건드리지_않는다() {
+      assertThat(
+              manager.partitionsToDrop(
+                  List.of("refresh_tokens_default", "refresh_tokens_p2026"), TODAY))
+          .isEmpty();
+    }
+  }
+
+  @Nested
+  class 실행_테스트 {
+
+    @Test
+    void PostgreSQL이_아니면_아무것도_하지_않는다() {
+      manager.maintain();
+
+      assertThat(meterRegistry.get("token.partition.created").counter().count()).isZero();
+      assertThat(meterRegistry.get("token.partition.dropped").counter().count()).isZero();
+    }
+  }
+}
@@ -0,0 +1,150 @@
+package com.tickatch.auth_service.token.infrastructure.persistence;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.tickatch.auth_service.global.scheduling.infrastructure.LeaderElection;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+@DisplayName("RefreshTokenPurger 테스트 (H2)")
+class RefreshTokenPurgerTest {
+
+  private JdbcTemplate jdbcTemplate;
+  private RefreshTokenPurgeProperties properties;
+  private RefreshTokenPartitionProperties partitionProperties;
+  private SimpleMeterRegistry meterRegistry;
+  private RefreshTokenPurger purger;
+
+  @BeforeEach
+  void setUp() {
+    DriverManagerDataSource dataSource =
+        new DriverManagerDataSource(
+            "jdbc:h2:mem:token-purge-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1", "sa", "");
+    jdbcTemplate = new JdbcTemplate(dataSource);
+    jdbcTemplate.execute(
+        """
+        CREATE TABLE refresh_tokens (
+            id         UUID      PRIMARY KEY,
+            expires_at TIMESTAMP NOT NULL,
+            revoked    BOOLEAN   NOT NULL
+        )
+        """);
+
+    properties = new RefreshTokenPurgeProperties();
+    properties.setBatchSize(2);
+    properties.setPause(Duration.ZERO);
+    partitionProperties = new RefreshTokenPartitionProperties();
+    meterRegistry = new SimpleMeterRegistry();
+    purger =
+        new RefreshTokenPurger(
+            properties,
+            partitionProperties,
+            jdbcTemplate,
+            new LeaderElection(jdbcTemplate),
+            meterRegistry);
+  }
+
+  private void insert(int count, LocalDateTime expiresAt, boolean revoked) {
+    for (int i = 0; i < count; i++) {
+      jdbcTemplate.update(
+          "INSERT INTO refresh_tokens (id, expires_at, revoked) VALUES (?, ?, ?)",
+          UUID.randomUUID(),
+          Timestamp.valueOf(expiresAt),
+          revoked);
+    }
+  }
+
+  private int remaining() {
+    Integer count =
+        jdbcTemplate.queryForObject("SELECT COUNT(*) FROM refresh_tokens", Integer.class);
+    return count == null ? 0 : count;
+  }
+
+  private double deletedCount(String reason) {
+    return meterRegistry.get("token.purge.deleted").tag("reason", reason).counter().count();
+  }
+
+  @Nested
+  class 정리_테스트 {
+
+    @Test
+    void 만료되었거나_폐기된_토큰만_배치로_나눠_지운다() {
+      LocalDateTime now = LocalDateTime.now();
+      insert(5, now.minusDays(1), false);
+      insert(1, now.minusDays(1), true);
+      insert(3, now.plusDays(1), true);
+      insert(2, now.plusDays(1), false);
+
+      int deleted = purger.purge();
+
+      assertThat(deleted).isEqualTo(9);
+      assertThat(remaining()).isEqualTo(2);
+      assertThat(deletedCount("expired")).isEqualTo(6);
+      assertThat(deletedCount("revoked")).isEqualTo(3);
+    }
+
+    @Test
+    void 만료_시각이_같은_행이_배치_경계에_걸쳐도_모두_지운다() {
+      insert(5, LocalDateTime.now().minusHours(1).withNano(0), false);
+
+      assertThat(purger.purge()).isEqualTo(5);
+      assertThat(remaining()).isZero();
+    }
+
+    @Test
+    void 파티션_저장_모드에서는_폐기된_토큰만_지운다() {
+      LocalDateTime now = LocalDateTime.now();
+      insert(4, now.minusDays(1), false);
+      insert(2, now.plusDays(1), true);
+      partitionProperties.setEnabled(true);
+
+      assertThat(purger.purge()).isEqualTo(2);
+      assertThat(remaining()).isEqualTo(4);
+      assertThat(deletedCount("expired")).isZero();
+    }
+
+    @Test
+    void 지울_토큰이_없으면_0을_반환한다() {
+      insert(2, LocalDateTime.now().plusDays(1), false);
+
+      assertThat(purger.purge()).isZero();
+      assertThat(remaining()).isEqualTo(2);
+    }
+  }
+
+  @Nested
+  class 실행_제한_테스트 {
+
+    @Test
+    void 최대_실행_시간이_지나면_남은_행은_다음_실행으로_넘긴다() {
+      insert(3, LocalDateTime.now().minusDays(1), false);
+      properties.setMaxRuntime(Duration.ZERO);
+
+      assertThat(purger.purge()).isZero();
+      assertThat(remaining()).isEqualTo(3);
+
+      properties.setMaxRuntime(Duration.ofMinutes(1));
+
+      assertThat(purger.purge()).isEqualTo(3);
+    }
+
+    @Test
+    void 비활성화하면_예약_실행에서_지우지_않는다() {
+      insert(3, LocalDateTime.now().minusDays(1), false);
+      properties.setEnabled(false);
+
+      purger.scheduledPurge();
+
+      assertThat(remaining()).isEqualTo(3);
+    }
+  }
+}
@@ -0,0 +1,16 @@
+-- JPA 엔티티가 아닌 테이블 (H2 테스트용, 운영 스키마는 Flyway 마이그레이션)
+CREATE TABLE IF NOT EXISTS rate_limit_counters (
+    limiter      VARCHAR(50)  NOT NULL,
+    limit_key    VARCHAR(400) NOT NULL,
+    window_start BIGINT       NOT NULL,
+    hit_count    INTEGER      NOT NULL,
+    CONSTRAINT pk_rate_limit_counters PRIMARY KEY (limiter, limit_key, window_start)
+);
+
+CREATE TABLE IF NOT EXISTS auth_outbox (
+    id          UUID         PRIMARY KEY,
+    exchange    VARCHAR(100) NOT NULL,
+    routing_key VARCHAR(100) NOT NULL,
+    payload     TEXT         NOT NULL,
+    created_at  TIMESTAMP    NOT NULL
+);